@@ -0,0 +1,119 @@
+package com.samsung.common.calc;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금융 계산 벤치마크 (FinancialCalculator 공개 메서드 전체)
+ * 기간에 비례하는 계산은 월 단위 기간(1년, 10년, 30년)별로, 단순 변환은 단일 입력으로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FinancialCalculatorBenchmark {
+    
+    /**
+     * 기간 의존 입력 (월 단위)
+     */
+    @State(Scope.Benchmark)
+    public static class Schedule {
+        
+        @Param({"12", "120", "360"})
+        public int months;
+        
+        BigDecimal principal = new BigDecimal("300000000");
+        BigDecimal payment = new BigDecimal("1500000");
+        BigDecimal annualRate = new BigDecimal("0.045");
+        BigDecimal monthlyRate = new BigDecimal("0.00375");
+        BigDecimal years;
+        BigDecimal finalValue;
+        double[] amounts;
+        double[] times;
+        
+        @Setup
+        public void setUp() {
+            years = BigDecimal.valueOf(months / 12);
+            finalValue = new BigDecimal("1.6").multiply(principal);
+            // 월 적립 후 만기 평가금액을 회수하는 현금흐름 (연 5% 내외 IRR)
+            amounts = new double[months + 1];
+            times = new double[months + 1];
+            for (int i = 0; i < months; i++) {
+                amounts[i] = -1_000_000.0;
+                times[i] = i / 12.0;
+            }
+            amounts[months] = 1_000_000.0 * months * Math.pow(1.05, months / 24.0);
+            times[months] = months / 12.0;
+        }
+    }
+    
+    /**
+     * 단순 변환 입력
+     */
+    @State(Scope.Benchmark)
+    public static class Amounts {
+        BigDecimal percent = new BigDecimal("5.5");
+        BigDecimal decimal = new BigDecimal("0.0550");
+        BigDecimal amount = new BigDecimal("123456789.5678");
+    }
+    
+    @Benchmark
+    public BigDecimal simpleInterest(Schedule s) {
+        return FinancialCalculator.simpleInterest(s.principal, s.annualRate, s.years);
+    }
+    
+    @Benchmark
+    public BigDecimal compoundInterest(Schedule s) {
+        return FinancialCalculator.compoundInterest(s.principal, s.annualRate, 12, s.years);
+    }
+    
+    @Benchmark
+    public BigDecimal presentValueOfAnnuity(Schedule s) {
+        return FinancialCalculator.presentValueOfAnnuity(s.payment, s.monthlyRate, s.months);
+    }
+    
+    @Benchmark
+    public BigDecimal futureValueOfAnnuity(Schedule s) {
+        return FinancialCalculator.futureValueOfAnnuity(s.payment, s.monthlyRate, s.months);
+    }
+    
+    @Benchmark
+    public BigDecimal loanPayment(Schedule s) {
+        return FinancialCalculator.loanPayment(s.principal, s.monthlyRate, s.months);
+    }
+    
+    @Benchmark
+    public BigDecimal annualizedReturn(Schedule s) {
+        return FinancialCalculator.annualizedReturn(s.principal, s.finalValue, s.years);
+    }
+    
+    @Benchmark
+    public BigDecimal presentValue(Schedule s) {
+        return FinancialCalculator.presentValue(s.finalValue, s.monthlyRate, s.months);
+    }
+    
+    @Benchmark
+    public BigDecimal futureValue(Schedule s) {
+        return FinancialCalculator.futureValue(s.principal, s.monthlyRate, s.months);
+    }
+    
+    @Benchmark
+    public double internalRateOfReturn(Schedule s) {
+        return FinancialCalculator.internalRateOfReturn(s.amounts, s.times, s.amounts.length, 0.05);
+    }
+    
+    @Benchmark
+    public BigDecimal percentToDecimal(Amounts a) {
+        return FinancialCalculator.percentToDecimal(a.percent);
+    }
+    
+    @Benchmark
+    public BigDecimal decimalToPercent(Amounts a) {
+        return FinancialCalculator.decimalToPercent(a.decimal);
+    }
+    
+    @Benchmark
+    public BigDecimal roundToWon(Amounts a) {
+        return FinancialCalculator.roundToWon(a.amount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.samsung.common.calc;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 계산 벤치마크 (StatisticsCalculator 공개 메서드 전체)
+ * 표본 크기: 20(월간 수익률 몇 년치), 252(1년 일간), 2520(10년 일간)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatisticsCalculatorBenchmark {
+    
+    /**
+     * 표본 입력 (일간 수익률 %, 소수점 4자리)
+     */
+    @State(Scope.Benchmark)
+    public static class Sample {
+        
+        @Param({"20", "252", "2520"})
+        public int size;
+        
+        List<BigDecimal> returns;
+        List<BigDecimal> benchmark;
+        BigDecimal[] returnArray;
+        double[] sorted;
+        
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(7L);
+            returns = new ArrayList<>(size);
+            benchmark = new ArrayList<>(size);
+            sorted = new double[size];
+            for (int i = 0; i < size; i++) {
+                double market = random.nextGaussian() * 1.0;
+                double value = 0.03 + market + random.nextGaussian() * 0.8;
+                returns.add(BigDecimal.valueOf(Math.round(value * 10_000) / 10_000.0));
+                benchmark.add(BigDecimal.valueOf(Math.round(market * 10_000) / 10_000.0));
+                sorted[i] = value;
+            }
+            returnArray = returns.toArray(new BigDecimal[0]);
+            Arrays.sort(sorted);
+        }
+    }
+    
+    /**
+     * 분포 함수 입력
+     */
+    @State(Scope.Benchmark)
+    public static class Probability {
+        double p = 0.99;
+        double tail = 0.01;
+        double x = 1.645;
+    }
+    
+    @Benchmark
+    public BigDecimal meanList(Sample s) {
+        return StatisticsCalculator.mean(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal meanArray(Sample s) {
+        return StatisticsCalculator.mean(s.returnArray);
+    }
+    
+    @Benchmark
+    public BigDecimal median(Sample s) {
+        return StatisticsCalculator.median(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal max(Sample s) {
+        return StatisticsCalculator.max(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal min(Sample s) {
+        return StatisticsCalculator.min(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal range(Sample s) {
+        return StatisticsCalculator.range(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal variance(Sample s) {
+        return StatisticsCalculator.variance(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal sampleVariance(Sample s) {
+        return StatisticsCalculator.sampleVariance(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal standardDeviation(Sample s) {
+        return StatisticsCalculator.standardDeviation(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal sampleStandardDeviation(Sample s) {
+        return StatisticsCalculator.sampleStandardDeviation(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal coefficientOfVariation(Sample s) {
+        return StatisticsCalculator.coefficientOfVariation(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal percentile(Sample s) {
+        return StatisticsCalculator.percentile(s.returns, 95);
+    }
+    
+    @Benchmark
+    public StatisticsCalculator.Quartiles quartiles(Sample s) {
+        return StatisticsCalculator.quartiles(s.returns);
+    }
+    
+    @Benchmark
+    public BigDecimal correlation(Sample s) {
+        return StatisticsCalculator.correlation(s.returns, s.benchmark);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double percentileOfSorted(Sample s) {
+        return StatisticsCalculator.percentileOfSorted(s.sorted, 95);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double normalQuantileCentral(Probability p) {
+        return StatisticsCalculator.normalQuantile(p.p - 0.49);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double normalQuantileTail(Probability p) {
+        return StatisticsCalculator.normalQuantile(p.tail);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double normalDensity(Probability p) {
+        return StatisticsCalculator.normalDensity(p.x);
+    }
+}
\ No newline at end of file
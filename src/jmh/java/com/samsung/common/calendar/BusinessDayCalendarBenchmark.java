@@ -0,0 +1,129 @@
+package com.samsung.common.calendar;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영업일 달력 벤치마크
+ * 비트셋 + 누적 영업일 수 달력과, 하루씩 증가시키며 주말/휴일 Set을 검사하던 기존 반복 방식을 비교한다.
+ * (기존 DateTimeUtil.getNextBusinessDay는 주말만 검사했으므로 반복 방식에 휴일 Set 조회를 더해 같은 결과를 내도록 맞춤)
+ * 기준일은 2024~2027년 중 미리 만든 1024개 날짜를 순환한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessDayCalendarBenchmark {
+    
+    private static final int INPUTS = 1024;
+    private static final int MASK = INPUTS - 1;
+    
+    private BusinessDayCalendar calendar;
+    private Set<LocalDate> holidays;
+    private LocalDate[] starts = new LocalDate[INPUTS];
+    private int cursor;
+    
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("calendar/kr-holidays.txt")) {
+            calendar = BusinessDayCalendar.load(in, "benchmark");
+        }
+        holidays = new HashSet<>(calendar.getHolidays());
+        
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < INPUTS; i++) {
+            starts[i] = base.plusDays(random.nextInt(365 * 3));
+        }
+    }
+    
+    /**
+     * T+N 및 구간 길이 (영업일 수)
+     */
+    @State(Scope.Thread)
+    public static class Span {
+        
+        @Param({"2", "20", "250"})
+        public int businessDays;
+        
+        LocalDate[] ends = new LocalDate[INPUTS];
+        
+        @Setup
+        public void setUp(BusinessDayCalendarBenchmark benchmark) {
+            for (int i = 0; i < INPUTS; i++) {
+                ends[i] = benchmark.calendar.addBusinessDays(benchmark.starts[i], businessDays);
+            }
+        }
+    }
+    
+    @Benchmark
+    public boolean calendarIsBusinessDay() {
+        return calendar.isBusinessDay(starts[cursor++ & MASK]);
+    }
+    
+    @Benchmark
+    public boolean loopIsBusinessDay() {
+        return legacyIsBusinessDay(starts[cursor++ & MASK]);
+    }
+    
+    @Benchmark
+    public LocalDate calendarNext() {
+        return calendar.nextBusinessDay(starts[cursor++ & MASK]);
+    }
+    
+    @Benchmark
+    public LocalDate loopNext() {
+        LocalDate next = starts[cursor++ & MASK].plusDays(1);
+        while (!legacyIsBusinessDay(next)) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+    
+    @Benchmark
+    public LocalDate calendarAdd(Span span) {
+        return calendar.addBusinessDays(starts[cursor++ & MASK], span.businessDays);
+    }
+    
+    @Benchmark
+    public LocalDate loopAdd(Span span) {
+        LocalDate date = starts[cursor++ & MASK];
+        for (int remaining = span.businessDays; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (legacyIsBusinessDay(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+    
+    @Benchmark
+    public int calendarBetween(Span span) {
+        int i = cursor++ & MASK;
+        return calendar.businessDaysBetween(starts[i], span.ends[i]);
+    }
+    
+    @Benchmark
+    public int loopBetween(Span span) {
+        int i = cursor++ & MASK;
+        int count = 0;
+        for (LocalDate date = starts[i].plusDays(1); !date.isAfter(span.ends[i]); date = date.plusDays(1)) {
+            if (legacyIsBusinessDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private boolean legacyIsBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+}
\ No newline at end of file
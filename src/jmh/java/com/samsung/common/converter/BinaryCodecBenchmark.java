@@ -0,0 +1,145 @@
+package com.samsung.common.converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 16진수 / base64url 코덱 벤치마크
+ * 기존 bytesToHex(바이트마다 String.format), hexToBytes(Character.digit)와 조회 테이블 코덱,
+ * JDK HexFormat/Base64(URL, 패딩 없음)를 입력 크기별로 비교한다.
+ * (배열 전체 base64url 변환은 BinaryCodec이 JDK Base64에 위임하므로 구간 변환을 따로 측정)
+ * 크기: 16(계좌번호 해시), 256(일반 전문), 4096, 65536, 1048576(대용량 덤프)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinaryCodecBenchmark {
+    
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+    private static final Base64.Encoder BASE64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+    
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    public int length;
+    
+    private byte[] bytes;
+    private String hex;
+    private byte[] hexBytes;
+    private byte[] base64Bytes;
+    private byte[] out;
+    private ByteBuffer directSource;
+    private ByteBuffer directTarget;
+    
+    @Setup
+    public void setUp() {
+        bytes = new byte[length];
+        new SplittableRandom(7L).nextBytes(bytes);
+        hex = HEX_FORMAT.formatHex(bytes);
+        hexBytes = hex.getBytes(StandardCharsets.US_ASCII);
+        base64Bytes = BASE64URL_ENCODER.encode(bytes);
+        out = new byte[length * 2];
+        directSource = ByteBuffer.allocateDirect(length);
+        directSource.put(bytes).flip();
+        directTarget = ByteBuffer.allocateDirect(length * 2);
+    }
+    
+    // ===== 16진수 인코딩 =====
+    
+    @Benchmark
+    public String legacyBytesToHex() {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+    
+    @Benchmark
+    public String hexFormatToString() {
+        return HEX_FORMAT.formatHex(bytes);
+    }
+    
+    @Benchmark
+    public String codecHexToString() {
+        return DataConverter.bytesToHex(bytes);
+    }
+    
+    @Benchmark
+    public int codecHexIntoArray() {
+        return BinaryCodec.encodeHex(bytes, 0, length, out, 0);
+    }
+    
+    @Benchmark
+    public int codecHexIntoDirectBuffer() {
+        directSource.rewind();
+        directTarget.clear();
+        return BinaryCodec.encodeHex(directSource, directTarget);
+    }
+    
+    // ===== 16진수 디코딩 =====
+    
+    @Benchmark
+    public byte[] legacyHexToBytes() {
+        int size = hex.length();
+        byte[] result = new byte[size / 2];
+        for (int i = 0; i < size; i += 2) {
+            try {
+                result[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4) + Character.digit(hex.charAt(i + 1), 16));
+            } catch (Exception e) {
+                return new byte[0];
+            }
+        }
+        return result;
+    }
+    
+    @Benchmark
+    public byte[] hexFormatParse() {
+        return HEX_FORMAT.parseHex(hex);
+    }
+    
+    @Benchmark
+    public byte[] codecHexFromString() {
+        return DataConverter.hexToBytes(hex);
+    }
+    
+    @Benchmark
+    public int codecHexFromArray() {
+        return BinaryCodec.decodeHex(hexBytes, 0, hexBytes.length, out, 0);
+    }
+    
+    // ===== base64url =====
+    
+    @Benchmark
+    public int jdkBase64UrlIntoArray() {
+        return BASE64URL_ENCODER.encode(bytes, out);
+    }
+    
+    @Benchmark
+    public int codecBase64UrlIntoArray() {
+        return BinaryCodec.encodeBase64Url(bytes, 0, length, out, 0);
+    }
+    
+    /**
+     * 배열 일부 구간 (JDK 위임 없이 테이블 경로)
+     */
+    @Benchmark
+    public int codecBase64UrlRangeIntoArray() {
+        return BinaryCodec.encodeBase64Url(bytes, 1, length - 1, out, 1);
+    }
+    
+    @Benchmark
+    public int jdkBase64UrlDecode() {
+        return BASE64URL_DECODER.decode(base64Bytes, out);
+    }
+    
+    @Benchmark
+    public int codecBase64UrlDecode() {
+        return BinaryCodec.decodeBase64Url(base64Bytes, 0, base64Bytes.length, out, 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.samsung.common.converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 변환 벤치마크 (DataConverter 파싱/포맷)
+ * 숫자 입력은 자릿수별로 미리 만든 1024개 값을 순환하며 1건씩 변환한다.
+ * 자릿수: 3(수량, 단가 일부), 10(원화 금액 최대 100억)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataConverterBenchmark {
+    
+    private static final int INPUTS = 1024;
+    private static final int MASK = INPUTS - 1;
+    
+    /**
+     * 숫자 문자열/값 입력
+     */
+    @State(Scope.Thread)
+    public static class Numbers {
+        
+        @Param({"3", "10"})
+        public int digits;
+        
+        String[] integers = new String[INPUTS];
+        String[] ints = new String[INPUTS];
+        String[] grouped = new String[INPUTS];
+        String[] decimals = new String[INPUTS];
+        BigDecimal[] amounts = new BigDecimal[INPUTS];
+        Double[] rates = new Double[INPUTS];
+        String[] booleans = {"Y", "n", "true", "0", "enabled", "OFF", "yes", "1"};
+        int cursor;
+        
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(3L);
+            long bound = (long) Math.pow(10, digits);
+            for (int i = 0; i < INPUTS; i++) {
+                long value = bound / 10 + random.nextLong(bound - bound / 10);
+                integers[i] = Long.toString(value);
+                // int 범위를 넘는 자릿수는 toInteger 입력에서 9자리로 절단 (실패 경로 측정 방지)
+                ints[i] = integers[i].substring(0, Math.min(9, digits));
+                grouped[i] = DataConverter.toCurrencyString(value);
+                decimals[i] = grouped[i] + "." + (10 + random.nextInt(90));
+                amounts[i] = new BigDecimal(integers[i] + "." + (10 + random.nextInt(90)));
+                rates[i] = random.nextDouble() * 0.3;
+            }
+        }
+        
+        int next() {
+            return cursor++ & MASK;
+        }
+    }
+    
+    /**
+     * 16진수 변환 입력 (바이트 수: 해시 16, 일반 전문 256, 대용량 4096)
+     */
+    @State(Scope.Benchmark)
+    public static class Bytes {
+        
+        @Param({"16", "256", "4096"})
+        public int length;
+        
+        byte[] bytes;
+        String hex;
+        
+        @Setup
+        public void setUp() {
+            bytes = new byte[length];
+            new SplittableRandom(5L).nextBytes(bytes);
+            hex = DataConverter.bytesToHex(bytes);
+        }
+    }
+    
+    /**
+     * key=value 변환 입력 (항목 수)
+     */
+    @State(Scope.Benchmark)
+    public static class Entries {
+        
+        @Param({"4", "32"})
+        public int entries;
+        
+        String text;
+        Map<String, String> map;
+        
+        @Setup
+        public void setUp() {
+            map = new LinkedHashMap<>();
+            for (int i = 0; i < entries; i++) {
+                map.put("field" + i, i % 2 == 0 ? "홍길동" + i : Integer.toString(i * 1000));
+            }
+            text = DataConverter.mapToString(map, ",", "=");
+        }
+    }
+    
+    @Benchmark
+    public Integer toInteger(Numbers n) {
+        return DataConverter.toInteger(n.ints[n.next()]);
+    }
+    
+    @Benchmark
+    public Long toLong(Numbers n) {
+        return DataConverter.toLong(n.integers[n.next()]);
+    }
+    
+    @Benchmark
+    public Double toDouble(Numbers n) {
+        return DataConverter.toDouble(n.decimals[n.next()]);
+    }
+    
+    @Benchmark
+    public BigDecimal toBigDecimal(Numbers n) {
+        return DataConverter.toBigDecimal(n.decimals[n.next()]);
+    }
+    
+    @Benchmark
+    public Boolean toBoolean(Numbers n) {
+        return DataConverter.toBoolean(n.booleans[n.next() & 7]);
+    }
+    
+    @Benchmark
+    public String toCurrencyString(Numbers n) {
+        return DataConverter.toCurrencyString(n.amounts[n.next()]);
+    }
+    
+    @Benchmark
+    public String toPercentString(Numbers n) {
+        return DataConverter.toPercentString(n.rates[n.next()]);
+    }
+    
+    @Benchmark
+    public String toDecimalString(Numbers n) {
+        return DataConverter.toDecimalString(n.amounts[n.next()]);
+    }
+    
+    @Benchmark
+    public Integer roundToInt(Numbers n) {
+        return DataConverter.roundToInt(n.amounts[n.next()]);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String bytesToHex(Bytes b) {
+        return DataConverter.bytesToHex(b.bytes);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] hexToBytes(Bytes b) {
+        return DataConverter.hexToBytes(b.hex);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Map<String, String> stringToMap(Entries e) {
+        return DataConverter.stringToMap(e.text, ",", "=");
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String mapToString(Entries e) {
+        return DataConverter.mapToString(e.map, ",", "=");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.samsung.common.converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * key=value 메시지 파싱/작성 벤치마크
+ * 기존 String.split 기반 stringToMap, reduce 문자열 연결 기반 mapToString과
+ * KeyValueTokenizer(부분 문자열 없는 순회), KeyValueWriter(빌더 재사용)를 항목 수별로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyValueMessageBenchmark {
+    
+    @Param({"5", "50", "500", "5000"})
+    public int entries;
+    
+    private String text;
+    private Map<String, String> map;
+    private final KeyValueTokenizer tokenizer = new KeyValueTokenizer(",", "=");
+    private final KeyValueWriter writer = new KeyValueWriter(",", "=");
+    
+    @Setup
+    public void setUp() {
+        map = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            map.put("field" + i, i % 2 == 0 ? "홍길동" + i : Integer.toString(i * 1000));
+        }
+        text = DataConverter.mapToString(map, ",", "=");
+    }
+    
+    // ===== 파싱 =====
+    
+    @Benchmark
+    public Map<String, String> legacyStringToMap() {
+        Map<String, String> result = new HashMap<>();
+        for (String entry : text.split(",")) {
+            if (!entry.trim().isEmpty() && entry.contains("=")) {
+                String[] keyValue = entry.split("=", 2);
+                if (keyValue.length == 2) {
+                    result.put(keyValue[0].trim(), keyValue[1].trim());
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Benchmark
+    public Map<String, String> stringToMap() {
+        return DataConverter.stringToMap(text, ",", "=");
+    }
+    
+    /**
+     * Map 없이 순회하며 필요한 항목만 처리 (값 길이 합산)
+     */
+    @Benchmark
+    public int tokenizerScan() {
+        int total = 0;
+        tokenizer.reset(text);
+        while (tokenizer.next()) {
+            total += tokenizer.value().length();
+        }
+        return total;
+    }
+    
+    // ===== 작성 =====
+    
+    @Benchmark
+    public String legacyMapToString() {
+        return map.entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .reduce((s1, s2) -> s1 + "," + s2)
+            .orElse("");
+    }
+    
+    @Benchmark
+    public String mapToString() {
+        return DataConverter.mapToString(map, ",", "=");
+    }
+    
+    /**
+     * 빌더 재사용 (문자열 생성 없이 작성 결과 길이만 반환)
+     */
+    @Benchmark
+    public int writerReuse() {
+        return writer.reset().addAll(map).getTarget().length();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.samsung.common.record;
+
+import com.samsung.common.util.StringUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정길이 레코드 인코딩/디코딩 벤치마크 (MS949, 100바이트 레코드, 한글 이름 포함)
+ * legacy: StringUtil.padRight + getByteLength로 필드 문자열을 만들어 이어 붙인 뒤 getBytes,
+ *         읽을 때는 필드별 new String(bytes, charset) 후 trim/parse
+ * codec: FixedWidthRecord로 ByteBuffer에 직접 기록/파싱
+ * 레코드당 할당 바이트는 -prof gc의 gc.alloc.rate.norm으로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FixedWidthRecordBenchmark {
+    
+    private static final int INPUTS = 256;
+    private static final Charset CHARSET = FixedWidthLayout.MS949;
+    private static final FixedWidthLayout LAYOUT = FixedWidthLayout.builder(CHARSET)
+        .text("customerId", 10)
+        .text("customerName", 20)
+        .text("branch", 30)
+        .number("quantity", 9)
+        .decimal("amount", 15, 2)
+        .text("riskLevel", 6)
+        .filler(10)
+        .build();
+    
+    private final String[] ids = new String[INPUTS];
+    private final String[] names = new String[INPUTS];
+    private final String[] branches = new String[INPUTS];
+    private final long[] quantities = new long[INPUTS];
+    private final BigDecimal[] amounts = new BigDecimal[INPUTS];
+    private final ByteBuffer encoded = ByteBuffer.allocate(LAYOUT.getRecordLength() * INPUTS);
+    private final byte[] encodedBytes = encoded.array();
+    private final ByteBuffer out = ByteBuffer.allocate(LAYOUT.getRecordLength());
+    private FixedWidthRecord record;
+    private int cursor;
+    
+    @Setup
+    public void setUp() {
+        String[] surnames = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+        String[] givens = {"민준", "서연", "도윤", "하은", "시우", "지유", "주원", "서윤"};
+        record = LAYOUT.newRecord();
+        for (int i = 0; i < INPUTS; i++) {
+            ids[i] = "C" + (100000 + i);
+            names[i] = surnames[i % 8] + givens[(i / 8) % 8];
+            branches[i] = "서울 강남 " + (i % 20) + "번 지점 WM센터";
+            quantities[i] = 10 + i * 37L;
+            amounts[i] = new BigDecimal(1_000_000L + i * 12_345L).movePointLeft(2);
+            record.wrap(encoded, i * LAYOUT.getRecordLength()).clear()
+                .setString(0, ids[i]).setString(1, names[i]).setString(2, branches[i])
+                .setLong(3, quantities[i]).setDecimal(4, amounts[i]).setString(5, "MEDIUM");
+        }
+    }
+    
+    @Benchmark
+    public ByteBuffer encodeLegacy() {
+        int i = cursor++ & (INPUTS - 1);
+        String line = padBytes(ids[i], 10)
+            + padBytes(names[i], 20)
+            + padBytes(branches[i], 30)
+            + StringUtil.padLeft(Long.toString(quantities[i]), 9, '0')
+            + StringUtil.padLeft(amounts[i].movePointRight(2).toPlainString(), 15, '0')
+            + padBytes("MEDIUM", 6)
+            + StringUtil.padRight("", 10, ' ');
+        out.clear();
+        return out.put(line.getBytes(CHARSET));
+    }
+    
+    @Benchmark
+    public ByteBuffer encodeCodec() {
+        int i = cursor++ & (INPUTS - 1);
+        record.wrap(out, 0).clear()
+            .setString(0, ids[i]).setString(1, names[i]).setString(2, branches[i])
+            .setLong(3, quantities[i]).setDecimal(4, amounts[i]).setString(5, "MEDIUM");
+        return out;
+    }
+    
+    @Benchmark
+    public long decodeLegacy() {
+        int offset = (cursor++ & (INPUTS - 1)) * LAYOUT.getRecordLength();
+        String id = new String(encodedBytes, offset, 10, CHARSET).trim();
+        String name = new String(encodedBytes, offset + 10, 20, CHARSET).trim();
+        String branch = new String(encodedBytes, offset + 30, 30, CHARSET).trim();
+        long quantity = Long.parseLong(new String(encodedBytes, offset + 60, 9, CHARSET));
+        BigDecimal amount = new BigDecimal(new String(encodedBytes, offset + 69, 15, CHARSET)).movePointLeft(2);
+        return id.length() + name.length() + branch.length() + quantity + amount.scale();
+    }
+    
+    @Benchmark
+    public long decodeCodec() {
+        FixedWidthRecord r = record.wrap(encoded, (cursor++ & (INPUTS - 1)) * LAYOUT.getRecordLength());
+        String id = r.getString(0);
+        String name = r.getString(1);
+        String branch = r.getString(2);
+        long quantity = r.getLong(3);
+        BigDecimal amount = r.getDecimal(4);
+        return id.length() + name.length() + branch.length() + quantity + amount.scale();
+    }
+    
+    /**
+     * 기존 방식 - 문자 수 기준 padRight를 바이트 길이 차이만큼 보정 (초과 시 절단 처리 없음)
+     */
+    private static String padBytes(String value, int length) {
+        int extra = StringUtil.getByteLength(value, "MS949") - value.length();
+        return StringUtil.padRight(value, length - extra, ' ');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.samsung.common.util;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 온보딩 레코드 대량 검증 벤치마크 (10만 건, 레코드당 6개 필드)
+ * legacyRegex: 기존 방식 - 정규식(Pattern.matcher) 검증, 실패마다 BusinessException을 던지고 잡아 건수 집계
+ * bulk: BulkValidator + 단일 순회 검증 함수, 실패는 레코드별 비트마스크
+ * invalidPercent는 잘못된 필드가 하나 이상 섞인 레코드 비율이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkValidationBenchmark {
+    
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+    private static final Pattern PHONE = Pattern.compile("^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$");
+    private static final Pattern ACCOUNT = Pattern.compile("^\\d{10,16}$");
+    private static final Pattern CARD = Pattern.compile("^\\d{13,19}$");
+    private static final Pattern BUSINESS = Pattern.compile("^\\d{3}-\\d{2}-\\d{5}$");
+    private static final Pattern KOREAN = Pattern.compile("^[가-힣]+$");
+    
+    @Param({"100000"})
+    private int records;
+    
+    @Param({"0", "5"})
+    private int invalidPercent;
+    
+    private List<Row> rows;
+    private BulkValidator<Row> validator;
+    
+    /**
+     * 온보딩 파일 한 줄
+     */
+    record Row(String name, String email, String phone, String account, String card, String business) {
+    }
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11L);
+        String[] names = {"홍길동", "김민준", "이서연", "박도윤", "최하은"};
+        rows = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercent;
+            int broken = invalid ? random.nextInt(6) : -1;
+            rows.add(new Row(
+                broken == 0 ? "Hong1" : names[i % names.length],
+                broken == 1 ? "user" + i + "@samsung" : "user" + i + "@samsung.com",
+                broken == 2 ? "02-123-4567" : String.format("010-%04d-%04d", i % 10_000, (i * 7) % 10_000),
+                broken == 3 ? "12345" : Long.toString(1_000_000_000_000L + i),
+                broken == 4 ? "1234-5678" : "1234-5678-9012-" + String.format("%04d", i % 10_000),
+                broken == 5 ? "1234567890" : "123-45-" + String.format("%05d", i % 100_000)));
+        }
+        validator = BulkValidator.<Row>builder()
+            .field("name", Row::name, ValidationUtil::isKorean)
+            .field("email", Row::email, ValidationUtil::isValidEmail)
+            .field("phone", Row::phone, ValidationUtil::isValidPhoneNumber)
+            .field("account", Row::account, ValidationUtil::isValidAccountNumber)
+            .field("card", Row::card, ValidationUtil::isValidCardNumber)
+            .field("business", Row::business, ValidationUtil::isValidBusinessNumber)
+            .build();
+    }
+    
+    @Benchmark
+    public int legacyRegex() {
+        int invalid = 0;
+        for (Row row : rows) {
+            try {
+                require(KOREAN, row.name(), "name");
+                require(EMAIL, row.email(), "email");
+                require(PHONE, row.phone(), "phone");
+                require(ACCOUNT, row.account(), "account");
+                require(CARD, row.card().replaceAll("[\\s-]", ""), "card");
+                require(BUSINESS, row.business(), "business");
+            } catch (BusinessException e) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+    
+    @Benchmark
+    public int bulk() {
+        return validator.validate(rows).getInvalidCount();
+    }
+    
+    private static void require(Pattern pattern, String value, String field) {
+        if (!pattern.matcher(value).matches()) {
+            throw new BusinessException(ErrorCodes.VALIDATION_ERROR, "형식 오류: " + field);
+        }
+    }
+}
\ No newline at end of file
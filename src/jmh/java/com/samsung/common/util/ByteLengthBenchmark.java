@@ -0,0 +1,60 @@
+package com.samsung.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이트 길이 계산 벤치마크 (한글 위주 텍스트)
+ * legacy: 기존 구현과 같은 str.getBytes(charsetName).length (배열 생성 후 버림)
+ * table: StringUtil.getByteLength (문자 폭 테이블 순회, 할당 없음)
+ * 텍스트는 한글 약 70%, 공백/숫자/영문 30% (고객명, 주소, 상담 메모 등)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ByteLengthBenchmark {
+    
+    @Param({"UTF-8", "EUC-KR", "MS949"})
+    private String charset;
+    
+    @Param({"10", "100", "1000"})
+    private int length;
+    
+    private String text;
+    private Charset resolved;
+    private int maxBytes;
+    
+    @Setup
+    public void setUp() {
+        String unit = "서울특별시 강남구 테헤란로 123 삼성타워 15층 WM센터 홍길동 고객 상담 2024";
+        StringBuilder sb = new StringBuilder(length + unit.length());
+        while (sb.length() < length) {
+            sb.append(unit);
+        }
+        text = sb.substring(0, length);
+        resolved = Charset.forName(charset);
+        maxBytes = StringUtil.getByteLength(text, charset) / 2;
+    }
+    
+    @Benchmark
+    public int legacy() throws Exception {
+        return text.getBytes(charset).length;
+    }
+    
+    @Benchmark
+    public int table() {
+        return StringUtil.getByteLength(text, charset);
+    }
+    
+    @Benchmark
+    public int tableWithCharset() {
+        return StringUtil.getByteLength(text, resolved);
+    }
+    
+    @Benchmark
+    public String truncate() {
+        return StringUtil.truncateToBytes(text, maxBytes, resolved);
+    }
+}
\ No newline at end of file
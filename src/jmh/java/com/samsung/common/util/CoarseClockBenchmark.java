@@ -0,0 +1,57 @@
+package com.samsung.common.util;
+
+import com.samsung.common.dto.BaseResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 시계 벤치마크
+ * 응답/전략 결과마다 LocalDateTime.now()(+ 포맷팅)를 호출하던 방식과 1ms 틱 캐시 시계 조회를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoarseClockBenchmark {
+    
+    private CoarseClock coarseClock;
+    
+    @Setup
+    public void setUp() {
+        coarseClock = CoarseClock.ticking(Clock.systemDefaultZone(), Duration.ofMillis(1));
+        CoarseClock.install(coarseClock);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        coarseClock.close();
+    }
+    
+    @Benchmark
+    public LocalDateTime systemNow() {
+        return LocalDateTime.now();
+    }
+    
+    @Benchmark
+    public LocalDateTime coarseNow() {
+        return CoarseClock.current().now();
+    }
+    
+    @Benchmark
+    public String systemFormattedNow() {
+        return DateUtil.formatDateTime(LocalDateTime.now());
+    }
+    
+    @Benchmark
+    public String coarseFormattedNow() {
+        return CoarseClock.current().formattedNow();
+    }
+    
+    @Benchmark
+    public BaseResponse<String> successResponse() {
+        return BaseResponse.success("OK");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.samsung.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 패턴 날짜/시간 코덱 벤치마크
+ * 일괄 파일 레코드의 yyyyMMddHHmmss 바이트 구간을 epoch second로 변환하거나 다시 기록하는 경로에서,
+ * 문자열 생성 + DateTimeFormatter 경로와 DateTimeCodec 직접 변환을 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeCodecBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final int MASK = INPUTS - 1;
+    private static final int RECORD_LENGTH = 32;
+    private static final int FIELD_OFFSET = 10;
+    private static final DateTimeFormatter COMPACT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final byte[] records = new byte[INPUTS * RECORD_LENGTH];
+    private final long[] epochSeconds = new long[INPUTS];
+    private final byte[] out = new byte[RECORD_LENGTH];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 2, 9, 0, 0);
+        for (int i = 0; i < INPUTS; i++) {
+            LocalDateTime dateTime = base.plusDays(i).plusSeconds(i * 37L);
+            epochSeconds[i] = dateTime.toEpochSecond(ZoneOffset.UTC);
+            byte[] field = dateTime.format(COMPACT).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(field, 0, records, i * RECORD_LENGTH + FIELD_OFFSET, field.length);
+        }
+    }
+
+    @Benchmark
+    public long formatterParseBytes() {
+        int offset = (cursor++ & MASK) * RECORD_LENGTH + FIELD_OFFSET;
+        String text = new String(records, offset, DateTimeCodec.COMPACT_DATETIME_LENGTH, StandardCharsets.US_ASCII);
+        return LocalDateTime.parse(text, COMPACT).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public long codecParseBytes() {
+        int offset = (cursor++ & MASK) * RECORD_LENGTH + FIELD_OFFSET;
+        return DateTimeCodec.parseCompactDateTime(records, offset);
+    }
+
+    @Benchmark
+    public byte[] formatterWriteBytes() {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSeconds[cursor++ & MASK], 0, ZoneOffset.UTC);
+        byte[] field = dateTime.format(COMPACT).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(field, 0, out, FIELD_OFFSET, field.length);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] codecWriteBytes() {
+        DateTimeCodec.writeCompactDateTime(epochSeconds[cursor++ & MASK], out, FIELD_OFFSET);
+        return out;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.samsung.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 유틸리티 벤치마크 (DateUtil 포맷/파싱)
+ * 입력은 미리 만든 1024개 일시를 순환하며, 커스텀 포맷은 패턴별로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilBenchmark {
+    
+    private static final int INPUTS = 1024;
+    private static final int MASK = INPUTS - 1;
+    
+    /**
+     * 기본 포맷 입력
+     */
+    @State(Scope.Thread)
+    public static class Dates {
+        
+        LocalDate[] dates = new LocalDate[INPUTS];
+        LocalDateTime[] dateTimes = new LocalDateTime[INPUTS];
+        String[] dateStrings = new String[INPUTS];
+        String[] dateTimeStrings = new String[INPUTS];
+        String[] compactDates = new String[INPUTS];
+        int cursor;
+        
+        @Setup
+        public void setUp() {
+            LocalDateTime base = LocalDateTime.of(2024, 1, 2, 9, 0, 0);
+            for (int i = 0; i < INPUTS; i++) {
+                dateTimes[i] = base.plusDays(i).plusSeconds(i * 37L);
+                dates[i] = dateTimes[i].toLocalDate();
+                dateStrings[i] = DateUtil.formatDate(dates[i]);
+                dateTimeStrings[i] = DateUtil.formatDateTime(dateTimes[i]);
+                compactDates[i] = DateUtil.toCompactDateString(dates[i]);
+            }
+        }
+        
+        int next() {
+            return cursor++ & MASK;
+        }
+    }
+    
+    /**
+     * 커스텀 포맷 입력
+     */
+    @State(Scope.Thread)
+    public static class Patterned {
+        
+        @Param({"yyyyMMddHHmmss", "yyyy-MM-dd HH:mm:ss", "yyyy년 MM월 dd일 HH시 mm분"})
+        public String pattern;
+        
+        LocalDateTime[] dateTimes = new LocalDateTime[INPUTS];
+        String[] texts = new String[INPUTS];
+        int cursor;
+        
+        @Setup
+        public void setUp() {
+            LocalDateTime base = LocalDateTime.of(2024, 1, 2, 9, 0, 0);
+            for (int i = 0; i < INPUTS; i++) {
+                dateTimes[i] = base.plusDays(i).plusMinutes(i * 7L);
+                texts[i] = DateUtil.format(dateTimes[i], pattern);
+            }
+        }
+        
+        int next() {
+            return cursor++ & MASK;
+        }
+    }
+    
+    @Benchmark
+    public String formatDate(Dates d) {
+        return DateUtil.formatDate(d.dates[d.next()]);
+    }
+    
+    @Benchmark
+    public String formatDateTime(Dates d) {
+        return DateUtil.formatDateTime(d.dateTimes[d.next()]);
+    }
+    
+    @Benchmark
+    public LocalDate parseDate(Dates d) {
+        return DateUtil.parseDate(d.dateStrings[d.next()]);
+    }
+    
+    @Benchmark
+    public LocalDateTime parseDateTime(Dates d) {
+        return DateUtil.parseDateTime(d.dateTimeStrings[d.next()]);
+    }
+    
+    @Benchmark
+    public String toCompactDateString(Dates d) {
+        return DateUtil.toCompactDateString(d.dates[d.next()]);
+    }
+    
+    @Benchmark
+    public String toCompactDateTimeString(Dates d) {
+        return DateUtil.toCompactDateTimeString(d.dateTimes[d.next()]);
+    }
+    
+    @Benchmark
+    public LocalDate fromCompactDateString(Dates d) {
+        return DateUtil.fromCompactDateString(d.compactDates[d.next()]);
+    }
+    
+    @Benchmark
+    public String format(Patterned p) {
+        return DateUtil.format(p.dateTimes[p.next()], p.pattern);
+    }
+    
+    @Benchmark
+    public LocalDateTime parse(Patterned p) {
+        return DateUtil.parse(p.texts[p.next()], p.pattern);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.samsung.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문자열 유틸리티 벤치마크 (StringUtil.mask, isValidEmail)
+ * 마스킹 길이: 4(이름), 16(카드번호), 64(주소 등 긴 필드)
+ * 이메일 길이: 16(일반), 64(긴 로컬부), 254(RFC 최대 길이)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilBenchmark {
+    
+    /**
+     * 마스킹 입력 (앞 1자, 뒤 1/4 노출)
+     */
+    @State(Scope.Benchmark)
+    public static class MaskInput {
+        
+        @Param({"4", "16", "64"})
+        public int length;
+        
+        String value;
+        int start;
+        int end;
+        
+        @Setup
+        public void setUp() {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(i % 3 == 0 ? '홍' : (char) ('0' + i % 10));
+            }
+            value = sb.toString();
+            start = 1;
+            end = length - Math.max(1, length / 4);
+        }
+    }
+    
+    /**
+     * 이메일 입력 (유효 형식)
+     */
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+        
+        @Param({"16", "64", "254"})
+        public int length;
+        
+        String email;
+        
+        @Setup
+        public void setUp() {
+            String domain = "@samsung.com";
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; sb.length() < length - domain.length(); i++) {
+                sb.append(i % 8 == 7 ? '.' : (char) ('a' + i % 26));
+            }
+            email = sb.append(domain).toString();
+        }
+    }
+    
+    @Benchmark
+    public String mask(MaskInput input) {
+        return StringUtil.mask(input.value, '*', input.start, input.end);
+    }
+    
+    @Benchmark
+    public boolean isValidEmail(EmailInput input) {
+        return StringUtil.isValidEmail(input.email);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.samsung.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 유틸리티 벤치마크 (ValidationUtil 정규식 검증)
+ * 문자 종류 검증은 입력 길이(8, 32, 128)별로, 금융 형식 검증은 고정 형식 입력으로 측정한다.
+ * 입력은 모두 검증을 통과하는 값이므로 전체 문자열을 끝까지 검사하는 비용이 측정된다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationUtilBenchmark {
+    
+    /**
+     * 길이별 문자 종류 입력
+     */
+    @State(Scope.Benchmark)
+    public static class Characters {
+        
+        @Param({"8", "32", "128"})
+        public int length;
+        
+        String numeric;
+        String integer;
+        String positive;
+        String korean;
+        String alpha;
+        String alphaNumeric;
+        
+        @Setup
+        public void setUp() {
+            String digits = repeat("1234567890", length);
+            numeric = "-" + digits.substring(0, length / 2) + "." + digits.substring(0, length - length / 2 - 1);
+            integer = "-" + digits.substring(0, length - 1);
+            positive = digits;
+            korean = repeat("삼성자산관리홍길동", length);
+            alpha = repeat("WealthManagement", length);
+            alphaNumeric = repeat("Portfolio2024", length);
+        }
+        
+        private static String repeat(String unit, int length) {
+            StringBuilder sb = new StringBuilder(length + unit.length());
+            while (sb.length() < length) {
+                sb.append(unit);
+            }
+            return sb.substring(0, length);
+        }
+    }
+    
+    /**
+     * 금융 형식 입력
+     */
+    @State(Scope.Benchmark)
+    public static class Formats {
+        String accountNumber = "1234567890123";
+        String cardNumber = "1234-5678-9012-3456";
+        String businessNumber = "123-45-67890";
+        String birthDate = "850315";
+        String amount = "125000000.50";
+        double minAmount = 10_000.0;
+        double maxAmount = 10_000_000_000.0;
+    }
+    
+    @Benchmark
+    public boolean isNumeric(Characters c) {
+        return ValidationUtil.isNumeric(c.numeric);
+    }
+    
+    @Benchmark
+    public boolean isInteger(Characters c) {
+        return ValidationUtil.isInteger(c.integer);
+    }
+    
+    @Benchmark
+    public boolean isPositiveInteger(Characters c) {
+        return ValidationUtil.isPositiveInteger(c.positive);
+    }
+    
+    @Benchmark
+    public boolean isKorean(Characters c) {
+        return ValidationUtil.isKorean(c.korean);
+    }
+    
+    @Benchmark
+    public boolean isAlpha(Characters c) {
+        return ValidationUtil.isAlpha(c.alpha);
+    }
+    
+    @Benchmark
+    public boolean isAlphaNumeric(Characters c) {
+        return ValidationUtil.isAlphaNumeric(c.alphaNumeric);
+    }
+    
+    @Benchmark
+    public boolean isValidAccountNumber(Formats f) {
+        return ValidationUtil.isValidAccountNumber(f.accountNumber);
+    }
+    
+    @Benchmark
+    public boolean isValidCardNumber(Formats f) {
+        return ValidationUtil.isValidCardNumber(f.cardNumber);
+    }
+    
+    @Benchmark
+    public boolean isValidBusinessNumber(Formats f) {
+        return ValidationUtil.isValidBusinessNumber(f.businessNumber);
+    }
+    
+    @Benchmark
+    public boolean isValidBirthDate6Digits(Formats f) {
+        return ValidationUtil.isValidBirthDate6Digits(f.birthDate);
+    }
+    
+    @Benchmark
+    public boolean isValidAmount(Formats f) {
+        return ValidationUtil.isValidAmount(f.amount);
+    }
+    
+    @Benchmark
+    public boolean isAmountInRange(Formats f) {
+        return ValidationUtil.isAmountInRange(f.amount, f.minAmount, f.maxAmount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.samsung.wm.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH 결과 기준선 비교 도구
+ * 저장된 기준선(JSON)과 이번 실행 결과(JSON)를 벤치마크 + 파라미터 조합별로 비교하여
+ * 임계치(%)보다 나빠진 항목을 REGRESSION으로 표시하고, 하나라도 있으면 종료 코드 1을 반환한다.
+ * 
+ * 판정: 시간 모드(avgt, sample, ss)는 값이 클수록, 처리량(thrpt)은 작을수록 나쁜 것으로 본다.
+ * 변화량이 두 실행의 오차(99.9% 신뢰구간 반폭) 합보다 작으면 측정 잡음으로 보고 회귀로 판정하지 않는다.
+ * 
+ * 실행: gradle jmh jmhCompare [-PjmhThreshold=10]
+ *   기준선 갱신: gradle jmh jmhBaseline
+ */
+public final class BaselineComparator {
+    
+    private BaselineComparator() {
+        // 인스턴스 생성 방지
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("사용법: BaselineComparator <baseline.json> <results.json> [threshold%]");
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Score> baseline = read(mapper, new File(args[0]));
+        Map<String, Score> current = read(mapper, new File(args[1]));
+        
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s  %s%n", "benchmark", "baseline", "current", "change", "status");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            String status;
+            String change = "";
+            if (base == null) {
+                status = "NEW";
+            } else if (!base.unit.equals(now.unit)) {
+                status = "UNIT MISMATCH (" + base.unit + " -> " + now.unit + ")";
+            } else {
+                double percent = (now.value - base.value) / base.value * 100.0;
+                // 처리량은 감소가 악화이므로 부호를 뒤집어 '악화율'로 통일
+                double worse = now.throughput ? -percent : percent;
+                boolean beyondNoise = Math.abs(now.value - base.value) > base.error + now.error;
+                change = String.format("%+8.1f%%", percent);
+                if (worse > threshold && beyondNoise) {
+                    status = "REGRESSION";
+                    regressions++;
+                } else if (worse < -threshold && beyondNoise) {
+                    status = "improved";
+                } else {
+                    status = "ok";
+                }
+            }
+            System.out.printf("%-90s %14s %14s %9s  %s%n", entry.getKey(),
+                              base != null ? base.format() : "-", now.format(), change, status);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-90s %14s %14s %9s  %s%n", key, baseline.get(key).format(), "-", "", "MISSING");
+            }
+        }
+        
+        System.out.printf("%n%d benchmark(s) compared, threshold %.1f%%, %d regression(s)%n",
+                          current.size(), threshold, regressions);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * JMH JSON 결과를 "벤치마크 (파라미터)" 키로 읽음 (파일 내 순서 유지)
+     */
+    private static Map<String, Score> read(ObjectMapper mapper, File file) throws IOException {
+        if (!file.isFile()) {
+            throw new IllegalArgumentException("JMH 결과 파일이 없습니다: " + file);
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : mapper.readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                // 파라미터 순서가 실행마다 달라도 같은 키가 되도록 이름순 정렬
+                Map<String, String> sorted = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    sorted.put(field.getKey(), field.getValue().asText());
+                }
+                key.append(' ').append(sorted);
+            }
+            key.append(" [").append(run.path("mode").asText()).append(']');
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0.0);
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(), Double.isNaN(error) ? 0.0 : error,
+                                                 metric.path("scoreUnit").asText(), "thrpt".equals(run.path("mode").asText())));
+        }
+        return scores;
+    }
+    
+    /**
+     * 측정값 (점수, 오차, 단위)
+     */
+    private record Score(double value, double error, String unit, boolean throughput) {
+        
+        String format() {
+            return String.format("%.3f %s", value, unit);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samsung.common.dto.BaseResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 벤치마크
+ * 스트리밍 직렬화기, 리플렉션 직렬화, 컨트롤러식 HashMap 변환 후 직렬화를 비교한다.
+ * 응답당 할당 바이트는 -prof gc의 gc.alloc.rate.norm으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+    
+    @Param({"10", "1000"})
+    private int rows;
+    
+    private ObjectMapper streamingMapper;
+    private ObjectMapper reflectiveMapper;
+    private BaseResponse<WealthManagementDashboardDto> dashboard;
+    private BaseResponse<InvestmentPlanResponseDto> plan;
+    private final CountingOutputStream out = new CountingOutputStream();
+    
+    @Setup
+    public void setUp() {
+        streamingMapper = newMapper();
+        reflectiveMapper = newMapper();
+        // @JsonSerialize 직렬화기를 무시하여 기존 리플렉션 경로로 직렬화
+        reflectiveMapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public Object findSerializer(Annotated a) {
+                return null;
+            }
+        });
+        dashboard = BaseResponse.success(dashboard(rows));
+        plan = BaseResponse.success(plan(rows));
+    }
+    
+    @Benchmark
+    public long dashboardStreaming() throws IOException {
+        return write(streamingMapper, dashboard);
+    }
+    
+    @Benchmark
+    public long dashboardReflective() throws IOException {
+        return write(reflectiveMapper, dashboard);
+    }
+    
+    @Benchmark
+    public long dashboardViaMap() throws IOException {
+        return write(reflectiveMapper, toMap(dashboard));
+    }
+    
+    @Benchmark
+    public long planStreaming() throws IOException {
+        return write(streamingMapper, plan);
+    }
+    
+    @Benchmark
+    public long planReflective() throws IOException {
+        return write(reflectiveMapper, plan);
+    }
+    
+    private long write(ObjectMapper mapper, Object value) throws IOException {
+        out.count = 0;
+        mapper.writeValue(out, value);
+        return out.count;
+    }
+    
+    static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        return mapper;
+    }
+    
+    static WealthManagementDashboardDto dashboard(int rows) {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 15, 9, 30, 12, 345_000_000);
+        List<PortfolioSummaryDto> summaries = new ArrayList<>(rows);
+        List<RecentTransactionDto> transactions = new ArrayList<>(rows);
+        Map<String, BigDecimal> allocation = new LinkedHashMap<>();
+        for (int i = 0; i < rows; i++) {
+            summaries.add(new PortfolioSummaryDto("PF" + i, "포트폴리오 " + i, new BigDecimal("125000000.50"),
+                                                  new BigDecimal("3250000"), 2.67));
+            transactions.add(new RecentTransactionDto("TX" + i, i % 2 == 0 ? "BUY" : "SELL", "005930",
+                                                      10 + i, new BigDecimal("71500"), now.minusMinutes(i)));
+        }
+        allocation.put("STOCK", new BigDecimal("60.0"));
+        allocation.put("BOND", new BigDecimal("30.0"));
+        allocation.put("CASH", new BigDecimal("10.0"));
+        return new WealthManagementDashboardDto("CUST001", "홍길동", new BigDecimal("1250000000"),
+                                                new BigDecimal("32500000"), 2.67, "MEDIUM",
+                                                summaries, transactions, allocation, now);
+    }
+    
+    static InvestmentPlanResponseDto plan(int rows) {
+        List<AssetAllocationDto> allocations = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            allocations.add(new AssetAllocationDto(i % 2 == 0 ? "STOCK" : "BOND", "SYM" + i,
+                                                   new BigDecimal("1000000.00"), 100.0 / rows));
+        }
+        return new InvestmentPlanResponseDto("CUST001", "MODERATE", "중립형", "중립형 자산배분 포트폴리오",
+                                             "주식과 채권을 균형 있게 구성", new BigDecimal("100000000"), allocations,
+                                             LocalDateTime.of(2024, 3, 15, 9, 30), "5.5%", "MEDIUM");
+    }
+    
+    /**
+     * 기존 컨트롤러 방식 - 응답을 중첩 HashMap으로 옮긴 뒤 직렬화
+     */
+    private static Map<String, Object> toMap(BaseResponse<WealthManagementDashboardDto> response) {
+        WealthManagementDashboardDto dto = response.getData();
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        for (PortfolioSummaryDto summary : dto.getPortfolioSummaries()) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("portfolio_id", summary.getPortfolioId());
+            row.put("name", summary.getName());
+            row.put("value", summary.getValue());
+            row.put("return_", summary.getReturn_());
+            row.put("return_rate", summary.getReturnRate());
+            summaries.add(row);
+        }
+        List<Map<String, Object>> transactions = new ArrayList<>();
+        for (RecentTransactionDto transaction : dto.getRecentTransactions()) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("transaction_id", transaction.getTransactionId());
+            row.put("type", transaction.getType());
+            row.put("symbol", transaction.getSymbol());
+            row.put("quantity", transaction.getQuantity());
+            row.put("price", transaction.getPrice());
+            row.put("transaction_date", transaction.getTransactionDate());
+            transactions.add(row);
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("customer_id", dto.getCustomerId());
+        data.put("customer_name", dto.getCustomerName());
+        data.put("total_assets", dto.getTotalAssets());
+        data.put("total_return", dto.getTotalReturn());
+        data.put("return_rate", dto.getReturnRate());
+        data.put("risk_level", dto.getRiskLevel());
+        data.put("portfolio_summaries", summaries);
+        data.put("recent_transactions", transactions);
+        data.put("asset_allocation", dto.getAssetAllocation());
+        data.put("last_updated", dto.getLastUpdated());
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", response.isSuccess());
+        result.put("message", response.getMessage());
+        result.put("data", data);
+        result.put("error_code", response.getErrorCode());
+        result.put("timestamp", response.getTimestamp());
+        return result;
+    }
+    
+    /**
+     * 기록 바이트 수만 세는 출력 스트림 (I/O 비용 제외)
+     */
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+        
+        @Override
+        public void write(int b) {
+            count++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samsung.common.dto.BaseResponse;
+import com.samsung.common.dto.EpochDateTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON / CBOR 와이어 포맷 벤치마크
+ * BaseResponse<InvestmentPlanResponseDto>의 인코딩, 인코딩+디코딩(왕복) 시간을 비교한다.
+ * 페이로드 크기는 Setup 단계에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    
+    private static final TypeReference<BaseResponse<InvestmentPlanResponseDto>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+    
+    @Param({"10", "100"})
+    private int allocations;
+    
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private BaseResponse<InvestmentPlanResponseDto> response;
+    private byte[] json;
+    private byte[] cbor;
+    
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = configure(new ObjectMapper());
+        cborMapper = configure(new ObjectMapper(new CBORFactory()));
+        cborMapper.registerModule(new EpochDateTimeModule());
+        response = BaseResponse.success(ResponseSerializationBenchmark.plan(allocations));
+        json = jsonMapper.writeValueAsBytes(response);
+        cbor = cborMapper.writeValueAsBytes(response);
+        System.out.printf("%n페이로드 크기 (allocations=%d) - json: %d bytes, cbor: %d bytes%n",
+                          allocations, json.length, cbor.length);
+    }
+    
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public BaseResponse<InvestmentPlanResponseDto> decodeJson() throws IOException {
+        return jsonMapper.readValue(json, RESPONSE_TYPE);
+    }
+    
+    @Benchmark
+    public BaseResponse<InvestmentPlanResponseDto> decodeCbor() throws IOException {
+        return cborMapper.readValue(cbor, RESPONSE_TYPE);
+    }
+    
+    @Benchmark
+    public BaseResponse<InvestmentPlanResponseDto> roundTripJson() throws IOException {
+        return jsonMapper.readValue(jsonMapper.writeValueAsBytes(response), RESPONSE_TYPE);
+    }
+    
+    @Benchmark
+    public BaseResponse<InvestmentPlanResponseDto> roundTripCbor() throws IOException {
+        return cborMapper.readValue(cborMapper.writeValueAsBytes(response), RESPONSE_TYPE);
+    }
+    
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        return mapper;
+    }
+}
\ No newline at end of file
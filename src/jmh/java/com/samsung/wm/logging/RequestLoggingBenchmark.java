@@ -0,0 +1,114 @@
+package com.samsung.wm.logging;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.service.InvestmentPlanningService;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentStrategyRegistry;
+import com.samsung.wm.strategy.investment.impl.ConservativeInvestmentStrategy;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import com.samsung.wm.tracing.Tracer;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.apache.logging.log4j.core.selector.ClassLoaderContextSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 로깅 처리량 벤치마크
+ * 투자 계획 수립 1건(INFO 로그 3줄)을 로깅 설정별로 실행한다.
+ * 
+ * OFF: 로깅 꺼짐 (기준선)
+ * SYNC: 기존 방식 - 요청 스레드에서 포맷 후 줄마다 flush (콘솔 대신 파일로 기록)
+ * ASYNC: 애플리케이션 설정과 같은 비동기 로거 (log4j2.component.properties의 링 버퍼)
+ * ASYNC_SAMPLED: ASYNC + 요청 10건 중 1건만 INFO 기록 (LogSamplingFilter)
+ * 
+ * 컨텍스트 선택기는 Log4j2 초기화 시 한 번만 적용되므로 SYNC는 초기화 전에 시스템 속성으로 바꾼다.
+ * (JMH는 파라미터 조합마다 JVM을 새로 띄움)
+ * 가비지 없는 경로 확인은 -prof gc의 gc.alloc.rate.norm을 OFF와 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestLoggingBenchmark {
+    
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+    private static final int SAMPLING_RATE = 10;
+    
+    public enum Mode { OFF, SYNC, ASYNC, ASYNC_SAMPLED }
+    
+    @Param({"OFF", "SYNC", "ASYNC", "ASYNC_SAMPLED"})
+    private Mode mode;
+    
+    private Path logFile;
+    private InvestmentPlanningService service;
+    private InvestmentRequest request;
+    private long sequence;
+    
+    @Setup
+    public void setUp() throws IOException {
+        if (mode == Mode.SYNC) {
+            System.setProperty("log4j2.contextSelector", ClassLoaderContextSelector.class.getName());
+        }
+        logFile = Files.createTempFile("wm-logging-bench", ".log");
+        Configurator.reconfigure(configuration(mode, logFile));
+        if (mode == Mode.ASYNC_SAMPLED) {
+            LoggerContext context = LoggerContext.getContext(false);
+            context.getConfiguration().addFilter(LogSamplingFilter.createFilter());
+            context.updateLoggers();
+        }
+        
+        StrategyMetrics metrics = new StrategyMetrics(new MetricsRegistry());
+        service = new InvestmentPlanningService(
+            new InvestmentStrategyRegistry(List.of(new ConservativeInvestmentStrategy(CoarseClock.current())), metrics),
+            new MonteCarloProjectionEngine(), metrics, new Tracer(0, 1), CoarseClock.current());
+        request = new InvestmentRequest("CUST001", new BigDecimal("100000000"), "conservative",
+            "medium", "balanced", false);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        LogSampling.end();
+        Configurator.shutdown(LoggerContext.getContext(false));
+        Files.deleteIfExists(logFile);
+    }
+    
+    @Benchmark
+    public InvestmentPlan createInvestmentPlan() {
+        if (mode != Mode.ASYNC_SAMPLED) {
+            return service.createInvestmentPlan(request);
+        }
+        LogSampling.begin(sequence++ % SAMPLING_RATE == 0);
+        try {
+            return service.createInvestmentPlan(request);
+        } finally {
+            LogSampling.end();
+        }
+    }
+    
+    private static BuiltConfiguration configuration(Mode mode, Path logFile) {
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setStatusLevel(Level.WARN);
+        boolean async = mode == Mode.ASYNC || mode == Mode.ASYNC_SAMPLED;
+        builder.add(builder.newAppender("File", "File")
+            .addAttribute("fileName", logFile.toString())
+            // 비동기 로거는 링 버퍼 배치가 끝날 때 flush
+            .addAttribute("immediateFlush", !async)
+            .add(builder.newLayout("PatternLayout").addAttribute("pattern", PATTERN)));
+        Level level = mode == Mode.OFF ? Level.OFF : Level.INFO;
+        builder.add(builder.newRootLogger(level, false).add(builder.newAppenderRef("File")));
+        return builder.build(false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.samsung.wm.metrics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 기록 비용 벤치마크
+ * 목표: 기록당 50ns 미만, 할당 0 (-prof gc의 gc.alloc.rate.norm으로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsRecordingBenchmark {
+    
+    private LatencyTimer timer;
+    private EventCounter counter;
+    private long value;
+    
+    @Setup
+    public void setUp() {
+        MetricsRegistry registry = new MetricsRegistry();
+        timer = registry.timer("benchmark.timer");
+        counter = registry.counter("benchmark.counter");
+    }
+    
+    @Benchmark
+    public void record() {
+        // 값이 여러 버킷에 분산되도록 변화
+        value = (value + 7_919) & 0xFFFFF;
+        timer.record(value);
+    }
+    
+    @Benchmark
+    public void recordSince() {
+        timer.recordSince(System.nanoTime());
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        timer.record(1_000);
+    }
+    
+    @Benchmark
+    public void increment() {
+        counter.increment();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.samsung.wm.service;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.converter.DataConverter;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.exception.ValidationError;
+import com.samsung.common.util.CoarseClock;
+import com.samsung.common.util.StringUtil;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentStrategyRegistry;
+import com.samsung.wm.strategy.investment.impl.ConservativeInvestmentStrategy;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import com.samsung.wm.tracing.Tracer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 요청 처리 비용 벤치마크
+ * 일부 건이 잘못된 일괄 요청을 검증할 때, 스택 트레이스를 채우는 기존 BusinessException,
+ * 미리 생성한 스택 없는 예외, 예외 없는 ValidationResult 경로를 비교한다.
+ * 실제 요청은 컨트롤러, 프록시, 필터 프레임 아래에서 검증되므로 호출 깊이(stackDepth)를 함께 조절한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvalidRequestBenchmark {
+    
+    private static final BigDecimal MIN_INVESTMENT_AMOUNT = new BigDecimal("1000000");
+    private static final BigDecimal MAX_INVESTMENT_AMOUNT = new BigDecimal("10000000000");
+    private static final int SIZE = 10_000;
+    
+    @Param({"5", "50"})
+    private int invalidPercent;
+    
+    @Param({"10", "150"})
+    private int stackDepth;
+    
+    private InvestmentPlanningService service;
+    private List<InvestmentRequest> requests;
+    
+    @Setup
+    public void setUp() {
+        StrategyMetrics metrics = new StrategyMetrics(new MetricsRegistry());
+        service = new InvestmentPlanningService(
+            new InvestmentStrategyRegistry(List.of(new ConservativeInvestmentStrategy(CoarseClock.current())), metrics),
+            new MonteCarloProjectionEngine(), metrics, new Tracer(0, 1), CoarseClock.current());
+        
+        SplittableRandom random = new SplittableRandom(42);
+        requests = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1_000_000L + random.nextLong(999_000_000L));
+            String customerId = "CUST" + i;
+            String period = "medium";
+            if (random.nextInt(100) < invalidPercent) {
+                // 고객 ID 누락, 금액 범위 초과, 기간 누락을 고르게 섞음
+                switch (random.nextInt(3)) {
+                    case 0 -> customerId = "";
+                    case 1 -> amount = BigDecimal.valueOf(500_000L);
+                    default -> period = null;
+                }
+            }
+            requests.add(new InvestmentRequest(customerId, amount, "conservative", period, "balanced", false));
+        }
+    }
+    
+    /**
+     * 기존 방식: 오류마다 스택 트레이스를 채운 BusinessException 생성
+     */
+    @Benchmark
+    public int stackTraceException() {
+        return atDepth(stackDepth, () -> {
+            int failed = 0;
+            for (InvestmentRequest request : requests) {
+                try {
+                    legacyValidate(request);
+                } catch (BusinessException e) {
+                    failed++;
+                }
+            }
+            return failed;
+        });
+    }
+    
+    /**
+     * 단건 API 경로: 미리 생성한 스택 없는 예외를 던짐
+     */
+    @Benchmark
+    public int stacklessException() {
+        return atDepth(stackDepth, () -> {
+            int failed = 0;
+            for (InvestmentRequest request : requests) {
+                try {
+                    service.validate(request).throwIfInvalid();
+                } catch (BusinessException e) {
+                    failed++;
+                }
+            }
+            return failed;
+        });
+    }
+    
+    /**
+     * 일괄 처리 경로: 예외 없이 검증 결과로 오류 확인
+     */
+    @Benchmark
+    public int validationResult(Blackhole blackhole) {
+        return atDepth(stackDepth, () -> {
+            int failed = 0;
+            for (InvestmentRequest request : requests) {
+                ValidationError error = service.validate(request).getFirstError();
+                if (error != null) {
+                    blackhole.consume(error.getErrorCode());
+                    failed++;
+                }
+            }
+            return failed;
+        });
+    }
+    
+    private interface Work {
+        int run();
+    }
+    
+    private static int atDepth(int depth, Work work) {
+        return depth <= 0 ? work.run() : atDepth(depth - 1, work);
+    }
+    
+    /**
+     * 변경 전 InvestmentPlanningService.validateInvestmentRequest
+     */
+    private static void legacyValidate(InvestmentRequest request) {
+        if (request == null) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "투자 요청 정보가 필요합니다");
+        }
+        if (StringUtil.isEmpty(request.getCustomerId())) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+        }
+        if (request.getInvestmentAmount() == null ||
+            request.getInvestmentAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "투자 금액이 유효하지 않습니다");
+        }
+        if (StringUtil.isEmpty(request.getInvestmentPeriod())) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "투자 기간이 유효하지 않습니다");
+        }
+        if (request.getInvestmentAmount().compareTo(MIN_INVESTMENT_AMOUNT) < 0 ||
+            request.getInvestmentAmount().compareTo(MAX_INVESTMENT_AMOUNT) > 0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, 
+                "투자 금액은 " + DataConverter.toCurrencyString(MIN_INVESTMENT_AMOUNT) +
+                "원 이상 " + DataConverter.toCurrencyString(MAX_INVESTMENT_AMOUNT) + "원 이하여야 합니다");
+        }
+    }
+}
\ No newline at end of file
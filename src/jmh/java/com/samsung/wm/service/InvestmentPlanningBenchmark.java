@@ -0,0 +1,93 @@
+package com.samsung.wm.service;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.strategy.investment.AllocationTemplate;
+import com.samsung.wm.strategy.investment.AllocationTemplates;
+import com.samsung.wm.strategy.investment.AssetAllocation;
+import com.samsung.wm.strategy.investment.InvestmentPeriod;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentStrategyRegistry;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import com.samsung.wm.strategy.investment.impl.ConservativeInvestmentStrategy;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import com.samsung.wm.tracing.Tracer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투자 계획 수립 벤치마크
+ * 건별 API 반복 호출 대비 일괄 API, 요청마다 BigDecimal 상수를 만들던 기존 배분 대비 사전 계산 템플릿 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InvestmentPlanningBenchmark {
+    
+    private static final String[] PERIODS = {"short", "medium", "long"};
+    
+    @Param({"1000", "100000"})
+    private int size;
+    
+    private InvestmentPlanningService service;
+    private List<InvestmentRequest> requests;
+    
+    @Setup
+    public void setUp() {
+        StrategyMetrics metrics = new StrategyMetrics(new MetricsRegistry());
+        service = new InvestmentPlanningService(
+            new InvestmentStrategyRegistry(List.of(new ConservativeInvestmentStrategy(CoarseClock.current())), metrics),
+            new MonteCarloProjectionEngine(), metrics, new Tracer(0, 1), CoarseClock.current());
+        
+        SplittableRandom random = new SplittableRandom(42);
+        requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1_000_000L + random.nextLong(999_000_000L));
+            requests.add(new InvestmentRequest("CUST" + i, amount, "conservative",
+                PERIODS[random.nextInt(PERIODS.length)], "balanced", false));
+        }
+    }
+    
+    @Benchmark
+    public void singleRequests(Blackhole blackhole) {
+        for (InvestmentRequest request : requests) {
+            blackhole.consume(service.createInvestmentPlan(request));
+        }
+    }
+    
+    @Benchmark
+    public List<InvestmentPlan> batchRequests() {
+        return service.createInvestmentPlans(requests);
+    }
+    
+    @Benchmark
+    public void legacyAllocation(Blackhole blackhole) {
+        for (InvestmentRequest request : requests) {
+            BigDecimal totalAmount = request.getInvestmentAmount();
+            blackhole.consume(Arrays.asList(
+                new AssetAllocation("BOND", "KTB_10Y", totalAmount.multiply(new BigDecimal("0.5")), 50.0),
+                new AssetAllocation("BOND", "CORP_BOND", totalAmount.multiply(new BigDecimal("0.2")), 20.0),
+                new AssetAllocation("STOCK", "KODEX200", totalAmount.multiply(new BigDecimal("0.2")), 20.0),
+                new AssetAllocation("CASH", "MMF", totalAmount.multiply(new BigDecimal("0.1")), 10.0)
+            ));
+        }
+    }
+    
+    @Benchmark
+    public void templateAllocation(Blackhole blackhole) {
+        for (InvestmentRequest request : requests) {
+            AllocationTemplate template = AllocationTemplates.get(
+                InvestmentType.CONSERVATIVE, InvestmentPeriod.from(request.getInvestmentPeriod()));
+            blackhole.consume(template.allocate(request.getInvestmentAmount()));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.samsung.wm.service;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentStrategyRegistry;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import com.samsung.wm.strategy.investment.impl.*;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import com.samsung.wm.tracing.Tracer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투자 전략 디스패치 처리량 벤치마크
+ * 위험성향/투자목표가 섞인 요청 스트림으로 EnumMap 레지스트리 조회와
+ * 기존 toUpperCase + 문자열 switch 방식을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InvestmentStrategyDispatchBenchmark {
+    
+    private static final String[] RISK_PROFILES = {"conservative", "moderate", "aggressive", "LOW", "Medium", "HIGH"};
+    private static final String[] GOALS = {"growth", "income", "balanced", "esg"};
+    private static final String[] PERIODS = {"short", "medium", "long"};
+    private static final String[] TYPE_NAMES = {"conservative", "Moderate", "AGGRESSIVE", "growth_oriented", "income_focused", "esg"};
+    
+    @Param({"10000"})
+    private int size;
+    
+    private InvestmentPlanningService service;
+    private InvestmentStrategyRegistry registry;
+    private List<InvestmentRequest> requests;
+    private String[] typeNames;
+    
+    @Setup
+    public void setUp() {
+        StrategyMetrics metrics = new StrategyMetrics(new MetricsRegistry());
+        Clock clock = CoarseClock.current();
+        registry = new InvestmentStrategyRegistry(List.of(
+            new ConservativeInvestmentStrategy(clock),
+            new ModerateInvestmentStrategy(clock),
+            new AggressiveInvestmentStrategy(clock),
+            new GrowthOrientedInvestmentStrategy(clock),
+            new IncomeFocusedInvestmentStrategy(clock),
+            new EsgInvestmentStrategy(clock)
+        ), metrics);
+        service = new InvestmentPlanningService(registry, new MonteCarloProjectionEngine(), metrics, new Tracer(0, 1), clock);
+        
+        SplittableRandom random = new SplittableRandom(7);
+        requests = new ArrayList<>(size);
+        typeNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1_000_000L + random.nextLong(999_000_000L));
+            requests.add(new InvestmentRequest("CUST" + i, amount,
+                RISK_PROFILES[random.nextInt(RISK_PROFILES.length)],
+                PERIODS[random.nextInt(PERIODS.length)],
+                GOALS[random.nextInt(GOALS.length)], false));
+            typeNames[i] = TYPE_NAMES[random.nextInt(TYPE_NAMES.length)];
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public List<InvestmentPlan> mixedBatch() {
+        return service.createInvestmentPlans(requests);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public void registryDispatch(Blackhole blackhole) {
+        for (String typeName : typeNames) {
+            blackhole.consume(registry.getStrategy(InvestmentType.from(typeName)));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public void legacyStringSwitch(Blackhole blackhole) {
+        for (String typeName : typeNames) {
+            InvestmentType type = switch (typeName.toUpperCase()) {
+                case "CONSERVATIVE" -> InvestmentType.CONSERVATIVE;
+                case "MODERATE" -> InvestmentType.MODERATE;
+                case "AGGRESSIVE" -> InvestmentType.AGGRESSIVE;
+                case "GROWTH_ORIENTED" -> InvestmentType.GROWTH_ORIENTED;
+                case "INCOME_FOCUSED" -> InvestmentType.INCOME_FOCUSED;
+                default -> InvestmentType.ESG;
+            };
+            blackhole.consume(registry.getStrategy(type));
+        }
+    }
+}
\ No newline at end of file
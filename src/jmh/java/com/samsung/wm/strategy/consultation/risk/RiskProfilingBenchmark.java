@@ -0,0 +1,107 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.integration.repository.Customer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투자성향 채점 벤치마크
+ * 단건 평가(인코딩 + 채점)와 고객 기반 일괄 재채점(모델 교체 시)의 고객 수별 소요 시간 측정
+ */
+public class RiskProfilingBenchmark {
+    
+    private static final int FACTORS = RiskFactor.count();
+    
+    /**
+     * 채점 모델 두 개를 번갈아 적용해 매 호출마다 등급 변경이 발생하도록 한다.
+     */
+    private static final RiskScoringModel REVISED = RiskScoringModel.builder("revised")
+        .points(RiskFactor.AGE, 10.0, 10.0, 8.0, 6.0, 4.0, 0.0, 5.0)
+        .points(RiskFactor.TOTAL_ASSETS, 0.0, 2.0, 4.0, 6.0, 8.0, 10.0, 0.0)
+        .points(RiskFactor.CUSTOMER_GRADE, 0.0, 1.0, 2.0, 3.0, 0.0)
+        .points(RiskFactor.INVESTMENT_PERIOD, 2.0, 5.0, 8.0, 11.0, 14.0, 2.0)
+        .points(RiskFactor.INVESTMENT_EXPERIENCE, 2.0, 5.0, 8.0, 11.0, 14.0, 2.0)
+        .points(RiskFactor.FINANCIAL_KNOWLEDGE, 2.0, 5.0, 8.0, 11.0, 2.0)
+        .points(RiskFactor.FINANCIAL_ASSET_RATIO, 14.0, 11.0, 8.0, 5.0, 2.0, 2.0)
+        .points(RiskFactor.INCOME_SOURCE, 8.0, 5.0, 2.0, 2.0)
+        .points(RiskFactor.LOSS_TOLERANCE, -8.0, 5.0, 12.0, 20.0, -8.0)
+        .thresholds(25.0, 45.0, 65.0, 85.0)
+        .build();
+    
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public static class Single {
+        
+        private RiskProfilingEngine engine;
+        private Customer customer;
+        private RiskAnswers answers;
+        
+        @Setup
+        public void setUp() {
+            engine = new RiskProfilingEngine(CoarseClock.current());
+            customer = new Customer();
+            customer.setCustomerId("CUST001");
+            customer.setBirthDate(LocalDate.of(1980, 5, 17));
+            customer.setTotalAssets(new BigDecimal("350000000"));
+            customer.setCustomerGrade("GOLD");
+            answers = new RiskAnswers()
+                .answer(RiskFactor.INVESTMENT_PERIOD, 3)
+                .answer(RiskFactor.INVESTMENT_EXPERIENCE, 2)
+                .answer(RiskFactor.FINANCIAL_KNOWLEDGE, 2)
+                .answer(RiskFactor.FINANCIAL_ASSET_RATIO, 1)
+                .answer(RiskFactor.INCOME_SOURCE, 0)
+                .answer(RiskFactor.LOSS_TOLERANCE, 2);
+        }
+        
+        @Benchmark
+        public RiskAssessment assess() {
+            return engine.assess("CUST001", customer, answers);
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public static class Bulk {
+        
+        @Param({"1000000", "10000000"})
+        private int customers;
+        
+        private RiskProfilingEngine engine;
+        private RiskFeatureMatrix matrix;
+        private boolean revised;
+        
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42L);
+            RiskFeatureMatrix.Builder builder = RiskFeatureMatrix.builder(customers, LocalDate.of(2026, 1, 1));
+            // 메모리 절약을 위해 고객 ID는 소수만 돌려 쓴다
+            String[] ids = new String[1024];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = "CUST" + i;
+            }
+            byte[] vector = new byte[FACTORS];
+            for (int i = 0; i < customers; i++) {
+                for (int f = 0; f < FACTORS; f++) {
+                    vector[f] = (byte) random.nextInt(RiskFactor.at(f).getCategories());
+                }
+                builder.add(ids[i & (ids.length - 1)], vector, 0);
+            }
+            matrix = builder.build();
+            engine = new RiskProfilingEngine(CoarseClock.current());
+            engine.attachCustomerBase(matrix);
+        }
+        
+        @Benchmark
+        public RescoringReport updateModel() {
+            revised = !revised;
+            return engine.updateModel(revised ? REVISED : RiskScoringModel.DEFAULT);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.samsung.wm.strategy.investment.simulation;
+
+import com.samsung.wm.strategy.investment.AllocationTemplates;
+import com.samsung.wm.strategy.investment.InvestmentPeriod;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 몬테카를로 목표 달성 시뮬레이션 벤치마크
+ * 경로 수와 투자 기간(개월)에 따른 확장성 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MonteCarloProjectionBenchmark {
+    
+    @Param({"10000", "100000"})
+    private int paths;
+    
+    @Param({"60", "120", "360"})
+    private int months;
+    
+    private MonteCarloProjectionEngine engine;
+    private InvestmentPlan plan;
+    private BigDecimal goalAmount;
+    
+    @Setup
+    public void setUp() {
+        engine = new MonteCarloProjectionEngine();
+        
+        BigDecimal amount = new BigDecimal("100000000");
+        plan = new InvestmentPlan();
+        plan.setCustomerId("CUST001");
+        plan.setTotalAmount(amount);
+        plan.setAllocations(AllocationTemplates.get(InvestmentType.AGGRESSIVE, InvestmentPeriod.LONG).allocate(amount));
+        goalAmount = new BigDecimal("300000000");
+    }
+    
+    @Benchmark
+    public ProjectionResult project() {
+        return engine.project(plan, goalAmount, new BigDecimal("500000"), months, paths, 42L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.integration.messaging.PortfolioEventProducer;
+import com.samsung.wm.strategy.portfolio.impl.DividendReinvestmentStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배당 재투자 벤치마크
+ * 200만 보유자 기업행위의 고정소수점 재투자 계산과 이벤트 배치 생성/발행 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DividendReinvestmentBenchmark {
+    
+    @Param({"2000000"})
+    private int holders;
+    
+    private HolderIndex index;
+    private DividendAction action;
+    private DividendReinvestmentProcessor processor;
+    private DividendReinvestmentStrategy strategy;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3L);
+        HolderIndex.Builder builder = HolderIndex.builder();
+        for (int i = 0; i < holders; i++) {
+            int portfolio = builder.addPortfolio("PF" + i, "CUST" + i);
+            builder.addPosition(portfolio, "005930", (1 + random.nextInt(5_000)) * HolderIndex.SHARE_SCALE);
+            builder.addPosition(portfolio, "000660", (1 + random.nextInt(500)) * HolderIndex.SHARE_SCALE);
+        }
+        index = builder.build();
+        action = new DividendAction("DIV-005930-Q1", "005930", LocalDate.of(2024, 3, 28),
+                                    new BigDecimal("361"), new BigDecimal("71500"));
+        processor = new DividendReinvestmentProcessor();
+        strategy = new DividendReinvestmentStrategy(processor, new PortfolioEventProducer(), CoarseClock.current());
+    }
+    
+    @Benchmark
+    public DividendRunReport computeOnly() {
+        return processor.process(index, action, 0.154, 10_000, null);
+    }
+    
+    @Benchmark
+    public DividendRunReport computeAndPublish() {
+        return strategy.reinvestAll(index, action);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.samsung.wm.strategy.portfolio.performance;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성과 분석 벤치마크
+ * 이력 길이에 따른 단일 포트폴리오 분석 비용과 일괄(병렬) 분석 처리 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PerformanceAnalyzerBenchmark {
+    
+    private static final String[] SEGMENTS = {"STOCK", "BOND", "FUND", "CASH", "ALTERNATIVE"};
+    private static final double[] BENCHMARK_WEIGHTS = {0.4, 0.3, 0.15, 0.05, 0.1};
+    
+    @Param({"252", "2520"})
+    private int days;
+    
+    @Param({"1000"})
+    private int bookSize;
+    
+    private PerformanceAnalyzer analyzer;
+    private List<PerformanceHistory> histories;
+    
+    @Setup
+    public void setUp() {
+        analyzer = new PerformanceAnalyzer();
+        SplittableRandom random = new SplittableRandom(11L);
+        histories = new ArrayList<>(bookSize);
+        for (int p = 0; p < bookSize; p++) {
+            histories.add(createHistory("PF" + p, random));
+        }
+    }
+    
+    @Benchmark
+    public PerformanceReport single() {
+        return analyzer.analyze(histories.get(0), 0.035, 63);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<PerformanceReport> book() {
+        return analyzer.analyzeAll(histories, 0.035, 63);
+    }
+    
+    private PerformanceHistory createHistory(String portfolioId, SplittableRandom random) {
+        int m = SEGMENTS.length;
+        int points = days + 1;
+        double[] values = new double[points * m];
+        double[] flows = new double[points * m];
+        double[] benchmarkReturns = new double[points * m];
+        for (int s = 0; s < m; s++) {
+            values[s] = 10_000_000 * (0.5 + random.nextDouble());
+        }
+        for (int t = 1; t < points; t++) {
+            for (int s = 0; s < m; s++) {
+                int i = t * m + s;
+                benchmarkReturns[i] = 0.0003 + random.nextGaussian() * 0.01;
+                if (t % 21 == 0 && s == 0) {
+                    flows[i] = 500_000; // 월 적립
+                }
+                double segmentReturn = benchmarkReturns[i] + random.nextGaussian() * 0.002;
+                values[i] = (values[i - m] + flows[i]) * (1.0 + segmentReturn);
+            }
+        }
+        return new PerformanceHistory(portfolioId, "CUST", SEGMENTS, values, flows, BENCHMARK_WEIGHTS,
+                                      benchmarkReturns);
+    }
+}
\ No newline at end of file
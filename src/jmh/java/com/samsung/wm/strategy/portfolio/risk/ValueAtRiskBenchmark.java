@@ -0,0 +1,74 @@
+package com.samsung.wm.strategy.portfolio.risk;
+
+import com.samsung.wm.integration.client.MarketDataClient;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.strategy.portfolio.Holding;
+import com.samsung.wm.strategy.portfolio.Portfolio;
+import com.samsung.wm.tracing.Tracer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VaR/ES 산출 벤치마크
+ * 공유 패널 위에서 단일 포트폴리오 산출 비용과 북 전체 처리 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValueAtRiskBenchmark {
+    
+    @Param({"200"})
+    private int universe;
+    
+    @Param({"1000", "10000"})
+    private int bookSize;
+    
+    private ValueAtRiskEngine engine;
+    private ReturnPanel panel;
+    private List<Portfolio> book;
+    
+    @Setup
+    public void setUp() {
+        String[] symbols = new String[universe];
+        for (int i = 0; i < universe; i++) {
+            symbols[i] = String.format("A%05d", i);
+        }
+        int days = 500;
+        panel = new ReturnPanel(symbols, new MarketDataClient(new MetricsRegistry(), new Tracer(0, 1)).getDailyReturns(symbols, days), days);
+        engine = new ValueAtRiskEngine();
+        
+        SplittableRandom random = new SplittableRandom(7L);
+        book = new ArrayList<>(bookSize);
+        for (int p = 0; p < bookSize; p++) {
+            List<Holding> holdings = new ArrayList<>();
+            int count = 5 + random.nextInt(26);
+            for (int h = 0; h < count; h++) {
+                BigDecimal value = BigDecimal.valueOf(1_000_000L + random.nextInt(50_000_000));
+                holdings.add(new Holding(symbols[random.nextInt(universe)], "STOCK", null, null, null, value, null, null));
+            }
+            Portfolio portfolio = new Portfolio();
+            portfolio.setPortfolioId("PF" + p);
+            portfolio.setCustomerId("CUST" + p);
+            portfolio.setHoldings(holdings);
+            book.add(portfolio);
+        }
+        // 공유 계산(공분산, 시나리오)은 측정에서 제외
+        panel.scenarios();
+    }
+    
+    @Benchmark
+    public RiskMetrics singlePortfolio() {
+        return engine.calculate(book.get(0), panel, 0.99, 1);
+    }
+    
+    @Benchmark
+    public BookRiskReport book() {
+        return engine.calculateBook(book, panel, 0.99, 1, Duration.ofHours(1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세금 로트 벤치마크
+ * 10,000 로트 장부의 로트 선택(매도) 지연시간과 전체 포트폴리오 손실 실현 탐색 시간 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaxLotBenchmark {
+    
+    private static final int LOTS = 10_000;
+    private static final long LOT_QUANTITY = 1_000_000_000L; // 반복 매도에도 소진되지 않도록 충분히 큰 수량
+    
+    private TaxLotBook book;
+    private LotDisposal disposal;
+    private long nextSpecificLot;
+    
+    private TaxLossHarvester harvester;
+    private List<TaxLotPortfolio> portfolios;
+    private Map<String, Double> prices;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5L);
+        book = createBook("A00000", LOTS, random);
+        disposal = new LotDisposal();
+        nextSpecificLot = 1;
+        
+        harvester = new TaxLossHarvester();
+        prices = new HashMap<>();
+        portfolios = new ArrayList<>();
+        for (int p = 0; p < 1_000; p++) {
+            List<TaxLotBook> books = new ArrayList<>();
+            for (int b = 0; b < 20; b++) {
+                String symbol = String.format("A%05d", random.nextInt(200));
+                prices.putIfAbsent(symbol, 90_000 + random.nextDouble() * 20_000);
+                books.add(createBook(symbol, 500, random));
+            }
+            portfolios.add(new TaxLotPortfolio("PF" + p, "CUST" + p, books, 10_000_000));
+        }
+    }
+    
+    @Benchmark
+    public LotDisposal sellFifo() {
+        book.sell(1_500, LotSelectionMethod.FIFO, disposal);
+        return disposal;
+    }
+    
+    @Benchmark
+    public LotDisposal sellLifo() {
+        book.sell(1_500, LotSelectionMethod.LIFO, disposal);
+        return disposal;
+    }
+    
+    @Benchmark
+    public LotDisposal sellHifo() {
+        book.sell(1_500, LotSelectionMethod.HIFO, disposal);
+        return disposal;
+    }
+    
+    @Benchmark
+    public LotDisposal sellSpecific() {
+        long lotId = nextSpecificLot;
+        nextSpecificLot = nextSpecificLot % LOTS + 1;
+        book.sellSpecific(lotId, 10, disposal);
+        return disposal;
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<HarvestPlan> harvestScan() {
+        return harvester.scanAll(portfolios, prices, 0.22, 2_500_000, 10_000);
+    }
+    
+    private static TaxLotBook createBook(String symbol, int lots, SplittableRandom random) {
+        TaxLotBook lotBook = new TaxLotBook(symbol, lots);
+        LocalDate date = LocalDate.of(2015, 1, 2);
+        for (int i = 1; i <= lots; i++) {
+            lotBook.addLot(i, date.plusDays(i / 4), LOT_QUANTITY, 80_000 + random.nextDouble() * 40_000);
+        }
+        return lotBook;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.samsung.wm.tracing;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.service.InvestmentPlanningService;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentStrategyRegistry;
+import com.samsung.wm.strategy.investment.impl.ConservativeInvestmentStrategy;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추적 오버헤드 벤치마크
+ * 투자 계획 수립 1건(루트 + 하위 구간 5개)을 추적 설정별로 실행한다. 로그는 끄고 측정한다.
+ * 
+ * sampleRate 0: 추적 안 함 (기준선), 1: 모든 요청 추적, 10: 기본 설정 (10건 중 1건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TracingOverheadBenchmark {
+    
+    @Param({"0", "1", "10"})
+    private int sampleRate;
+    
+    private Tracer tracer;
+    private InvestmentPlanningService service;
+    private InvestmentRequest request;
+    
+    @Setup
+    public void setUp() {
+        Configurator.setRootLevel(Level.OFF);
+        tracer = new Tracer(sampleRate, 8192);
+        StrategyMetrics metrics = new StrategyMetrics(new MetricsRegistry());
+        service = new InvestmentPlanningService(
+            new InvestmentStrategyRegistry(List.of(new ConservativeInvestmentStrategy(CoarseClock.current())), metrics),
+            new MonteCarloProjectionEngine(), metrics, tracer, CoarseClock.current());
+        request = new InvestmentRequest("CUST001", new BigDecimal("100000000"), "conservative",
+            "medium", "balanced", false);
+    }
+    
+    @Benchmark
+    public InvestmentPlan createInvestmentPlan() {
+        try (Span root = tracer.startTrace("/api/wm-common/investment-plan")) {
+            return service.createInvestmentPlan(request);
+        } finally {
+            TraceContext.clear();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.samsung.wm.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로컬 HTTP 부하 테스트 드라이버 (JDK HttpClient만 사용, 외부 도구 불필요)
+ * 동시 클라이언트 수별로 closed-loop 부하(응답을 받으면 즉시 다음 요청)를 걸고
+ * 처리량과 p50/p99/p999 지연시간을 출력한다.
+ * 
+ * 변경 전/후 비교: 각 커밋으로 기동한 애플리케이션에 같은 인자로 실행
+ *   gradle loadTest -PloadTestArgs="--url http://localhost:8080/wm-common/api/wm-common/investment-plan?customerId=C1&amount=1000000 --clients 1000,5000,10000"
+ * 
+ * 옵션: --url (필수), --method POST|GET (기본 POST), --clients 목록 (기본 1000,5000,10000),
+ *       --duration 초 (기본 20), --warmup 초 (기본 5)
+ */
+public final class LoadTestDriver {
+    
+    private LoadTestDriver() {
+        // 인스턴스 생성 방지
+    }
+    
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        String method = "POST";
+        int[] clientCounts = {1_000, 5_000, 10_000};
+        int durationSeconds = 20;
+        int warmupSeconds = 5;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--method" -> method = args[i + 1].toUpperCase();
+                case "--clients" -> clientCounts = parseInts(args[i + 1]);
+                case "--duration" -> durationSeconds = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url 옵션이 필요합니다");
+        }
+        
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .method(method, HttpRequest.BodyPublishers.noBody())
+            .timeout(Duration.ofSeconds(60))
+            .build();
+        
+        System.out.printf("%-8s %12s %10s %10s %10s %10s %8s%n",
+                          "clients", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        for (int clients : clientCounts) {
+            run(request, clients, warmupSeconds, false);
+            Result result = run(request, clients, durationSeconds, true);
+            System.out.printf("%-8d %12.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                              clients, result.throughput, result.histogram.percentile(50) / 1000.0,
+                              result.histogram.percentile(99) / 1000.0, result.histogram.percentile(99.9) / 1000.0,
+                              result.histogram.max() / 1000.0, result.errors);
+        }
+        System.exit(0);
+    }
+    
+    private static Result run(HttpRequest request, int clients, int seconds, boolean record) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(executor)
+            .build();
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(clients);
+        
+        List<Runnable> loops = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            loops.add(new ClientLoop(client, executor, request, running, histogram, completed, errors, finished));
+        }
+        long start = System.nanoTime();
+        loops.forEach(Runnable::run);
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        long elapsed = System.nanoTime() - start;
+        finished.await();
+        executor.shutdown();
+        
+        double throughput = completed.get() * 1e9 / elapsed;
+        return new Result(record ? histogram : null, throughput, errors.get());
+    }
+    
+    private static int[] parseInts(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+    
+    private record Result(LatencyHistogram histogram, double throughput, long errors) {
+    }
+    
+    /**
+     * 클라이언트 1개 - 응답 콜백에서 다음 요청을 보내는 closed-loop (클라이언트당 스레드 없음)
+     */
+    private static final class ClientLoop implements Runnable {
+        
+        private final HttpClient client;
+        private final ExecutorService executor;
+        private final HttpRequest request;
+        private final AtomicBoolean running;
+        private final LatencyHistogram histogram;
+        private final AtomicLong completed;
+        private final AtomicLong errors;
+        private final CountDownLatch finished;
+        
+        ClientLoop(HttpClient client, ExecutorService executor, HttpRequest request, AtomicBoolean running,
+                   LatencyHistogram histogram, AtomicLong completed, AtomicLong errors, CountDownLatch finished) {
+            this.client = client;
+            this.executor = executor;
+            this.request = request;
+            this.running = running;
+            this.histogram = histogram;
+            this.completed = completed;
+            this.errors = errors;
+            this.finished = finished;
+        }
+        
+        @Override
+        public void run() {
+            if (!running.get()) {
+                finished.countDown();
+                return;
+            }
+            long sent = System.nanoTime();
+            // 즉시 실패하는 경우에도 재귀 호출이 쌓이지 않도록 콜백은 실행기에서 수행
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenCompleteAsync((response, error) -> {
+                if (error != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                } else {
+                    histogram.record((System.nanoTime() - sent) / 1_000);
+                    completed.incrementAndGet();
+                }
+                run();
+            }, executor);
+        }
+    }
+    
+    /**
+     * 로그-선형 버킷 지연시간 히스토그램 (마이크로초, 유효숫자 약 2자리, lock-free)
+     */
+    static final class LatencyHistogram {
+        
+        private static final int SUB_BUCKETS = 64;
+        private static final int BUCKETS = 48 * SUB_BUCKETS;
+        
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong maxValue = new AtomicLong();
+        
+        void record(long micros) {
+            long value = Math.max(micros, 0);
+            counts.incrementAndGet(index(value));
+            long current;
+            while (value > (current = maxValue.get()) && !maxValue.compareAndSet(current, value)) {
+                // 최대값 갱신 재시도
+            }
+        }
+        
+        long percentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBound(i), maxValue.get());
+                }
+            }
+            return maxValue.get();
+        }
+        
+        long max() {
+            return maxValue.get();
+        }
+        
+        private static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value) - 6; // value >>> exponent 가 64 ~ 127
+            int sub = (int) (value >>> exponent) - SUB_BUCKETS;
+            return Math.min((exponent + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+        }
+        
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS - 1;
+            int sub = index % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + sub + 1) << exponent) - 1;
+        }
+    }
+}
\ No newline at end of file
@@ -237,6 +237,68 @@ public final class FinancialCalculator {
         return presentValue.multiply(compoundFactor).setScale(DEFAULT_SCALE, RoundingMode.HALF_UP);
     }
     
+    /**
+     * 내부수익률(IRR) 계산 - 불규칙 시점 현금흐름 (XIRR 방식)
+     * 공식: Σ CF_i / (1 + r)^t_i = 0
+     * 뉴턴법으로 수렴시키되 근을 감싸는 구간을 유지하고, 뉴턴 스텝이 구간을 벗어나거나
+     * 충분히 줄지 않으면 이분법으로 대체 (항상 수렴)
+     * @param amounts 현금흐름 (투자는 음수, 회수/평가금액은 양수)
+     * @param years 현금흐름 시점 (년, 첫 시점 기준)
+     * @param count 사용할 현금흐름 수
+     * @param guess 초기 추정값 (예: 0.05)
+     * @return 연 내부수익률, 구간 [-99.99%, 1000%] 안에 근이 없으면 NaN
+     */
+    public static double internalRateOfReturn(double[] amounts, double[] years, int count, double guess) {
+        double low = -0.9999;
+        double high = 10.0;
+        double fLow = netPresentValue(amounts, years, count, low);
+        double fHigh = netPresentValue(amounts, years, count, high);
+        if (Double.isNaN(fLow) || Double.isNaN(fHigh) || fLow * fHigh > 0) {
+            return Double.NaN;
+        }
+        
+        double rate = guess > low && guess < high ? guess : 0.0;
+        double previousStep = high - low;
+        for (int iteration = 0; iteration < 100; iteration++) {
+            double value = 0.0;
+            double derivative = 0.0;
+            for (int i = 0; i < count; i++) {
+                double discounted = amounts[i] * Math.pow(1.0 + rate, -years[i]);
+                value += discounted;
+                derivative -= years[i] * discounted / (1.0 + rate);
+            }
+            if (Math.abs(value) < 1e-9 * (1.0 + Math.abs(amounts[0]))) {
+                return rate;
+            }
+            // 근을 감싸는 구간 갱신
+            if ((value < 0) == (fLow < 0)) {
+                low = rate;
+                fLow = value;
+            } else {
+                high = rate;
+            }
+            
+            double next = derivative != 0.0 ? rate - value / derivative : Double.NaN;
+            if (!(next > low && next < high) || Math.abs(next - rate) > 0.5 * previousStep) {
+                next = 0.5 * (low + high);
+            }
+            previousStep = Math.abs(next - rate);
+            rate = next;
+            if (previousStep < 1e-12) {
+                return rate;
+            }
+        }
+        return rate;
+    }
+    
+    private static double netPresentValue(double[] amounts, double[] years, int count, double rate) {
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            sum += amounts[i] * Math.pow(1.0 + rate, -years[i]);
+        }
+        return sum;
+    }
+    
     /**
      * 백분율을 소수로 변환
      * 예: 5.5% → 0.055
@@ -0,0 +1,63 @@
+package com.samsung.common.calc;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 행렬 계산 유틸리티
+ * 시뮬레이션용 primitive 배열 기반 선형대수 함수
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MatrixCalculator {
+    
+    /**
+     * 촐레스키 분해 (A = L * L^T)
+     * 상관/공분산 행렬의 하삼각 행렬 L을 행 우선(row-major) 1차원 배열로 반환
+     * L[i][j] = result[i * n + j]
+     * 
+     * @param matrix 대칭 양의 정부호 행렬 (n x n)
+     * @return 하삼각 행렬 L (길이 n * n)
+     */
+    public static double[] cholesky(double[][] matrix) {
+        int n = matrix.length;
+        double[] lower = new double[n * n];
+        
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n) {
+                throw new IllegalArgumentException("정방 행렬이 아닙니다");
+            }
+            for (int j = 0; j <= i; j++) {
+                double sum = matrix[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= lower[i * n + k] * lower[j * n + k];
+                }
+                if (i == j) {
+                    if (sum <= 0.0) {
+                        throw new IllegalArgumentException("양의 정부호 행렬이 아닙니다 (index: " + i + ")");
+                    }
+                    lower[i * n + i] = Math.sqrt(sum);
+                } else {
+                    lower[i * n + j] = sum / lower[j * n + j];
+                }
+            }
+        }
+        return lower;
+    }
+    
+    /**
+     * 부분 행렬 추출
+     * 
+     * @param matrix 원본 행렬
+     * @param indices 추출할 행/열 인덱스
+     * @return 부분 행렬
+     */
+    public static double[][] subMatrix(double[][] matrix, int[] indices) {
+        double[][] result = new double[indices.length][indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            for (int j = 0; j < indices.length; j++) {
+                result[i][j] = matrix[indices[i]][indices[j]];
+            }
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -239,6 +239,70 @@ public final class StatisticsCalculator {
                 .setScale(DEFAULT_SCALE, RoundingMode.HALF_UP);
     }
     
+    /**
+     * 정렬된 double 배열의 백분위수 계산 (대량 시뮬레이션 결과용)
+     * 정렬 및 박싱 없이 선형 보간으로 계산
+     * @param sorted 오름차순 정렬된 데이터
+     * @param percentile 백분위 (0-100)
+     * @return 해당 백분위수 값
+     */
+    public static double percentileOfSorted(double[] sorted, double percentile) {
+        if (sorted == null || sorted.length == 0 || percentile < 0 || percentile > 100) {
+            return 0.0;
+        }
+        
+        double index = (percentile / 100.0) * (sorted.length - 1);
+        int lowerIndex = (int) Math.floor(index);
+        int upperIndex = (int) Math.ceil(index);
+        
+        if (lowerIndex == upperIndex) {
+            return sorted[lowerIndex];
+        }
+        return sorted[lowerIndex] + (sorted[upperIndex] - sorted[lowerIndex]) * (index - lowerIndex);
+    }
+    
+    /**
+     * 표준정규분포 역누적분포함수 (Acklam 근사, 상대오차 1.15e-9 이하)
+     * @param p 누적 확률 (0 < p < 1)
+     * @return 해당 확률의 z 값
+     */
+    public static double normalQuantile(double p) {
+        if (p <= 0.0 || p >= 1.0) {
+            throw new IllegalArgumentException("확률은 0과 1 사이여야 합니다: " + p);
+        }
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                            6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                            3.754408661907416e+00};
+        final double low = 0.02425;
+        
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                   ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                    ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q /
+               (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+    
+    /**
+     * 표준정규분포 확률밀도함수
+     */
+    public static double normalDensity(double x) {
+        return Math.exp(-0.5 * x * x) / Math.sqrt(2 * Math.PI);
+    }
+    
     /**
      * 사분위수 계산
      */
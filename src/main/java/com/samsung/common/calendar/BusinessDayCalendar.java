@@ -0,0 +1,308 @@
+package com.samsung.common.calendar;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 영업일 달력 (주말 + 공휴일 제외)
+ * 1970-01-01 ~ 2099-12-31 구간을 epoch day 비트셋으로 미리 계산해 두고,
+ * 64일 단위 누적 영업일 수(prefix count)와 영업일 순번 → 날짜 배열로 모든 연산을 상수 시간에 처리한다.
+ * 
+ * - 영업일 여부: 비트 검사
+ * - 순번(rank): 워드 누적값 + 워드 내 bitCount
+ * - T+N, 다음/이전 영업일: 순번 계산 후 순번 → 날짜 배열 조회
+ * - 영업일 수 차이: 순번의 차
+ * 
+ * 달력 범위 밖의 날짜(또는 결과가 범위를 벗어나는 T+N, 다음/이전 영업일)는 주말만 제외하는 날짜별 순회로 계산한다.
+ * 
+ * 인스턴스는 불변이며, 현재 달력은 install()로 통째로 교체한다 (조회 중인 스레드는 교체 전 달력을 끝까지 사용).
+ * 로드 전 기본 달력은 공휴일 없이 주말만 제외한다.
+ */
+public final class BusinessDayCalendar {
+    
+    public static final LocalDate MIN_DATE = LocalDate.of(1970, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(2099, 12, 31);
+    
+    private static final long FIRST_EPOCH_DAY = MIN_DATE.toEpochDay();
+    private static final int DAYS = (int) (MAX_DATE.toEpochDay() - FIRST_EPOCH_DAY + 1);
+    
+    private static volatile BusinessDayCalendar current = new BusinessDayCalendar(List.of(), "weekends-only");
+    
+    private final long[] businessBits;      // 오프셋 i의 영업일 여부
+    private final int[] wordRanks;          // 워드 w 이전까지의 영업일 수
+    private final int[] businessDays;       // k번째(0부터) 영업일의 오프셋
+    private final List<LocalDate> holidays; // 평일 공휴일 (정렬)
+    private final String source;
+    
+    private BusinessDayCalendar(Collection<LocalDate> holidayDates, String source) {
+        long[] bits = new long[(DAYS + 63) >>> 6];
+        for (int i = 0; i < DAYS; i++) {
+            if (isWeekdayOffset(i)) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        
+        List<LocalDate> weekdayHolidays = new ArrayList<>();
+        for (LocalDate holiday : new TreeSet<>(holidayDates)) {
+            int offset = offsetOf(holiday);
+            if (offset < 0) {
+                throw new BusinessException(ErrorCodes.INVALID_PARAMETER,
+                    "영업일 달력 범위(" + MIN_DATE + " ~ " + MAX_DATE + ")를 벗어난 휴일입니다: " + holiday);
+            }
+            if ((bits[offset >>> 6] & (1L << offset)) != 0) {
+                bits[offset >>> 6] &= ~(1L << offset);
+                weekdayHolidays.add(holiday);
+            }
+        }
+        
+        int[] ranks = new int[bits.length];
+        int count = 0;
+        for (int w = 0; w < bits.length; w++) {
+            ranks[w] = count;
+            count += Long.bitCount(bits[w]);
+        }
+        int[] days = new int[count];
+        int k = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                days[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        
+        this.businessBits = bits;
+        this.wordRanks = ranks;
+        this.businessDays = days;
+        this.holidays = List.copyOf(weekdayHolidays);
+        this.source = source;
+    }
+    
+    /**
+     * 현재 달력
+     */
+    public static BusinessDayCalendar current() {
+        return current;
+    }
+    
+    /**
+     * 현재 달력 교체
+     */
+    public static void install(BusinessDayCalendar calendar) {
+        if (calendar == null) {
+            throw new IllegalArgumentException("영업일 달력이 필요합니다");
+        }
+        current = calendar;
+    }
+    
+    /**
+     * 휴일 목록으로 달력 생성
+     * 
+     * @param holidays 휴일 (주말과 겹치는 날짜는 무시)
+     * @param source 출처 표시 (파일 경로 등)
+     */
+    public static BusinessDayCalendar of(Collection<LocalDate> holidays, String source) {
+        return new BusinessDayCalendar(holidays, source);
+    }
+    
+    /**
+     * 휴일 파일 로드
+     * 한 줄에 yyyy-MM-dd 날짜 하나, 날짜 뒤의 내용(휴일 이름)과 # 이후 주석, 빈 줄은 무시한다.
+     * 예: "2025-10-06 추석"
+     */
+    public static BusinessDayCalendar load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in, file.toString());
+        }
+    }
+    
+    public static BusinessDayCalendar load(InputStream in, String source) throws IOException {
+        List<LocalDate> holidays = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).strip();
+            if (content.isEmpty()) {
+                continue;
+            }
+            int end = 0;
+            while (end < content.length() && !Character.isWhitespace(content.charAt(end))) {
+                end++;
+            }
+            try {
+                holidays.add(LocalDate.parse(content.substring(0, end)));
+            } catch (DateTimeException e) {
+                throw new BusinessException(ErrorCodes.INVALID_DATE_FORMAT,
+                    "휴일 파일 형식 오류 (" + source + ":" + lineNumber + "): " + line, e);
+            }
+        }
+        return new BusinessDayCalendar(holidays, source);
+    }
+    
+    /**
+     * 영업일 여부
+     * 달력 범위 밖의 날짜는 휴일 정보가 없으므로 주말만 제외한다.
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        int offset = offsetOf(date);
+        if (offset < 0) {
+            return isWeekdayOffset(date.toEpochDay() - FIRST_EPOCH_DAY);
+        }
+        return (businessBits[offset >>> 6] & (1L << offset)) != 0;
+    }
+    
+    /**
+     * 평일 공휴일 여부 (주말 제외)
+     */
+    public boolean isHoliday(LocalDate date) {
+        int offset = offsetOf(date);
+        return offset >= 0 && isWeekdayOffset(offset) && (businessBits[offset >>> 6] & (1L << offset)) == 0;
+    }
+    
+    /**
+     * N 영업일 후(음수면 전) 날짜 (T+N)
+     * 기준일이 영업일이 아니면 0은 다음 영업일, 1은 그 다음 영업일, -1은 직전 영업일이다.
+     */
+    public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        int offset = offsetOf(date);
+        if (offset < 0) {
+            return stepBusinessDays(date, businessDays);
+        }
+        // rank는 기준일 이전까지의 영업일 수 = 기준일(영업일이 아니면 다음 영업일)의 순번
+        long index = (long) rank(offset) + businessDays;
+        if (businessDays > 0 && (businessBits[offset >>> 6] & (1L << offset)) == 0) {
+            index--;
+        }
+        if (index < 0 || index >= this.businessDays.length) {
+            return stepBusinessDays(date, businessDays);
+        }
+        return dateAt((int) index, date, offset);
+    }
+    
+    /**
+     * 다음 영업일 (기준일 제외)
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return addBusinessDays(date, 1);
+    }
+    
+    /**
+     * 이전 영업일 (기준일 제외)
+     */
+    public LocalDate previousBusinessDay(LocalDate date) {
+        return addBusinessDays(date, -1);
+    }
+    
+    /**
+     * 두 날짜 사이 영업일 수 (start 제외, end 포함)
+     * end가 start 이후의 영업일이면 addBusinessDays(start, 결과) == end 이며, end가 start보다 앞이면 음수
+     */
+    public int businessDaysBetween(LocalDate start, LocalDate end) {
+        int startOffset = requireOffset(start);
+        int endOffset = requireOffset(end);
+        return rank(endOffset + 1) - rank(startOffset + 1);
+    }
+    
+    /**
+     * 평일 공휴일 목록 (날짜순)
+     */
+    public List<LocalDate> getHolidays() {
+        return holidays;
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    /**
+     * 오프셋 이전까지의 영업일 수 (offset == DAYS 허용)
+     */
+    private int rank(int offset) {
+        int word = offset >>> 6;
+        if (word == wordRanks.length) {
+            return businessDays.length;
+        }
+        return wordRanks[word] + Long.bitCount(businessBits[word] & ((1L << offset) - 1));
+    }
+    
+    /**
+     * 영업일 순번 → 날짜
+     * 한 달 이내 거리는 기준일의 plusDays(월 경계 빠른 경로)가 ofEpochDay의 역산보다 싸다.
+     */
+    private LocalDate dateAt(int index, LocalDate date, int offset) {
+        int target = businessDays[index];
+        int distance = target - offset;
+        if (distance > -28 && distance < 28) {
+            return date.plusDays(distance);
+        }
+        return LocalDate.ofEpochDay(FIRST_EPOCH_DAY + target);
+    }
+    
+    /**
+     * 날짜별 순회로 N 영업일 후(음수면 전) 날짜 계산 (달력 범위를 벗어나는 경우용)
+     * 범위 밖에서는 isBusinessDay가 주말만 제외하므로 범위 경계를 넘는 순회도 그대로 이어진다.
+     */
+    private LocalDate stepBusinessDays(LocalDate date, int businessDays) {
+        LocalDate day = date;
+        if (businessDays == 0) {
+            while (!isBusinessDay(day)) {
+                day = day.plusDays(1);
+            }
+            return day;
+        }
+        int step = businessDays > 0 ? 1 : -1;
+        for (long remaining = Math.abs((long) businessDays); remaining > 0; ) {
+            day = day.plusDays(step);
+            if (isBusinessDay(day)) {
+                remaining--;
+            }
+        }
+        return day;
+    }
+    
+    private static int requireOffset(LocalDate date) {
+        int offset = offsetOf(date);
+        if (offset < 0) {
+            throw outOfRange(date);
+        }
+        return offset;
+    }
+    
+    /**
+     * 달력 내 오프셋 (범위 밖이면 -1)
+     */
+    private static int offsetOf(LocalDate date) {
+        if (date == null) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "날짜가 필요합니다");
+        }
+        long offset = date.toEpochDay() - FIRST_EPOCH_DAY;
+        return offset >= 0 && offset < DAYS ? (int) offset : -1;
+    }
+    
+    /**
+     * 1970-01-01(목요일) 기준 오프셋의 평일 여부
+     */
+    private static boolean isWeekdayOffset(long offset) {
+        return Math.floorMod(offset + 3, 7) < 5;
+    }
+    
+    private static BusinessException outOfRange(LocalDate date) {
+        return new BusinessException(ErrorCodes.INVALID_PARAMETER,
+            "영업일 달력 범위(" + MIN_DATE + " ~ " + MAX_DATE + ")를 벗어났습니다: " + date);
+    }
+}
\ No newline at end of file
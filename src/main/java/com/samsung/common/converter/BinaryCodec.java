@@ -0,0 +1,502 @@
+package com.samsung.common.converter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 16진수 / base64url 바이너리 코덱
+ * 계좌번호 해시, 전문 덤프 등 대량 바이너리 변환용으로, 조회 테이블로 바이트 단위 변환을 하고
+ * 호출자가 준 버퍼(byte[] 구간, ByteBuffer)에 바로 기록한다. 문자는 모두 ASCII 1바이트로 기록한다.
+ * 
+ * - 16진수: 소문자로 인코딩, 디코딩은 대소문자 모두 허용
+ * - base64url: RFC 4648 URL-safe 알파벳('-', '_'), 인코딩은 패딩 없음, 디코딩은 끝의 '=' 패딩 허용
+ * 
+ * 배열 전체를 변환하는 큰 입력의 base64url은 CPU 벡터 명령으로 가속되는 JDK Base64에 위임한다.
+ * 
+ * 디코딩은 잘못된 문자나 길이를 만나면 예외 대신 INVALID를 반환하며, 이때 대상 버퍼 내용은 일부만 기록되었을 수 있다.
+ * 구간이 배열 범위를 벗어나면 IndexOutOfBoundsException, ByteBuffer 공간이 부족하면 BufferOverflowException을 던진다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinaryCodec {
+    
+    /**
+     * 디코딩 실패 값
+     */
+    public static final int INVALID = -1;
+    
+    /**
+     * 이 길이 이상의 배열 전체 base64url 변환은 JDK Base64 사용 (작은 입력은 테이블이 더 빠름)
+     */
+    private static final int JDK_BASE64_THRESHOLD = 64;
+    private static final Base64.Encoder BASE64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+    
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64URL_DIGITS =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    
+    /**
+     * 바이트 값(0~255) → 16진수 두 자리 (HEX_PAIRS[2b], HEX_PAIRS[2b+1])
+     */
+    private static final byte[] HEX_PAIRS = new byte[512];
+    
+    /**
+     * 문자(0~255) → 값, 해당 알파벳이 아니면 -1
+     */
+    private static final byte[] HEX_VALUES = new byte[256];
+    private static final byte[] BASE64URL_VALUES = new byte[256];
+    
+    static {
+        for (int b = 0; b < 256; b++) {
+            HEX_PAIRS[b * 2] = HEX_DIGITS[b >>> 4];
+            HEX_PAIRS[b * 2 + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        Arrays.fill(BASE64URL_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+        }
+        for (int i = 0; i < 64; i++) {
+            BASE64URL_VALUES[BASE64URL_DIGITS[i]] = (byte) i;
+        }
+    }
+    
+    // ===== 길이 계산 =====
+    
+    /**
+     * 16진수 인코딩 길이
+     */
+    public static int hexLength(int byteLength) {
+        return Math.multiplyExact(byteLength, 2);
+    }
+    
+    /**
+     * base64url(패딩 없음) 인코딩 길이
+     */
+    public static int base64UrlLength(int byteLength) {
+        int remainder = byteLength % 3;
+        return Math.addExact(Math.multiplyExact(byteLength / 3, 4), remainder == 0 ? 0 : remainder + 1);
+    }
+    
+    /**
+     * base64url(패딩 없음) 문자 수 → 디코딩 바이트 수 (불가능한 길이면 INVALID)
+     */
+    public static int base64UrlDecodedLength(int charLength) {
+        int remainder = charLength % 4;
+        return remainder == 1 ? INVALID : charLength / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+    
+    // ===== 16진수 =====
+    
+    /**
+     * byte[] 구간 → 16진수 문자열
+     */
+    public static String encodeHex(byte[] src, int offset, int length) {
+        byte[] out = new byte[hexLength(length)];
+        encodeHex(src, offset, length, out, 0);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+    
+    /**
+     * byte[] 구간 → 16진수 (대상 구간에 기록)
+     * 
+     * @return 기록 후 위치
+     */
+    public static int encodeHex(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(dstOffset, hexLength(length), dst.length);
+        int j = dstOffset;
+        for (int i = offset, end = offset + length; i < end; i++, j += 2) {
+            int pair = (src[i] & 0xFF) << 1;
+            dst[j] = HEX_PAIRS[pair];
+            dst[j + 1] = HEX_PAIRS[pair + 1];
+        }
+        return j;
+    }
+    
+    /**
+     * ByteBuffer 남은 구간 → 16진수 (src는 limit까지 소비, dst는 기록한 만큼 전진)
+     * 
+     * @return 기록한 바이트 수
+     */
+    public static int encodeHex(ByteBuffer src, ByteBuffer dst) {
+        int length = src.remaining();
+        int encoded = hexLength(length);
+        if (dst.remaining() < encoded) {
+            throw new BufferOverflowException();
+        }
+        if (src.hasArray() && dst.hasArray()) {
+            encodeHex(src.array(), src.arrayOffset() + src.position(), length,
+                      dst.array(), dst.arrayOffset() + dst.position());
+        } else {
+            for (int i = src.position(), j = dst.position(), end = src.limit(); i < end; i++, j += 2) {
+                int pair = (src.get(i) & 0xFF) << 1;
+                dst.put(j, HEX_PAIRS[pair]);
+                dst.put(j + 1, HEX_PAIRS[pair + 1]);
+            }
+        }
+        src.position(src.limit());
+        dst.position(dst.position() + encoded);
+        return encoded;
+    }
+    
+    /**
+     * 16진수 문자열 → byte[] (잘못된 입력이면 null)
+     */
+    public static byte[] decodeHex(CharSequence hex) {
+        int length = hex.length();
+        if ((length & 1) != 0) {
+            return null;
+        }
+        byte[] out = new byte[length >>> 1];
+        return decodeHex(hex, 0, length, out, 0) == INVALID ? null : out;
+    }
+    
+    /**
+     * 16진수 문자 구간 → 대상 구간
+     * 
+     * @return 기록 후 위치, 홀수 길이이거나 16진수가 아닌 문자가 있으면 INVALID
+     */
+    public static int decodeHex(CharSequence hex, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, hex.length());
+        if ((length & 1) != 0) {
+            return INVALID;
+        }
+        Objects.checkFromIndexSize(dstOffset, length >>> 1, dst.length);
+        int j = dstOffset;
+        for (int i = offset, end = offset + length; i < end; i += 2, j++) {
+            int high = hexValue(hex.charAt(i));
+            int low = hexValue(hex.charAt(i + 1));
+            if ((high | low) < 0) {
+                return INVALID;
+            }
+            dst[j] = (byte) (high << 4 | low);
+        }
+        return j;
+    }
+    
+    /**
+     * 16진수 ASCII 바이트 구간 → 대상 구간
+     * 
+     * @return 기록 후 위치, 홀수 길이이거나 16진수가 아닌 문자가 있으면 INVALID
+     */
+    public static int decodeHex(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        if ((length & 1) != 0) {
+            return INVALID;
+        }
+        Objects.checkFromIndexSize(dstOffset, length >>> 1, dst.length);
+        int j = dstOffset;
+        for (int i = offset, end = offset + length; i < end; i += 2, j++) {
+            int high = HEX_VALUES[src[i] & 0xFF];
+            int low = HEX_VALUES[src[i + 1] & 0xFF];
+            if ((high | low) < 0) {
+                return INVALID;
+            }
+            dst[j] = (byte) (high << 4 | low);
+        }
+        return j;
+    }
+    
+    /**
+     * ByteBuffer 남은 16진수 구간 → 바이트 (성공 시에만 src는 limit까지 소비, dst는 기록한 만큼 전진)
+     * 
+     * @return 기록한 바이트 수, 잘못된 입력이면 INVALID (위치 변경 없음)
+     */
+    public static int decodeHex(ByteBuffer src, ByteBuffer dst) {
+        int length = src.remaining();
+        if ((length & 1) != 0) {
+            return INVALID;
+        }
+        int decoded = length >>> 1;
+        if (dst.remaining() < decoded) {
+            throw new BufferOverflowException();
+        }
+        if (src.hasArray() && dst.hasArray()) {
+            int start = dst.arrayOffset() + dst.position();
+            if (decodeHex(src.array(), src.arrayOffset() + src.position(), length, dst.array(), start) == INVALID) {
+                return INVALID;
+            }
+        } else {
+            for (int i = src.position(), j = dst.position(), end = src.limit(); i < end; i += 2, j++) {
+                int high = HEX_VALUES[src.get(i) & 0xFF];
+                int low = HEX_VALUES[src.get(i + 1) & 0xFF];
+                if ((high | low) < 0) {
+                    return INVALID;
+                }
+                dst.put(j, (byte) (high << 4 | low));
+            }
+        }
+        src.position(src.limit());
+        dst.position(dst.position() + decoded);
+        return decoded;
+    }
+    
+    // ===== base64url =====
+    
+    /**
+     * byte[] 구간 → base64url 문자열 (패딩 없음)
+     */
+    public static String encodeBase64Url(byte[] src, int offset, int length) {
+        byte[] out = new byte[base64UrlLength(length)];
+        encodeBase64Url(src, offset, length, out, 0);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+    
+    /**
+     * byte[] 구간 → base64url (패딩 없음, 대상 구간에 기록)
+     * 
+     * @return 기록 후 위치
+     */
+    public static int encodeBase64Url(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        Objects.checkFromIndexSize(dstOffset, base64UrlLength(length), dst.length);
+        if (length >= JDK_BASE64_THRESHOLD && offset == 0 && length == src.length && dstOffset == 0) {
+            return BASE64URL_ENCODER.encode(src, dst);
+        }
+        int i = offset;
+        int j = dstOffset;
+        for (int end = offset + length / 3 * 3; i < end; i += 3, j += 4) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[j] = BASE64URL_DIGITS[bits >>> 18];
+            dst[j + 1] = BASE64URL_DIGITS[(bits >>> 12) & 0x3F];
+            dst[j + 2] = BASE64URL_DIGITS[(bits >>> 6) & 0x3F];
+            dst[j + 3] = BASE64URL_DIGITS[bits & 0x3F];
+        }
+        switch (offset + length - i) {
+            case 1 -> {
+                int bits = (src[i] & 0xFF) << 16;
+                dst[j++] = BASE64URL_DIGITS[bits >>> 18];
+                dst[j++] = BASE64URL_DIGITS[(bits >>> 12) & 0x3F];
+            }
+            case 2 -> {
+                int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+                dst[j++] = BASE64URL_DIGITS[bits >>> 18];
+                dst[j++] = BASE64URL_DIGITS[(bits >>> 12) & 0x3F];
+                dst[j++] = BASE64URL_DIGITS[(bits >>> 6) & 0x3F];
+            }
+            default -> {
+            }
+        }
+        return j;
+    }
+    
+    /**
+     * ByteBuffer 남은 구간 → base64url (src는 limit까지 소비, dst는 기록한 만큼 전진)
+     * 
+     * @return 기록한 바이트 수
+     */
+    public static int encodeBase64Url(ByteBuffer src, ByteBuffer dst) {
+        int length = src.remaining();
+        int encoded = base64UrlLength(length);
+        if (dst.remaining() < encoded) {
+            throw new BufferOverflowException();
+        }
+        if (src.hasArray() && dst.hasArray()) {
+            encodeBase64Url(src.array(), src.arrayOffset() + src.position(), length,
+                            dst.array(), dst.arrayOffset() + dst.position());
+        } else {
+            int j = dst.position();
+            for (int i = src.position(), end = src.limit(); i < end; i += 3) {
+                int available = Math.min(3, end - i);
+                int bits = (src.get(i) & 0xFF) << 16;
+                if (available > 1) bits |= (src.get(i + 1) & 0xFF) << 8;
+                if (available > 2) bits |= src.get(i + 2) & 0xFF;
+                for (int shift = 18, chars = available + 1; chars > 0; shift -= 6, chars--) {
+                    dst.put(j++, BASE64URL_DIGITS[(bits >>> shift) & 0x3F]);
+                }
+            }
+        }
+        src.position(src.limit());
+        dst.position(dst.position() + encoded);
+        return encoded;
+    }
+    
+    /**
+     * base64url 문자열 → byte[] (끝의 '=' 패딩 허용, 잘못된 입력이면 null)
+     */
+    public static byte[] decodeBase64Url(CharSequence text) {
+        int length = unpaddedLength(text, 0, text.length());
+        int decoded = base64UrlDecodedLength(length);
+        if (decoded == INVALID) {
+            return null;
+        }
+        byte[] out = new byte[decoded];
+        return decodeBase64Url(text, 0, length, out, 0) == INVALID ? null : out;
+    }
+    
+    /**
+     * base64url 문자 구간 → 대상 구간 (끝의 '=' 패딩 허용)
+     * 
+     * @return 기록 후 위치, 잘못된 길이나 알파벳이 아닌 문자가 있으면 INVALID
+     */
+    public static int decodeBase64Url(CharSequence text, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, text.length());
+        length = unpaddedLength(text, offset, length);
+        int decoded = base64UrlDecodedLength(length);
+        if (decoded == INVALID) {
+            return INVALID;
+        }
+        Objects.checkFromIndexSize(dstOffset, decoded, dst.length);
+        int i = offset;
+        int j = dstOffset;
+        for (int end = offset + (length & ~3); i < end; i += 4, j += 3) {
+            int bits = base64UrlValue(text.charAt(i)) << 18 | base64UrlValue(text.charAt(i + 1)) << 12
+                | base64UrlValue(text.charAt(i + 2)) << 6 | base64UrlValue(text.charAt(i + 3));
+            if (bits < 0) {
+                return INVALID;
+            }
+            dst[j] = (byte) (bits >>> 16);
+            dst[j + 1] = (byte) (bits >>> 8);
+            dst[j + 2] = (byte) bits;
+        }
+        int remaining = offset + length - i;
+        if (remaining > 0) {
+            int bits = base64UrlValue(text.charAt(i)) << 18 | base64UrlValue(text.charAt(i + 1)) << 12
+                | (remaining == 3 ? base64UrlValue(text.charAt(i + 2)) << 6 : 0);
+            if (bits < 0) {
+                return INVALID;
+            }
+            j = writeTail(bits, remaining, dst, j);
+        }
+        return j;
+    }
+    
+    /**
+     * base64url ASCII 바이트 구간 → 대상 구간 (끝의 '=' 패딩 허용)
+     * 
+     * @return 기록 후 위치, 잘못된 길이나 알파벳이 아닌 문자가 있으면 INVALID
+     */
+    public static int decodeBase64Url(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        boolean wholeArray = offset == 0 && length == src.length && dstOffset == 0;
+        length = unpaddedLength(src, offset, length);
+        int decoded = base64UrlDecodedLength(length);
+        if (decoded == INVALID) {
+            return INVALID;
+        }
+        Objects.checkFromIndexSize(dstOffset, decoded, dst.length);
+        if (wholeArray && length >= JDK_BASE64_THRESHOLD) {
+            try {
+                return BASE64URL_DECODER.decode(src, dst);
+            } catch (IllegalArgumentException e) {
+                return INVALID;
+            }
+        }
+        int i = offset;
+        int j = dstOffset;
+        for (int end = offset + (length & ~3); i < end; i += 4, j += 3) {
+            int bits = BASE64URL_VALUES[src[i] & 0xFF] << 18 | BASE64URL_VALUES[src[i + 1] & 0xFF] << 12
+                | BASE64URL_VALUES[src[i + 2] & 0xFF] << 6 | BASE64URL_VALUES[src[i + 3] & 0xFF];
+            if (bits < 0) {
+                return INVALID;
+            }
+            dst[j] = (byte) (bits >>> 16);
+            dst[j + 1] = (byte) (bits >>> 8);
+            dst[j + 2] = (byte) bits;
+        }
+        int remaining = offset + length - i;
+        if (remaining > 0) {
+            int bits = BASE64URL_VALUES[src[i] & 0xFF] << 18 | BASE64URL_VALUES[src[i + 1] & 0xFF] << 12
+                | (remaining == 3 ? BASE64URL_VALUES[src[i + 2] & 0xFF] << 6 : 0);
+            if (bits < 0) {
+                return INVALID;
+            }
+            j = writeTail(bits, remaining, dst, j);
+        }
+        return j;
+    }
+    
+    /**
+     * ByteBuffer 남은 base64url 구간 → 바이트 (성공 시에만 src는 limit까지 소비, dst는 기록한 만큼 전진)
+     * 힙 버퍼가 아니면 임시 배열을 거쳐 변환한다.
+     * 
+     * @return 기록한 바이트 수, 잘못된 입력이면 INVALID (위치 변경 없음)
+     */
+    public static int decodeBase64Url(ByteBuffer src, ByteBuffer dst) {
+        byte[] in;
+        int offset;
+        int length = src.remaining();
+        if (src.hasArray()) {
+            in = src.array();
+            offset = src.arrayOffset() + src.position();
+        } else {
+            in = new byte[length];
+            src.get(src.position(), in);
+            offset = 0;
+        }
+        int decoded = base64UrlDecodedLength(unpaddedLength(in, offset, length));
+        if (decoded == INVALID) {
+            return INVALID;
+        }
+        if (dst.remaining() < decoded) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            if (decodeBase64Url(in, offset, length, dst.array(), dst.arrayOffset() + dst.position()) == INVALID) {
+                return INVALID;
+            }
+        } else {
+            byte[] out = new byte[decoded];
+            if (decodeBase64Url(in, offset, length, out, 0) == INVALID) {
+                return INVALID;
+            }
+            dst.put(dst.position(), out);
+        }
+        src.position(src.limit());
+        dst.position(dst.position() + decoded);
+        return decoded;
+    }
+    
+    // ===== 내부 =====
+    
+    private static int hexValue(char c) {
+        return c < 256 ? HEX_VALUES[c] : -1;
+    }
+    
+    private static int base64UrlValue(char c) {
+        return c < 256 ? BASE64URL_VALUES[c] : -1;
+    }
+    
+    /**
+     * 끝의 '=' 패딩(4의 배수 길이일 때 최대 2개)을 제외한 길이
+     */
+    private static int unpaddedLength(CharSequence text, int offset, int length) {
+        if (length > 0 && (length & 3) == 0 && text.charAt(offset + length - 1) == '=') {
+            length--;
+            if (text.charAt(offset + length - 1) == '=') {
+                length--;
+            }
+        }
+        return length;
+    }
+    
+    private static int unpaddedLength(byte[] src, int offset, int length) {
+        if (length > 0 && (length & 3) == 0 && src[offset + length - 1] == '=') {
+            length--;
+            if (src[offset + length - 1] == '=') {
+                length--;
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * 마지막 2~3자 묶음의 비트 → 1~2 바이트
+     */
+    private static int writeTail(int bits, int remaining, byte[] dst, int j) {
+        dst[j++] = (byte) (bits >>> 16);
+        if (remaining == 3) {
+            dst[j++] = (byte) (bits >>> 8);
+        }
+        return j;
+    }
+}
\ No newline at end of file
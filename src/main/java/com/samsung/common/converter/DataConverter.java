@@ -200,47 +200,52 @@ public final class DataConverter {
     }
     
     /**
-     * byte 배열을 16진수 문자열로 변환
-     * C의 바이너리 데이터 처리와 유사
+     * byte 배열을 16진수 문자열로 변환 (소문자)
+     * C의 바이너리 데이터 처리와 유사, 구간/버퍼 단위 변환은 BinaryCodec 사용
      */
     public static String bytesToHex(byte[] bytes) {
         if (bytes == null || bytes.length == 0) {
             return "";
         }
-        
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
+        return BinaryCodec.encodeHex(bytes, 0, bytes.length);
     }
     
     /**
-     * 16진수 문자열을 byte 배열로 변환
+     * 16진수 문자열을 byte 배열로 변환 (대소문자 허용, 잘못된 입력이면 빈 배열)
      */
     public static byte[] hexToBytes(String hex) {
-        if (StringUtil.isEmpty(hex) || hex.length() % 2 != 0) {
+        if (StringUtil.isEmpty(hex)) {
             return new byte[0];
         }
-        
-        int length = hex.length();
-        byte[] bytes = new byte[length / 2];
-        
-        for (int i = 0; i < length; i += 2) {
-            try {
-                bytes[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4) +
-                                      Character.digit(hex.charAt(i + 1), 16));
-            } catch (Exception e) {
-                return new byte[0];
-            }
+        byte[] bytes = BinaryCodec.decodeHex(hex);
+        return bytes != null ? bytes : new byte[0];
+    }
+    
+    /**
+     * byte 배열을 base64url 문자열로 변환 (패딩 없음)
+     */
+    public static String bytesToBase64Url(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return "";
         }
-        
-        return bytes;
+        return BinaryCodec.encodeBase64Url(bytes, 0, bytes.length);
+    }
+    
+    /**
+     * base64url 문자열을 byte 배열로 변환 (패딩 허용, 잘못된 입력이면 빈 배열)
+     */
+    public static byte[] base64UrlToBytes(String text) {
+        if (StringUtil.isEmpty(text)) {
+            return new byte[0];
+        }
+        byte[] bytes = BinaryCodec.decodeBase64Url(text);
+        return bytes != null ? bytes : new byte[0];
     }
     
     /**
      * 문자열을 Map으로 변환 (key=value 형식)
      * 예: "name=홍길동,age=30" → Map{"name":"홍길동", "age":"30"}
+     * 구분자는 정규식이 아닌 문자열 그대로 비교하며, 항목을 Map 없이 순회하려면 KeyValueTokenizer 사용
      */
     public static Map<String, String> stringToMap(String str, String entryDelimiter, String keyValueDelimiter) {
         Map<String, String> map = new HashMap<>();
@@ -249,14 +254,9 @@ public final class DataConverter {
             return map;
         }
         
-        String[] entries = str.split(entryDelimiter);
-        for (String entry : entries) {
-            if (StringUtil.isNotEmpty(entry) && entry.contains(keyValueDelimiter)) {
-                String[] keyValue = entry.split(keyValueDelimiter, 2);
-                if (keyValue.length == 2) {
-                    map.put(keyValue[0].trim(), keyValue[1].trim());
-                }
-            }
+        KeyValueTokenizer tokenizer = new KeyValueTokenizer(entryDelimiter, keyValueDelimiter).reset(str);
+        while (tokenizer.next()) {
+            map.put(tokenizer.key().toString(), tokenizer.value().toString());
         }
         
         return map;
@@ -264,16 +264,16 @@ public final class DataConverter {
     
     /**
      * Map을 문자열로 변환
+     * 버퍼를 재사용하며 작성하려면 KeyValueWriter 사용
      */
     public static String mapToString(Map<String, String> map, String entryDelimiter, String keyValueDelimiter) {
         if (map == null || map.isEmpty()) {
             return "";
         }
         
-        return map.entrySet().stream()
-            .map(entry -> entry.getKey() + keyValueDelimiter + entry.getValue())
-            .reduce((s1, s2) -> s1 + entryDelimiter + s2)
-            .orElse("");
+        return new KeyValueWriter(entryDelimiter, keyValueDelimiter, map.size() * 16)
+            .addAll(map)
+            .toString();
     }
     
     /**
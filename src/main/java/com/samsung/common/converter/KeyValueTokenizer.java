@@ -0,0 +1,209 @@
+package com.samsung.common.converter;
+
+/**
+ * key=value 메시지 토크나이저 (flyweight)
+ * "name=홍길동,age=30" 형식의 레거시 메시지를 앞에서부터 한 항목씩 읽으며, 키/값은 부분 문자열을 만들지 않고
+ * 원문 구간을 가리키는 CharSequence 뷰로 돌려준다. 뷰는 다음 next() 호출 시 다음 항목으로 바뀌므로
+ * 보관하려면 toString()으로 복사한다.
+ * 
+ * 구분자는 정규식이 아닌 문자열 그대로 비교한다. 항목 규칙은 기존 DataConverter.stringToMap과 같다.
+ * - 빈(공백뿐인) 항목과 키/값 구분자가 없는 항목은 건너뜀
+ * - 첫 번째 키/값 구분자에서 나누며 값에는 구분자가 더 있을 수 있음
+ * - 키와 값은 앞뒤 공백(' ' 이하 문자) 제외
+ * 
+ * 상태를 보유하므로 스레드 안전하지 않다. reset()으로 재사용한다.
+ */
+public final class KeyValueTokenizer {
+    
+    private final String entryDelimiter;
+    private final String keyValueDelimiter;
+    private final Slice key = new Slice();
+    private final Slice value = new Slice();
+    
+    private CharSequence text = "";
+    private int position;
+    private int end;
+    
+    public KeyValueTokenizer(String entryDelimiter, String keyValueDelimiter) {
+        if (entryDelimiter == null || entryDelimiter.isEmpty() || keyValueDelimiter == null || keyValueDelimiter.isEmpty()) {
+            throw new IllegalArgumentException("항목 구분자와 키/값 구분자가 필요합니다");
+        }
+        this.entryDelimiter = entryDelimiter;
+        this.keyValueDelimiter = keyValueDelimiter;
+    }
+    
+    /**
+     * 새 메시지 읽기 시작 (null은 빈 메시지)
+     */
+    public KeyValueTokenizer reset(CharSequence text) {
+        return reset(text != null ? text : "", 0, text != null ? text.length() : 0);
+    }
+    
+    /**
+     * 메시지 구간 읽기 시작
+     */
+    public KeyValueTokenizer reset(CharSequence text, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > text.length()) {
+            throw new IndexOutOfBoundsException("구간이 메시지 범위를 벗어납니다 (offset: " + offset + ", length: " + length + ")");
+        }
+        this.text = text;
+        this.position = offset;
+        this.end = offset + length;
+        return this;
+    }
+    
+    /**
+     * 다음 항목으로 이동
+     * 
+     * @return 항목이 있으면 true (key(), value()가 해당 항목을 가리킴)
+     */
+    public boolean next() {
+        while (position <= end) {
+            int entryStart = position;
+            int entryEnd = indexOf(entryDelimiter, entryStart);
+            if (entryEnd < 0) {
+                entryEnd = end;
+                position = end + 1;
+            } else {
+                position = entryEnd + entryDelimiter.length();
+            }
+            if (trimStart(entryStart, entryEnd) == entryEnd) {
+                continue;
+            }
+            int separator = indexOf(keyValueDelimiter, entryStart, entryEnd);
+            if (separator < 0) {
+                continue;
+            }
+            int keyStart = trimStart(entryStart, separator);
+            int valueStart = trimStart(separator + keyValueDelimiter.length(), entryEnd);
+            key.set(text, keyStart, trimEnd(keyStart, separator));
+            value.set(text, valueStart, trimEnd(valueStart, entryEnd));
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 현재 항목의 키 (다음 next() 호출 전까지 유효)
+     */
+    public CharSequence key() {
+        return key;
+    }
+    
+    /**
+     * 현재 항목의 값 (다음 next() 호출 전까지 유효)
+     */
+    public CharSequence value() {
+        return value;
+    }
+    
+    /**
+     * 현재 항목의 키가 주어진 문자열과 같은지 (문자열 생성 없이 비교)
+     */
+    public boolean keyEquals(CharSequence expected) {
+        return key.contentEquals(expected);
+    }
+    
+    /**
+     * 다음 항목 구분자 위치 (없으면 -1)
+     * String이면 JDK indexOf(내장 함수)로 찾는다. 읽는 구간 끝을 넘는 위치는 없는 것으로 본다.
+     */
+    private int indexOf(String delimiter, int from) {
+        if (text instanceof String string) {
+            int found = delimiter.length() == 1 ? string.indexOf(delimiter.charAt(0), from) : string.indexOf(delimiter, from);
+            return found >= 0 && found <= end - delimiter.length() ? found : -1;
+        }
+        return indexOf(delimiter, from, end);
+    }
+    
+    /**
+     * [from, to) 구간에서 구분자 위치 (없으면 -1, 항목 안의 키/값 구분자 검색용으로 구간 밖은 보지 않음)
+     */
+    private int indexOf(String delimiter, int from, int to) {
+        char first = delimiter.charAt(0);
+        for (int i = from, last = to - delimiter.length(); i <= last; i++) {
+            if (text.charAt(i) == first && regionMatches(i, delimiter)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean regionMatches(int from, String delimiter) {
+        for (int k = 1; k < delimiter.length(); k++) {
+            if (text.charAt(from + k) != delimiter.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int trimStart(int from, int to) {
+        while (from < to && text.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+    
+    private int trimEnd(int from, int to) {
+        while (to > from && text.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+    
+    /**
+     * 원문 구간 뷰 (재사용)
+     */
+    private static final class Slice implements CharSequence {
+        
+        private CharSequence text = "";
+        private int start;
+        private int end;
+        
+        void set(CharSequence text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+        
+        boolean contentEquals(CharSequence other) {
+            int length = end - start;
+            if (other == null || other.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(start + i) != other.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public int length() {
+            return end - start;
+        }
+        
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + (end - start));
+            }
+            return text.charAt(start + index);
+        }
+        
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > end - start || from > to) {
+                throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + (end - start));
+            }
+            return text.subSequence(start + from, start + to);
+        }
+        
+        @Override
+        public String toString() {
+            return text.subSequence(start, end).toString();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.samsung.common.converter;
+
+import java.util.Map;
+
+/**
+ * key=value 메시지 작성기
+ * 항목을 대상 StringBuilder에 바로 이어 붙인다. 기본 대상은 내부 빌더이며 reset()으로 비워 재사용하고,
+ * reset(StringBuilder)로 호출자의 빌더(전문 버퍼 등) 뒤에 이어 쓸 수도 있다.
+ * 키/값의 구분자 문자는 이스케이프하지 않는다 (기존 DataConverter.mapToString과 같음).
+ * 
+ * 상태를 보유하므로 스레드 안전하지 않다.
+ */
+public final class KeyValueWriter {
+    
+    private final String entryDelimiter;
+    private final String keyValueDelimiter;
+    private final char entryChar; // 한 글자 구분자면 문자로 기록 (아니면 0)
+    private final char keyValueChar;
+    private final StringBuilder buffer;
+    
+    private StringBuilder target;
+    private int entryCount;
+    
+    public KeyValueWriter(String entryDelimiter, String keyValueDelimiter) {
+        this(entryDelimiter, keyValueDelimiter, 256);
+    }
+    
+    public KeyValueWriter(String entryDelimiter, String keyValueDelimiter, int initialCapacity) {
+        if (entryDelimiter == null || keyValueDelimiter == null) {
+            throw new IllegalArgumentException("항목 구분자와 키/값 구분자가 필요합니다");
+        }
+        this.entryDelimiter = entryDelimiter;
+        this.keyValueDelimiter = keyValueDelimiter;
+        this.entryChar = entryDelimiter.length() == 1 ? entryDelimiter.charAt(0) : 0;
+        this.keyValueChar = keyValueDelimiter.length() == 1 ? keyValueDelimiter.charAt(0) : 0;
+        this.buffer = new StringBuilder(initialCapacity);
+        this.target = buffer;
+    }
+    
+    /**
+     * 내부 빌더를 비우고 새 메시지 작성 시작
+     */
+    public KeyValueWriter reset() {
+        buffer.setLength(0);
+        target = buffer;
+        entryCount = 0;
+        return this;
+    }
+    
+    /**
+     * 주어진 빌더의 현재 내용 뒤에 새 메시지 작성 시작
+     */
+    public KeyValueWriter reset(StringBuilder target) {
+        if (target == null) {
+            throw new IllegalArgumentException("대상 빌더가 필요합니다");
+        }
+        this.target = target;
+        this.entryCount = 0;
+        return this;
+    }
+    
+    public KeyValueWriter add(CharSequence key, CharSequence value) {
+        separate(key).append(value);
+        return this;
+    }
+    
+    /**
+     * 숫자 값 항목 (문자열 생성 없이 기록)
+     */
+    public KeyValueWriter add(CharSequence key, long value) {
+        separate(key).append(value);
+        return this;
+    }
+    
+    public KeyValueWriter addAll(Map<String, String> map) {
+        if (map != null) {
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                add(entry.getKey(), entry.getValue());
+            }
+        }
+        return this;
+    }
+    
+    public int getEntryCount() {
+        return entryCount;
+    }
+    
+    /**
+     * 작성 중인 빌더
+     */
+    public StringBuilder getTarget() {
+        return target;
+    }
+    
+    /**
+     * 작성한 메시지 (reset(StringBuilder)로 지정한 빌더면 기존 내용 포함)
+     */
+    @Override
+    public String toString() {
+        return target.toString();
+    }
+    
+    /**
+     * (첫 항목이 아니면 항목 구분자) + 키 + 키/값 구분자 기록
+     */
+    private StringBuilder separate(CharSequence key) {
+        if (entryCount++ > 0) {
+            if (entryChar != 0) {
+                target.append(entryChar);
+            } else {
+                target.append(entryDelimiter);
+            }
+        }
+        target.append(key);
+        return keyValueChar != 0 ? target.append(keyValueChar) : target.append(keyValueDelimiter);
+    }
+}
\ No newline at end of file
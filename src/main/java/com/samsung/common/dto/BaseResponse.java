@@ -1,6 +1,8 @@
 package com.samsung.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.samsung.common.util.CoarseClock;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = BaseResponseSerializer.class)
 public class BaseResponse<T> {
     private boolean success;
     private String message;
@@ -20,15 +23,15 @@ public class BaseResponse<T> {
     private LocalDateTime timestamp;
     
     public static <T> BaseResponse<T> success(T data) {
-        return new BaseResponse<>(true, "Success", data, null, LocalDateTime.now());
+        return new BaseResponse<>(true, "Success", data, null, CoarseClock.current().now());
     }
     
     public static <T> BaseResponse<T> success(T data, String message) {
-        return new BaseResponse<>(true, message, data, null, LocalDateTime.now());
+        return new BaseResponse<>(true, message, data, null, CoarseClock.current().now());
     }
     
     public static <T> BaseResponse<T> error(String message, String errorCode) {
-        return new BaseResponse<>(false, message, null, errorCode, LocalDateTime.now());
+        return new BaseResponse<>(false, message, null, errorCode, CoarseClock.current().now());
     }
     
     public static <T> BaseResponse<T> error(String message) {
@@ -0,0 +1,56 @@
+package com.samsung.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * BaseResponse 스트리밍 직렬화기
+ * 필드 순서와 일시 형식(yyyy-MM-dd HH:mm:ss)은 리플렉션 직렬화 결과와 동일하며, 필드명과 null 생략 여부는
+ * ObjectMapper 설정(명명 전략, default-property-inclusion)을 따른다. data는 해당 타입의 직렬화기에 위임한다.
+ */
+public class BaseResponseSerializer extends StdSerializer<BaseResponse<?>> implements ContextualSerializer {
+    
+    private static final int SUCCESS = 0;
+    private static final int MESSAGE = 1;
+    private static final int DATA = 2;
+    private static final int ERROR_CODE = 3;
+    private static final int TIMESTAMP = 4;
+    
+    private final JsonFields fields;
+    
+    public BaseResponseSerializer() {
+        this(null);
+    }
+    
+    private BaseResponseSerializer(JsonFields fields) {
+        super(BaseResponse.class, false);
+        this.fields = fields;
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        return new BaseResponseSerializer(resolveFields(provider));
+    }
+    
+    @Override
+    public void serialize(BaseResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields f = fields != null ? fields : resolveFields(provider);
+        gen.writeStartObject(value);
+        f.writeBoolean(gen, SUCCESS, value.isSuccess());
+        f.writeString(gen, MESSAGE, value.getMessage());
+        f.writeValue(gen, DATA, value.getData(), provider);
+        f.writeString(gen, ERROR_CODE, value.getErrorCode());
+        f.writeDateTimeSeconds(gen, TIMESTAMP, value.getTimestamp());
+        gen.writeEndObject();
+    }
+    
+    private static JsonFields resolveFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, BaseResponse.class, "success", "message", "data", "errorCode", "timestamp");
+    }
+}
\ No newline at end of file
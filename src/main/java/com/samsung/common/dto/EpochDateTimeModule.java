@@ -0,0 +1,105 @@
+package com.samsung.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 바이너리 와이어 포맷(CBOR)용 날짜 모듈
+ * LocalDateTime은 한국 표준시 기준 epoch 밀리초, LocalDate는 epoch 일수로 기록한다.
+ * 역직렬화 시 숫자 외에 ISO-8601 문자열도 허용한다.
+ */
+public class EpochDateTimeModule extends SimpleModule {
+    
+    /**
+     * LocalDateTime ↔ epoch 변환 기준 시간대
+     */
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    
+    public EpochDateTimeModule() {
+        super("EpochDateTimeModule");
+        addSerializer(LocalDateTime.class, new LocalDateTimeSerializer());
+        addSerializer(LocalDate.class, new LocalDateSerializer());
+        addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer());
+        addDeserializer(LocalDate.class, new LocalDateDeserializer());
+    }
+    
+    public static long toEpochMilli(LocalDateTime value) {
+        return value.atZone(ZONE).toInstant().toEpochMilli();
+    }
+    
+    public static LocalDateTime ofEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZONE);
+    }
+    
+    static final class LocalDateTimeSerializer extends StdScalarSerializer<LocalDateTime> {
+        
+        LocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+        
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(toEpochMilli(value));
+        }
+    }
+    
+    static final class LocalDateSerializer extends StdScalarSerializer<LocalDate> {
+        
+        LocalDateSerializer() {
+            super(LocalDate.class);
+        }
+        
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+    
+    static final class LocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+        
+        LocalDateTimeDeserializer() {
+            super(LocalDateTime.class);
+        }
+        
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return ofEpochMilli(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return LocalDateTime.parse(p.getText());
+            }
+            return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, p);
+        }
+    }
+    
+    static final class LocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+        
+        LocalDateDeserializer() {
+            super(LocalDate.class);
+        }
+        
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return LocalDate.parse(p.getText());
+            }
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.samsung.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 DTO 스트리밍 직렬화기의 필드 기록기
+ * ObjectMapper 설정의 명명 전략과 기본 포함 규칙(default-property-inclusion)을 직렬화기 문맥화(createContextual) 시
+ * 한 번 적용해 두므로, 리플렉션 직렬화와 같은 필드명/null 생략 결과를 필드마다 설정 조회 없이 기록한다.
+ * 
+ * 포함 규칙은 ALWAYS, NON_NULL(NON_ABSENT), NON_EMPTY를 지원하며 그 외 규칙(NON_DEFAULT, CUSTOM)은 NON_EMPTY로 처리한다.
+ * Map 값에는 내용 포함 규칙(content inclusion)을 적용한다.
+ * ISO 일시는 WRITE_DATES_AS_TIMESTAMPS가 켜져 있으면 등록된 직렬화기(JavaTimeModule 등)에 위임한다.
+ */
+public final class JsonFields {
+    
+    private final SerializableString[] names;
+    private final JsonInclude.Include valueInclusion;
+    private final JsonInclude.Include contentInclusion;
+    private final boolean datesAsTimestamps;
+    
+    private JsonFields(SerializableString[] names, JsonInclude.Include valueInclusion,
+                       JsonInclude.Include contentInclusion, boolean datesAsTimestamps) {
+        this.names = names;
+        this.valueInclusion = valueInclusion;
+        this.contentInclusion = contentInclusion;
+        this.datesAsTimestamps = datesAsTimestamps;
+    }
+    
+    /**
+     * 직렬화 설정에 맞춰 필드명과 포함 규칙 결정
+     * 
+     * @param provider 직렬화 문맥
+     * @param type 직렬화 대상 타입 (타입별 포함 규칙 조회용)
+     * @param propertyNames 자바 프로퍼티명 (기록 순서, 필드 번호는 배열 인덱스)
+     * @return 필드 기록기
+     */
+    public static JsonFields resolve(SerializerProvider provider, Class<?> type, String... propertyNames) {
+        SerializationConfig config = provider.getConfig();
+        PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        SerializableString[] names = new SerializableString[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            String name = naming != null ? naming.nameForGetterMethod(config, null, propertyNames[i]) : propertyNames[i];
+            names[i] = new SerializedString(name);
+        }
+        JsonInclude.Value inclusion = config.getDefaultPropertyInclusion(type);
+        return new JsonFields(names, normalize(inclusion.getValueInclusion()), normalize(inclusion.getContentInclusion()),
+            config.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+    
+    public SerializableString name(int field) {
+        return names[field];
+    }
+    
+    /**
+     * 필드명 기록 (포함 규칙상 생략할 값이면 기록하지 않음)
+     * 중첩 객체/배열처럼 값을 호출자가 직접 기록하는 경우에 사용한다.
+     * 
+     * @return 값을 기록해야 하면 true
+     */
+    public boolean writeName(JsonGenerator gen, int field, Object value) throws IOException {
+        if (isSuppressed(valueInclusion, value)) {
+            return false;
+        }
+        gen.writeFieldName(names[field]);
+        return true;
+    }
+    
+    public void writeString(JsonGenerator gen, int field, String value) throws IOException {
+        if (writeName(gen, field, value)) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
+    }
+    
+    public void writeNumber(JsonGenerator gen, int field, BigDecimal value) throws IOException {
+        if (writeName(gen, field, value)) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+    
+    public void writeNumber(JsonGenerator gen, int field, Double value) throws IOException {
+        if (writeName(gen, field, value)) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.doubleValue());
+            }
+        }
+    }
+    
+    public void writeNumber(JsonGenerator gen, int field, Integer value) throws IOException {
+        if (writeName(gen, field, value)) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.intValue());
+            }
+        }
+    }
+    
+    public void writeBoolean(JsonGenerator gen, int field, boolean value) throws IOException {
+        gen.writeFieldName(names[field]);
+        gen.writeBoolean(value);
+    }
+    
+    /**
+     * ISO-8601 일시 기록 (DateTimeFormatter.ISO_LOCAL_DATE_TIME과 동일한 형식)
+     */
+    public void writeIsoDateTime(JsonGenerator gen, int field, LocalDateTime value,
+                                 SerializerProvider provider) throws IOException {
+        if (!writeName(gen, field, value)) {
+            return;
+        }
+        if (datesAsTimestamps && value != null) {
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            JsonWriteSupport.writeDateTime(gen, value, 'T', true);
+        }
+    }
+    
+    /**
+     * yyyy-MM-dd HH:mm:ss 형식 일시 기록 (초 미만 절사)
+     */
+    public void writeDateTimeSeconds(JsonGenerator gen, int field, LocalDateTime value) throws IOException {
+        if (writeName(gen, field, value)) {
+            JsonWriteSupport.writeDateTime(gen, value, ' ', false);
+        }
+    }
+    
+    public void writeStringArray(JsonGenerator gen, int field, List<String> values) throws IOException {
+        if (!writeName(gen, field, values)) {
+            return;
+        }
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (int i = 0, n = values.size(); i < n; i++) {
+            String value = values.get(i);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        }
+        gen.writeEndArray();
+    }
+    
+    /**
+     * Map 기록 (키는 변환 없이 그대로 사용, 값에는 내용 포함 규칙 적용)
+     */
+    public void writeMap(JsonGenerator gen, int field, Map<String, ?> values,
+                         SerializerProvider provider) throws IOException {
+        if (!writeName(gen, field, values)) {
+            return;
+        }
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(values);
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            if (isSuppressed(contentInclusion, entry.getValue())) {
+                continue;
+            }
+            gen.writeFieldName(String.valueOf(entry.getKey()));
+            JsonWriteSupport.writeValue(gen, entry.getValue(), provider);
+        }
+        gen.writeEndObject();
+    }
+    
+    /**
+     * 임의 값 기록 (문자열/숫자/불리언은 직접, 그 외는 등록된 직렬화기에 위임)
+     */
+    public void writeValue(JsonGenerator gen, int field, Object value, SerializerProvider provider) throws IOException {
+        if (writeName(gen, field, value)) {
+            JsonWriteSupport.writeValue(gen, value, provider);
+        }
+    }
+    
+    private static boolean isSuppressed(JsonInclude.Include inclusion, Object value) {
+        return switch (inclusion) {
+            case NON_NULL -> value == null;
+            case NON_EMPTY -> value == null
+                || (value instanceof String s && s.isEmpty())
+                || (value instanceof Collection<?> c && c.isEmpty())
+                || (value instanceof Map<?, ?> m && m.isEmpty());
+            default -> false;
+        };
+    }
+    
+    private static JsonInclude.Include normalize(JsonInclude.Include inclusion) {
+        if (inclusion == null) {
+            return JsonInclude.Include.ALWAYS;
+        }
+        return switch (inclusion) {
+            case ALWAYS, USE_DEFAULTS -> JsonInclude.Include.ALWAYS;
+            case NON_NULL, NON_ABSENT -> JsonInclude.Include.NON_NULL;
+            default -> JsonInclude.Include.NON_EMPTY;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.samsung.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 DTO 전용 직렬화기(JsonGenerator 스트리밍)에서 쓰는 값 기록 함수
+ * 필드명과 null 생략 여부는 JsonFields가 결정하며, 이 클래스는 값 자체만 기록한다.
+ * 날짜/시간은 스레드별 char 버퍼에 직접 기록하여 포맷터 문자열 할당을 피한다.
+ * 바이너리 포맷(CBOR 등)에서는 날짜/시간을 EpochDateTimeModule과 같은 epoch 밀리초로 기록한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonWriteSupport {
+    
+    private static final DateTimeFormatter SECONDS_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ThreadLocal<char[]> DATE_BUFFERS = ThreadLocal.withInitial(() -> new char[32]);
+    
+    /**
+     * 임의 값 기록 (문자열, 숫자, 불리언은 직접 기록하고 그 외 값은 등록된 직렬화기에 위임)
+     */
+    public static void writeValue(JsonGenerator gen, Object value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String s) {
+            gen.writeString(s);
+        } else if (value instanceof BigDecimal d) {
+            gen.writeNumber(d);
+        } else if (value instanceof Integer i) {
+            gen.writeNumber(i.intValue());
+        } else if (value instanceof Long l) {
+            gen.writeNumber(l.longValue());
+        } else if (value instanceof Double d) {
+            gen.writeNumber(d.doubleValue());
+        } else if (value instanceof Boolean b) {
+            gen.writeBoolean(b.booleanValue());
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+    
+    static void writeDateTime(JsonGenerator gen, LocalDateTime value, char separator,
+                              boolean fraction) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (gen.canWriteBinaryNatively()) {
+            long epochMilli = EpochDateTimeModule.toEpochMilli(fraction ? value : value.withNano(0));
+            gen.writeNumber(epochMilli);
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // 부호/확장 연도는 드물므로 표준 포맷터 사용
+            gen.writeString(value.format(fraction ? DateTimeFormatter.ISO_LOCAL_DATE_TIME : SECONDS_FORMATTER));
+            return;
+        }
+        char[] buf = DATE_BUFFERS.get();
+        buf[0] = digit(year / 1000);
+        buf[1] = digit(year / 100 % 10);
+        buf[2] = digit(year / 10 % 10);
+        buf[3] = digit(year % 10);
+        buf[4] = '-';
+        put2(buf, 5, value.getMonthValue());
+        buf[7] = '-';
+        put2(buf, 8, value.getDayOfMonth());
+        buf[10] = separator;
+        put2(buf, 11, value.getHour());
+        buf[13] = ':';
+        put2(buf, 14, value.getMinute());
+        buf[16] = ':';
+        put2(buf, 17, value.getSecond());
+        int length = 19;
+        int nano = value.getNano();
+        if (fraction && nano > 0) {
+            // 나노초 9자리에서 끝자리 0을 제거 (ISO_LOCAL_TIME 규칙)
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buf[length++] = '.';
+            for (int i = length + digits - 1; i >= length; i--) {
+                buf[i] = digit(nano % 10);
+                nano /= 10;
+            }
+            length += digits;
+        }
+        gen.writeString(buf, 0, length);
+    }
+    
+    private static void put2(char[] buf, int offset, int value) {
+        buf[offset] = digit(value / 10);
+        buf[offset + 1] = digit(value % 10);
+    }
+    
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
\ No newline at end of file
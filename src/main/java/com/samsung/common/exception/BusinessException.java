@@ -18,4 +18,13 @@ public class BusinessException extends RuntimeException {
         this.errorCode = errorCode;
         this.message = message;
     }
+    
+    /**
+     * 스택 트레이스 기록 여부를 지정하는 생성자 (StacklessBusinessException용)
+     */
+    protected BusinessException(String errorCode, String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
+        this.errorCode = errorCode;
+        this.message = message;
+    }
 }
\ No newline at end of file
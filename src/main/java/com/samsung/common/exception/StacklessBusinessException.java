@@ -0,0 +1,16 @@
+package com.samsung.common.exception;
+
+/**
+ * 스택 트레이스를 기록하지 않는 업무 예외
+ * 입력값 오류처럼 예상된 업무 오류 전용으로, 생성 비용 대부분인 fillInStackTrace를 생략한다.
+ * 
+ * 스택 트레이스와 suppressed 목록이 없고 원인도 생성 시 고정되므로 상태가 바뀌지 않는다.
+ * 따라서 메시지가 고정된 오류는 상수로 한 번만 만들어 두고 여러 스레드에서 반복해서 던져도 된다.
+ * 원인 추적이 필요한 오류(I/O, 시스템 오류 등)에는 BusinessException을 사용한다.
+ */
+public class StacklessBusinessException extends BusinessException {
+    
+    public StacklessBusinessException(String errorCode, String message) {
+        super(errorCode, message, null, false);
+    }
+}
\ No newline at end of file
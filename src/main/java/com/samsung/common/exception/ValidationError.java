@@ -0,0 +1,34 @@
+package com.samsung.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 검증 오류 한 건 (에러 코드 + 메시지)
+ * 던질 때 사용할 스택 없는 예외를 함께 만들어 두므로, 메시지가 고정된 오류는
+ * 상수로 선언하면 검증 실패 시 새로 할당하는 객체가 없다.
+ */
+@Getter
+public final class ValidationError {
+    private final String errorCode;
+    private final String message;
+    private final StacklessBusinessException exception;
+    
+    private ValidationError(String errorCode, String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+        this.exception = new StacklessBusinessException(errorCode, message);
+    }
+    
+    /**
+     * @param errorCode ErrorCodes 상수
+     * @param message 오류 메시지
+     */
+    public static ValidationError of(String errorCode, String message) {
+        return new ValidationError(errorCode, message);
+    }
+    
+    @Override
+    public String toString() {
+        return errorCode + ": " + message;
+    }
+}
\ No newline at end of file
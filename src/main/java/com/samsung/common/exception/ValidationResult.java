@@ -0,0 +1,72 @@
+package com.samsung.common.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검증 결과 누적기
+ * 예외를 던지지 않고 검증 오류를 모두 모은다. 일괄 처리는 결과를 보고 건별 실패로 기록하고,
+ * 단건 API는 throwIfInvalid()로 첫 번째 오류를 기존과 같은 BusinessException으로 던진다.
+ * 
+ * 오류가 없으면 목록을 할당하지 않으므로 정상 건의 추가 비용은 결과 객체 하나뿐이다.
+ * 스레드 안전하지 않으며 검증 한 번에 하나씩 사용한다.
+ */
+public final class ValidationResult {
+    
+    private List<ValidationError> errors;
+    
+    /**
+     * 오류 추가 (상수로 선언한 오류 재사용)
+     */
+    public ValidationResult reject(ValidationError error) {
+        if (errors == null) {
+            errors = new ArrayList<>(2);
+        }
+        errors.add(error);
+        return this;
+    }
+    
+    /**
+     * 오류 추가
+     * 
+     * @param errorCode ErrorCodes 상수
+     * @param message 오류 메시지
+     */
+    public ValidationResult reject(String errorCode, String message) {
+        return reject(ValidationError.of(errorCode, message));
+    }
+    
+    public boolean isValid() {
+        return errors == null;
+    }
+    
+    public int getErrorCount() {
+        return errors == null ? 0 : errors.size();
+    }
+    
+    /**
+     * 추가된 순서의 오류 목록 (오류가 없으면 빈 목록)
+     */
+    public List<ValidationError> getErrors() {
+        return errors == null ? List.of() : Collections.unmodifiableList(errors);
+    }
+    
+    /**
+     * 첫 번째 오류 (오류가 없으면 null)
+     */
+    public ValidationError getFirstError() {
+        return errors == null ? null : errors.get(0);
+    }
+    
+    /**
+     * 오류가 있으면 첫 번째 오류를 스택 없는 예외로 던짐
+     * 
+     * @throws StacklessBusinessException 검증 오류가 있는 경우
+     */
+    public void throwIfInvalid() {
+        if (errors != null) {
+            throw errors.get(0).getException();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.samsung.common.record;
+
+import lombok.Getter;
+
+/**
+ * 고정길이 레코드 필드 정의 (레코드 내 바이트 위치와 길이)
+ * FixedWidthLayout.Builder로만 생성한다.
+ */
+@Getter
+public final class FixedWidthField {
+    
+    /**
+     * 필드 유형
+     * TEXT: 좌측 정렬, 우측 공백 채움 (COBOL X)
+     * NUMBER: 우측 정렬, 좌측 '0' 채움, 음수는 첫 바이트에 '-' (COBOL S9)
+     * DECIMAL: NUMBER와 같은 형식에 소수점 이하 자릿수 내재 (COBOL S9V9, 소수점 문자 없음)
+     * FILLER: 예약 영역, 공백 채움
+     */
+    public enum Type {
+        TEXT, NUMBER, DECIMAL, FILLER
+    }
+    
+    private final String name;
+    private final int index;
+    private final int offset;
+    private final int length;
+    private final Type type;
+    private final int scale;
+    
+    FixedWidthField(String name, int index, int offset, int length, Type type, int scale) {
+        this.name = name;
+        this.index = index;
+        this.offset = offset;
+        this.length = length;
+        this.type = type;
+        this.scale = scale;
+    }
+    
+    @Override
+    public String toString() {
+        return name + "[" + type + " " + offset + "+" + length + (type == Type.DECIMAL ? " V" + scale : "") + "]";
+    }
+}
\ No newline at end of file
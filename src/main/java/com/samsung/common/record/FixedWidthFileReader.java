@@ -0,0 +1,147 @@
+package com.samsung.common.record;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 고정길이 레코드 파일 스트리밍 리더
+ * 채널에서 큰 direct 버퍼 단위로 읽고 버퍼 안의 레코드를 FixedWidthRecord 뷰로 차례로 가리키므로
+ * 파일 크기와 무관하게 메모리 사용량이 일정하고 레코드마다 객체를 만들지 않는다.
+ * 
+ * next()가 반환하는 레코드는 다음 next() 호출 전까지만 유효한 같은 인스턴스이다.
+ * 
+ * 사용 예:
+ *   try (FixedWidthFileReader reader = FixedWidthFileReader.open(path, layout)) {
+ *       FixedWidthRecord record;
+ *       while ((record = reader.next()) != null) {
+ *           String customerId = record.getString("customerId");
+ *       }
+ *   }
+ */
+public final class FixedWidthFileReader implements AutoCloseable {
+    
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    
+    private final ReadableByteChannel channel;
+    private final FixedWidthLayout layout;
+    private final FixedWidthRecord record;
+    private final ByteBuffer buffer;
+    private final byte[] separator;
+    private boolean eof;
+    private long recordCount;
+    
+    public FixedWidthFileReader(ReadableByteChannel channel, FixedWidthLayout layout, int bufferSize) {
+        this.channel = channel;
+        this.layout = layout;
+        this.record = layout.newRecord();
+        this.separator = layout.lineSeparator();
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, layout.getStride()));
+        this.buffer.flip();
+    }
+    
+    public static FixedWidthFileReader open(Path path, FixedWidthLayout layout) throws IOException {
+        return new FixedWidthFileReader(FileChannel.open(path, StandardOpenOption.READ), layout, DEFAULT_BUFFER_SIZE);
+    }
+    
+    /**
+     * 다음 레코드
+     * 
+     * @return 레코드 뷰, 파일 끝이면 null
+     * @throws BusinessException 마지막 레코드가 잘렸거나 줄 구분자 위치가 맞지 않을 때 (INVALID_FORMAT)
+     */
+    public FixedWidthRecord next() throws IOException {
+        int recordLength = layout.getRecordLength();
+        // 구분자까지 한 번에 확보해야 레코드를 가리킨 뒤 버퍼가 이동(compact)하지 않음
+        boolean full = fill(layout.getStride());
+        if (!full && buffer.remaining() < recordLength) {
+            if (buffer.hasRemaining() && !isTrailingSeparator()) {
+                throw new BusinessException(ErrorCodes.INVALID_FORMAT,
+                    "고정길이 파일 마지막 레코드가 잘렸습니다 (record: " + (recordCount + 1) + ", bytes: " + buffer.remaining() + ")");
+            }
+            return null;
+        }
+        int offset = buffer.position();
+        buffer.position(offset + recordLength);
+        recordCount++;
+        // 레코드의 바이트 위치가 흐트러졌다면 구분자 자리에서 바로 드러남 (마지막 레코드는 구분자 생략 허용)
+        if (full) {
+            for (byte b : separator) {
+                if (buffer.get() != b) {
+                    throw misaligned();
+                }
+            }
+        } else if (buffer.hasRemaining() && !isTrailingSeparator()) {
+            throw misaligned();
+        }
+        return record.wrap(buffer, offset);
+    }
+    
+    /**
+     * 읽은 레코드 수
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    private BusinessException misaligned() {
+        return new BusinessException(ErrorCodes.INVALID_FORMAT,
+            "고정길이 파일 레코드 구분자가 맞지 않습니다 (record: " + recordCount + ")");
+    }
+    
+    /**
+     * 버퍼에 최소 n바이트가 남도록 채움
+     * 남은 바이트를 앞으로 옮기므로 앞서 반환한 레코드 뷰는 이 시점부터 무효이다.
+     */
+    private boolean fill(int n) throws IOException {
+        if (buffer.remaining() >= n) {
+            return true;
+        }
+        buffer.compact();
+        while (!eof && buffer.position() < n) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+            }
+        }
+        // 한 번 읽기 시작하면 버퍼를 가능한 한 채워 시스템 호출 횟수를 줄임
+        while (!eof && buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                eof = true;
+            } else if (read == 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= n;
+    }
+    
+    /**
+     * 파일 끝에 남은 바이트가 줄바꿈(CR/LF)뿐인지 확인 (편집기가 덧붙인 마지막 줄바꿈 허용)
+     */
+    private boolean isTrailingSeparator() {
+        int remaining = buffer.remaining();
+        if (remaining > Math.max(separator.length, 2)) {
+            return false;
+        }
+        for (int i = 0; i < remaining; i++) {
+            byte b = buffer.get(buffer.position() + i);
+            if (b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        buffer.position(buffer.limit());
+        return true;
+    }
+}
\ No newline at end of file
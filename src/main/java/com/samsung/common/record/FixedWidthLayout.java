@@ -0,0 +1,205 @@
+package com.samsung.common.record;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고정길이 레코드 레이아웃 (메인프레임 연계 배치 파일용)
+ * 필드 순서대로 바이트 위치를 누적하여 한 번만 정의하고, 여러 FixedWidthRecord/파일 리더/라이터가 공유하는 불변 객체이다.
+ * 길이는 문자 수가 아니라 인코딩 후 바이트 수이며, 한글은 EUC-KR/MS949에서 2바이트이다.
+ * 
+ * 예:
+ *   FixedWidthLayout layout = FixedWidthLayout.builder(FixedWidthLayout.MS949)
+ *       .text("customerId", 10).text("customerName", 20)
+ *       .number("quantity", 9).decimal("amount", 15, 2).filler(6)
+ *       .lineSeparator("\r\n")
+ *       .build();
+ */
+public final class FixedWidthLayout {
+    
+    /**
+     * KS X 1001 완성형 (한글 2,350자)
+     */
+    public static final Charset EUC_KR = Charset.forName("EUC-KR");
+    
+    /**
+     * 확장 완성형 (한글 11,172자, EUC-KR 상위 호환)
+     */
+    public static final Charset MS949 = Charset.forName("MS949");
+    
+    private final Charset charset;
+    private final List<FixedWidthField> fields;
+    private final Map<String, FixedWidthField> fieldsByName;
+    private final int recordLength;
+    private final byte[] lineSeparator;
+    private final int maxFieldLength;
+    
+    private FixedWidthLayout(Builder builder) {
+        this.charset = builder.charset;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(builder.fields));
+        this.fieldsByName = new HashMap<>();
+        int max = 0;
+        for (FixedWidthField field : fields) {
+            if (field.getType() != FixedWidthField.Type.FILLER) {
+                fieldsByName.put(field.getName(), field);
+            }
+            max = Math.max(max, field.getLength());
+        }
+        this.recordLength = builder.offset;
+        this.lineSeparator = builder.lineSeparator;
+        this.maxFieldLength = max;
+    }
+    
+    public static Builder builder(Charset charset) {
+        return new Builder(charset);
+    }
+    
+    public Charset getCharset() {
+        return charset;
+    }
+    
+    public List<FixedWidthField> getFields() {
+        return fields;
+    }
+    
+    public FixedWidthField getField(int index) {
+        return fields.get(index);
+    }
+    
+    /**
+     * 이름으로 필드 조회 (FILLER 제외)
+     */
+    public FixedWidthField getField(String name) {
+        FixedWidthField field = fieldsByName.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("레이아웃에 없는 필드입니다: " + name);
+        }
+        return field;
+    }
+    
+    /**
+     * 레코드 길이 (줄 구분자 제외, 바이트)
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+    
+    /**
+     * 레코드 간 거리 (레코드 길이 + 줄 구분자 길이, 바이트)
+     */
+    public int getStride() {
+        return recordLength + lineSeparator.length;
+    }
+    
+    byte[] lineSeparator() {
+        return lineSeparator;
+    }
+    
+    int getMaxFieldLength() {
+        return maxFieldLength;
+    }
+    
+    /**
+     * 이 레이아웃의 레코드 뷰 생성 (인코더/디코더를 보유하므로 스레드별로 생성)
+     */
+    public FixedWidthRecord newRecord() {
+        return new FixedWidthRecord(this);
+    }
+    
+    @Override
+    public String toString() {
+        return "FixedWidthLayout" + fields + " (" + recordLength + " bytes, " + charset.name() + ")";
+    }
+    
+    /**
+     * 레이아웃 빌더 (필드 추가 순서 = 레코드 내 순서)
+     */
+    public static final class Builder {
+        
+        private final Charset charset;
+        private final List<FixedWidthField> fields = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+        private byte[] lineSeparator = new byte[0];
+        private int offset;
+        
+        private Builder(Charset charset) {
+            if (charset == null) {
+                throw new IllegalArgumentException("레이아웃 문자셋이 필요합니다");
+            }
+            // 숫자/공백을 1바이트 ASCII로 직접 기록하므로 ASCII 호환 문자셋만 허용
+            if (!"0123456789 -+".equals(new String("0123456789 -+".getBytes(charset), StandardCharsets.US_ASCII))) {
+                throw new IllegalArgumentException("ASCII 호환 문자셋이 아닙니다: " + charset.name());
+            }
+            this.charset = charset;
+        }
+        
+        /**
+         * 문자 필드 (좌측 정렬, 공백 채움)
+         */
+        public Builder text(String name, int length) {
+            return add(name, length, FixedWidthField.Type.TEXT, 0);
+        }
+        
+        /**
+         * 정수 필드 (우측 정렬, '0' 채움)
+         */
+        public Builder number(String name, int length) {
+            return add(name, length, FixedWidthField.Type.NUMBER, 0);
+        }
+        
+        /**
+         * 내재 소수점 숫자 필드 (예: decimal("amount", 15, 2) → 9(13)V99)
+         */
+        public Builder decimal(String name, int length, int scale) {
+            if (scale < 0 || scale >= length) {
+                throw new IllegalArgumentException("소수 자릿수는 0 이상, 필드 길이 미만이어야 합니다: " + name);
+            }
+            return add(name, length, FixedWidthField.Type.DECIMAL, scale);
+        }
+        
+        /**
+         * 예약 영역 (공백)
+         */
+        public Builder filler(int length) {
+            return add("filler" + fields.size(), length, FixedWidthField.Type.FILLER, 0);
+        }
+        
+        /**
+         * 레코드 사이 줄 구분자 (기본값: 없음, 연속 레코드)
+         */
+        public Builder lineSeparator(String separator) {
+            this.lineSeparator = separator.getBytes(StandardCharsets.US_ASCII);
+            return this;
+        }
+        
+        public FixedWidthLayout build() {
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("레이아웃에 필드가 없습니다");
+            }
+            return new FixedWidthLayout(this);
+        }
+        
+        private Builder add(String name, int length, FixedWidthField.Type type, int scale) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("필드 길이는 1 이상이어야 합니다: " + name);
+            }
+            // long 범위 (부호 포함 19자리) 초과 숫자 필드는 지원하지 않음
+            if (type != FixedWidthField.Type.TEXT && type != FixedWidthField.Type.FILLER && length > 19) {
+                throw new IllegalArgumentException("숫자 필드는 19바이트 이하여야 합니다: " + name);
+            }
+            if (!names.add(name)) {
+                throw new IllegalArgumentException("중복된 필드명입니다: " + name);
+            }
+            fields.add(new FixedWidthField(name, fields.size(), offset, length, type, scale));
+            offset += length;
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,313 @@
+package com.samsung.common.record;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * 고정길이 레코드 뷰 (flyweight)
+ * ByteBuffer의 지정 위치에 놓인 레코드 한 건을 필드 단위로 직접 읽고 쓴다.
+ * 중간 String이나 byte[]를 만들지 않으며, 숫자 필드는 바이트에서 바로 파싱/기록한다.
+ * 
+ * 문자 필드 기록 시 필드 바이트 길이를 넘는 문자는 문자 경계에서 잘라내므로 한글 2바이트 문자가 쪼개지지 않는다.
+ * 인코딩할 수 없는 문자는 '?'로 대체한다.
+ * 
+ * 인코더/디코더와 버퍼를 보유하므로 스레드 안전하지 않다. 스레드(또는 파일)별로 FixedWidthLayout.newRecord()로 생성한다.
+ */
+public final class FixedWidthRecord {
+    
+    private static final byte SPACE = ' ';
+    private static final byte ZERO = '0';
+    
+    private final FixedWidthLayout layout;
+    private final CharsetEncoder encoder;
+    private final CharsetDecoder decoder;
+    private final char[] chars;
+    private final CharBuffer charBuffer;
+    
+    private ByteBuffer buffer;
+    private ByteBuffer view; // 인코더/디코더용 위치·한도 조정 사본 (버퍼가 바뀔 때만 새로 생성)
+    private int base;
+    
+    FixedWidthRecord(FixedWidthLayout layout) {
+        this.layout = layout;
+        this.encoder = layout.getCharset().newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.decoder = layout.getCharset().newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // 디코딩 결과 문자 수는 바이트 수를 넘지 않음
+        this.chars = new char[layout.getMaxFieldLength()];
+        this.charBuffer = CharBuffer.wrap(chars);
+    }
+    
+    public FixedWidthLayout getLayout() {
+        return layout;
+    }
+    
+    /**
+     * 버퍼의 지정 위치(절대 오프셋)에 놓인 레코드를 가리키도록 변경
+     * 버퍼의 position/limit은 변경하지 않는다.
+     */
+    public FixedWidthRecord wrap(ByteBuffer buffer, int offset) {
+        if (offset < 0 || offset + layout.getRecordLength() > buffer.capacity()) {
+            throw new IndexOutOfBoundsException("레코드가 버퍼 범위를 벗어납니다 (offset: " + offset + ")");
+        }
+        if (buffer != this.buffer) {
+            this.buffer = buffer;
+            this.view = buffer.duplicate();
+        }
+        this.base = offset;
+        return this;
+    }
+    
+    /**
+     * 모든 필드를 기본값으로 초기화 (문자/예약 영역은 공백, 숫자는 '0')
+     */
+    public FixedWidthRecord clear() {
+        for (FixedWidthField field : layout.getFields()) {
+            fill(field, isNumeric(field) ? ZERO : SPACE);
+        }
+        return this;
+    }
+    
+    // ===== 읽기 =====
+    
+    public String getString(String name) {
+        return getString(layout.getField(name));
+    }
+    
+    public String getString(int index) {
+        return getString(layout.getField(index));
+    }
+    
+    /**
+     * 문자 필드 읽기 (후행 공백 제거)
+     * ASCII 구간은 디코더를 거치지 않고 바이트를 그대로 문자로 옮긴다.
+     */
+    private String getString(FixedWidthField field) {
+        int start = base + field.getOffset();
+        int end = start + field.getLength();
+        while (end > start && buffer.get(end - 1) == SPACE) {
+            end--;
+        }
+        int n = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b < 0) {
+                return decode(i, end, n);
+            }
+            chars[n++] = (char) b;
+        }
+        return new String(chars, 0, n);
+    }
+    
+    private String decode(int from, int to, int decoded) {
+        view.limit(to).position(from);
+        charBuffer.clear().position(decoded);
+        decoder.reset();
+        decoder.decode(view, charBuffer, true);
+        decoder.flush(charBuffer);
+        return new String(chars, 0, charBuffer.position());
+    }
+    
+    public long getLong(String name) {
+        return getLong(layout.getField(name));
+    }
+    
+    public long getLong(int index) {
+        return getLong(layout.getField(index));
+    }
+    
+    public int getInt(String name) {
+        return toInt(layout.getField(name), getLong(name));
+    }
+    
+    public int getInt(int index) {
+        return toInt(layout.getField(index), getLong(index));
+    }
+    
+    /**
+     * 내재 소수점 필드 읽기 (scale은 레이아웃 정의값)
+     */
+    public BigDecimal getDecimal(String name) {
+        FixedWidthField field = layout.getField(name);
+        return BigDecimal.valueOf(getLong(field), field.getScale());
+    }
+    
+    public BigDecimal getDecimal(int index) {
+        FixedWidthField field = layout.getField(index);
+        return BigDecimal.valueOf(getLong(field), field.getScale());
+    }
+    
+    /**
+     * 숫자 필드 파싱 (선행 공백 허용, 부호는 첫 유효 바이트에만 허용, 공백만 있으면 0)
+     */
+    private long getLong(FixedWidthField field) {
+        int i = base + field.getOffset();
+        int end = i + field.getLength();
+        while (i < end && buffer.get(i) == SPACE) {
+            i++;
+        }
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - ZERO;
+            if (digit < 0 || digit > 9) {
+                throw invalid(field, "숫자가 아닌 값이 있습니다");
+            }
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw invalid(field, "값이 long 범위를 벗어납니다");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+    
+    // ===== 쓰기 =====
+    
+    public FixedWidthRecord setString(String name, CharSequence value) {
+        return setString(layout.getField(name), value);
+    }
+    
+    public FixedWidthRecord setString(int index, CharSequence value) {
+        return setString(layout.getField(index), value);
+    }
+    
+    /**
+     * 문자 필드 기록 (좌측 정렬, 남는 바이트는 공백, 넘치면 문자 경계에서 절단)
+     * null은 공백으로 기록한다.
+     */
+    private FixedWidthRecord setString(FixedWidthField field, CharSequence value) {
+        int start = base + field.getOffset();
+        int end = start + field.getLength();
+        int pos = start;
+        if (value != null) {
+            int length = value.length();
+            int i = 0;
+            // ASCII는 모든 허용 문자셋에서 1바이트 동일 값
+            for (; i < length && pos < end; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer.put(pos++, (byte) c);
+            }
+            if (i < length && pos < end) {
+                pos = encode(value, i, length, pos, end);
+            }
+        }
+        for (; pos < end; pos++) {
+            buffer.put(pos, SPACE);
+        }
+        return this;
+    }
+    
+    /**
+     * 비ASCII 구간 인코딩
+     * 인코더는 대상 공간이 부족하면 완전한 문자 단위로 멈추므로(OVERFLOW) 멀티바이트 문자가 쪼개지지 않는다.
+     */
+    private int encode(CharSequence value, int from, int to, int pos, int end) {
+        view.limit(end).position(pos);
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(value, from, to), view, true);
+        encoder.flush(view);
+        return view.position();
+    }
+    
+    public FixedWidthRecord setLong(String name, long value) {
+        return setLong(layout.getField(name), value);
+    }
+    
+    public FixedWidthRecord setLong(int index, long value) {
+        return setLong(layout.getField(index), value);
+    }
+    
+    public FixedWidthRecord setDecimal(String name, BigDecimal value) {
+        return setDecimal(layout.getField(name), value);
+    }
+    
+    public FixedWidthRecord setDecimal(int index, BigDecimal value) {
+        return setDecimal(layout.getField(index), value);
+    }
+    
+    /**
+     * 내재 소수점 필드 기록 (레이아웃 scale로 반올림, null은 0)
+     */
+    private FixedWidthRecord setDecimal(FixedWidthField field, BigDecimal value) {
+        if (value == null) {
+            return setLong(field, 0L);
+        }
+        try {
+            return setLong(field, value.setScale(field.getScale(), RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw invalid(field, "값이 long 범위를 벗어납니다: " + value.toPlainString());
+        }
+    }
+    
+    /**
+     * 숫자 필드 기록 (우측 정렬, '0' 채움, 음수는 첫 바이트 '-')
+     */
+    private FixedWidthRecord setLong(FixedWidthField field, long value) {
+        if (!isNumeric(field)) {
+            throw new IllegalArgumentException("숫자 필드가 아닙니다: " + field);
+        }
+        int start = base + field.getOffset();
+        int pos = start + field.getLength();
+        boolean negative = value < 0;
+        // Long.MIN_VALUE도 처리되도록 음수 영역에서 자릿수 추출
+        long rest = negative ? value : -value;
+        do {
+            if (pos == start) {
+                throw invalid(field, "자릿수를 초과합니다: " + value);
+            }
+            buffer.put(--pos, (byte) (ZERO - rest % 10));
+            rest /= 10;
+        } while (rest != 0);
+        int signPos = negative ? start + 1 : start;
+        if (pos < signPos) {
+            throw invalid(field, "부호를 기록할 자리가 없습니다: " + value);
+        }
+        while (pos > signPos) {
+            buffer.put(--pos, ZERO);
+        }
+        if (negative) {
+            buffer.put(start, (byte) '-');
+        }
+        return this;
+    }
+    
+    private void fill(FixedWidthField field, byte value) {
+        int start = base + field.getOffset();
+        for (int i = start, end = start + field.getLength(); i < end; i++) {
+            buffer.put(i, value);
+        }
+    }
+    
+    private static boolean isNumeric(FixedWidthField field) {
+        return field.getType() == FixedWidthField.Type.NUMBER || field.getType() == FixedWidthField.Type.DECIMAL;
+    }
+    
+    private static int toInt(FixedWidthField field, long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalid(field, "값이 int 범위를 벗어납니다: " + value);
+        }
+        return (int) value;
+    }
+    
+    private static BusinessException invalid(FixedWidthField field, String message) {
+        return new BusinessException(ErrorCodes.INVALID_FORMAT, "고정길이 필드 오류 - " + field.getName() + ": " + message);
+    }
+}
\ No newline at end of file
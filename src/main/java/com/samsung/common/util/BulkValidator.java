@@ -0,0 +1,271 @@
+package com.samsung.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 대량 레코드 검증 파이프라인 (고객 온보딩 파일 등 수백만 건 검증용)
+ * 규칙(최대 64개)을 한 번 정의하고 레코드 목록을 청크 단위로 나누어 fork-join 풀에서 병렬로 검사한다.
+ * 실패는 예외로 알리지 않고 레코드별 long 비트마스크(비트 i = 규칙 i 실패)로 기록하므로
+ * 레코드당 8바이트만 사용하고, 실패 건이 많아도 예외 생성 비용이 없다.
+ * 규칙이 예외를 던지면 해당 규칙의 실패로 기록한다.
+ * 
+ * 사용 예:
+ *   BulkValidator<CustomerRow> validator = BulkValidator.<CustomerRow>builder()
+ *       .field("email", CustomerRow::getEmail, ValidationUtil::isValidEmail)
+ *       .field("phone", CustomerRow::getPhone, ValidationUtil::isValidPhoneNumber)
+ *       .rule("adult", row -> row.getAge() >= 19)
+ *       .build();
+ *   BulkValidator.Result result = validator.validate(rows);
+ *   for (int index : result.getInvalidRecords()) { ... result.getFailedRules(index) ... }
+ */
+public final class BulkValidator<T> {
+    
+    public static final int MAX_RULES = Long.SIZE;
+    
+    private static final int RECORDS_PER_TASK = 4_096;
+    
+    private final String[] names;
+    private final List<Predicate<? super T>> rules;
+    private final ForkJoinPool pool;
+    
+    private BulkValidator(Builder<T> builder) {
+        this.names = builder.names.toArray(new String[0]);
+        this.rules = new ArrayList<>(builder.rules);
+        this.pool = builder.pool;
+    }
+    
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+    
+    /**
+     * 레코드 목록 검증
+     * 
+     * @param records 검증할 레코드 (null 요소는 모든 규칙 실패)
+     * @return 레코드 순서대로의 실패 비트마스크
+     */
+    public Result validate(List<? extends T> records) {
+        List<? extends T> input = records instanceof RandomAccess ? records : new ArrayList<>(records);
+        long[] failures = new long[input.size()];
+        if (!input.isEmpty()) {
+            pool.invoke(new ValidationTask<>(rules, input, failures, 0, failures.length));
+        }
+        return new Result(names, failures);
+    }
+    
+    /**
+     * 레코드 한 건 검증 (단건 API 경로용)
+     * 
+     * @return 실패 비트마스크 (0이면 통과)
+     */
+    public long validate(T record) {
+        return check(rules, record);
+    }
+    
+    public List<String> getRuleNames() {
+        return List.of(names);
+    }
+    
+    private static <T> long check(List<Predicate<? super T>> rules, T record) {
+        if (record == null) {
+            return rules.size() == MAX_RULES ? -1L : (1L << rules.size()) - 1;
+        }
+        long mask = 0L;
+        for (int i = 0, n = rules.size(); i < n; i++) {
+            boolean passed;
+            try {
+                passed = rules.get(i).test(record);
+            } catch (RuntimeException e) {
+                passed = false;
+            }
+            if (!passed) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * 규칙 정의 빌더 (추가 순서 = 비트 번호)
+     */
+    public static final class Builder<T> {
+        
+        private final List<String> names = new ArrayList<>();
+        private final List<Predicate<? super T>> rules = new ArrayList<>();
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        
+        private Builder() {
+        }
+        
+        /**
+         * 레코드 단위 규칙
+         */
+        public Builder<T> rule(String name, Predicate<? super T> check) {
+            if (rules.size() == MAX_RULES) {
+                throw new IllegalArgumentException("검증 규칙은 최대 " + MAX_RULES + "개입니다");
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("중복된 검증 규칙명입니다: " + name);
+            }
+            names.add(name);
+            rules.add(check);
+            return this;
+        }
+        
+        /**
+         * 필드 단위 규칙 (필드 값을 꺼내 검증 함수에 전달, null 처리는 검증 함수에 맡김)
+         */
+        public <V> Builder<T> field(String name, Function<? super T, ? extends V> getter, Predicate<? super V> check) {
+            return rule(name, record -> check.test(getter.apply(record)));
+        }
+        
+        /**
+         * 검증에 사용할 풀 (기본값: 공용 풀)
+         */
+        public Builder<T> pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+        
+        public BulkValidator<T> build() {
+            if (rules.isEmpty()) {
+                throw new IllegalArgumentException("검증 규칙이 없습니다");
+            }
+            return new BulkValidator<>(this);
+        }
+    }
+    
+    /**
+     * 대량 검증 결과 (레코드별 실패 비트마스크)
+     */
+    public static final class Result {
+        
+        private final String[] ruleNames;
+        private final long[] failures;
+        
+        private Result(String[] ruleNames, long[] failures) {
+            this.ruleNames = ruleNames;
+            this.failures = failures;
+        }
+        
+        public int size() {
+            return failures.length;
+        }
+        
+        /**
+         * 레코드의 실패 비트마스크 (비트 i = 규칙 i 실패, 0이면 통과)
+         */
+        public long getFailures(int record) {
+            return failures[record];
+        }
+        
+        public boolean isValid(int record) {
+            return failures[record] == 0L;
+        }
+        
+        public boolean hasFailed(int record, int rule) {
+            return (failures[record] & (1L << rule)) != 0L;
+        }
+        
+        public boolean isAllValid() {
+            return getInvalidCount() == 0;
+        }
+        
+        public int getInvalidCount() {
+            int count = 0;
+            for (long mask : failures) {
+                if (mask != 0L) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        
+        /**
+         * 실패 레코드 인덱스 (오름차순)
+         */
+        public int[] getInvalidRecords() {
+            int[] invalid = new int[getInvalidCount()];
+            for (int i = 0, k = 0; i < failures.length; i++) {
+                if (failures[i] != 0L) {
+                    invalid[k++] = i;
+                }
+            }
+            return invalid;
+        }
+        
+        /**
+         * 레코드의 실패 규칙명
+         */
+        public List<String> getFailedRules(int record) {
+            long mask = failures[record];
+            if (mask == 0L) {
+                return Collections.emptyList();
+            }
+            List<String> failed = new ArrayList<>(Long.bitCount(mask));
+            for (; mask != 0L; mask &= mask - 1) {
+                failed.add(ruleNames[Long.numberOfTrailingZeros(mask)]);
+            }
+            return failed;
+        }
+        
+        /**
+         * 규칙별 실패 건수 (규칙 정의 순서)
+         */
+        public Map<String, Integer> getFailureCounts() {
+            int[] counts = new int[ruleNames.length];
+            for (long mask : failures) {
+                for (; mask != 0L; mask &= mask - 1) {
+                    counts[Long.numberOfTrailingZeros(mask)]++;
+                }
+            }
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (int i = 0; i < ruleNames.length; i++) {
+                result.put(ruleNames[i], counts[i]);
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * 레코드 범위를 분할하는 fork-join 작업 (각 레코드는 자기 슬롯에만 기록하므로 동기화 불필요)
+     */
+    private static final class ValidationTask<T> extends RecursiveAction {
+        
+        private final List<Predicate<? super T>> rules;
+        private final List<? extends T> records;
+        private final long[] failures;
+        private final int from;
+        private final int to;
+        
+        ValidationTask(List<Predicate<? super T>> rules, List<? extends T> records, long[] failures, int from, int to) {
+            this.rules = rules;
+            this.records = records;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > RECORDS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ValidationTask<>(rules, records, failures, from, mid),
+                          new ValidationTask<>(rules, records, failures, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                failures[i] = check(rules, records.get(i));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.samsung.common.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자셋별 문자 바이트 폭 계산 (인코딩하지 않고 문자만 순회)
+ * UTF-8은 코드 범위로, EUC-KR/MS949는 2바이트 문자 여부 비트맵(BMP 65,536비트 = 8KB)으로 계산한다.
+ * 인코딩할 수 없는 문자와 짝 없는 서로게이트는 String.getBytes와 같이 대체 문자 '?' 1바이트로 센다.
+ * 
+ * 비트맵은 해당 문자셋을 처음 사용할 때 한 번 생성한다 (holder 지연 초기화).
+ */
+final class ByteWidthTable {
+    
+    private static final ByteWidthTable UTF_8 = new ByteWidthTable(null);
+    
+    private final long[] doubleByte; // null이면 UTF-8
+    
+    private ByteWidthTable(long[] doubleByte) {
+        this.doubleByte = doubleByte;
+    }
+    
+    /**
+     * 지원 문자셋의 폭 테이블
+     * 
+     * @return 테이블, 지원하지 않는 문자셋이면 null
+     */
+    static ByteWidthTable of(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return UTF_8;
+        }
+        // 이름으로 비교하여 사용하지 않는 문자셋의 비트맵은 생성하지 않음
+        return switch (charset.name()) {
+            case "EUC-KR" -> EucKr.TABLE;
+            case "x-windows-949" -> Ms949.TABLE;
+            default -> null;
+        };
+    }
+    
+    /**
+     * 문자열 구간의 바이트 길이
+     */
+    int length(String str, int from, int to) {
+        int bytes = 0;
+        int i = from;
+        // ASCII 구간은 모든 지원 문자셋에서 1바이트
+        while (i < to && str.charAt(i) < 0x80) {
+            i++;
+        }
+        bytes += i - from;
+        while (i < to) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+                i++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(str.charAt(i + 1))) {
+                bytes += doubleByte == null ? 4 : 1;
+                i += 2;
+            } else {
+                bytes += width(c);
+                i++;
+            }
+        }
+        return bytes;
+    }
+    
+    /**
+     * index 위치 문자(서로게이트 쌍이면 쌍 전체)의 바이트 폭
+     */
+    int widthAt(String str, int index) {
+        char c = str.charAt(index);
+        if (isPair(str, index)) {
+            return doubleByte == null ? 4 : 1;
+        }
+        return width(c);
+    }
+    
+    /**
+     * index 위치가 서로게이트 쌍의 시작인지 (쌍은 한 문자로 다룸)
+     */
+    static boolean isPair(String str, int index) {
+        return Character.isHighSurrogate(str.charAt(index)) && index + 1 < str.length()
+            && Character.isLowSurrogate(str.charAt(index + 1));
+    }
+    
+    private int width(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (doubleByte == null) {
+            // 짝 없는 서로게이트는 '?'로 대체
+            return c < 0x800 ? 2 : Character.isSurrogate(c) ? 1 : 3;
+        }
+        return (doubleByte[c >>> 6] & (1L << c)) != 0 ? 2 : 1;
+    }
+    
+    private static long[] doubleByteBits(Charset charset) {
+        long[] bits = new long[1 << 10];
+        CharsetEncoder encoder = charset.newEncoder();
+        for (int c = 0x80; c <= 0xFFFF; c++) {
+            if (!Character.isSurrogate((char) c) && encoder.canEncode((char) c)) {
+                bits[c >>> 6] |= 1L << c;
+            }
+        }
+        return bits;
+    }
+    
+    private static final class EucKr {
+        static final ByteWidthTable TABLE = new ByteWidthTable(doubleByteBits(Charset.forName("EUC-KR")));
+    }
+    
+    private static final class Ms949 {
+        static final ByteWidthTable TABLE = new ByteWidthTable(doubleByteBits(Charset.forName("MS949")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.samsung.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 밀리초 단위 캐시 시계
+ * 응답 생성, 전략 결과 등에서 매번 LocalDateTime.now()와 포맷팅을 하는 대신,
+ * 틱마다 한 번 현재 시각과 포맷된 문자열(yyyy-MM-dd HH:mm:ss)을 갱신해 두고 조회는 volatile 읽기 한 번으로 끝낸다.
+ * 
+ * - ticking(clock, tick): 백그라운드 데몬 스레드가 tick 간격으로 갱신 (운영용, 오차는 최대 tick)
+ * - direct(clock): 캐시 없이 매번 clock을 읽음 (설치 전 기본값, 테스트에서 Clock.fixed 등과 함께 사용)
+ * 
+ * java.time.Clock을 상속하므로 Clock 빈으로 등록해 컴포넌트에 주입하며, 컴포넌트는 now(Clock)/today(Clock)로 조회한다
+ * (주입된 시계가 CoarseClock이면 캐시 값, Clock.fixed 등 일반 Clock이면 그 시계를 직접 읽음).
+ * 정적 API(BaseResponse, DateUtil 등)는 current()를 사용하며, 애플리케이션은 Clock 빈으로 등록한 시계를 install()한다.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+    
+    private static volatile CoarseClock current = direct(Clock.systemDefaultZone());
+    
+    private final Clock clock;
+    private final ScheduledExecutorService ticker;
+    private volatile Tick tick;
+    
+    private CoarseClock(Clock clock, ScheduledExecutorService ticker) {
+        this.clock = clock;
+        this.ticker = ticker;
+        this.tick = ticker != null ? Tick.of(clock.millis(), clock, null) : null;
+    }
+    
+    /**
+     * 현재 설치된 시계
+     */
+    public static CoarseClock current() {
+        return current;
+    }
+    
+    /**
+     * 현재 시계 교체
+     */
+    public static void install(CoarseClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 필요합니다");
+        }
+        current = clock;
+    }
+    
+    /**
+     * 틱 간격으로 갱신되는 캐시 시계 (close()로 갱신 스레드 종료)
+     */
+    public static CoarseClock ticking(Clock clock, Duration tick) {
+        if (clock == null || tick == null || tick.toMillis() < 1) {
+            throw new IllegalArgumentException("시계와 1ms 이상의 틱 간격이 필요합니다");
+        }
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CoarseClock coarseClock = new CoarseClock(clock, ticker);
+        ticker.scheduleAtFixedRate(coarseClock::refresh, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        return coarseClock;
+    }
+    
+    /**
+     * 캐시 없이 매번 clock을 읽는 시계
+     */
+    public static CoarseClock direct(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 필요합니다");
+        }
+        return new CoarseClock(clock, null);
+    }
+    
+    /**
+     * 주어진 시계의 현재 일시 (CoarseClock이면 캐시 값)
+     */
+    public static LocalDateTime now(Clock clock) {
+        return clock instanceof CoarseClock coarse ? coarse.now() : LocalDateTime.now(clock);
+    }
+    
+    /**
+     * 주어진 시계의 오늘 날짜 (CoarseClock이면 캐시 값)
+     */
+    public static LocalDate today(Clock clock) {
+        return clock instanceof CoarseClock coarse ? coarse.today() : LocalDate.now(clock);
+    }
+    
+    /**
+     * 주어진 시계의 현재 일시 문자열 (yyyy-MM-dd HH:mm:ss, CoarseClock이면 캐시 값)
+     */
+    public static String formattedNow(Clock clock) {
+        return clock instanceof CoarseClock coarse ? coarse.formattedNow() : DateUtil.formatDateTime(LocalDateTime.now(clock));
+    }
+    
+    /**
+     * 현재 epoch 밀리초
+     */
+    @Override
+    public long millis() {
+        Tick t = tick;
+        return t != null ? t.millis : clock.millis();
+    }
+    
+    /**
+     * 현재 일시 (clock 시간대 기준)
+     */
+    public LocalDateTime now() {
+        Tick t = tick;
+        return t != null ? t.dateTime : LocalDateTime.now(clock);
+    }
+    
+    /**
+     * 오늘 날짜 (clock 시간대 기준)
+     */
+    public LocalDate today() {
+        Tick t = tick;
+        return t != null ? t.dateTime.toLocalDate() : LocalDate.now(clock);
+    }
+    
+    /**
+     * 현재 일시 문자열 (yyyy-MM-dd HH:mm:ss)
+     */
+    public String formattedNow() {
+        Tick t = tick;
+        return t != null ? t.formatted : DateUtil.formatDateTime(LocalDateTime.now(clock));
+    }
+    
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+    
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+    
+    /**
+     * 다른 시간대의 시계 (캐시 없이 원본 시계를 직접 읽음)
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(getZone()) ? this : direct(clock.withZone(zone));
+    }
+    
+    public Clock getClock() {
+        return clock;
+    }
+    
+    /**
+     * 캐시 갱신 (갱신 스레드에서 호출)
+     */
+    void refresh() {
+        long millis = clock.millis();
+        Tick previous = tick;
+        if (previous == null || previous.millis != millis) {
+            tick = Tick.of(millis, clock, previous);
+        }
+    }
+    
+    /**
+     * 갱신 스레드 종료, 현재 설치된 시계였다면 시스템 시계(캐시 없음)로 되돌림
+     */
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (current == this) {
+            current = direct(Clock.systemDefaultZone());
+        }
+    }
+    
+    /**
+     * 한 틱의 시각 스냅샷 (불변)
+     */
+    private static final class Tick {
+        final long millis;
+        final LocalDateTime dateTime;
+        final String formatted;
+        
+        private Tick(long millis, LocalDateTime dateTime, String formatted) {
+            this.millis = millis;
+            this.dateTime = dateTime;
+            this.formatted = formatted;
+        }
+        
+        /**
+         * 포맷된 문자열은 초 단위이므로 같은 초 안에서는 이전 틱의 문자열을 재사용
+         */
+        static Tick of(long millis, Clock clock, Tick previous) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+            String formatted = previous != null && Math.floorDiv(previous.millis, 1000) == Math.floorDiv(millis, 1000)
+                ? previous.formatted : DateUtil.formatDateTime(dateTime);
+            return new Tick(millis, dateTime, formatted);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.samsung.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고정 패턴 날짜/시간 코덱
+ * 일괄 파일의 대량 타임스탬프용으로, DateTimeFormatter를 거치지 않고 자릿수를 직접 읽고 써서
+ * epoch 값(epoch day, 로컬 epoch second)으로 바로 변환한다. 문자열(CharSequence)과 바이트 구간 모두 지원한다.
+ * 
+ * 지원 패턴
+ * - COMPACT_DATE: yyyyMMdd (8자리)
+ * - COMPACT_DATETIME: yyyyMMddHHmmss (14자리)
+ * - ISO_DATE: yyyy-MM-dd (10자리)
+ * - ISO_DATETIME: yyyy-MM-dd HH:mm:ss (19자리, 날짜/시간 구분자는 ' ' 또는 'T')
+ * 
+ * 로컬 epoch second는 시간대 없이 날짜/시간을 UTC로 간주한 초 값이다 (LocalDateTime.toEpochSecond(UTC)와 같음).
+ * 파싱은 연도 0001~9999, 실제 존재하는 날짜, 00:00:00~23:59:59만 받아들이며 그 외에는 INVALID를 반환한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DateTimeCodec {
+    
+    /**
+     * 파싱 실패 값
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+    
+    public static final int COMPACT_DATE_LENGTH = 8;
+    public static final int COMPACT_DATETIME_LENGTH = 14;
+    public static final int ISO_DATE_LENGTH = 10;
+    public static final int ISO_DATETIME_LENGTH = 19;
+    
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long MIN_EPOCH_DAY = epochDay(1, 1, 1);
+    private static final long MAX_EPOCH_DAY = epochDay(9999, 12, 31);
+    
+    // ===== 파싱 (CharSequence) =====
+    
+    /**
+     * yyyyMMdd → epoch day
+     */
+    public static long parseCompactDate(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < COMPACT_DATE_LENGTH) return INVALID;
+        return toEpochDay(digits4(text, offset), digits2(text, offset + 4), digits2(text, offset + 6));
+    }
+    
+    /**
+     * yyyyMMddHHmmss → 로컬 epoch second
+     */
+    public static long parseCompactDateTime(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < COMPACT_DATETIME_LENGTH) return INVALID;
+        long day = toEpochDay(digits4(text, offset), digits2(text, offset + 4), digits2(text, offset + 6));
+        return toEpochSecond(day, digits2(text, offset + 8), digits2(text, offset + 10), digits2(text, offset + 12));
+    }
+    
+    /**
+     * yyyy-MM-dd → epoch day
+     */
+    public static long parseIsoDate(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < ISO_DATE_LENGTH
+            || text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+            return INVALID;
+        }
+        return toEpochDay(digits4(text, offset), digits2(text, offset + 5), digits2(text, offset + 8));
+    }
+    
+    /**
+     * yyyy-MM-dd HH:mm:ss (또는 yyyy-MM-ddTHH:mm:ss) → 로컬 epoch second
+     */
+    public static long parseIsoDateTime(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < ISO_DATETIME_LENGTH) return INVALID;
+        char separator = text.charAt(offset + 10);
+        if ((separator != ' ' && separator != 'T')
+            || text.charAt(offset + 13) != ':' || text.charAt(offset + 16) != ':') {
+            return INVALID;
+        }
+        long day = parseIsoDate(text, offset);
+        return toEpochSecond(day, digits2(text, offset + 11), digits2(text, offset + 14), digits2(text, offset + 17));
+    }
+    
+    // ===== 파싱 (바이트 구간, ASCII) =====
+    
+    public static long parseCompactDate(byte[] src, int offset) {
+        if (offset < 0 || src.length - offset < COMPACT_DATE_LENGTH) return INVALID;
+        return toEpochDay(digits4(src, offset), digits2(src, offset + 4), digits2(src, offset + 6));
+    }
+    
+    public static long parseCompactDateTime(byte[] src, int offset) {
+        if (offset < 0 || src.length - offset < COMPACT_DATETIME_LENGTH) return INVALID;
+        long day = toEpochDay(digits4(src, offset), digits2(src, offset + 4), digits2(src, offset + 6));
+        return toEpochSecond(day, digits2(src, offset + 8), digits2(src, offset + 10), digits2(src, offset + 12));
+    }
+    
+    public static long parseIsoDate(byte[] src, int offset) {
+        if (offset < 0 || src.length - offset < ISO_DATE_LENGTH
+            || src[offset + 4] != '-' || src[offset + 7] != '-') {
+            return INVALID;
+        }
+        return toEpochDay(digits4(src, offset), digits2(src, offset + 5), digits2(src, offset + 8));
+    }
+    
+    public static long parseIsoDateTime(byte[] src, int offset) {
+        if (offset < 0 || src.length - offset < ISO_DATETIME_LENGTH) return INVALID;
+        byte separator = src[offset + 10];
+        if ((separator != ' ' && separator != 'T') || src[offset + 13] != ':' || src[offset + 16] != ':') {
+            return INVALID;
+        }
+        long day = parseIsoDate(src, offset);
+        return toEpochSecond(day, digits2(src, offset + 11), digits2(src, offset + 14), digits2(src, offset + 17));
+    }
+    
+    // ===== 포맷 (바이트 구간, ASCII) =====
+    
+    /**
+     * epoch day → yyyyMMdd
+     * 
+     * @return 기록 후 위치
+     */
+    public static int writeCompactDate(long epochDay, byte[] dst, int offset) {
+        long ymd = civil(epochDay);
+        writeDigits4(dst, offset, year(ymd));
+        writeDigits2(dst, offset + 4, month(ymd));
+        writeDigits2(dst, offset + 6, day(ymd));
+        return offset + COMPACT_DATE_LENGTH;
+    }
+    
+    /**
+     * 로컬 epoch second → yyyyMMddHHmmss
+     */
+    public static int writeCompactDateTime(long epochSecond, byte[] dst, int offset) {
+        int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        writeCompactDate(Math.floorDiv(epochSecond, SECONDS_PER_DAY), dst, offset);
+        writeDigits2(dst, offset + 8, secondOfDay / 3600);
+        writeDigits2(dst, offset + 10, secondOfDay / 60 % 60);
+        writeDigits2(dst, offset + 12, secondOfDay % 60);
+        return offset + COMPACT_DATETIME_LENGTH;
+    }
+    
+    /**
+     * epoch day → yyyy-MM-dd
+     */
+    public static int writeIsoDate(long epochDay, byte[] dst, int offset) {
+        long ymd = civil(epochDay);
+        writeDigits4(dst, offset, year(ymd));
+        dst[offset + 4] = '-';
+        writeDigits2(dst, offset + 5, month(ymd));
+        dst[offset + 7] = '-';
+        writeDigits2(dst, offset + 8, day(ymd));
+        return offset + ISO_DATE_LENGTH;
+    }
+    
+    /**
+     * 로컬 epoch second → yyyy-MM-dd HH:mm:ss
+     */
+    public static int writeIsoDateTime(long epochSecond, byte[] dst, int offset) {
+        int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        writeIsoDate(Math.floorDiv(epochSecond, SECONDS_PER_DAY), dst, offset);
+        dst[offset + 10] = ' ';
+        writeDigits2(dst, offset + 11, secondOfDay / 3600);
+        dst[offset + 13] = ':';
+        writeDigits2(dst, offset + 14, secondOfDay / 60 % 60);
+        dst[offset + 16] = ':';
+        writeDigits2(dst, offset + 17, secondOfDay % 60);
+        return offset + ISO_DATETIME_LENGTH;
+    }
+    
+    // ===== 달력 계산 =====
+    
+    /**
+     * 연/월/일 → epoch day (범위 검사 없음)
+     * 3월 시작 연도 기준 일수 계산 (윤일을 연도 끝에 두어 월별 누적 일수를 식으로 계산)
+     */
+    public static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+    
+    /**
+     * epoch day → 연/월/일 (year << 9 | month << 5 | day로 묶어서 반환)
+     */
+    private static long civil(long epochDay) {
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        int dayOfEra = (int) (z - era * 146_097L);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | (long) month << 5 | day;
+    }
+    
+    private static int year(long ymd) {
+        return (int) (ymd >> 9);
+    }
+    
+    private static int month(long ymd) {
+        return (int) (ymd >> 5) & 0xF;
+    }
+    
+    private static int day(long ymd) {
+        return (int) ymd & 0x1F;
+    }
+    
+    private static long toEpochDay(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return epochDay(year, month, day);
+    }
+    
+    private static long toEpochSecond(long epochDay, int hour, int minute, int second) {
+        if (epochDay == INVALID || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        return epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+    
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+    
+    /**
+     * 범위 내 epoch day인지 (포맷 가능한 0001-01-01 ~ 9999-12-31)
+     */
+    public static boolean isFormattable(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    }
+    
+    // ===== 자릿수 읽기/쓰기 (숫자가 아니면 음수) =====
+    
+    private static int digits2(CharSequence text, int i) {
+        int d1 = text.charAt(i) - '0';
+        int d2 = text.charAt(i + 1) - '0';
+        return (d1 | d2 | (9 - d1) | (9 - d2)) < 0 ? -1 : d1 * 10 + d2;
+    }
+    
+    private static int digits4(CharSequence text, int i) {
+        int high = digits2(text, i);
+        int low = digits2(text, i + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+    
+    private static int digits2(byte[] src, int i) {
+        int d1 = src[i] - '0';
+        int d2 = src[i + 1] - '0';
+        return (d1 | d2 | (9 - d1) | (9 - d2)) < 0 ? -1 : d1 * 10 + d2;
+    }
+    
+    private static int digits4(byte[] src, int i) {
+        int high = digits2(src, i);
+        int low = digits2(src, i + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+    
+    private static void writeDigits2(byte[] dst, int i, int value) {
+        dst[i] = (byte) ('0' + value / 10);
+        dst[i + 1] = (byte) ('0' + value % 10);
+    }
+    
+    private static void writeDigits4(byte[] dst, int i, int value) {
+        writeDigits2(dst, i, value / 100);
+        writeDigits2(dst, i + 2, value % 100);
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.samsung.common.util;
 
+import com.samsung.common.calendar.BusinessDayCalendar;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 날짜/시간 처리 유틸리티
@@ -28,19 +32,23 @@ public final class DateUtil {
     private static final DateTimeFormatter COMPACT_DATE_FORMATTER = DateTimeFormatter.ofPattern(COMPACT_DATE_FORMAT);
     private static final DateTimeFormatter COMPACT_DATETIME_FORMATTER = DateTimeFormatter.ofPattern(COMPACT_DATETIME_FORMAT);
     
+    // 커스텀 패턴 → 포맷터 (상한까지만 캐시하고 이후 새 패턴은 매번 생성)
+    private static final int MAX_CACHED_FORMATTERS = 256;
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    
     /**
-     * 현재 시간 반환
+     * 현재 시간 반환 (CoarseClock 기준, 밀리초 단위)
      * C의 time(NULL)과 유사
      */
     public static LocalDateTime now() {
-        return LocalDateTime.now();
+        return CoarseClock.current().now();
     }
     
     /**
      * 현재 날짜 반환
      */
     public static LocalDate today() {
-        return LocalDate.now();
+        return CoarseClock.current().today();
     }
     
     /**
@@ -48,7 +56,7 @@ public final class DateUtil {
      * C의 time()과 유사
      */
     public static long getTimestamp() {
-        return Instant.now().getEpochSecond();
+        return Math.floorDiv(CoarseClock.current().millis(), 1000);
     }
     
     /**
@@ -64,14 +72,22 @@ public final class DateUtil {
      * C의 strftime()과 유사
      */
     public static String formatDate(LocalDate date) {
-        return date != null ? date.format(DATE_FORMATTER) : null;
+        if (date == null) return null;
+        long epochDay = date.toEpochDay();
+        if (!DateTimeCodec.isFormattable(epochDay)) {
+            return date.format(DATE_FORMATTER);
+        }
+        byte[] buf = new byte[DateTimeCodec.ISO_DATE_LENGTH];
+        return ascii(buf, DateTimeCodec.writeIsoDate(epochDay, buf, 0));
     }
     
     /**
      * 날짜/시간 포맷팅 (기본 포맷: yyyy-MM-dd HH:mm:ss)
      */
     public static String formatDateTime(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(DATETIME_FORMATTER) : null;
+        if (dateTime == null) return null;
+        String fixed = formatFixed(dateTime, DATETIME_FORMAT);
+        return fixed != null ? fixed : dateTime.format(DATETIME_FORMATTER);
     }
     
     /**
@@ -81,8 +97,12 @@ public final class DateUtil {
         if (dateTime == null || StringUtil.isEmpty(pattern)) {
             return null;
         }
+        String fixed = formatFixed(dateTime, pattern);
+        if (fixed != null) {
+            return fixed;
+        }
         try {
-            return dateTime.format(DateTimeFormatter.ofPattern(pattern));
+            return dateTime.format(formatter(pattern));
         } catch (Exception e) {
             return null;
         }
@@ -94,6 +114,12 @@ public final class DateUtil {
      */
     public static LocalDate parseDate(String dateStr) {
         if (StringUtil.isEmpty(dateStr)) return null;
+        if (dateStr.length() == DateTimeCodec.ISO_DATE_LENGTH) {
+            long epochDay = DateTimeCodec.parseIsoDate(dateStr, 0);
+            if (epochDay != DateTimeCodec.INVALID) {
+                return LocalDate.ofEpochDay(epochDay);
+            }
+        }
         try {
             return LocalDate.parse(dateStr, DATE_FORMATTER);
         } catch (DateTimeParseException e) {
@@ -106,6 +132,10 @@ public final class DateUtil {
      */
     public static LocalDateTime parseDateTime(String dateTimeStr) {
         if (StringUtil.isEmpty(dateTimeStr)) return null;
+        LocalDateTime fixed = parseFixed(dateTimeStr, DATETIME_FORMAT);
+        if (fixed != null) {
+            return fixed;
+        }
         try {
             return LocalDateTime.parse(dateTimeStr, DATETIME_FORMATTER);
         } catch (DateTimeParseException e) {
@@ -120,13 +150,79 @@ public final class DateUtil {
         if (StringUtil.isEmpty(dateTimeStr) || StringUtil.isEmpty(pattern)) {
             return null;
         }
+        LocalDateTime fixed = parseFixed(dateTimeStr, pattern);
+        if (fixed != null) {
+            return fixed;
+        }
         try {
-            return LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern(pattern));
+            return LocalDateTime.parse(dateTimeStr, formatter(pattern));
         } catch (DateTimeParseException e) {
             return null;
         }
     }
     
+    /**
+     * 패턴별 포맷터 (캐시)
+     */
+    private static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+                FORMATTERS.putIfAbsent(pattern, formatter);
+            }
+        }
+        return formatter;
+    }
+    
+    /**
+     * 고정 패턴 포맷 (DateTimeCodec 사용, 고정 패턴이 아니거나 연도가 범위 밖이면 null)
+     */
+    private static String formatFixed(LocalDateTime dateTime, String pattern) {
+        int length = switch (pattern) {
+            case DATE_FORMAT -> DateTimeCodec.ISO_DATE_LENGTH;
+            case DATETIME_FORMAT -> DateTimeCodec.ISO_DATETIME_LENGTH;
+            case COMPACT_DATE_FORMAT -> DateTimeCodec.COMPACT_DATE_LENGTH;
+            case COMPACT_DATETIME_FORMAT -> DateTimeCodec.COMPACT_DATETIME_LENGTH;
+            default -> 0;
+        };
+        if (length == 0 || !DateTimeCodec.isFormattable(dateTime.toLocalDate().toEpochDay())) {
+            return null;
+        }
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        byte[] buf = new byte[length];
+        switch (pattern) {
+            case DATE_FORMAT -> DateTimeCodec.writeIsoDate(Math.floorDiv(epochSecond, 86_400), buf, 0);
+            case DATETIME_FORMAT -> DateTimeCodec.writeIsoDateTime(epochSecond, buf, 0);
+            case COMPACT_DATE_FORMAT -> DateTimeCodec.writeCompactDate(Math.floorDiv(epochSecond, 86_400), buf, 0);
+            default -> DateTimeCodec.writeCompactDateTime(epochSecond, buf, 0);
+        }
+        return ascii(buf, length);
+    }
+    
+    /**
+     * 고정 패턴 파싱 (DateTimeCodec 사용)
+     * 고정 패턴이 아니거나 코덱이 받아들이지 않는 값(2월 30일 등)이면 null을 반환하여
+     * DateTimeFormatter(SMART 해석)로 처리하게 한다.
+     */
+    private static LocalDateTime parseFixed(String text, String pattern) {
+        long epochSecond = DateTimeCodec.INVALID;
+        if (DATETIME_FORMAT.equals(pattern)) {
+            if (text.length() == DateTimeCodec.ISO_DATETIME_LENGTH && text.charAt(10) == ' ') {
+                epochSecond = DateTimeCodec.parseIsoDateTime(text, 0);
+            }
+        } else if (COMPACT_DATETIME_FORMAT.equals(pattern)) {
+            if (text.length() == DateTimeCodec.COMPACT_DATETIME_LENGTH) {
+                epochSecond = DateTimeCodec.parseCompactDateTime(text, 0);
+            }
+        }
+        return epochSecond != DateTimeCodec.INVALID ? LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC) : null;
+    }
+    
+    private static String ascii(byte[] buf, int length) {
+        return new String(buf, 0, length, StandardCharsets.ISO_8859_1);
+    }
+    
     /**
      * 두 날짜 간의 차이 계산 (일 단위)
      * C의 difftime()과 유사
@@ -195,7 +291,8 @@ public final class DateUtil {
     }
     
     /**
-     * 영업일인지 확인 (주말 제외)
+     * 평일인지 확인 (주말 제외, 공휴일은 고려하지 않음)
+     * 공휴일까지 제외하려면 isBusinessDay() 사용
      */
     public static boolean isWeekday(LocalDate date) {
         if (date == null) return false;
@@ -203,6 +300,13 @@ public final class DateUtil {
         return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
     }
     
+    /**
+     * 영업일인지 확인 (주말 및 공휴일 제외, BusinessDayCalendar 기준)
+     */
+    public static boolean isBusinessDay(LocalDate date) {
+        return date != null && BusinessDayCalendar.current().isBusinessDay(date);
+    }
+    
     /**
      * 주말인지 확인
      */
@@ -215,7 +319,7 @@ public final class DateUtil {
      */
     public static int calculateAge(LocalDate birthDate) {
         if (birthDate == null) return 0;
-        return Period.between(birthDate, LocalDate.now()).getYears();
+        return Period.between(birthDate, CoarseClock.current().today()).getYears();
     }
     
     /**
@@ -223,7 +327,13 @@ public final class DateUtil {
      * 예: "20240315"
      */
     public static String toCompactDateString(LocalDate date) {
-        return date != null ? date.format(COMPACT_DATE_FORMATTER) : null;
+        if (date == null) return null;
+        long epochDay = date.toEpochDay();
+        if (!DateTimeCodec.isFormattable(epochDay)) {
+            return date.format(COMPACT_DATE_FORMATTER);
+        }
+        byte[] buf = new byte[DateTimeCodec.COMPACT_DATE_LENGTH];
+        return ascii(buf, DateTimeCodec.writeCompactDate(epochDay, buf, 0));
     }
     
     /**
@@ -231,7 +341,9 @@ public final class DateUtil {
      * 예: "20240315143052"
      */
     public static String toCompactDateTimeString(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(COMPACT_DATETIME_FORMATTER) : null;
+        if (dateTime == null) return null;
+        String fixed = formatFixed(dateTime, COMPACT_DATETIME_FORMAT);
+        return fixed != null ? fixed : dateTime.format(COMPACT_DATETIME_FORMATTER);
     }
     
     /**
@@ -241,6 +353,10 @@ public final class DateUtil {
         if (StringUtil.isEmpty(compactDate) || compactDate.length() != 8) {
             return null;
         }
+        long epochDay = DateTimeCodec.parseCompactDate(compactDate, 0);
+        if (epochDay != DateTimeCodec.INVALID) {
+            return LocalDate.ofEpochDay(epochDay);
+        }
         try {
             return LocalDate.parse(compactDate, COMPACT_DATE_FORMATTER);
         } catch (DateTimeParseException e) {
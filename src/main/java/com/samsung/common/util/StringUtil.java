@@ -3,9 +3,12 @@ package com.samsung.common.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 문자열 처리 유틸리티
@@ -14,20 +17,21 @@ import java.util.regex.Pattern;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class StringUtil {
     
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$"
-    );
-    
-    private static final Pattern PHONE_PATTERN = Pattern.compile(
-        "^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$"
-    );
+    // 문자셋 이름 → Charset (해석에 성공한 이름만 상한까지 캐시하고 이후 새 이름은 매번 해석)
+    private static final int MAX_CACHED_CHARSETS = 64;
+    private static final Map<String, Charset> CHARSETS = new ConcurrentHashMap<>();
     
     /**
      * 문자열이 비어있거나 null인지 확인
      * C의 strlen() == 0 체크와 유사
      */
     public static boolean isEmpty(String str) {
-        return str == null || str.trim().isEmpty();
+        if (str == null) return true;
+        // trim()과 같은 기준(' ' 이하 문자)으로 검사하되 잘라낸 문자열을 만들지 않음
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > ' ') return false;
+        }
+        return true;
     }
     
     /**
@@ -87,14 +91,14 @@ public final class StringUtil {
      * C의 regex 검증과 유사
      */
     public static boolean isValidEmail(String email) {
-        return isNotEmpty(email) && EMAIL_PATTERN.matcher(email).matches();
+        return ValidationUtil.isValidEmail(email);
     }
     
     /**
      * 휴대폰 번호 형식 검증
      */
     public static boolean isValidPhoneNumber(String phone) {
-        return isNotEmpty(phone) && PHONE_PATTERN.matcher(phone).matches();
+        return ValidationUtil.isValidPhoneNumber(phone);
     }
     
     /**
@@ -105,8 +109,8 @@ public final class StringUtil {
         if (str == null) str = "";
         if (str.length() >= totalLength) return str;
         
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < totalLength - str.length(); i++) {
+        StringBuilder sb = new StringBuilder(totalLength);
+        for (int i = str.length(); i < totalLength; i++) {
             sb.append(padChar);
         }
         sb.append(str);
@@ -120,8 +124,8 @@ public final class StringUtil {
         if (str == null) str = "";
         if (str.length() >= totalLength) return str;
         
-        StringBuilder sb = new StringBuilder(str);
-        for (int i = 0; i < totalLength - str.length(); i++) {
+        StringBuilder sb = new StringBuilder(totalLength).append(str);
+        for (int i = str.length(); i < totalLength; i++) {
             sb.append(padChar);
         }
         return sb.toString();
@@ -156,20 +160,130 @@ public final class StringUtil {
     /**
      * 바이트 길이 계산 (한글 등 멀티바이트 고려)
      * C의 strlen()과 다르게 실제 바이트 크기 계산
+     * 지원하지 않는 문자셋 이름이면 문자 수를 반환한다.
      */
     public static int getByteLength(String str, String charset) {
+        Charset resolved = resolveCharset(charset);
+        return resolved != null ? getByteLength(str, resolved) : isEmpty(str) ? 0 : str.length();
+    }
+    
+    /**
+     * 바이트 길이 계산
+     * UTF-8, EUC-KR, MS949는 인코딩 없이 문자 폭 테이블로 계산하고, 그 외 문자셋은 실제로 인코딩한다.
+     */
+    public static int getByteLength(String str, Charset charset) {
         if (isEmpty(str)) return 0;
-        try {
-            return str.getBytes(charset).length;
-        } catch (Exception e) {
-            return str.length();
-        }
+        ByteWidthTable table = ByteWidthTable.of(charset);
+        return table != null ? table.length(str, 0, str.length()) : str.getBytes(charset).length;
     }
     
     /**
      * UTF-8 바이트 길이 계산
      */
     public static int getByteLength(String str) {
-        return getByteLength(str, "UTF-8");
+        return getByteLength(str, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 바이트 길이 기준 절단 (DB 컬럼 바이트 제한용)
+     * maxBytes 안에 들어가는 가장 긴 앞부분을 반환하며, 한글 등 멀티바이트 문자를 중간에서 자르지 않는다.
+     * 예: truncateToBytes("홍길동", 5, "MS949") → "홍길"
+     */
+    public static String truncateToBytes(String str, int maxBytes, String charset) {
+        Charset resolved = resolveCharset(charset);
+        if (resolved == null) {
+            throw new IllegalArgumentException("지원하지 않는 문자셋입니다: " + charset);
+        }
+        return truncateToBytes(str, maxBytes, resolved);
+    }
+    
+    public static String truncateToBytes(String str, int maxBytes, Charset charset) {
+        if (str == null) return null;
+        int end = byteBoundary(str, Math.max(0, maxBytes), charset);
+        return end == str.length() ? str : str.substring(0, end);
+    }
+    
+    /**
+     * 바이트 위치 기준 마스킹 (고정길이 필드의 바이트 구간 마스킹용)
+     * [startByte, endByte) 구간에 걸치는 문자는 통째로 마스킹하고, 문자의 바이트 폭만큼 마스킹 문자를 넣어
+     * 전체 바이트 길이를 유지한다 (1바이트 마스킹 문자 기준). 한글 문자가 반쪽만 남는 일은 없다.
+     * 예: maskBytes("홍길동", '*', 2, 4, "MS949") → "홍**동"
+     */
+    public static String maskBytes(String str, char maskChar, int startByte, int endByte, String charset) {
+        Charset resolved = resolveCharset(charset);
+        if (resolved == null) {
+            throw new IllegalArgumentException("지원하지 않는 문자셋입니다: " + charset);
+        }
+        return maskBytes(str, maskChar, startByte, endByte, resolved);
+    }
+    
+    public static String maskBytes(String str, char maskChar, int startByte, int endByte, Charset charset) {
+        if (isEmpty(str) || startByte >= endByte) {
+            return str;
+        }
+        ByteWidthTable table = ByteWidthTable.of(charset);
+        StringBuilder sb = null;
+        int bytes = 0;
+        int i = 0;
+        while (i < str.length() && bytes < endByte) {
+            int chars = ByteWidthTable.isPair(str, i) ? 2 : 1;
+            int width = table != null ? table.widthAt(str, i) : str.substring(i, i + chars).getBytes(charset).length;
+            if (bytes + width > startByte) {
+                if (sb == null) {
+                    sb = new StringBuilder(str.length() + endByte - startByte).append(str, 0, i);
+                }
+                for (int k = 0; k < width; k++) {
+                    sb.append(maskChar);
+                }
+            } else if (sb != null) {
+                sb.append(str, i, i + chars);
+            }
+            bytes += width;
+            i += chars;
+        }
+        if (sb == null) {
+            return str;
+        }
+        return sb.append(str, i, str.length()).toString();
+    }
+    
+    /**
+     * maxBytes 안에 들어가는 최대 문자 인덱스 (서로게이트 쌍 경계 보존)
+     */
+    private static int byteBoundary(String str, int maxBytes, Charset charset) {
+        ByteWidthTable table = ByteWidthTable.of(charset);
+        int bytes = 0;
+        int i = 0;
+        while (i < str.length()) {
+            int chars = ByteWidthTable.isPair(str, i) ? 2 : 1;
+            int width = table != null ? table.widthAt(str, i) : str.substring(i, i + chars).getBytes(charset).length;
+            if (bytes + width > maxBytes) {
+                break;
+            }
+            bytes += width;
+            i += chars;
+        }
+        return i;
+    }
+    
+    /**
+     * 문자셋 이름 해석 (캐시, 지원하지 않는 이름이면 null)
+     */
+    private static Charset resolveCharset(String charset) {
+        if (charset == null) {
+            return null;
+        }
+        Charset resolved = CHARSETS.get(charset);
+        if (resolved == null) {
+            try {
+                resolved = Charset.forName(charset);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            if (CHARSETS.size() < MAX_CACHED_CHARSETS) {
+                CHARSETS.putIfAbsent(charset, resolved);
+            }
+        }
+        return resolved;
     }
 }
\ No newline at end of file
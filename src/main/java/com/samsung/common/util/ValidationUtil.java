@@ -5,7 +5,6 @@ import lombok.NoArgsConstructor;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
  * 데이터 검증 유틸리티
@@ -14,18 +13,9 @@ import java.util.regex.Pattern;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ValidationUtil {
     
-    // 정규식 패턴들
-    private static final Pattern NUMERIC_PATTERN = Pattern.compile("^-?\\d+(\\.\\d+)?$");
-    private static final Pattern INTEGER_PATTERN = Pattern.compile("^-?\\d+$");
-    private static final Pattern POSITIVE_INTEGER_PATTERN = Pattern.compile("^[1-9]\\d*$");
-    private static final Pattern KOREAN_PATTERN = Pattern.compile("^[가-힣]+$");
-    private static final Pattern ENGLISH_PATTERN = Pattern.compile("^[a-zA-Z]+$");
-    private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile("^[a-zA-Z0-9]+$");
-    
-    // 금융 관련 패턴들
-    private static final Pattern ACCOUNT_NUMBER_PATTERN = Pattern.compile("^\\d{10,16}$");
-    private static final Pattern CARD_NUMBER_PATTERN = Pattern.compile("^\\d{13,19}$");
-    private static final Pattern BUSINESS_NUMBER_PATTERN = Pattern.compile("^\\d{3}-\\d{2}-\\d{5}$");
+    // 형식 검증은 정규식 대신 한 번 순회하는 스캐너로 구현 (대량 검증 시 Matcher 생성/백트래킹 비용 제거)
+    // 아래 주석의 정규식과 같은 결과를 반환한다. \d는 ASCII 숫자 [0-9]이다.
+    private static final double INVALID_AMOUNT = -1.0;
     
     /**
      * null 또는 빈 값 체크
@@ -89,28 +79,46 @@ public final class ValidationUtil {
      * C의 isdigit() 확장 버전
      */
     public static boolean isNumeric(String str) {
-        return StringUtil.isNotEmpty(str) && NUMERIC_PATTERN.matcher(str).matches();
+        // ^-?\d+(\.\d+)?$
+        if (str == null) return false;
+        int i = str.startsWith("-") ? 1 : 0;
+        int end = str.length();
+        int intEnd = skipDigits(str, i, end);
+        if (intEnd == i) return false;
+        if (intEnd == end) return true;
+        return str.charAt(intEnd) == '.' && intEnd + 1 < end && skipDigits(str, intEnd + 1, end) == end;
     }
     
     /**
      * 정수 형태 문자열인지 확인
      */
     public static boolean isInteger(String str) {
-        return StringUtil.isNotEmpty(str) && INTEGER_PATTERN.matcher(str).matches();
+        // ^-?\d+$
+        if (str == null) return false;
+        int i = str.startsWith("-") ? 1 : 0;
+        return i < str.length() && skipDigits(str, i, str.length()) == str.length();
     }
     
     /**
      * 양의 정수인지 확인
      */
     public static boolean isPositiveInteger(String str) {
-        return StringUtil.isNotEmpty(str) && POSITIVE_INTEGER_PATTERN.matcher(str).matches();
+        // ^[1-9]\d*$
+        return str != null && !str.isEmpty() && str.charAt(0) != '0'
+            && skipDigits(str, 0, str.length()) == str.length();
     }
     
     /**
      * 한글만 포함하는지 확인
      */
     public static boolean isKorean(String str) {
-        return StringUtil.isNotEmpty(str) && KOREAN_PATTERN.matcher(str).matches();
+        // ^[가-힣]+$ (완성형 한글 음절 U+AC00~U+D7A3)
+        if (str == null || str.isEmpty()) return false;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < '\uAC00' || c > '\uD7A3') return false;
+        }
+        return true;
     }
     
     /**
@@ -118,7 +126,12 @@ public final class ValidationUtil {
      * C의 isalpha()와 유사
      */
     public static boolean isAlpha(String str) {
-        return StringUtil.isNotEmpty(str) && ENGLISH_PATTERN.matcher(str).matches();
+        // ^[a-zA-Z]+$
+        if (str == null || str.isEmpty()) return false;
+        for (int i = 0; i < str.length(); i++) {
+            if (!isAsciiLetter(str.charAt(i))) return false;
+        }
+        return true;
     }
     
     /**
@@ -126,7 +139,13 @@ public final class ValidationUtil {
      * C의 isalnum()과 유사
      */
     public static boolean isAlphaNumeric(String str) {
-        return StringUtil.isNotEmpty(str) && ALPHANUMERIC_PATTERN.matcher(str).matches();
+        // ^[a-zA-Z0-9]+$
+        if (str == null || str.isEmpty()) return false;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (!isAsciiLetter(c) && !isDigit(c)) return false;
+        }
+        return true;
     }
     
     /**
@@ -157,8 +176,10 @@ public final class ValidationUtil {
      * 10-16자리 숫자
      */
     public static boolean isValidAccountNumber(String accountNumber) {
-        return StringUtil.isNotEmpty(accountNumber) && 
-               ACCOUNT_NUMBER_PATTERN.matcher(accountNumber).matches();
+        // ^\d{10,16}$
+        if (accountNumber == null) return false;
+        int length = accountNumber.length();
+        return length >= 10 && length <= 16 && skipDigits(accountNumber, 0, length) == length;
     }
     
     /**
@@ -166,8 +187,18 @@ public final class ValidationUtil {
      * 13-19자리 숫자
      */
     public static boolean isValidCardNumber(String cardNumber) {
-        return StringUtil.isNotEmpty(cardNumber) && 
-               CARD_NUMBER_PATTERN.matcher(cardNumber.replaceAll("[\\s-]", "")).matches();
+        // 공백류/하이픈([\s-]) 제거 후 ^\d{13,19}$ (문자열을 새로 만들지 않고 건너뛰며 셈)
+        if (cardNumber == null) return false;
+        int digits = 0;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+            } else if (c != '-' && c != ' ' && (c < '\t' || c > '\r')) {
+                return false;
+            }
+        }
+        return digits >= 13 && digits <= 19;
     }
     
     /**
@@ -175,8 +206,59 @@ public final class ValidationUtil {
      * 000-00-00000 형태
      */
     public static boolean isValidBusinessNumber(String businessNumber) {
-        return StringUtil.isNotEmpty(businessNumber) && 
-               BUSINESS_NUMBER_PATTERN.matcher(businessNumber).matches();
+        // ^\d{3}-\d{2}-\d{5}$
+        return businessNumber != null && businessNumber.length() == 12
+            && skipDigits(businessNumber, 0, 3) == 3 && businessNumber.charAt(3) == '-'
+            && skipDigits(businessNumber, 4, 6) == 6 && businessNumber.charAt(6) == '-'
+            && skipDigits(businessNumber, 7, 12) == 12;
+    }
+    
+    /**
+     * 이메일 형식 검증
+     * ^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\.[A-Za-z]{2,})$ 와 동일
+     * (도메인의 마지막 '.' 앞에 한 글자 이상, 뒤에 영문자 2자 이상)
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) return false;
+        int length = email.length();
+        int at = 0;
+        while (at < length && isEmailLocalChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@') return false;
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetter(c) && !isDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot <= at + 1 || length - lastDot - 1 < 2) return false;
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(email.charAt(i))) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 휴대폰 번호 형식 검증
+     * ^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$ 와 동일 (예: 010-1234-5678, 0101234567)
+     */
+    public static boolean isValidPhoneNumber(String phone) {
+        if (phone == null) return false;
+        int length = phone.length();
+        if (length < 10 || length > 13 || phone.charAt(0) != '0' || phone.charAt(1) != '1' || !isDigit(phone.charAt(2))) {
+            return false;
+        }
+        int i = phone.charAt(3) == '-' ? 4 : 3;
+        // 가운데 자리는 뒤 4자리를 제외한 나머지 (선택적 하이픈 포함)
+        int lastStart = length - 4;
+        if (skipDigits(phone, lastStart, length) != length) return false;
+        int middleEnd = phone.charAt(lastStart - 1) == '-' ? lastStart - 1 : lastStart;
+        int middle = middleEnd - i;
+        return middle >= 3 && middle <= 4 && skipDigits(phone, i, middleEnd) == middleEnd;
     }
     
     /**
@@ -184,16 +266,12 @@ public final class ValidationUtil {
      * YYMMDD 형태
      */
     public static boolean isValidBirthDate6Digits(String birthDate) {
-        if (StringUtil.isEmpty(birthDate) || birthDate.length() != 6) {
-            return false;
-        }
-        
-        if (!isNumeric(birthDate)) {
+        if (birthDate == null || birthDate.length() != 6 || skipDigits(birthDate, 0, 6) != 6) {
             return false;
         }
         
-        int month = Integer.parseInt(birthDate.substring(2, 4));
-        int day = Integer.parseInt(birthDate.substring(4, 6));
+        int month = (birthDate.charAt(2) - '0') * 10 + (birthDate.charAt(3) - '0');
+        int day = (birthDate.charAt(4) - '0') * 10 + (birthDate.charAt(5) - '0');
         
         return isInRange(month, 1, 12) && isInRange(day, 1, 31);
     }
@@ -202,35 +280,55 @@ public final class ValidationUtil {
      * 금액이 유효한지 확인 (양수, 소수점 2자리까지)
      */
     public static boolean isValidAmount(String amount) {
-        if (StringUtil.isEmpty(amount)) return false;
-        
-        try {
-            double value = Double.parseDouble(amount);
-            if (value < 0) return false;
-            
-            // 소수점 2자리까지만 허용
-            String[] parts = amount.split("\\.");
-            if (parts.length > 1 && parts[1].length() > 2) {
-                return false;
-            }
-            
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return parseAmount(amount) != INVALID_AMOUNT;
     }
     
     /**
      * 금액이 지정된 범위 내에 있는지 확인
      */
     public static boolean isAmountInRange(String amount, double minAmount, double maxAmount) {
-        if (!isValidAmount(amount)) return false;
+        double value = parseAmount(amount);
+        return value != INVALID_AMOUNT && isInRange(value, minAmount, maxAmount);
+    }
+    
+    /**
+     * 금액 검증 겸 변환 (한 번만 파싱)
+     * 일반적인 형식(숫자와 소수점 하나)은 한 번 훑어 소수 자릿수를 확인하고,
+     * 그 외 형식(부호, 지수, 공백 등)은 기존 규칙(Double.parseDouble 후 '.' 기준 분리)을 그대로 적용한다.
+     * 
+     * @return 금액, 유효하지 않으면 INVALID_AMOUNT (유효 금액은 0 이상 또는 NaN이므로 겹치지 않음)
+     */
+    private static double parseAmount(String amount) {
+        if (StringUtil.isEmpty(amount)) return INVALID_AMOUNT;
+        int length = amount.length();
+        int dot = -1;
+        boolean plain = true;
+        for (int i = 0; i < length && plain; i++) {
+            char c = amount.charAt(i);
+            if (c == '.' && dot < 0) {
+                dot = i;
+            } else if (!isDigit(c)) {
+                plain = false;
+            }
+        }
+        if (plain && length > (dot >= 0 ? 1 : 0)) {
+            if (dot >= 0 && length - dot - 1 > 2) return INVALID_AMOUNT;
+            return Double.parseDouble(amount);
+        }
         
         try {
             double value = Double.parseDouble(amount);
-            return isInRange(value, minAmount, maxAmount);
+            if (value < 0) return INVALID_AMOUNT;
+            
+            // 소수점 2자리까지만 허용
+            String[] parts = amount.split("\\.");
+            if (parts.length > 1 && parts[1].length() > 2) {
+                return INVALID_AMOUNT;
+            }
+            
+            return value;
         } catch (NumberFormatException e) {
-            return false;
+            return INVALID_AMOUNT;
         }
     }
     
@@ -273,4 +371,24 @@ public final class ValidationUtil {
     public static boolean hasMaxLength(String str, int maxLength) {
         return str == null || str.length() <= maxLength;
     }
+    
+    private static int skipDigits(String str, int from, int to) {
+        int i = from;
+        while (i < to && isDigit(str.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+    
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.samsung.wm.calendar;
+
+import com.samsung.common.calendar.BusinessDayCalendar;
+import com.samsung.common.util.CoarseClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 영업일 달력 로더
+ * 기동 시 휴일 파일을 읽어 BusinessDayCalendar.current()로 설치하며, reload()로 운영 중 다시 읽는다.
+ * wm.calendar.holiday-file이 비어 있으면 내장 파일(classpath:calendar/kr-holidays.txt)을 사용한다.
+ * 다시 읽기에 실패하면 기존 달력을 그대로 유지한다.
+ */
+@Slf4j
+@Component
+public class BusinessCalendarLoader {
+    
+    static final String BUNDLED_HOLIDAYS = "calendar/kr-holidays.txt";
+    
+    private final Path holidayFile;
+    private final Clock clock;
+    private volatile LocalDateTime loadedAt;
+    
+    public BusinessCalendarLoader(@Value("${wm.calendar.holiday-file:}") String holidayFile, Clock clock) {
+        this.holidayFile = holidayFile.isBlank() ? null : Paths.get(holidayFile);
+        this.clock = clock;
+        reload();
+    }
+    
+    /**
+     * 휴일 파일을 다시 읽어 현재 달력 교체
+     * 
+     * @return 교체된 달력 상태
+     */
+    public synchronized CalendarStatus reload() {
+        BusinessDayCalendar calendar;
+        try {
+            calendar = holidayFile != null ? BusinessDayCalendar.load(holidayFile) : loadBundled();
+        } catch (IOException e) {
+            throw new UncheckedIOException("휴일 파일 읽기 실패: " + (holidayFile != null ? holidayFile : BUNDLED_HOLIDAYS), e);
+        }
+        BusinessDayCalendar.install(calendar);
+        loadedAt = CoarseClock.now(clock);
+        log.info("영업일 달력 설치 - source: {}, holidays: {}", calendar.getSource(), calendar.getHolidays().size());
+        return status();
+    }
+    
+    /**
+     * 현재 달력 상태
+     */
+    public CalendarStatus status() {
+        BusinessDayCalendar calendar = BusinessDayCalendar.current();
+        int count = calendar.getHolidays().size();
+        return new CalendarStatus(calendar.getSource(), count,
+            count > 0 ? calendar.getHolidays().get(0).getYear() : 0,
+            count > 0 ? calendar.getHolidays().get(count - 1).getYear() : 0,
+            loadedAt);
+    }
+    
+    private static BusinessDayCalendar loadBundled() throws IOException {
+        try (InputStream in = BusinessCalendarLoader.class.getClassLoader().getResourceAsStream(BUNDLED_HOLIDAYS)) {
+            if (in == null) {
+                throw new IOException("내장 휴일 파일이 없습니다");
+            }
+            return BusinessDayCalendar.load(in, "classpath:" + BUNDLED_HOLIDAYS);
+        }
+    }
+    
+    /**
+     * @param firstYear 휴일 정보가 있는 첫 해 (휴일이 없으면 0)
+     * @param lastYear 휴일 정보가 있는 마지막 해 (이후 연도는 주말만 제외되므로 파일 갱신 필요)
+     */
+    public record CalendarStatus(String source, int holidays, int firstYear, int lastYear, LocalDateTime loadedAt) {
+    }
+}
\ No newline at end of file
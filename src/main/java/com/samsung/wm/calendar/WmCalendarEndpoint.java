@@ -0,0 +1,47 @@
+package com.samsung.wm.calendar;
+
+import com.samsung.common.calendar.BusinessDayCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * WM 영업일 달력 actuator 엔드포인트 (/actuator/wmcalendar)
+ * GET: 달력 상태, GET /{date}: 날짜(yyyy-MM-dd)의 영업일 여부와 전후 영업일 (형식 오류는 400)
+ * 휴일 파일 다시 읽기는 WmCalendarJmxExtension을 통해 JMX로만 제공한다.
+ */
+@Component
+@Endpoint(id = "wmcalendar")
+@RequiredArgsConstructor
+public class WmCalendarEndpoint {
+    
+    private final BusinessCalendarLoader loader;
+    
+    @ReadOperation
+    public BusinessCalendarLoader.CalendarStatus status() {
+        return loader.status();
+    }
+    
+    @ReadOperation
+    public BusinessDayInfo day(@Selector String date) {
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("잘못된 날짜 형식입니다 (yyyy-MM-dd): " + date, "Invalid date: " + date);
+        }
+        BusinessDayCalendar calendar = BusinessDayCalendar.current();
+        return new BusinessDayInfo(day, calendar.isBusinessDay(day), calendar.isHoliday(day),
+            calendar.previousBusinessDay(day), calendar.nextBusinessDay(day));
+    }
+    
+    public record BusinessDayInfo(LocalDate date, boolean businessDay, boolean holiday,
+                                  LocalDate previousBusinessDay, LocalDate nextBusinessDay) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.samsung.wm.calendar;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.EndpointJmxExtension;
+import org.springframework.stereotype.Component;
+
+/**
+ * WM 영업일 달력 엔드포인트의 JMX 전용 관리 작업
+ * 휴일 파일 다시 읽기는 인증 없는 웹 actuator에 노출하지 않고 JMX로만 제공한다.
+ */
+@Component
+@EndpointJmxExtension(endpoint = WmCalendarEndpoint.class)
+@RequiredArgsConstructor
+public class WmCalendarJmxExtension {
+    
+    private final BusinessCalendarLoader loader;
+    
+    @WriteOperation
+    public BusinessCalendarLoader.CalendarStatus reload() {
+        return loader.reload();
+    }
+}
\ No newline at end of file
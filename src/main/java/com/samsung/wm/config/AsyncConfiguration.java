@@ -0,0 +1,63 @@
+package com.samsung.wm.config;
+
+import com.samsung.wm.logging.LogSampling;
+import com.samsung.wm.tracing.TraceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 일괄 처리 실행기 설정
+ * 단건 API는 CPU 작업만 하므로 요청 스레드에서 처리하고, 일괄 처리 항목만 전용 실행기에서 병렬 처리한다.
+ */
+@Configuration
+public class AsyncConfiguration {
+    
+    @Value("${wm.batch.pool-size:32}")
+    private int batchPoolSize;
+    
+    @Value("${wm.batch.queue-capacity:1024}")
+    private int batchQueueCapacity;
+    
+    /**
+     * 일괄 처리 항목 실행기
+     * 대기열이 가득 차면 제출한 요청 스레드에서 직접 실행해(caller-runs) 유입 속도를 늦추고,
+     * 실행기가 종료된 뒤 제출된 항목만 거부한다 (BatchProcessingService가 실패 항목으로 기록).
+     * 제출한 요청의 로그 샘플링 상태와 추적 구간을 작업 스레드로 전달한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor wmBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchPoolSize);
+        executor.setMaxPoolSize(batchPoolSize);
+        executor.setQueueCapacity(batchQueueCapacity);
+        executor.setRejectedExecutionHandler(AsyncConfiguration::runInCallerUnlessShutdown);
+        executor.setThreadNamePrefix("wm-batch-");
+        executor.setTaskDecorator(AsyncConfiguration::propagateRequestContext);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * CallerRunsPolicy와 같되, 종료된 실행기에서는 작업을 버리지 않고 거부한다
+     * (버리면 결과를 기다리는 일괄 처리 요청이 끝나지 않음)
+     */
+    private static void runInCallerUnlessShutdown(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("일괄 처리 실행기가 종료되었습니다");
+        }
+        task.run();
+    }
+    
+    /**
+     * 요청 컨텍스트 전달 (로그 샘플링 상태, 현재 추적 구간)
+     */
+    private static Runnable propagateRequestContext(Runnable task) {
+        return TraceContext.propagate(LogSampling.propagate(task));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.samsung.wm.config;
+
+import com.samsung.common.util.CoarseClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 시계 설정
+ * 시스템 시계로 만든 캐시 시계(CoarseClock)를 Clock 빈으로 등록한다.
+ * 서비스/전략 등 컴포넌트는 이 Clock을 주입받아 시각을 조회하므로 테스트에서는 Clock 빈을 Clock.fixed 등으로 바꿀 수 있다.
+ * 정적 API(BaseResponse, DateUtil 등)용으로 같은 시계를 CoarseClock.current()에 설치하고, 종료 시 갱신 스레드를 정리한다.
+ */
+@Configuration
+public class ClockConfiguration {
+    
+    @Bean(destroyMethod = "close")
+    public CoarseClock clock(@Value("${wm.clock.tick:1ms}") Duration tick) {
+        CoarseClock clock = CoarseClock.ticking(Clock.systemDefaultZone(), tick);
+        CoarseClock.install(clock);
+        return clock;
+    }
+}
\ No newline at end of file
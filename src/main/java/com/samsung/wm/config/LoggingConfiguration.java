@@ -0,0 +1,37 @@
+package com.samsung.wm.config;
+
+import com.samsung.wm.logging.LogSamplingInterceptor;
+import com.samsung.wm.logging.LogSamplingProperties;
+import com.samsung.wm.metrics.MetricsRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 로그 샘플링 설정
+ * 로그 출력 자체(비동기 로거, 레이아웃)는 log4j2-spring.xml과 log4j2.component.properties에서 설정한다.
+ */
+@Configuration
+@EnableConfigurationProperties(LogSamplingProperties.class)
+public class LoggingConfiguration implements WebMvcConfigurer {
+    
+    private final LogSamplingProperties logSamplingProperties;
+    private final MetricsRegistry metricsRegistry;
+    
+    public LoggingConfiguration(LogSamplingProperties logSamplingProperties, MetricsRegistry metricsRegistry) {
+        this.logSamplingProperties = logSamplingProperties;
+        this.metricsRegistry = metricsRegistry;
+    }
+    
+    @Bean
+    public LogSamplingInterceptor logSamplingInterceptor() {
+        return new LogSamplingInterceptor(logSamplingProperties, metricsRegistry);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(logSamplingInterceptor());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.samsung.wm.config;
+
+import com.samsung.wm.tracing.Tracer;
+import com.samsung.wm.tracing.TracingInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 추적 설정
+ * 루트 구간은 인터셉터가 열고, 서비스/전략/외부 연동 구간은 각 호출 지점에서 Tracer로 기록한다.
+ */
+@Configuration
+public class TracingConfiguration implements WebMvcConfigurer {
+    
+    private final Tracer tracer;
+    
+    public TracingConfiguration(Tracer tracer) {
+        this.tracer = tracer;
+    }
+    
+    @Bean
+    public TracingInterceptor tracingInterceptor() {
+        return new TracingInterceptor(tracer);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tracingInterceptor());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.samsung.wm.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.samsung.common.dto.EpochDateTimeModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 바이너리 와이어 포맷 설정
+ * 내부 호출자가 Accept/Content-Type: application/cbor 로 요청하면 같은 컨트롤러가 CBOR로 응답한다.
+ * BigDecimal은 CBOR decimal fraction(tag 4, [지수, long 가수])으로, 날짜는 epoch 값으로 기록된다.
+ */
+@Configuration
+public class WireFormatConfiguration {
+    
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // JSON과 같은 명명/모듈 설정을 쓰되 날짜 직렬화만 epoch 모듈로 덮어씀 (나중에 등록한 모듈 우선)
+        ObjectMapper mapper = builder.factory(new CBORFactory()).build();
+        mapper.registerModule(new EpochDateTimeModule());
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+}
\ No newline at end of file
@@ -23,6 +23,7 @@ public final class WealthManagementConstants {
     public static final String INVESTMENT_GOAL_GROWTH = "growth";
     public static final String INVESTMENT_GOAL_INCOME = "income";
     public static final String INVESTMENT_GOAL_BALANCED = "balanced";
+    public static final String INVESTMENT_GOAL_ESG = "esg";
     
     // 자산 유형 상수
     public static final String ASSET_TYPE_STOCK = "STOCK";
@@ -57,4 +58,23 @@ public final class WealthManagementConstants {
     // 리밸런싱 임계값
     public static final double REBALANCING_THRESHOLD = 0.05;  // 5%
     public static final int REBALANCING_CHECK_DAYS = 30;      // 30일
+    
+    // 위험 모니터링 (VaR) 기준값
+    public static final double RISK_VAR_CONFIDENCE = 0.99;    // 99%
+    public static final int RISK_VAR_HORIZON_DAYS = 1;        // 1영업일
+    public static final int RISK_HISTORY_DAYS = 500;          // 약 2년
+    public static final double RISK_VAR_LIMIT_RATIO = 0.05;   // 평가금액의 5%
+    
+    // 성과 분석 기준값
+    public static final double PERFORMANCE_RISK_FREE_RATE = 0.035;  // 연 3.5%
+    public static final int PERFORMANCE_ROLLING_WINDOW = 63;        // 약 3개월 (영업일)
+    
+    // 세금 최적화 (해외주식 양도소득세) 기준값
+    public static final double TAX_CAPITAL_GAINS_RATE = 0.22;          // 지방소득세 포함 22%
+    public static final double TAX_CAPITAL_GAINS_DEDUCTION = 2500000;  // 연 250만원 기본공제
+    public static final double TAX_HARVEST_MIN_LOT_LOSS = 10000;       // 로트당 최소 손실 1만원
+    
+    // 배당 재투자 기준값
+    public static final double DIVIDEND_WITHHOLDING_TAX_RATE = 0.154;  // 배당소득세 14% + 지방소득세 1.4%
+    public static final int DIVIDEND_BATCH_SIZE = 10000;               // 이벤트 발행 배치 크기
 }
\ No newline at end of file
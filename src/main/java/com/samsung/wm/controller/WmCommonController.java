@@ -1,24 +1,33 @@
 package com.samsung.wm.controller;
 
 import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.util.CoarseClock;
 import com.samsung.common.util.StringUtil;
 import com.samsung.common.util.DateUtil;
 import com.samsung.common.calc.FinancialCalculator;
 import com.samsung.common.converter.DataConverter;
+import com.samsung.wm.dto.response.ConsultationTestResponse;
+import com.samsung.wm.dto.response.HealthResponse;
+import com.samsung.wm.dto.response.InvestmentPlanTestResponse;
+import com.samsung.wm.dto.response.UtilsTestResponse;
+import com.samsung.wm.service.BatchProcessingService;
 import com.samsung.wm.service.ConsultationService;
 import com.samsung.wm.service.InvestmentPlanningService;
 import com.samsung.wm.strategy.consultation.ConsultationResult;
 import com.samsung.wm.strategy.investment.InvestmentPlan;
 import com.samsung.wm.strategy.investment.InvestmentRequest;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * WM Common 기능 테스트 컨트롤러
@@ -32,44 +41,44 @@ public class WmCommonController {
     
     private final ConsultationService consultationService;
     private final InvestmentPlanningService investmentPlanningService;
+    private final BatchProcessingService batchProcessingService;
+    private final Clock clock;
 
     /**
      * Health Check
      */
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> health() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("timestamp", DateUtil.formatDateTime(java.time.LocalDateTime.now()));
-        response.put("application", "WM Common Standalone");
-        response.put("version", "1.0.0");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<HealthResponse> health() {
+        return ResponseEntity.ok(new HealthResponse(
+            "UP",
+            CoarseClock.formattedNow(clock),
+            "WM Common Standalone",
+            "1.0.0"
+        ));
     }
 
     /**
      * 공통 유틸리티 테스트
      */
     @GetMapping("/utils/test")
-    public ResponseEntity<Map<String, Object>> testUtils() {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<UtilsTestResponse> testUtils() {
         // StringUtil 테스트
         String testString = "   test@example.com   ";
-        response.put("string_utils", Map.of(
-            "original", testString,
-            "is_empty", StringUtil.isEmpty(testString),
-            "is_not_empty", StringUtil.isNotEmpty(testString.trim()),
-            "masked", StringUtil.mask("1234567890", '*', 3, 7),
-            "is_valid_email", StringUtil.isValidEmail("test@example.com")
-        ));
+        UtilsTestResponse.StringUtils stringUtils = new UtilsTestResponse.StringUtils(
+            testString,
+            StringUtil.isEmpty(testString),
+            StringUtil.isNotEmpty(testString.trim()),
+            StringUtil.mask("1234567890", '*', 3, 7),
+            StringUtil.isValidEmail("test@example.com")
+        );
         
         // DateUtil 테스트
-        LocalDate today = LocalDate.now();
-        response.put("date_utils", Map.of(
-            "today", DateUtil.formatDate(today),
-            "days_until_year_end", DateUtil.daysBetween(today, LocalDate.of(today.getYear(), 12, 31)),
-            "age_if_born_1990", DateUtil.calculateAge(LocalDate.of(1990, 1, 1))
-        ));
+        LocalDate today = CoarseClock.today(clock);
+        UtilsTestResponse.DateUtils dateUtils = new UtilsTestResponse.DateUtils(
+            DateUtil.formatDate(today),
+            DateUtil.daysBetween(today, LocalDate.of(today.getYear(), 12, 31)),
+            DateUtil.calculateAge(LocalDate.of(1990, 1, 1))
+        );
         
         // FinancialCalculator 테스트
         BigDecimal principal = new BigDecimal("1000000");
@@ -77,48 +86,46 @@ public class WmCommonController {
         BigDecimal years = new BigDecimal("5");
         BigDecimal compoundResult = FinancialCalculator.compoundInterest(principal, rate, 1, years);
         
-        response.put("financial_calc", Map.of(
-            "principal", DataConverter.toCurrencyString(principal) + "원",
-            "rate", "5%",
-            "years", "5년",
-            "compound_result", DataConverter.toCurrencyString(compoundResult) + "원"
-        ));
+        UtilsTestResponse.FinancialCalc financialCalc = new UtilsTestResponse.FinancialCalc(
+            DataConverter.toCurrencyString(principal) + "원",
+            "5%",
+            "5년",
+            DataConverter.toCurrencyString(compoundResult) + "원"
+        );
         
         // ErrorCodes 테스트
-        response.put("error_codes", Map.of(
-            "success", ErrorCodes.SUCCESS,
-            "null_parameter", ErrorCodes.NULL_PARAMETER,
-            "business_error", ErrorCodes.BUSINESS_RULE_VIOLATION
-        ));
+        UtilsTestResponse.ErrorCodeSamples errorCodes = new UtilsTestResponse.ErrorCodeSamples(
+            ErrorCodes.SUCCESS,
+            ErrorCodes.NULL_PARAMETER,
+            ErrorCodes.BUSINESS_RULE_VIOLATION
+        );
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new UtilsTestResponse(stringUtils, dateUtils, financialCalc, errorCodes));
     }
 
     /**
      * 상담 서비스 테스트
      */
     @PostMapping("/consultation")
-    public ResponseEntity<Map<String, Object>> testConsultation(
+    public ResponseEntity<ConsultationTestResponse> testConsultation(
             @RequestParam String customerId,
             @RequestParam(defaultValue = "INITIAL") String consultationType) {
         
         log.info("상담 서비스 테스트 - customerId: {}, type: {}", customerId, consultationType);
         
         ConsultationResult result = consultationService.conductConsultation(customerId, consultationType);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("consultation_result", result);
-        response.put("timestamp", DateUtil.formatDateTime(java.time.LocalDateTime.now()));
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new ConsultationTestResponse(
+            true,
+            result,
+            CoarseClock.formattedNow(clock)
+        ));
     }
 
     /**
      * 투자 계획 서비스 테스트
      */
     @PostMapping("/investment-plan")
-    public ResponseEntity<Map<String, Object>> testInvestmentPlan(
+    public ResponseEntity<InvestmentPlanTestResponse> testInvestmentPlan(
             @RequestParam String customerId,
             @RequestParam BigDecimal amount,
             @RequestParam(defaultValue = "conservative") String riskProfile,
@@ -132,12 +139,35 @@ public class WmCommonController {
         );
         
         InvestmentPlan plan = investmentPlanningService.createInvestmentPlan(request);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("investment_plan", plan);
-        response.put("timestamp", DateUtil.formatDateTime(java.time.LocalDateTime.now()));
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new InvestmentPlanTestResponse(
+            true,
+            plan,
+            CoarseClock.formattedNow(clock)
+        ));
+    }
+
+    /**
+     * 상담 일괄 실행
+     * 요청 본문: ConsultationRequestDto JSON 배열, 응답: 완료 순서대로 건별 결과 NDJSON
+     */
+    @PostMapping(value = "/consultation/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void batchConsultation(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        batchProcessingService.processConsultations(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * 투자 계획 일괄 수립
+     * 요청 본문: InvestmentRequestDto JSON 배열, 응답: 완료 순서대로 건별 결과 NDJSON
+     * 결과는 요청 스레드에서 스트리밍하고, 항목 처리는 일괄 처리 실행기에서 수행한다.
+     */
+    @PostMapping(value = "/investment-plan/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void batchInvestmentPlan(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        batchProcessingService.processInvestmentPlans(request.getInputStream(), response.getOutputStream());
     }
 }
\ No newline at end of file
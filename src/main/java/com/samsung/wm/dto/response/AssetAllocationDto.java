@@ -0,0 +1,21 @@
+package com.samsung.wm.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 자산 배분 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetAllocationDto {
+    
+    private String assetType;
+    private String symbol;
+    private BigDecimal amount;
+    private Double weight;
+}
\ No newline at end of file
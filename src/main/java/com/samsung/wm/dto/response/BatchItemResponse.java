@@ -0,0 +1,32 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 일괄 처리 건별 결과 (NDJSON 한 줄)
+ * 결과는 처리 완료 순서로 기록되므로 요청 배열의 위치는 index로 식별한다.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(
+    int index,
+    String customerId,
+    String status,
+    String errorCode,
+    String message,
+    Object result
+) {
+    
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+    
+    public static BatchItemResponse success(int index, String customerId, Object result) {
+        return new BatchItemResponse(index, customerId, STATUS_SUCCESS, null, null, result);
+    }
+    
+    public static BatchItemResponse failed(int index, String customerId, String errorCode, String message) {
+        return new BatchItemResponse(index, customerId, STATUS_FAILED, errorCode, message, null);
+    }
+}
\ No newline at end of file
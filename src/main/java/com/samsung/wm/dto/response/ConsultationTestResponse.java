@@ -0,0 +1,16 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.samsung.wm.strategy.consultation.ConsultationResult;
+
+/**
+ * 상담 서비스 테스트 응답
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ConsultationTestResponse(
+    boolean success,
+    ConsultationResult consultationResult,
+    String timestamp
+) {
+}
\ No newline at end of file
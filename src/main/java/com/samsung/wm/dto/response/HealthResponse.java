@@ -0,0 +1,16 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Health Check 응답
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record HealthResponse(
+    String status,
+    String timestamp,
+    String application,
+    String version
+) {
+}
\ No newline at end of file
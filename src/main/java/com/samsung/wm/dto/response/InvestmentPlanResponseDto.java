@@ -1,5 +1,6 @@
 package com.samsung.wm.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = InvestmentPlanResponseSerializer.class)
 public class InvestmentPlanResponseDto {
     
     private String customerId;
@@ -26,17 +28,4 @@ public class InvestmentPlanResponseDto {
     private LocalDateTime createdAt;
     private String expectedReturn;
     private String riskLevel;
-}
-
-/**
- * 자산 배분 DTO
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-class AssetAllocationDto {
-    private String assetType;
-    private String symbol;
-    private BigDecimal amount;
-    private Double weight;
 }
\ No newline at end of file
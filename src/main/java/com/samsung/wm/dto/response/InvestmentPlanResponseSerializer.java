@@ -0,0 +1,106 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.samsung.common.dto.JsonFields;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 투자 계획 응답 스트리밍 직렬화기
+ * 필드명과 null 생략 여부는 ObjectMapper 설정(명명 전략, default-property-inclusion)을 따른다.
+ */
+public class InvestmentPlanResponseSerializer extends StdSerializer<InvestmentPlanResponseDto> implements ContextualSerializer {
+    
+    private static final int CUSTOMER_ID = 0;
+    private static final int INVESTMENT_TYPE = 1;
+    private static final int INVESTMENT_TYPE_NAME = 2;
+    private static final int PLAN_NAME = 3;
+    private static final int DESCRIPTION = 4;
+    private static final int TOTAL_AMOUNT = 5;
+    private static final int ALLOCATIONS = 6;
+    private static final int CREATED_AT = 7;
+    private static final int EXPECTED_RETURN = 8;
+    private static final int RISK_LEVEL = 9;
+    
+    private static final int ASSET_TYPE = 0;
+    private static final int SYMBOL = 1;
+    private static final int AMOUNT = 2;
+    private static final int WEIGHT = 3;
+    
+    private final JsonFields planFields;
+    private final JsonFields allocationFields;
+    
+    public InvestmentPlanResponseSerializer() {
+        this(null, null);
+    }
+    
+    private InvestmentPlanResponseSerializer(JsonFields planFields, JsonFields allocationFields) {
+        super(InvestmentPlanResponseDto.class);
+        this.planFields = planFields;
+        this.allocationFields = allocationFields;
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        return new InvestmentPlanResponseSerializer(resolvePlanFields(provider), resolveAllocationFields(provider));
+    }
+    
+    @Override
+    public void serialize(InvestmentPlanResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields f = planFields != null ? planFields : resolvePlanFields(provider);
+        gen.writeStartObject(value);
+        f.writeString(gen, CUSTOMER_ID, value.getCustomerId());
+        f.writeString(gen, INVESTMENT_TYPE, value.getInvestmentType());
+        f.writeString(gen, INVESTMENT_TYPE_NAME, value.getInvestmentTypeName());
+        f.writeString(gen, PLAN_NAME, value.getPlanName());
+        f.writeString(gen, DESCRIPTION, value.getDescription());
+        f.writeNumber(gen, TOTAL_AMOUNT, value.getTotalAmount());
+        if (f.writeName(gen, ALLOCATIONS, value.getAllocations())) {
+            writeAllocations(gen, value.getAllocations(),
+                allocationFields != null ? allocationFields : resolveAllocationFields(provider));
+        }
+        f.writeIsoDateTime(gen, CREATED_AT, value.getCreatedAt(), provider);
+        f.writeString(gen, EXPECTED_RETURN, value.getExpectedReturn());
+        f.writeString(gen, RISK_LEVEL, value.getRiskLevel());
+        gen.writeEndObject();
+    }
+    
+    private static void writeAllocations(JsonGenerator gen, List<AssetAllocationDto> allocations,
+                                         JsonFields f) throws IOException {
+        if (allocations == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(allocations, allocations.size());
+        for (int i = 0, n = allocations.size(); i < n; i++) {
+            AssetAllocationDto allocation = allocations.get(i);
+            if (allocation == null) {
+                gen.writeNull();
+                continue;
+            }
+            gen.writeStartObject(allocation);
+            f.writeString(gen, ASSET_TYPE, allocation.getAssetType());
+            f.writeString(gen, SYMBOL, allocation.getSymbol());
+            f.writeNumber(gen, AMOUNT, allocation.getAmount());
+            f.writeNumber(gen, WEIGHT, allocation.getWeight());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+    
+    private static JsonFields resolvePlanFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, InvestmentPlanResponseDto.class,
+            "customerId", "investmentType", "investmentTypeName", "planName", "description",
+            "totalAmount", "allocations", "createdAt", "expectedReturn", "riskLevel");
+    }
+    
+    private static JsonFields resolveAllocationFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, AssetAllocationDto.class, "assetType", "symbol", "amount", "weight");
+    }
+}
\ No newline at end of file
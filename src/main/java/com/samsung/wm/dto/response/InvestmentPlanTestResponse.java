@@ -0,0 +1,16 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+
+/**
+ * 투자 계획 서비스 테스트 응답
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record InvestmentPlanTestResponse(
+    boolean success,
+    InvestmentPlan investmentPlan,
+    String timestamp
+) {
+}
\ No newline at end of file
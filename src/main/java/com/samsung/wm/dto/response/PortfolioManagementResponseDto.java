@@ -1,5 +1,6 @@
 package com.samsung.wm.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.Map;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = PortfolioManagementResponseSerializer.class)
 public class PortfolioManagementResponseDto {
     
     private String portfolioId;
@@ -0,0 +1,70 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.samsung.common.dto.JsonFields;
+
+import java.io.IOException;
+
+/**
+ * 포트폴리오 관리 응답 스트리밍 직렬화기
+ * 필드명과 null 생략 여부는 ObjectMapper 설정(명명 전략, default-property-inclusion)을 따른다.
+ * details 값 중 문자열/숫자/불리언은 직접 기록하고 그 외 값만 등록된 직렬화기에 위임한다.
+ */
+public class PortfolioManagementResponseSerializer extends StdSerializer<PortfolioManagementResponseDto>
+        implements ContextualSerializer {
+    
+    private static final int PORTFOLIO_ID = 0;
+    private static final int CUSTOMER_ID = 1;
+    private static final int MANAGEMENT_TYPE = 2;
+    private static final int MANAGEMENT_TYPE_NAME = 3;
+    private static final int SUMMARY = 4;
+    private static final int ACTIONS = 5;
+    private static final int DETAILS = 6;
+    private static final int EXECUTED_AT = 7;
+    private static final int SUCCESS = 8;
+    private static final int MESSAGE = 9;
+    
+    private final JsonFields fields;
+    
+    public PortfolioManagementResponseSerializer() {
+        this(null);
+    }
+    
+    private PortfolioManagementResponseSerializer(JsonFields fields) {
+        super(PortfolioManagementResponseDto.class);
+        this.fields = fields;
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        return new PortfolioManagementResponseSerializer(resolveFields(provider));
+    }
+    
+    @Override
+    public void serialize(PortfolioManagementResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields f = fields != null ? fields : resolveFields(provider);
+        gen.writeStartObject(value);
+        f.writeString(gen, PORTFOLIO_ID, value.getPortfolioId());
+        f.writeString(gen, CUSTOMER_ID, value.getCustomerId());
+        f.writeString(gen, MANAGEMENT_TYPE, value.getManagementType());
+        f.writeString(gen, MANAGEMENT_TYPE_NAME, value.getManagementTypeName());
+        f.writeString(gen, SUMMARY, value.getSummary());
+        f.writeStringArray(gen, ACTIONS, value.getActions());
+        f.writeMap(gen, DETAILS, value.getDetails(), provider);
+        f.writeIsoDateTime(gen, EXECUTED_AT, value.getExecutedAt(), provider);
+        f.writeBoolean(gen, SUCCESS, value.isSuccess());
+        f.writeString(gen, MESSAGE, value.getMessage());
+        gen.writeEndObject();
+    }
+    
+    private static JsonFields resolveFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, PortfolioManagementResponseDto.class,
+            "portfolioId", "customerId", "managementType", "managementTypeName", "summary",
+            "actions", "details", "executedAt", "success", "message");
+    }
+}
\ No newline at end of file
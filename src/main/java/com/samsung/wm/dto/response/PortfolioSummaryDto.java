@@ -0,0 +1,22 @@
+package com.samsung.wm.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 포트폴리오 요약 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSummaryDto {
+    
+    private String portfolioId;
+    private String name;
+    private BigDecimal value;
+    private BigDecimal return_;
+    private Double returnRate;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.samsung.wm.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 최근 거래 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentTransactionDto {
+    
+    private String transactionId;
+    private String type;
+    private String symbol;
+    private Integer quantity;
+    private BigDecimal price;
+    private LocalDateTime transactionDate;
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 공통 유틸리티 테스트 응답
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record UtilsTestResponse(
+    StringUtils stringUtils,
+    DateUtils dateUtils,
+    FinancialCalc financialCalc,
+    ErrorCodeSamples errorCodes
+) {
+    
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record StringUtils(
+        String original,
+        boolean isEmpty,
+        boolean isNotEmpty,
+        String masked,
+        boolean isValidEmail
+    ) {
+    }
+    
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record DateUtils(
+        String today,
+        long daysUntilYearEnd,
+        @JsonProperty("age_if_born_1990") int ageIfBorn1990
+    ) {
+    }
+    
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record FinancialCalc(
+        String principal,
+        String rate,
+        String years,
+        String compoundResult
+    ) {
+    }
+    
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ErrorCodeSamples(
+        String success,
+        String nullParameter,
+        String businessError
+    ) {
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.samsung.wm.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.Map;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = WealthManagementDashboardSerializer.class)
 public class WealthManagementDashboardDto {
     
     private String customerId;
@@ -29,33 +31,4 @@ public class WealthManagementDashboardDto {
     private Map<String, BigDecimal> assetAllocation;
     
     private LocalDateTime lastUpdated;
-}
-
-/**
- * 포트폴리오 요약 DTO
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-class PortfolioSummaryDto {
-    private String portfolioId;
-    private String name;
-    private BigDecimal value;
-    private BigDecimal return_;
-    private Double returnRate;
-}
-
-/**
- * 최근 거래 DTO
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-class RecentTransactionDto {
-    private String transactionId;
-    private String type;
-    private String symbol;
-    private Integer quantity;
-    private BigDecimal price;
-    private LocalDateTime transactionDate;
 }
\ No newline at end of file
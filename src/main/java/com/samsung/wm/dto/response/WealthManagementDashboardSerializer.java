@@ -0,0 +1,155 @@
+package com.samsung.wm.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.samsung.common.dto.JsonFields;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 자산관리 대시보드 응답 스트리밍 직렬화기
+ * 포트폴리오 요약/최근 거래 목록을 중간 객체 없이 JsonGenerator로 바로 기록한다.
+ * 필드명과 null 생략 여부는 ObjectMapper 설정(명명 전략, default-property-inclusion)을 따른다.
+ */
+public class WealthManagementDashboardSerializer extends StdSerializer<WealthManagementDashboardDto>
+        implements ContextualSerializer {
+    
+    private static final int CUSTOMER_ID = 0;
+    private static final int CUSTOMER_NAME = 1;
+    private static final int TOTAL_ASSETS = 2;
+    private static final int TOTAL_RETURN = 3;
+    private static final int RETURN_RATE = 4;
+    private static final int RISK_LEVEL = 5;
+    private static final int PORTFOLIO_SUMMARIES = 6;
+    private static final int RECENT_TRANSACTIONS = 7;
+    private static final int ASSET_ALLOCATION = 8;
+    private static final int LAST_UPDATED = 9;
+    
+    private static final int SUMMARY_PORTFOLIO_ID = 0;
+    private static final int SUMMARY_NAME = 1;
+    private static final int SUMMARY_VALUE = 2;
+    private static final int SUMMARY_RETURN = 3;
+    private static final int SUMMARY_RETURN_RATE = 4;
+    
+    private static final int TRANSACTION_ID = 0;
+    private static final int TRANSACTION_TYPE = 1;
+    private static final int TRANSACTION_SYMBOL = 2;
+    private static final int TRANSACTION_QUANTITY = 3;
+    private static final int TRANSACTION_PRICE = 4;
+    private static final int TRANSACTION_DATE = 5;
+    
+    private final JsonFields dashboardFields;
+    private final JsonFields summaryFields;
+    private final JsonFields transactionFields;
+    
+    public WealthManagementDashboardSerializer() {
+        this(null, null, null);
+    }
+    
+    private WealthManagementDashboardSerializer(JsonFields dashboardFields, JsonFields summaryFields,
+                                                JsonFields transactionFields) {
+        super(WealthManagementDashboardDto.class);
+        this.dashboardFields = dashboardFields;
+        this.summaryFields = summaryFields;
+        this.transactionFields = transactionFields;
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        return new WealthManagementDashboardSerializer(resolveDashboardFields(provider),
+            resolveSummaryFields(provider), resolveTransactionFields(provider));
+    }
+    
+    @Override
+    public void serialize(WealthManagementDashboardDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields f = dashboardFields != null ? dashboardFields : resolveDashboardFields(provider);
+        gen.writeStartObject(value);
+        f.writeString(gen, CUSTOMER_ID, value.getCustomerId());
+        f.writeString(gen, CUSTOMER_NAME, value.getCustomerName());
+        f.writeNumber(gen, TOTAL_ASSETS, value.getTotalAssets());
+        f.writeNumber(gen, TOTAL_RETURN, value.getTotalReturn());
+        f.writeNumber(gen, RETURN_RATE, value.getReturnRate());
+        f.writeString(gen, RISK_LEVEL, value.getRiskLevel());
+        if (f.writeName(gen, PORTFOLIO_SUMMARIES, value.getPortfolioSummaries())) {
+            writePortfolioSummaries(gen, value.getPortfolioSummaries(),
+                summaryFields != null ? summaryFields : resolveSummaryFields(provider));
+        }
+        if (f.writeName(gen, RECENT_TRANSACTIONS, value.getRecentTransactions())) {
+            writeRecentTransactions(gen, value.getRecentTransactions(), provider,
+                transactionFields != null ? transactionFields : resolveTransactionFields(provider));
+        }
+        f.writeMap(gen, ASSET_ALLOCATION, value.getAssetAllocation(), provider);
+        f.writeIsoDateTime(gen, LAST_UPDATED, value.getLastUpdated(), provider);
+        gen.writeEndObject();
+    }
+    
+    private static void writePortfolioSummaries(JsonGenerator gen, List<PortfolioSummaryDto> summaries,
+                                                JsonFields f) throws IOException {
+        if (summaries == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(summaries, summaries.size());
+        for (int i = 0, n = summaries.size(); i < n; i++) {
+            PortfolioSummaryDto summary = summaries.get(i);
+            if (summary == null) {
+                gen.writeNull();
+                continue;
+            }
+            gen.writeStartObject(summary);
+            f.writeString(gen, SUMMARY_PORTFOLIO_ID, summary.getPortfolioId());
+            f.writeString(gen, SUMMARY_NAME, summary.getName());
+            f.writeNumber(gen, SUMMARY_VALUE, summary.getValue());
+            f.writeNumber(gen, SUMMARY_RETURN, summary.getReturn_());
+            f.writeNumber(gen, SUMMARY_RETURN_RATE, summary.getReturnRate());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+    
+    private static void writeRecentTransactions(JsonGenerator gen, List<RecentTransactionDto> transactions,
+                                                SerializerProvider provider, JsonFields f) throws IOException {
+        if (transactions == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(transactions, transactions.size());
+        for (int i = 0, n = transactions.size(); i < n; i++) {
+            RecentTransactionDto transaction = transactions.get(i);
+            if (transaction == null) {
+                gen.writeNull();
+                continue;
+            }
+            gen.writeStartObject(transaction);
+            f.writeString(gen, TRANSACTION_ID, transaction.getTransactionId());
+            f.writeString(gen, TRANSACTION_TYPE, transaction.getType());
+            f.writeString(gen, TRANSACTION_SYMBOL, transaction.getSymbol());
+            f.writeNumber(gen, TRANSACTION_QUANTITY, transaction.getQuantity());
+            f.writeNumber(gen, TRANSACTION_PRICE, transaction.getPrice());
+            f.writeIsoDateTime(gen, TRANSACTION_DATE, transaction.getTransactionDate(), provider);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+    
+    private static JsonFields resolveDashboardFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, WealthManagementDashboardDto.class,
+            "customerId", "customerName", "totalAssets", "totalReturn", "returnRate", "riskLevel",
+            "portfolioSummaries", "recentTransactions", "assetAllocation", "lastUpdated");
+    }
+    
+    private static JsonFields resolveSummaryFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, PortfolioSummaryDto.class,
+            "portfolioId", "name", "value", "return_", "returnRate");
+    }
+    
+    private static JsonFields resolveTransactionFields(SerializerProvider provider) {
+        return JsonFields.resolve(provider, RecentTransactionDto.class,
+            "transactionId", "type", "symbol", "quantity", "price", "transactionDate");
+    }
+}
\ No newline at end of file
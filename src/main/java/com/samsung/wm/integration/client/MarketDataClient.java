@@ -1,10 +1,15 @@
 package com.samsung.wm.integration.client;
 
+import com.samsung.wm.metrics.LatencyTimer;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  * 시장 데이터 조회 클라이언트
@@ -13,6 +18,20 @@ import java.util.Map;
 @Component
 public class MarketDataClient {
     
+    private final LatencyTimer stockPriceTimer;
+    private final LatencyTimer multipleStockPricesTimer;
+    private final LatencyTimer marketIndexTimer;
+    private final LatencyTimer dailyReturnsTimer;
+    private final Tracer tracer;
+    
+    public MarketDataClient(MetricsRegistry registry, Tracer tracer) {
+        this.stockPriceTimer = registry.timer("marketdata.getStockPrice");
+        this.multipleStockPricesTimer = registry.timer("marketdata.getMultipleStockPrices");
+        this.marketIndexTimer = registry.timer("marketdata.getMarketIndex");
+        this.dailyReturnsTimer = registry.timer("marketdata.getDailyReturns");
+        this.tracer = tracer;
+    }
+    
     /**
      * 실시간 주식 가격 조회
      * 
@@ -22,15 +41,20 @@ public class MarketDataClient {
     public StockPrice getStockPrice(String symbol) {
         log.info("주식 가격 조회 요청 - symbol: {}", symbol);
         
-        // 실제로는 외부 API 호출
-        return new StockPrice(
-            symbol,
-            new BigDecimal("150000"),
-            new BigDecimal("148000"),
-            new BigDecimal("152000"),
-            new BigDecimal("149500"),
-            1000000L
-        );
+        long start = System.nanoTime();
+        try (Span span = tracer.start("MarketDataClient.getStockPrice")) {
+            // 실제로는 외부 API 호출
+            return new StockPrice(
+                symbol,
+                new BigDecimal("150000"),
+                new BigDecimal("148000"),
+                new BigDecimal("152000"),
+                new BigDecimal("149500"),
+                1000000L
+            );
+        } finally {
+            stockPriceTimer.recordSince(start);
+        }
     }
     
     /**
@@ -42,8 +66,13 @@ public class MarketDataClient {
     public Map<String, StockPrice> getMultipleStockPrices(String[] symbols) {
         log.info("여러 종목 가격 조회 - count: {}", symbols.length);
         
-        // 실제로는 외부 API 호출하여 일괄 조회
-        return Map.of(); // 샘플 구현
+        long start = System.nanoTime();
+        try (Span span = tracer.start("MarketDataClient.getMultipleStockPrices")) {
+            // 실제로는 외부 API 호출하여 일괄 조회
+            return Map.of(); // 샘플 구현
+        } finally {
+            multipleStockPricesTimer.recordSince(start);
+        }
     }
     
     /**
@@ -55,11 +84,49 @@ public class MarketDataClient {
     public MarketIndex getMarketIndex(String indexName) {
         log.info("시장 지수 조회 - indexName: {}", indexName);
         
-        return new MarketIndex(
-            indexName,
-            new BigDecimal("2500.50"),
-            new BigDecimal("15.30"),
-            0.62
-        );
+        long start = System.nanoTime();
+        try (Span span = tracer.start("MarketDataClient.getMarketIndex")) {
+            return new MarketIndex(
+                indexName,
+                new BigDecimal("2500.50"),
+                new BigDecimal("15.30"),
+                0.62
+            );
+        } finally {
+            marketIndexTimer.recordSince(start);
+        }
+    }
+    
+    /**
+     * 종목별 일간 수익률 이력 조회
+     * 결과는 일자 우선(day-major) 배열: returns[day * symbols.length + symbolIndex]
+     * 
+     * @param symbols 종목 코드 배열
+     * @param days 조회 일수 (최근 영업일 기준)
+     * @return 일간 수익률 배열
+     */
+    public double[] getDailyReturns(String[] symbols, int days) {
+        log.info("일간 수익률 이력 조회 - count: {}, days: {}", symbols.length, days);
+        
+        long start = System.nanoTime();
+        try (Span span = tracer.start("MarketDataClient.getDailyReturns")) {
+            // 실제로는 시세 이력 API 호출
+            // 샘플 구현: 시장 공통 요인 + 종목 고유 요인으로 재현 가능한 수익률 생성
+            SplittableRandom market = new SplittableRandom(days);
+            SplittableRandom[] idiosyncratic = new SplittableRandom[symbols.length];
+            for (int i = 0; i < symbols.length; i++) {
+                idiosyncratic[i] = new SplittableRandom(symbols[i].hashCode());
+            }
+            double[] returns = new double[days * symbols.length];
+            for (int d = 0; d < days; d++) {
+                double factor = market.nextGaussian() * 0.01;
+                for (int i = 0; i < symbols.length; i++) {
+                    returns[d * symbols.length + i] = 0.0003 + factor + idiosyncratic[i].nextGaussian() * 0.012;
+                }
+            }
+            return returns;
+        } finally {
+            dailyReturnsTimer.recordSince(start);
+        }
     }
 }
\ No newline at end of file
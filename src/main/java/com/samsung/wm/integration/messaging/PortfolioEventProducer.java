@@ -3,6 +3,8 @@ package com.samsung.wm.integration.messaging;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 포트폴리오 이벤트 발행자
  */
@@ -43,4 +45,27 @@ public class PortfolioEventProducer {
         
         // 메시지 브로커를 통한 이벤트 발행
     }
+    
+    /**
+     * 리스크 알림 이벤트 발행
+     * 
+     * @param event 리스크 알림 이벤트 (위험 한도 초과)
+     */
+    public void publishRiskAlertEvent(PortfolioEvent event) {
+        log.info("리스크 알림 이벤트 발행 - portfolioId: {}", event.getPortfolioId());
+        
+        // 메시지 브로커를 통한 이벤트 발행
+    }
+    
+    /**
+     * 배당 재투자 이벤트 일괄 발행
+     * 대량 기업행위 처리 시 이벤트를 배치 단위로 묶어 한 번에 발행
+     * 
+     * @param events 배당 재투자 이벤트 목록
+     */
+    public void publishDividendReinvestedEvents(List<PortfolioEvent> events) {
+        log.info("배당 재투자 이벤트 일괄 발행 - count: {}", events.size());
+        
+        // 메시지 브로커의 배치 전송 API를 통한 이벤트 발행
+    }
 }
\ No newline at end of file
@@ -11,7 +11,8 @@ public enum PortfolioEventType {
     REBALANCING_STARTED("리밸런싱 시작"),
     REBALANCING_COMPLETED("리밸런싱 완료"),
     PERFORMANCE_ALERT("성과 알림"),
-    RISK_ALERT("리스크 알림");
+    RISK_ALERT("리스크 알림"),
+    DIVIDEND_REINVESTED("배당 재투자");
     
     private final String description;
     
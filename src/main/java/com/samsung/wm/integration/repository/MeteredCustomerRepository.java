@@ -0,0 +1,83 @@
+package com.samsung.wm.integration.repository;
+
+import com.samsung.wm.metrics.LatencyTimer;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 호출 지연 시간과 추적 구간을 기록하는 고객 저장소 래퍼
+ */
+public class MeteredCustomerRepository implements CustomerRepository {
+    
+    private final CustomerRepository delegate;
+    private final LatencyTimer findById;
+    private final LatencyTimer findByNameContaining;
+    private final LatencyTimer findByRiskProfile;
+    private final LatencyTimer save;
+    private final LatencyTimer deleteById;
+    private final Tracer tracer;
+    
+    public MeteredCustomerRepository(CustomerRepository delegate, MetricsRegistry registry, Tracer tracer) {
+        this.delegate = delegate;
+        this.findById = registry.timer("repository.customer.findById");
+        this.findByNameContaining = registry.timer("repository.customer.findByNameContaining");
+        this.findByRiskProfile = registry.timer("repository.customer.findByRiskProfile");
+        this.save = registry.timer("repository.customer.save");
+        this.deleteById = registry.timer("repository.customer.deleteById");
+        this.tracer = tracer;
+    }
+    
+    @Override
+    public Optional<Customer> findById(String customerId) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("CustomerRepository.findById")) {
+            return delegate.findById(customerId);
+        } finally {
+            findById.recordSince(start);
+        }
+    }
+    
+    @Override
+    public List<Customer> findByNameContaining(String name) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("CustomerRepository.findByNameContaining")) {
+            return delegate.findByNameContaining(name);
+        } finally {
+            findByNameContaining.recordSince(start);
+        }
+    }
+    
+    @Override
+    public List<Customer> findByRiskProfile(String riskProfile) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("CustomerRepository.findByRiskProfile")) {
+            return delegate.findByRiskProfile(riskProfile);
+        } finally {
+            findByRiskProfile.recordSince(start);
+        }
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("CustomerRepository.save")) {
+            return delegate.save(customer);
+        } finally {
+            save.recordSince(start);
+        }
+    }
+    
+    @Override
+    public void deleteById(String customerId) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("CustomerRepository.deleteById")) {
+            delegate.deleteById(customerId);
+        } finally {
+            deleteById.recordSince(start);
+        }
+    }
+}
\ No newline at end of file
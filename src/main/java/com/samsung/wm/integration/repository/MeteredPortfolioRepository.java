@@ -0,0 +1,84 @@
+package com.samsung.wm.integration.repository;
+
+import com.samsung.wm.metrics.LatencyTimer;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
+import com.samsung.wm.strategy.portfolio.Portfolio;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 호출 지연 시간과 추적 구간을 기록하는 포트폴리오 저장소 래퍼
+ */
+public class MeteredPortfolioRepository implements PortfolioRepository {
+    
+    private final PortfolioRepository delegate;
+    private final LatencyTimer findById;
+    private final LatencyTimer findByCustomerId;
+    private final LatencyTimer findByStatus;
+    private final LatencyTimer save;
+    private final LatencyTimer deleteById;
+    private final Tracer tracer;
+    
+    public MeteredPortfolioRepository(PortfolioRepository delegate, MetricsRegistry registry, Tracer tracer) {
+        this.delegate = delegate;
+        this.findById = registry.timer("repository.portfolio.findById");
+        this.findByCustomerId = registry.timer("repository.portfolio.findByCustomerId");
+        this.findByStatus = registry.timer("repository.portfolio.findByStatus");
+        this.save = registry.timer("repository.portfolio.save");
+        this.deleteById = registry.timer("repository.portfolio.deleteById");
+        this.tracer = tracer;
+    }
+    
+    @Override
+    public Optional<Portfolio> findById(String portfolioId) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("PortfolioRepository.findById")) {
+            return delegate.findById(portfolioId);
+        } finally {
+            findById.recordSince(start);
+        }
+    }
+    
+    @Override
+    public List<Portfolio> findByCustomerId(String customerId) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("PortfolioRepository.findByCustomerId")) {
+            return delegate.findByCustomerId(customerId);
+        } finally {
+            findByCustomerId.recordSince(start);
+        }
+    }
+    
+    @Override
+    public List<Portfolio> findByStatus(String status) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("PortfolioRepository.findByStatus")) {
+            return delegate.findByStatus(status);
+        } finally {
+            findByStatus.recordSince(start);
+        }
+    }
+    
+    @Override
+    public Portfolio save(Portfolio portfolio) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("PortfolioRepository.save")) {
+            return delegate.save(portfolio);
+        } finally {
+            save.recordSince(start);
+        }
+    }
+    
+    @Override
+    public void deleteById(String portfolioId) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("PortfolioRepository.deleteById")) {
+            delegate.deleteById(portfolioId);
+        } finally {
+            deleteById.recordSince(start);
+        }
+    }
+}
\ No newline at end of file
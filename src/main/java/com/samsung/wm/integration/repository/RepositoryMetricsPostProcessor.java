@@ -0,0 +1,34 @@
+package com.samsung.wm.integration.repository;
+
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 구현 빈을 메트릭/추적 래퍼로 감싸는 후처리기
+ * 동적 프록시는 호출마다 인자 배열을 할당하므로 인터페이스별 래퍼를 직접 사용한다.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+    
+    private final ObjectProvider<MetricsRegistry> registry;
+    private final ObjectProvider<Tracer> tracer;
+    
+    public RepositoryMetricsPostProcessor(ObjectProvider<MetricsRegistry> registry, ObjectProvider<Tracer> tracer) {
+        this.registry = registry;
+        this.tracer = tracer;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CustomerRepository repository && !(bean instanceof MeteredCustomerRepository)) {
+            return new MeteredCustomerRepository(repository, registry.getObject(), tracer.getObject());
+        }
+        if (bean instanceof PortfolioRepository repository && !(bean instanceof MeteredPortfolioRepository)) {
+            return new MeteredPortfolioRepository(repository, registry.getObject(), tracer.getObject());
+        }
+        return bean;
+    }
+}
\ No newline at end of file
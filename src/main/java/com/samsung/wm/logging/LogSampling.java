@@ -0,0 +1,58 @@
+package com.samsung.wm.logging;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청 단위 로그 샘플링 상태
+ * 요청 진입 시 결정한 샘플링 여부를 처리 스레드에 보관하고, LogSamplingFilter가 이를 읽어
+ * 샘플링되지 않은 요청의 INFO 이하 로그를 메시지 생성 전에 버린다.
+ * 요청의 로그는 모두 기록되거나 모두 생략되므로 기록된 요청은 흐름 전체를 추적할 수 있다.
+ * 
+ * 상태는 Boolean 상수로만 교체하므로 요청마다 할당이 없다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LogSampling {
+    
+    private static final ThreadLocal<Boolean> SUPPRESSED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
+    /**
+     * 현재 스레드의 INFO 이하 로그 생략 여부
+     */
+    public static boolean isSuppressed() {
+        return SUPPRESSED.get();
+    }
+    
+    /**
+     * 현재 스레드에서 요청 처리 시작
+     * 
+     * @param sampled 로그 기록 대상 여부
+     */
+    public static void begin(boolean sampled) {
+        SUPPRESSED.set(sampled ? Boolean.FALSE : Boolean.TRUE);
+    }
+    
+    /**
+     * 현재 스레드에서 요청 처리 종료 (기본 상태: 모두 기록)
+     */
+    public static void end() {
+        SUPPRESSED.set(Boolean.FALSE);
+    }
+    
+    /**
+     * 실행기 작업에 제출 스레드의 샘플링 상태를 전달 (TaskDecorator)
+     * 실행 스레드의 기존 상태는 작업이 끝나면 복원한다 (caller-runs로 제출 스레드에서 직접 실행되는 경우 포함).
+     */
+    public static Runnable propagate(Runnable task) {
+        Boolean suppressed = SUPPRESSED.get();
+        return () -> {
+            Boolean previous = SUPPRESSED.get();
+            SUPPRESSED.set(suppressed);
+            try {
+                task.run();
+            } finally {
+                SUPPRESSED.set(previous);
+            }
+        };
+    }
+}
\ No newline at end of file
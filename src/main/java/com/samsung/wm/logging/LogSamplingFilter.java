@@ -0,0 +1,113 @@
+package com.samsung.wm.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * 요청 샘플링 로그 필터 (log4j2-spring.xml의 WmLogSampling)
+ * 샘플링되지 않은 요청을 처리하는 스레드의 INFO 이하 로그를 거부하고, WARN/ERROR는 항상 통과시킨다.
+ * 
+ * 설정 전역 필터로 등록하면 Logger.isEnabled 단계에서 평가되어 거부된 로그는 이벤트와 메시지를 만들지 않는다.
+ * 파라미터 개수별 오버로드를 모두 재정의하여 AbstractFilter 기본 구현의 가변 인자 배열 할당을 피한다.
+ */
+@Plugin(name = "WmLogSampling", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class LogSamplingFilter extends AbstractFilter {
+    
+    private LogSamplingFilter() {
+        super(Result.DENY, Result.NEUTRAL);
+    }
+    
+    @PluginFactory
+    public static LogSamplingFilter createFilter() {
+        return new LogSamplingFilter();
+    }
+    
+    private Result filter(Level level) {
+        return level.isLessSpecificThan(Level.INFO) && LogSampling.isSuppressed() ? onMatch : onMismatch;
+    }
+    
+    @Override
+    public Result filter(LogEvent event) {
+        return filter(event.getLevel());
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return filter(level);
+    }
+    
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return filter(level);
+    }
+}
\ No newline at end of file
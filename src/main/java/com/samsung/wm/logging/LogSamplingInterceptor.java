@@ -0,0 +1,79 @@
+package com.samsung.wm.logging;
+
+import com.samsung.wm.metrics.EventCounter;
+import com.samsung.wm.metrics.MetricsRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 요청 로그 샘플링 인터셉터
+ * 매핑 패턴별 순번으로 N건 중 1건을 기록 대상으로 정하고 처리 스레드에 LogSampling 상태를 설정한다.
+ * 결정은 요청 속성에 보관하여 오류 디스패치에서도 같은 결정을 사용한다.
+ */
+public class LogSamplingInterceptor implements HandlerInterceptor {
+    
+    private static final String SAMPLED_ATTRIBUTE = LogSamplingInterceptor.class.getName() + ".SAMPLED";
+    
+    private final Map<String, Sampler> samplers = new HashMap<>();
+    private final Sampler defaultSampler;
+    private final EventCounter suppressedRequests;
+    
+    public LogSamplingInterceptor(LogSamplingProperties properties, MetricsRegistry metricsRegistry) {
+        for (Map.Entry<String, Integer> entry : properties.getRates().entrySet()) {
+            samplers.put(entry.getKey(), new Sampler(entry.getValue()));
+        }
+        this.defaultSampler = new Sampler(properties.getDefaultRate());
+        this.suppressedRequests = metricsRegistry.counter("logging.sampling.suppressed");
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Boolean sampled = (Boolean) request.getAttribute(SAMPLED_ATTRIBUTE);
+        if (sampled == null) {
+            sampled = sample((String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        }
+        LogSampling.begin(sampled);
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        LogSampling.end();
+    }
+    
+    private Boolean sample(String pattern) {
+        Sampler sampler = pattern != null ? samplers.getOrDefault(pattern, defaultSampler) : defaultSampler;
+        if (sampler.next()) {
+            return Boolean.TRUE;
+        }
+        suppressedRequests.increment();
+        return Boolean.FALSE;
+    }
+    
+    /**
+     * 1-in-N 순번 샘플러
+     */
+    private static final class Sampler {
+        
+        private final int rate;
+        private final AtomicLong sequence = new AtomicLong();
+        
+        Sampler(int rate) {
+            if (rate < 1) {
+                throw new IllegalArgumentException("로그 샘플링 비율은 1 이상이어야 합니다: " + rate);
+            }
+            this.rate = rate;
+        }
+        
+        boolean next() {
+            return rate == 1 || sequence.getAndIncrement() % rate == 0;
+        }
+    }
+}
\ No newline at end of file
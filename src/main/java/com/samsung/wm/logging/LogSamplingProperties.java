@@ -0,0 +1,26 @@
+package com.samsung.wm.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 로그 샘플링 설정 (wm.logging.sampling)
+ * 비율 N은 N건 중 1건의 요청만 INFO 이하 로그를 기록한다는 뜻이며, 1이면 모두 기록한다.
+ */
+@Data
+@ConfigurationProperties(prefix = "wm.logging.sampling")
+public class LogSamplingProperties {
+    
+    /**
+     * 비율을 지정하지 않은 엔드포인트의 샘플링 비율
+     */
+    private int defaultRate = 1;
+    
+    /**
+     * 엔드포인트 패턴별 샘플링 비율 (예: /api/wm-common/consultation)
+     */
+    private Map<String, Integer> rates = new LinkedHashMap<>();
+}
\ No newline at end of file
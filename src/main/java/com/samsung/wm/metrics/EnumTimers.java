@@ -0,0 +1,24 @@
+package com.samsung.wm.metrics;
+
+/**
+ * 열거형 값별 타이머 묶음
+ * 전략 유형처럼 값이 고정된 키는 호출마다 이름을 만들지 않도록 ordinal 인덱스 배열로 미리 생성한다.
+ * 
+ * @param <E> 열거형 타입
+ */
+public final class EnumTimers<E extends Enum<E>> {
+    
+    private final LatencyTimer[] timers;
+    
+    EnumTimers(MetricsRegistry registry, String prefix, Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        this.timers = new LatencyTimer[constants.length];
+        for (E constant : constants) {
+            timers[constant.ordinal()] = registry.timer(prefix + "." + constant.name());
+        }
+    }
+    
+    public LatencyTimer get(E key) {
+        return timers[key.ordinal()];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.samsung.wm.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 카운터 (캐시 적중, 전략 대체 등)
+ * LongAdder 기반으로 경합 시에도 증가 비용이 일정하다.
+ */
+public final class EventCounter {
+    
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    
+    EventCounter(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void increment() {
+        count.increment();
+    }
+    
+    public void add(long delta) {
+        count.add(delta);
+    }
+    
+    public long sum() {
+        return count.sum();
+    }
+    
+    public void reset() {
+        count.reset();
+    }
+}
\ No newline at end of file
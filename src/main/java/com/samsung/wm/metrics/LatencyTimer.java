@@ -0,0 +1,126 @@
+package com.samsung.wm.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 타이머 (HdrHistogram 방식 로그-선형 히스토그램)
+ * 2의 거듭제곱 구간마다 64개 하위 버킷을 두어 상대 오차 1.6% 이내로 나노초 값을 기록한다.
+ * 
+ * 기록은 락 없이 버킷 원자 증가, 합계 LongAdder, 최대값 비교(갱신 시에만 CAS)로 이루어지며 할당이 없다.
+ * 스냅샷은 기록과 동시에 읽으므로 필드 간에 약간의 불일치가 있을 수 있다.
+ */
+public final class LatencyTimer {
+    
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    
+    /**
+     * 기록 가능한 최대값 (약 18분), 초과 값은 이 값으로 절단
+     */
+    static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+    static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+    
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    
+    LatencyTimer(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * 경과 시간 기록
+     * 
+     * @param nanos 경과 시간 (나노초, 음수는 0으로 처리)
+     */
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : Math.min(nanos, MAX_TRACKABLE_NANOS);
+        buckets.incrementAndGet(indexOf(value));
+        totalNanos.add(value);
+        if (value > maxNanos.get()) {
+            maxNanos.accumulateAndGet(value, Math::max);
+        }
+    }
+    
+    /**
+     * 시작 시각(System.nanoTime)부터 현재까지의 경과 시간 기록
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+    
+    public TimerSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        long max = maxNanos.get();
+        if (count == 0) {
+            return new TimerSnapshot(name, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new TimerSnapshot(name, count,
+            (double) totalNanos.sum() / count,
+            percentile(counts, count, 0.50, max),
+            percentile(counts, count, 0.90, max),
+            percentile(counts, count, 0.99, max),
+            percentile(counts, count, 0.999, max),
+            max);
+    }
+    
+    /**
+     * 누적 값 초기화 (기록 중 호출 시 일부 값이 남을 수 있음)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+    
+    /**
+     * 값이 속한 버킷 인덱스
+     * 128 미만은 값 그대로, 그 이상은 상위 7비트(선두 1 포함)를 하위 버킷으로 사용
+     */
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+    
+    /**
+     * 버킷이 나타내는 값 범위의 상한
+     */
+    static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+}
\ No newline at end of file
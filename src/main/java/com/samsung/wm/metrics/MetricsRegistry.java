@@ -0,0 +1,74 @@
+package com.samsung.wm.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경량 메트릭 레지스트리
+ * 타이머/카운터는 이름별로 한 번만 만들어 호출 측 필드에 보관하고, 기록 경로에서는 조회하지 않는다.
+ */
+@Component
+public class MetricsRegistry {
+    
+    private final Map<String, LatencyTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, EventCounter> counters = new ConcurrentHashMap<>();
+    
+    /**
+     * 이름에 해당하는 타이머 (없으면 생성)
+     */
+    public LatencyTimer timer(String name) {
+        return timers.computeIfAbsent(name, LatencyTimer::new);
+    }
+    
+    /**
+     * 열거형 값별 타이머 묶음 (이름: prefix.값)
+     */
+    public <E extends Enum<E>> EnumTimers<E> timers(String prefix, Class<E> type) {
+        return new EnumTimers<>(this, prefix, type);
+    }
+    
+    /**
+     * 이름에 해당하는 카운터 (없으면 생성)
+     */
+    public EventCounter counter(String name) {
+        return counters.computeIfAbsent(name, EventCounter::new);
+    }
+    
+    /**
+     * 기록이 있는 타이머 스냅샷 (이름순)
+     */
+    public List<TimerSnapshot> timerSnapshots() {
+        List<TimerSnapshot> snapshots = new ArrayList<>();
+        for (LatencyTimer timer : new TreeMap<>(timers).values()) {
+            TimerSnapshot snapshot = timer.snapshot();
+            if (snapshot.count() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+    
+    /**
+     * 카운터 값 (이름순)
+     */
+    public Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+    
+    public TimerSnapshot timerSnapshot(String name) {
+        LatencyTimer timer = timers.get(name);
+        return timer != null ? timer.snapshot() : null;
+    }
+    
+    public void reset() {
+        timers.values().forEach(LatencyTimer::reset);
+        counters.values().forEach(EventCounter::reset);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.samsung.wm.metrics;
+
+import com.samsung.wm.strategy.consultation.ConsultationType;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import com.samsung.wm.strategy.portfolio.PortfolioManagementType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략 실행 메트릭
+ * 상담/투자/포트폴리오 전략의 execute 지연 시간(유형별)과 기본 전략 대체 횟수를 기록한다.
+ */
+@Component
+public class StrategyMetrics {
+    
+    private final EnumTimers<ConsultationType> consultationTimers;
+    private final EnumTimers<InvestmentType> investmentTimers;
+    private final EnumTimers<PortfolioManagementType> portfolioTimers;
+    private final EventCounter consultationFallbacks;
+    private final EventCounter investmentFallbacks;
+    private final EventCounter portfolioFallbacks;
+    
+    public StrategyMetrics(MetricsRegistry registry) {
+        this.consultationTimers = registry.timers("strategy.consultation", ConsultationType.class);
+        this.investmentTimers = registry.timers("strategy.investment", InvestmentType.class);
+        this.portfolioTimers = registry.timers("strategy.portfolio", PortfolioManagementType.class);
+        this.consultationFallbacks = registry.counter("strategy.fallback.consultation");
+        this.investmentFallbacks = registry.counter("strategy.fallback.investment");
+        this.portfolioFallbacks = registry.counter("strategy.fallback.portfolio");
+    }
+    
+    public LatencyTimer consultation(ConsultationType type) {
+        return consultationTimers.get(type);
+    }
+    
+    public LatencyTimer investment(InvestmentType type) {
+        return investmentTimers.get(type);
+    }
+    
+    public LatencyTimer portfolio(PortfolioManagementType type) {
+        return portfolioTimers.get(type);
+    }
+    
+    public void consultationFallback() {
+        consultationFallbacks.increment();
+    }
+    
+    public void investmentFallback() {
+        investmentFallbacks.increment();
+    }
+    
+    public void portfolioFallback() {
+        portfolioFallbacks.increment();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.samsung.wm.metrics;
+
+/**
+ * 타이머 스냅샷 (단위: 나노초)
+ */
+public record TimerSnapshot(
+    String name,
+    long count,
+    double meanNanos,
+    long p50Nanos,
+    long p90Nanos,
+    long p99Nanos,
+    long p999Nanos,
+    long maxNanos
+) {
+}
\ No newline at end of file
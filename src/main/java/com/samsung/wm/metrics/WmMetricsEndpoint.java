@@ -0,0 +1,41 @@
+package com.samsung.wm.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WM 메트릭 actuator 엔드포인트 (/actuator/wmmetrics)
+ * GET: 전체 타이머/카운터, GET /{name}: 단일 타이머, DELETE: 초기화
+ */
+@Component
+@Endpoint(id = "wmmetrics")
+@RequiredArgsConstructor
+public class WmMetricsEndpoint {
+    
+    private final MetricsRegistry registry;
+    
+    @ReadOperation
+    public MetricsReport metrics() {
+        return new MetricsReport(registry.timerSnapshots(), registry.counterValues());
+    }
+    
+    @ReadOperation
+    public TimerSnapshot timer(@Selector String name) {
+        return registry.timerSnapshot(name);
+    }
+    
+    @DeleteOperation
+    public void reset() {
+        registry.reset();
+    }
+    
+    public record MetricsReport(List<TimerSnapshot> timers, Map<String, Long> counters) {
+    }
+}
\ No newline at end of file
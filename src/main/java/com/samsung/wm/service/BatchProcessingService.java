@@ -0,0 +1,265 @@
+package com.samsung.wm.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.exception.ValidationError;
+import com.samsung.common.exception.ValidationResult;
+import com.samsung.wm.dto.request.ConsultationRequestDto;
+import com.samsung.wm.dto.request.InvestmentRequestDto;
+import com.samsung.wm.dto.response.BatchItemResponse;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * 일괄 요청 스트리밍 처리 서비스
+ * JSON 배열 요청을 한 건씩 읽어 병렬로 처리하고 완료되는 순서대로 NDJSON 한 줄씩 기록한다.
+ * 
+ * 메모리: 요청 전체를 적재하지 않으며, 배치당 처리 중이거나 기록 대기 중인 건수가
+ * max-in-flight를 넘지 않으므로 10만 건 배치도 사용량이 일정하다.
+ * 호출 스레드가 파싱, 제출, 기록을 모두 담당하므로 출력 스트림에 대한 동기화가 필요 없다.
+ */
+@Slf4j
+@Service
+public class BatchProcessingService {
+    
+    private final InvestmentPlanningService investmentPlanningService;
+    private final ConsultationService consultationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ThreadPoolTaskExecutor wmBatchExecutor;
+    private final int maxInFlight;
+    
+    public BatchProcessingService(InvestmentPlanningService investmentPlanningService,
+                                  ConsultationService consultationService,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  ThreadPoolTaskExecutor wmBatchExecutor,
+                                  @Value("${wm.batch.max-in-flight:64}") int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("wm.batch.max-in-flight는 1 이상이어야 합니다");
+        }
+        this.investmentPlanningService = investmentPlanningService;
+        this.consultationService = consultationService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.wmBatchExecutor = wmBatchExecutor;
+        this.maxInFlight = maxInFlight;
+    }
+    
+    /**
+     * 투자 계획 일괄 수립
+     * 
+     * @param in InvestmentRequestDto JSON 배열
+     * @param out NDJSON 출력 스트림
+     * @return 처리 요약
+     */
+    public BatchSummary processInvestmentPlans(InputStream in, OutputStream out) throws IOException {
+        return process(in, out, InvestmentRequestDto.class, InvestmentRequestDto::getCustomerId,
+            BatchProcessingService::toInvestmentRequest,
+            investmentPlanningService::validate,
+            investmentPlanningService::createValidatedInvestmentPlan);
+    }
+    
+    private static InvestmentRequest toInvestmentRequest(InvestmentRequestDto dto) {
+        return new InvestmentRequest(
+            dto.getCustomerId(),
+            dto.getInvestmentAmount(),
+            dto.getRiskProfile(),
+            dto.getInvestmentPeriod(),
+            dto.getInvestmentGoal(),
+            dto.isHasExistingPortfolio()
+        );
+    }
+    
+    /**
+     * 고객 상담 일괄 실행
+     * 
+     * @param in ConsultationRequestDto JSON 배열
+     * @param out NDJSON 출력 스트림
+     * @return 처리 요약
+     */
+    public BatchSummary processConsultations(InputStream in, OutputStream out) throws IOException {
+        return process(in, out, ConsultationRequestDto.class, ConsultationRequestDto::getCustomerId,
+            Function.identity(),
+            dto -> consultationService.validate(dto.getCustomerId(), dto.getConsultationType()),
+            dto -> consultationService.conductValidatedConsultation(dto.getCustomerId(), dto.getConsultationType()));
+    }
+    
+    /**
+     * JSON 배열 스트리밍 처리
+     * 건별 실패(검증, 업무 오류)는 FAILED 줄로 기록하고 나머지 처리를 계속한다.
+     * 항목은 파싱 스레드에서 한 번만 업무 요청으로 변환(converter)하고, 업무 규칙 검증(rules)도 예외 없이 한 번만 수행한다.
+     * 잘못된 건은 실행기에 제출하지도 예외를 던지지도 않으며, 통과한 건은 검증을 생략하는 처리기(handler)로 실행한다.
+     * 배열 구조가 깨지거나 항목을 역직렬화할 수 없으면 이후 위치를 신뢰할 수 없으므로 처리를 중단한다.
+     */
+    <T, R> BatchSummary process(InputStream in, OutputStream out, Class<T> itemType,
+                                Function<T, String> keyExtractor, Function<T, R> converter,
+                                Function<R, ValidationResult> rules, Function<R, Object> handler) throws IOException {
+        long startNanos = System.nanoTime();
+        ObjectReader reader = objectMapper.readerFor(itemType);
+        BlockingQueue<BatchItemResponse> completed = new LinkedBlockingQueue<>();
+        BatchSummary summary = new BatchSummary();
+        int inFlight = 0;
+        
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            // 응답을 쓰기 전에 형식을 확인해야 오류 상태 코드로 응답할 수 있음
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException(ErrorCodes.INVALID_FORMAT, "일괄 요청은 JSON 배열이어야 합니다");
+            }
+            SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+            
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new BusinessException(ErrorCodes.INVALID_FORMAT, "일괄 요청 배열이 닫히지 않았습니다 (index: " + index + ")");
+                }
+                T item = reader.readValue(parser);
+                
+                // 상한에 도달하면 완료 건을 기록하며 대기 (역압)
+                while (inFlight >= maxInFlight) {
+                    write(writer, awaitCompleted(writer, completed), summary);
+                    inFlight--;
+                }
+                
+                BatchItemResponse rejected = validate(index, item, keyExtractor);
+                if (rejected == null) {
+                    R request = converter.apply(item);
+                    ValidationError error = rules.apply(request).getFirstError();
+                    if (error != null) {
+                        rejected = BatchItemResponse.failed(index, keyExtractor.apply(item),
+                            error.getErrorCode(), error.getMessage());
+                    } else {
+                        submit(index, keyExtractor.apply(item), request, handler, completed);
+                        inFlight++;
+                    }
+                }
+                if (rejected != null) {
+                    write(writer, rejected, summary);
+                }
+                index++;
+                
+                BatchItemResponse done;
+                while ((done = completed.poll()) != null) {
+                    write(writer, done, summary);
+                    inFlight--;
+                }
+            }
+            
+            while (inFlight > 0) {
+                write(writer, awaitCompleted(writer, completed), summary);
+                inFlight--;
+            }
+            // 구분자는 줄 사이에만 기록되므로 마지막 줄도 개행으로 종료 (NDJSON)
+            writer.flush();
+            if (summary.total > 0) {
+                out.write('\n');
+            }
+            writer.close();
+        }
+        
+        summary.elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        log.info("일괄 처리 완료 - type: {}, total: {}, succeeded: {}, failed: {}, elapsed: {}ms",
+                itemType.getSimpleName(), summary.total, summary.succeeded, summary.failed, summary.elapsedMillis);
+        return summary;
+    }
+    
+    /**
+     * 요청 항목 형식 검증 (null, Bean Validation)
+     */
+    private <T> BatchItemResponse validate(int index, T item, Function<T, String> keyExtractor) {
+        if (item == null) {
+            return BatchItemResponse.failed(index, null, ErrorCodes.NULL_PARAMETER, "요청 항목이 null입니다");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> first = violations.iterator().next();
+            return BatchItemResponse.failed(index, keyExtractor.apply(item), ErrorCodes.VALIDATION_ERROR,
+                first.getPropertyPath() + ": " + first.getMessage());
+        }
+        return null;
+    }
+    
+    private <R> void submit(int index, String customerId, R request, Function<R, Object> handler,
+                            BlockingQueue<BatchItemResponse> completed) {
+        try {
+            wmBatchExecutor.execute(() -> completed.add(execute(index, customerId, request, handler)));
+        } catch (TaskRejectedException e) {
+            completed.add(BatchItemResponse.failed(index, customerId, ErrorCodes.SERVICE_UNAVAILABLE,
+                "일괄 처리 실행기가 종료되었습니다"));
+        }
+    }
+    
+    private static <R> BatchItemResponse execute(int index, String customerId, R request, Function<R, Object> handler) {
+        try {
+            return BatchItemResponse.success(index, customerId, handler.apply(request));
+        } catch (BusinessException e) {
+            return BatchItemResponse.failed(index, customerId, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 처리 항목 실패 - index: {}, customerId: {}", index, customerId, e);
+            return BatchItemResponse.failed(index, customerId, ErrorCodes.UNKNOWN_ERROR, e.getMessage());
+        }
+    }
+    
+    /**
+     * 완료 건 대기
+     * 대기하기 직전에만 flush하여 진행 상황은 전달하되 줄마다 flush하지 않는다.
+     */
+    private static BatchItemResponse awaitCompleted(SequenceWriter writer,
+                                                    BlockingQueue<BatchItemResponse> completed) throws IOException {
+        BatchItemResponse done = completed.poll();
+        if (done != null) {
+            return done;
+        }
+        writer.flush();
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("일괄 처리 대기 중 인터럽트되었습니다", e);
+        }
+    }
+    
+    /**
+     * 결과 한 줄 기록
+     */
+    private static void write(SequenceWriter writer, BatchItemResponse response, BatchSummary summary) throws IOException {
+        writer.write(response);
+        summary.total++;
+        if (BatchItemResponse.STATUS_SUCCESS.equals(response.status())) {
+            summary.succeeded++;
+        } else {
+            summary.failed++;
+        }
+    }
+    
+    /**
+     * 일괄 처리 요약
+     */
+    @Getter
+    public static final class BatchSummary {
+        private int total;
+        private int succeeded;
+        private int failed;
+        private long elapsedMillis;
+    }
+}
\ No newline at end of file
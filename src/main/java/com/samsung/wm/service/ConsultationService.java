@@ -1,8 +1,12 @@
 package com.samsung.wm.service;
 
 import com.samsung.common.constants.ErrorCodes;
-import com.samsung.common.exception.BusinessException;
+import com.samsung.common.exception.ValidationError;
+import com.samsung.common.exception.ValidationResult;
 import com.samsung.common.util.StringUtil;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
 import com.samsung.wm.strategy.consultation.ConsultationResult;
 import com.samsung.wm.strategy.consultation.ConsultationStrategy;
 import com.samsung.wm.strategy.consultation.impl.InitialConsultationStrategy;
@@ -21,7 +25,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ConsultationService {
     
+    // 예상된 입력 오류 (미리 생성해 스택 없이 재사용)
+    private static final ValidationError CUSTOMER_ID_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+    private static final ValidationError CONSULTATION_TYPE_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "상담 유형이 필요합니다");
+    
     private final InitialConsultationStrategy initialStrategy;
+    private final StrategyMetrics strategyMetrics;
+    private final Tracer tracer;
     // 향후 전략 추가시 여기에 주입
     // private final PeriodicConsultationStrategy periodicStrategy;
     // private final EmergencyConsultationStrategy emergencyStrategy;
@@ -34,22 +46,60 @@ public class ConsultationService {
      * @return 상담 결과
      */
     public ConsultationResult conductConsultation(String customerId, String consultationType) {
-        log.info("고객 상담 실행 - customerId: {}, type: {}", customerId, consultationType);
-        
-        // 공통 모듈을 활용한 입력 검증
+        return conductConsultation(customerId, consultationType, false);
+    }
+    
+    /**
+     * 검증을 마친 요청으로 고객 상담 실행
+     * 일괄 처리는 파싱 스레드에서 validate로 이미 검증한 건만 제출하므로 검증을 반복하지 않는다.
+     * 
+     * @param customerId 고객 ID
+     * @param consultationType 상담 유형
+     * @return 상담 결과
+     */
+    ConsultationResult conductValidatedConsultation(String customerId, String consultationType) {
+        return conductConsultation(customerId, consultationType, true);
+    }
+    
+    private ConsultationResult conductConsultation(String customerId, String consultationType, boolean validated) {
+        try (Span span = tracer.start("ConsultationService.conductConsultation")) {
+            log.info("고객 상담 실행 - customerId: {}, type: {}", customerId, consultationType);
+            
+            // 공통 모듈을 활용한 입력 검증 (첫 번째 오류를 스택 없는 BusinessException으로 던짐)
+            if (!validated) {
+                validate(customerId, consultationType).throwIfInvalid();
+            }
+            
+            // 간단한 조건문으로 전략 선택 (Factory 패턴 대신)
+            ConsultationStrategy strategy = selectStrategy(consultationType);
+            
+            // 전략 실행 (유형별 지연 시간, 추적 구간 기록)
+            long start = System.nanoTime();
+            try (Span stage = tracer.start("strategy.execute").tag("consultation.type", strategy.getType().name())) {
+                return strategy.execute(customerId);
+            } finally {
+                strategyMetrics.consultation(strategy.getType()).recordSince(start);
+            }
+        }
+    }
+    
+    /**
+     * 상담 요청 검증 (예외 없이 오류 누적)
+     * 
+     * @param customerId 고객 ID
+     * @param consultationType 상담 유형
+     * @return 검증 결과 (모든 오류 포함)
+     */
+    public ValidationResult validate(String customerId, String consultationType) {
+        ValidationResult result = new ValidationResult();
         if (StringUtil.isEmpty(customerId)) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+            result.reject(CUSTOMER_ID_REQUIRED);
         }
         
         if (StringUtil.isEmpty(consultationType)) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "상담 유형이 필요합니다");
+            result.reject(CONSULTATION_TYPE_REQUIRED);
         }
-        
-        // 간단한 조건문으로 전략 선택 (Factory 패턴 대신)
-        ConsultationStrategy strategy = selectStrategy(consultationType);
-        
-        // 전략 실행
-        return strategy.execute(customerId);
+        return result;
     }
     
     /**
@@ -65,6 +115,7 @@ public class ConsultationService {
             // case "EMERGENCY" -> emergencyStrategy;   // 향후 추가
             default -> {
                 log.warn("지원하지 않는 상담 유형: {} - 기본 전략(INITIAL) 사용", consultationType);
+                strategyMetrics.consultationFallback();
                 yield initialStrategy;  // 기본 전략
             }
         };
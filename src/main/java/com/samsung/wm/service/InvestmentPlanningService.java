@@ -2,16 +2,26 @@ package com.samsung.wm.service;
 
 import com.samsung.common.constants.ErrorCodes;
 import com.samsung.common.exception.BusinessException;
-import com.samsung.common.util.ValidationUtil;
+import com.samsung.common.exception.ValidationError;
+import com.samsung.common.exception.ValidationResult;
+import com.samsung.common.util.CoarseClock;
 import com.samsung.common.util.StringUtil;
 import com.samsung.common.converter.DataConverter;
+import com.samsung.wm.constants.WealthManagementConstants;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
 import com.samsung.wm.strategy.investment.*;
-import com.samsung.wm.strategy.investment.impl.ConservativeInvestmentStrategy;
+import com.samsung.wm.strategy.investment.simulation.MonteCarloProjectionEngine;
+import com.samsung.wm.strategy.investment.simulation.ProjectionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -23,10 +33,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InvestmentPlanningService {
     
-    private final ConservativeInvestmentStrategy conservativeStrategy;
-    // 향후 전략 추가시 여기에 주입
-    // private final AggressiveInvestmentStrategy aggressiveStrategy;
-    // private final ModerateInvestmentStrategy moderateStrategy;
+    private static final BigDecimal MIN_INVESTMENT_AMOUNT = new BigDecimal("1000000");     // 100만원
+    private static final BigDecimal MAX_INVESTMENT_AMOUNT = new BigDecimal("10000000000"); // 100억원
+    
+    // 예상된 입력 오류 (메시지가 고정되어 있으므로 미리 생성해 스택 없이 재사용)
+    private static final ValidationError REQUEST_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "투자 요청 정보가 필요합니다");
+    private static final ValidationError CUSTOMER_ID_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+    private static final ValidationError INVALID_AMOUNT =
+        ValidationError.of(ErrorCodes.INVALID_PARAMETER, "투자 금액이 유효하지 않습니다");
+    private static final ValidationError INVALID_PERIOD =
+        ValidationError.of(ErrorCodes.INVALID_PARAMETER, "투자 기간이 유효하지 않습니다");
+    private static final ValidationError AMOUNT_OUT_OF_RANGE =
+        ValidationError.of(ErrorCodes.INVALID_PARAMETER,
+            "투자 금액은 " + DataConverter.toCurrencyString(MIN_INVESTMENT_AMOUNT) +
+            "원 이상 " + DataConverter.toCurrencyString(MAX_INVESTMENT_AMOUNT) + "원 이하여야 합니다");
+    
+    private final InvestmentStrategyRegistry strategyRegistry;
+    private final MonteCarloProjectionEngine projectionEngine;
+    private final StrategyMetrics strategyMetrics;
+    private final Tracer tracer;
+    private final Clock clock;
     
     /**
      * 투자 계획 수립
@@ -35,22 +63,47 @@ public class InvestmentPlanningService {
      * @return 투자 계획
      */
     public InvestmentPlan createInvestmentPlan(InvestmentRequest request) {
-        log.info("투자 계획 수립 - customerId: {}", request.getCustomerId());
-        
-        // 공통 모듈을 활용한 입력 검증
-        validateInvestmentRequest(request);
-        
-        // 요청 정보를 바탕으로 적절한 투자 유형 결정
-        String investmentType = determineInvestmentType(request);
-        
-        // 전략 선택 및 실행
-        InvestmentStrategy strategy = selectStrategy(investmentType);
-        InvestmentPlan plan = strategy.execute(request);
-        
-        // 공통 모듈을 활용한 금융 계산으로 예상 수익률 검증
-        validateExpectedReturn(plan);
-        
-        return plan;
+        return createInvestmentPlan(request, false);
+    }
+    
+    /**
+     * 검증을 마친 요청으로 투자 계획 수립
+     * 일괄 처리는 파싱 스레드에서 validate로 이미 검증한 건만 제출하므로 검증을 반복하지 않는다.
+     * 
+     * @param request validate 결과 오류가 없는 투자 요청 정보
+     * @return 투자 계획
+     */
+    InvestmentPlan createValidatedInvestmentPlan(InvestmentRequest request) {
+        return createInvestmentPlan(request, true);
+    }
+    
+    private InvestmentPlan createInvestmentPlan(InvestmentRequest request, boolean validated) {
+        try (Span span = tracer.start("InvestmentPlanningService.createInvestmentPlan")) {
+            log.info("투자 계획 수립 - customerId: {}", request.getCustomerId());
+            
+            // 공통 모듈을 활용한 입력 검증
+            if (!validated) {
+                try (Span stage = tracer.start("investment-plan.validate")) {
+                    validateInvestmentRequest(request);
+                }
+            }
+            
+            // 요청 정보를 바탕으로 적절한 투자 유형 결정 및 전략 선택
+            InvestmentStrategy strategy;
+            try (Span stage = tracer.start("investment-plan.select-strategy")) {
+                strategy = strategyRegistry.getStrategy(determineInvestmentType(request));
+            }
+            
+            // 전략 실행 (자산 배분)
+            InvestmentPlan plan = execute(strategy, request);
+            
+            // 공통 모듈을 활용한 금융 계산으로 예상 수익률 검증
+            try (Span stage = tracer.start("investment-plan.verify-return")) {
+                validateExpectedReturn(plan);
+            }
+            
+            return plan;
+        }
     }
     
     /**
@@ -66,44 +119,91 @@ public class InvestmentPlanningService {
         validateInvestmentRequest(request);
         
         InvestmentStrategy strategy = selectStrategy(investmentType);
-        return strategy.execute(request);
+        return execute(strategy, request);
+    }
+    
+    /**
+     * 전략 실행 (유형별 지연 시간, 추적 구간 기록)
+     */
+    private InvestmentPlan execute(InvestmentStrategy strategy, InvestmentRequest request) {
+        long start = System.nanoTime();
+        try (Span span = tracer.start("strategy.execute").tag("investment.type", strategy.getType().name())) {
+            return strategy.execute(request);
+        } finally {
+            strategyMetrics.investment(strategy.getType()).recordSince(start);
+        }
+    }
+    
+    /**
+     * 투자 계획 일괄 수립
+     * 캠페인 등 대량 요청을 한 번의 순회로 검증, 유형 분류, 자산 배분까지 처리
+     * 건별 로그 없이 일괄 건수만 기록하며 생성 시각은 일괄 처리 시작 시각으로 통일
+     * 
+     * @param requests 투자 요청 목록
+     * @return 요청 순서와 동일한 투자 계획 목록
+     */
+    public List<InvestmentPlan> createInvestmentPlans(List<InvestmentRequest> requests) {
+        if (requests == null) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "투자 요청 목록이 필요합니다");
+        }
+        log.info("투자 계획 일괄 수립 - count: {}", requests.size());
+        
+        LocalDateTime createdAt = CoarseClock.now(clock);
+        InvestmentPlan[] plans = new InvestmentPlan[requests.size()];
+        for (int i = 0; i < plans.length; i++) {
+            InvestmentRequest request = requests.get(i);
+            validateInvestmentRequest(request);
+            
+            InvestmentStrategy strategy = strategyRegistry.getStrategy(determineInvestmentType(request));
+            plans[i] = strategy.createPlan(request, createdAt);
+        }
+        
+        log.info("투자 계획 일괄 수립 완료 - count: {}", plans.length);
+        return Arrays.asList(plans);
     }
     
     /**
      * 투자 요청 검증
-     * 공통 모듈을 활용한 입력값 검증
+     * 첫 번째 오류를 스택 없는 BusinessException으로 던짐
      */
     private void validateInvestmentRequest(InvestmentRequest request) {
+        validate(request).throwIfInvalid();
+    }
+    
+    /**
+     * 투자 요청 검증 (예외 없이 오류 누적)
+     * 일괄 처리에서 잘못된 건을 예외 없이 실패로 기록할 때 사용하며, 오류 순서는 단건 API가 던지는 순서와 같다.
+     * 
+     * @param request 투자 요청 정보
+     * @return 검증 결과 (모든 오류 포함)
+     */
+    public ValidationResult validate(InvestmentRequest request) {
+        ValidationResult result = new ValidationResult();
         if (request == null) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "투자 요청 정보가 필요합니다");
+            return result.reject(REQUEST_REQUIRED);
         }
         
         if (StringUtil.isEmpty(request.getCustomerId())) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+            result.reject(CUSTOMER_ID_REQUIRED);
         }
         
         // 투자 금액 검증
-        if (request.getInvestmentAmount() == null || 
-            request.getInvestmentAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "투자 금액이 유효하지 않습니다");
+        BigDecimal amount = request.getInvestmentAmount();
+        boolean positive = amount != null && amount.signum() > 0;
+        if (!positive) {
+            result.reject(INVALID_AMOUNT);
         }
         
         // 투자 기간 검증
         if (StringUtil.isEmpty(request.getInvestmentPeriod())) {
-            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "투자 기간이 유효하지 않습니다");
+            result.reject(INVALID_PERIOD);
         }
         
         // 투자 금액 범위 검증 (100만원 ~ 100억원)
-        BigDecimal minAmount = new BigDecimal("1000000");     // 100만원
-        BigDecimal maxAmount = new BigDecimal("10000000000"); // 100억원
-        
-        if (!ValidationUtil.isInRange(request.getInvestmentAmount().doubleValue(), 
-                                    minAmount.doubleValue(), 
-                                    maxAmount.doubleValue())) {
-            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, 
-                "투자 금액은 " + DataConverter.toCurrencyString(minAmount) + 
-                "원 이상 " + DataConverter.toCurrencyString(maxAmount) + "원 이하여야 합니다");
+        if (positive && (amount.compareTo(MIN_INVESTMENT_AMOUNT) < 0 || amount.compareTo(MAX_INVESTMENT_AMOUNT) > 0)) {
+            result.reject(AMOUNT_OUT_OF_RANGE);
         }
+        return result;
     }
     
     /**
@@ -113,35 +213,50 @@ public class InvestmentPlanningService {
      * @return 선택된 전략
      */
     private InvestmentStrategy selectStrategy(String investmentType) {
-        return switch (investmentType.toUpperCase()) {
-            case "CONSERVATIVE" -> conservativeStrategy;
-            // case "AGGRESSIVE" -> aggressiveStrategy;    // 향후 추가
-            // case "MODERATE" -> moderateStrategy;        // 향후 추가
-            default -> {
-                log.warn("지원하지 않는 투자 유형: {} - 기본 전략(CONSERVATIVE) 사용", investmentType);
-                yield conservativeStrategy;  // 기본 전략
-            }
-        };
+        InvestmentType type = InvestmentType.from(investmentType);
+        if (type == null) {
+            log.warn("지원하지 않는 투자 유형: {} - 기본 전략(CONSERVATIVE) 사용", investmentType);
+            strategyMetrics.investmentFallback();
+            return strategyRegistry.getDefaultStrategy();  // 기본 전략
+        }
+        return strategyRegistry.getStrategy(type);
     }
     
     /**
      * 고객 프로필을 바탕으로 적절한 투자 유형 결정
+     * 투자 목표(ESG, 인컴, 성장)를 우선 반영하고 나머지는 위험성향으로 결정
      * 
      * @param request 투자 요청 정보
      * @return 투자 유형
      */
-    private String determineInvestmentType(InvestmentRequest request) {
-        // 현재는 보수적 전략을 기본으로 사용
-        // 향후 고객의 위험성향, 투자경험, 투자목표 등을 종합적으로 분석하여 결정
-        if (StringUtil.isNotEmpty(request.getRiskProfile())) {
-            return switch (request.getRiskProfile().toUpperCase()) {
-                case "LOW", "CONSERVATIVE" -> "CONSERVATIVE";
-                case "MEDIUM", "MODERATE" -> "CONSERVATIVE"; // 현재는 보수적 전략만 구현
-                case "HIGH", "AGGRESSIVE" -> "CONSERVATIVE"; // 현재는 보수적 전략만 구현
-                default -> "CONSERVATIVE";
-            };
-        }
-        return "CONSERVATIVE";
+    private InvestmentType determineInvestmentType(InvestmentRequest request) {
+        String riskProfile = request.getRiskProfile();
+        String goal = request.getInvestmentGoal();
+        boolean aggressive = isOneOf(riskProfile, "HIGH", "AGGRESSIVE");
+        
+        if (WealthManagementConstants.INVESTMENT_GOAL_ESG.equalsIgnoreCase(goal)) {
+            return InvestmentType.ESG;
+        }
+        if (WealthManagementConstants.INVESTMENT_GOAL_INCOME.equalsIgnoreCase(goal) && !aggressive) {
+            return InvestmentType.INCOME_FOCUSED;
+        }
+        if (WealthManagementConstants.INVESTMENT_GOAL_GROWTH.equalsIgnoreCase(goal) && aggressive) {
+            return InvestmentType.GROWTH_ORIENTED;
+        }
+        if (aggressive) {
+            return InvestmentType.AGGRESSIVE;
+        }
+        if (isOneOf(riskProfile, "MEDIUM", "MODERATE")) {
+            return InvestmentType.MODERATE;
+        }
+        return InvestmentType.CONSERVATIVE;
+    }
+    
+    /**
+     * 대소문자 무시 비교 (문자열 변환 없이 비교)
+     */
+    private static boolean isOneOf(String value, String first, String second) {
+        return value != null && (value.equalsIgnoreCase(first) || value.equalsIgnoreCase(second));
     }
     
     /**
@@ -149,14 +264,36 @@ public class InvestmentPlanningService {
      * 공통 모듈의 금융 계산을 활용한 수익률 검증
      */
     private void validateExpectedReturn(InvestmentPlan plan) {
-        if (StringUtil.isNotEmpty(plan.getExpectedReturn())) {
-            // 예상 수익률이 "연 3-5%" 형태이므로 로그로만 확인
+        // 예상 수익률이 "연 3-5%" 형태이므로 로그로만 확인 (샘플링 제외 시 금액 포맷 생략)
+        if (StringUtil.isNotEmpty(plan.getExpectedReturn()) && log.isInfoEnabled()) {
             log.info("투자 계획 검증 완료 - 투자 금액: {}, 예상 수익률: {}", 
                     DataConverter.toCurrencyString(plan.getTotalAmount()),
                     plan.getExpectedReturn());
         }
     }
     
+    /**
+     * 투자 계획의 목표 달성 확률 시뮬레이션
+     * 고객 ID 기반 시드를 사용하므로 같은 계획은 항상 같은 결과를 반환
+     * 
+     * @param plan 투자 계획
+     * @param goalAmount 목표 금액
+     * @param monthlyContribution 월 적립 금액
+     * @param months 투자 기간 (개월)
+     * @return 시뮬레이션 결과 (백분위 평가금액, 목표 달성 확률)
+     */
+    public ProjectionResult projectInvestmentPlan(InvestmentPlan plan, BigDecimal goalAmount,
+                                                  BigDecimal monthlyContribution, int months) {
+        if (plan == null) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "투자 계획 정보가 필요합니다");
+        }
+        log.info("투자 계획 목표 달성 시뮬레이션 - customerId: {}, months: {}", plan.getCustomerId(), months);
+        
+        long seed = plan.getCustomerId() != null ? plan.getCustomerId().hashCode() : 0L;
+        return projectionEngine.project(plan, goalAmount, monthlyContribution, months,
+                                        MonteCarloProjectionEngine.DEFAULT_PATHS, seed);
+    }
+    
     /**
      * 고객별 투자 계획 목록 조회
      * 
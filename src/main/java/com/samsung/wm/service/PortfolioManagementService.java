@@ -1,10 +1,18 @@
 package com.samsung.wm.service;
 
 import com.samsung.common.constants.ErrorCodes;
-import com.samsung.common.exception.BusinessException;
+import com.samsung.common.exception.ValidationError;
+import com.samsung.common.exception.ValidationResult;
 import com.samsung.common.util.StringUtil;
+import com.samsung.wm.metrics.StrategyMetrics;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
 import com.samsung.wm.strategy.portfolio.*;
+import com.samsung.wm.strategy.portfolio.impl.DividendReinvestmentStrategy;
+import com.samsung.wm.strategy.portfolio.impl.PerformanceReviewStrategy;
 import com.samsung.wm.strategy.portfolio.impl.RebalancingStrategy;
+import com.samsung.wm.strategy.portfolio.impl.RiskMonitoringStrategy;
+import com.samsung.wm.strategy.portfolio.impl.TaxOptimizationStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,10 +28,25 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PortfolioManagementService {
     
+    // 예상된 입력 오류 (미리 생성해 스택 없이 재사용)
+    private static final ValidationError REQUEST_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "포트폴리오 관리 요청 정보가 필요합니다");
+    private static final ValidationError PORTFOLIO_ID_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "포트폴리오 ID가 필요합니다");
+    private static final ValidationError MANAGEMENT_TYPE_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "관리 유형이 필요합니다");
+    private static final ValidationError CUSTOMER_ID_REQUIRED =
+        ValidationError.of(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+    
     private final RebalancingStrategy rebalancingStrategy;
+    private final PerformanceReviewStrategy performanceReviewStrategy;
+    private final RiskMonitoringStrategy riskMonitoringStrategy;
+    private final TaxOptimizationStrategy taxOptimizationStrategy;
+    private final DividendReinvestmentStrategy dividendReinvestmentStrategy;
+    private final StrategyMetrics strategyMetrics;
+    private final Tracer tracer;
     // 향후 전략 추가시 여기에 주입
     // private final OptimizationStrategy optimizationStrategy;
-    // private final RiskManagementStrategy riskManagementStrategy;
     
     /**
      * 포트폴리오 관리 실행
@@ -32,35 +55,54 @@ public class PortfolioManagementService {
      * @return 관리 결과
      */
     public PortfolioManagementResult managePortfolio(PortfolioRequest request) {
-        log.info("포트폴리오 관리 실행 - portfolioId: {}, type: {}", 
-                request.getPortfolioId(), request.getManagementType());
-        
-        // 공통 모듈을 활용한 입력 검증
-        validatePortfolioRequest(request);
-        
-        // 간단한 조건문으로 전략 선택 (Factory 패턴 대신)
-        PortfolioStrategy strategy = selectStrategy(request.getManagementType());
-        
-        // 전략 실행
-        return strategy.execute(request);
+        try (Span span = tracer.start("PortfolioManagementService.managePortfolio")) {
+            log.info("포트폴리오 관리 실행 - portfolioId: {}, type: {}", 
+                    request.getPortfolioId(), request.getManagementType());
+            
+            // 공통 모듈을 활용한 입력 검증
+            validatePortfolioRequest(request);
+            
+            // 간단한 조건문으로 전략 선택 (Factory 패턴 대신)
+            PortfolioStrategy strategy = selectStrategy(request.getManagementType());
+            
+            // 전략 실행 (유형별 지연 시간, 추적 구간 기록)
+            long start = System.nanoTime();
+            try (Span stage = tracer.start("strategy.execute").tag("portfolio.type", strategy.getType().name())) {
+                return strategy.execute(request);
+            } finally {
+                strategyMetrics.portfolio(strategy.getType()).recordSince(start);
+            }
+        }
     }
     
     /**
      * 포트폴리오 관리 요청 검증
-     * 공통 모듈을 활용한 입력값 검증
+     * 첫 번째 오류를 스택 없는 BusinessException으로 던짐
      */
     private void validatePortfolioRequest(PortfolioRequest request) {
+        validate(request).throwIfInvalid();
+    }
+    
+    /**
+     * 포트폴리오 관리 요청 검증 (예외 없이 오류 누적)
+     * 
+     * @param request 포트폴리오 관리 요청
+     * @return 검증 결과 (모든 오류 포함)
+     */
+    public ValidationResult validate(PortfolioRequest request) {
+        ValidationResult result = new ValidationResult();
         if (request == null) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "포트폴리오 관리 요청 정보가 필요합니다");
+            return result.reject(REQUEST_REQUIRED);
         }
         
         if (StringUtil.isEmpty(request.getPortfolioId())) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "포트폴리오 ID가 필요합니다");
+            result.reject(PORTFOLIO_ID_REQUIRED);
         }
         
         if (request.getManagementType() == null) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "관리 유형이 필요합니다");
+            result.reject(MANAGEMENT_TYPE_REQUIRED);
         }
+        return result;
     }
     
     /**
@@ -72,10 +114,14 @@ public class PortfolioManagementService {
     private PortfolioStrategy selectStrategy(PortfolioManagementType managementType) {
         return switch (managementType) {
             case REBALANCING -> rebalancingStrategy;
+            case PERFORMANCE_REVIEW -> performanceReviewStrategy;
+            case RISK_MONITORING -> riskMonitoringStrategy;
+            case TAX_OPTIMIZATION -> taxOptimizationStrategy;
+            case DIVIDEND_REINVESTMENT -> dividendReinvestmentStrategy;
             // case OPTIMIZATION -> optimizationStrategy;     // 향후 추가
-            // case RISK_MANAGEMENT -> riskManagementStrategy; // 향후 추가
             default -> {
                 log.warn("지원하지 않는 관리 유형: {} - 기본 전략(REBALANCING) 사용", managementType);
+                strategyMetrics.portfolioFallback();
                 yield rebalancingStrategy;  // 기본 전략
             }
         };
@@ -92,7 +138,7 @@ public class PortfolioManagementService {
         
         // 공통 모듈을 활용한 입력 검증
         if (StringUtil.isEmpty(customerId)) {
-            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "고객 ID가 필요합니다");
+            throw CUSTOMER_ID_REQUIRED.getException();
         }
         
         // 실제로는 데이터베이스에서 포트폴리오를 조회
@@ -5,6 +5,8 @@ import com.samsung.wm.strategy.investment.InvestmentPlan;
 import com.samsung.wm.strategy.investment.InvestmentRequest;
 import com.samsung.wm.strategy.portfolio.PortfolioManagementResult;
 import com.samsung.wm.strategy.portfolio.PortfolioRequest;
+import com.samsung.wm.tracing.Span;
+import com.samsung.wm.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ public class WealthManagementService {
     private final ConsultationService consultationService;
     private final InvestmentPlanningService investmentPlanningService;
     private final PortfolioManagementService portfolioManagementService;
+    private final Tracer tracer;
     
     /**
      * 고객 초기 상담 실행
@@ -28,8 +31,10 @@ public class WealthManagementService {
      * @return 상담 결과
      */
     public ConsultationResult conductInitialConsultation(String customerId) {
-        log.info("고객 초기 상담 시작 - customerId: {}", customerId);
-        return consultationService.conductConsultation(customerId, "INITIAL");
+        try (Span span = tracer.start("WealthManagementService.conductInitialConsultation")) {
+            log.info("고객 초기 상담 시작 - customerId: {}", customerId);
+            return consultationService.conductConsultation(customerId, "INITIAL");
+        }
     }
     
     /**
@@ -39,8 +44,10 @@ public class WealthManagementService {
      * @return 투자 계획
      */
     public InvestmentPlan createInvestmentPlan(InvestmentRequest request) {
-        log.info("투자 계획 수립 - customerId: {}", request.getCustomerId());
-        return investmentPlanningService.createInvestmentPlan(request);
+        try (Span span = tracer.start("WealthManagementService.createInvestmentPlan")) {
+            log.info("투자 계획 수립 - customerId: {}", request.getCustomerId());
+            return investmentPlanningService.createInvestmentPlan(request);
+        }
     }
     
     /**
@@ -50,8 +57,10 @@ public class WealthManagementService {
      * @return 관리 결과
      */
     public PortfolioManagementResult executeRebalancing(PortfolioRequest request) {
-        log.info("포트폴리오 리밸런싱 실행 - portfolioId: {}", request.getPortfolioId());
-        return portfolioManagementService.managePortfolio(request);
+        try (Span span = tracer.start("WealthManagementService.executeRebalancing")) {
+            log.info("포트폴리오 리밸런싱 실행 - portfolioId: {}", request.getPortfolioId());
+            return portfolioManagementService.managePortfolio(request);
+        }
     }
     
     /**
@@ -61,11 +70,13 @@ public class WealthManagementService {
      * @return 대시보드 정보
      */
     public WealthManagementDashboard generateDashboard(String customerId) {
-        log.info("자산관리 대시보드 생성 - customerId: {}", customerId);
-        
-        // 각 서비스로부터 정보를 수집하여 통합 대시보드 생성
-        return WealthManagementDashboard.builder()
-            .customerId(customerId)
-            .build();
+        try (Span span = tracer.start("WealthManagementService.generateDashboard")) {
+            log.info("자산관리 대시보드 생성 - customerId: {}", customerId);
+            
+            // 각 서비스로부터 정보를 수집하여 통합 대시보드 생성
+            return WealthManagementDashboard.builder()
+                .customerId(customerId)
+                .build();
+        }
     }
 }
\ No newline at end of file
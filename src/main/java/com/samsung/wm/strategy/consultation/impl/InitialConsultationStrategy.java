@@ -1,29 +1,64 @@
 package com.samsung.wm.strategy.consultation.impl;
 
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.integration.repository.Customer;
+import com.samsung.wm.integration.repository.CustomerRepository;
 import com.samsung.wm.strategy.consultation.ConsultationResult;
 import com.samsung.wm.strategy.consultation.ConsultationStrategy;
 import com.samsung.wm.strategy.consultation.ConsultationType;
+import com.samsung.wm.strategy.consultation.risk.RiskAnswers;
+import com.samsung.wm.strategy.consultation.risk.RiskAssessment;
+import com.samsung.wm.strategy.consultation.risk.RiskProfilingEngine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 초기 고객 상담 전략 구현체
+ * 고객 속성(연령, 총자산, 등급)과 투자성향 설문 응답으로 투자성향을 채점해 상담 결과에 담는다.
+ * 고객 저장소 빈이 없거나 고객을 찾지 못하면 속성은 '모름'으로 채점한다.
  */
 @Slf4j
 @Component
 public class InitialConsultationStrategy implements ConsultationStrategy {
     
+    private final RiskProfilingEngine riskProfilingEngine;
+    private final ObjectProvider<CustomerRepository> customerRepository;
+    private final Clock clock;
+    
+    public InitialConsultationStrategy(RiskProfilingEngine riskProfilingEngine,
+                                       ObjectProvider<CustomerRepository> customerRepository, Clock clock) {
+        this.riskProfilingEngine = riskProfilingEngine;
+        this.customerRepository = customerRepository;
+        this.clock = clock;
+    }
+    
     @Override
     public ConsultationResult execute(String customerId) {
+        return execute(customerId, RiskAnswers.none());
+    }
+    
+    /**
+     * 설문 응답을 포함한 초기 상담 실행
+     * 
+     * @param customerId 고객 ID
+     * @param answers 투자성향 설문 응답
+     * @return 상담 결과
+     */
+    public ConsultationResult execute(String customerId, RiskAnswers answers) {
         log.info("초기 상담 전략 실행 - customerId: {}", customerId);
         
-        // 초기 상담 로직 구현
+        RiskAssessment assessment = riskProfilingEngine.assess(customerId, findCustomer(customerId), answers);
+        
         Map<String, Object> details = new HashMap<>();
-        details.put("riskProfile", "conservative");
+        details.put("riskProfile", assessment.getRiskProfile());
+        details.put("riskGrade", assessment.getGrade().name());
+        details.put("riskScore", assessment.getScore());
+        details.put("riskModelVersion", assessment.getModelVersion());
         details.put("investmentGoal", "장기투자");
         details.put("initialAmount", 10000000);
         
@@ -32,11 +67,16 @@ public class InitialConsultationStrategy implements ConsultationStrategy {
             ConsultationType.INITIAL,
             "초기 상담이 성공적으로 완료되었습니다.",
             details,
-            LocalDateTime.now(),
+            CoarseClock.now(clock),
             true
         );
     }
     
+    private Customer findCustomer(String customerId) {
+        CustomerRepository repository = customerRepository.getIfAvailable();
+        return repository != null ? repository.findById(customerId).orElse(null) : null;
+    }
+    
     @Override
     public ConsultationType getType() {
         return ConsultationType.INITIAL;
@@ -0,0 +1,24 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 고객 기반 일괄 재채점 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoringReport {
+    
+    private String modelVersion;
+    private int customers;
+    private long changed; // 등급이 바뀐 고객 수 (처음 채점한 고객 포함)
+    private Map<RiskGrade, Long> gradeCounts;
+    private long elapsedMillis;
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+
+import java.util.Arrays;
+
+/**
+ * 투자성향 설문 응답
+ * 문항별 선택지 코드(0부터)를 보관하며, 응답하지 않은 문항은 '모름/미응답' 코드로 인코딩된다.
+ */
+public final class RiskAnswers {
+    
+    private final byte[] options = new byte[RiskFactor.count()];
+    
+    public RiskAnswers() {
+        for (int i = 0; i < options.length; i++) {
+            options[i] = (byte) RiskFactor.at(i).unknown();
+        }
+    }
+    
+    /**
+     * 응답 없음 (모든 문항 미응답)
+     */
+    public static RiskAnswers none() {
+        return new RiskAnswers();
+    }
+    
+    /**
+     * 문항 응답 기록
+     * 
+     * @param question 설문 문항
+     * @param option 선택지 코드 (0 ~ 선택지 수 - 1)
+     * @return this
+     */
+    public RiskAnswers answer(RiskFactor question, int option) {
+        if (question == null || !question.isQuestion()) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "설문 문항이 아닙니다: " + question);
+        }
+        if (option < 0 || option >= question.getOptions()) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER,
+                question.getDisplayName() + " 응답은 0~" + (question.getOptions() - 1) + "이어야 합니다");
+        }
+        options[question.ordinal()] = (byte) option;
+        return this;
+    }
+    
+    /**
+     * 문항 응답 코드 (미응답이면 '모름/미응답' 코드)
+     */
+    public int get(RiskFactor question) {
+        return options[question.ordinal()];
+    }
+    
+    @Override
+    public String toString() {
+        return "RiskAnswers" + Arrays.toString(options);
+    }
+}
\ No newline at end of file
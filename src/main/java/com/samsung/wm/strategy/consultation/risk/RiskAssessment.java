@@ -0,0 +1,22 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 투자성향 평가 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskAssessment {
+    
+    private String customerId;
+    private double score;
+    private RiskGrade grade;
+    private String riskProfile; // conservative, moderate, aggressive
+    private String modelVersion;
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+/**
+ * 투자성향 평가 요인 열거형
+ * 고객 속성(연령, 총자산, 등급)과 투자성향 설문 문항을 같은 방식으로 다룬다.
+ * 각 요인은 0부터 시작하는 선택지 코드로 인코딩되며, 마지막 코드(options)는 '모름/미응답'이다.
+ */
+public enum RiskFactor {
+    
+    // 고객 속성 (Customer에서 인코딩)
+    AGE("연령", 6, false),                          // ~29, 30~39, 40~49, 50~59, 60~64, 65~
+    TOTAL_ASSETS("총자산", 6, false),               // ~1천만, ~5천만, ~1억, ~5억, ~10억, 10억 이상
+    CUSTOMER_GRADE("고객 등급", 4, false),          // BRONZE, SILVER, GOLD, VIP
+    
+    // 투자성향 설문
+    INVESTMENT_PERIOD("투자 예정 기간", 5, true),    // ~6개월, ~1년, ~2년, ~3년, 3년 이상
+    INVESTMENT_EXPERIENCE("투자 경험", 5, true),     // 예적금, 채권/ELB, 펀드/주식, ELS/해외, 파생상품
+    FINANCIAL_KNOWLEDGE("금융상품 이해도", 4, true), // 낮음 ~ 매우 높음
+    FINANCIAL_ASSET_RATIO("총자산 대비 금융자산 비중", 5, true), // ~10%, ~20%, ~30%, ~40%, 40% 초과
+    INCOME_SOURCE("수입원", 3, true),                // 안정적·증가 예상, 안정적·감소 예상, 불안정/없음
+    LOSS_TOLERANCE("손실 감내 수준", 4, true);       // 원금 보전, 10% 이내, 20% 이내, 감내 가능
+    
+    private static final RiskFactor[] VALUES = values();
+    
+    private final String displayName;
+    private final int options;
+    private final boolean question;
+    
+    RiskFactor(String displayName, int options, boolean question) {
+        this.displayName = displayName;
+        this.options = options;
+        this.question = question;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    /**
+     * 선택지 수 ('모름/미응답' 제외)
+     */
+    public int getOptions() {
+        return options;
+    }
+    
+    /**
+     * 코드 수 ('모름/미응답' 포함)
+     */
+    public int getCategories() {
+        return options + 1;
+    }
+    
+    /**
+     * '모름/미응답' 코드
+     */
+    public int unknown() {
+        return options;
+    }
+    
+    /**
+     * 설문 문항 여부 (false면 고객 속성)
+     */
+    public boolean isQuestion() {
+        return question;
+    }
+    
+    /**
+     * 요인 수 (특성 벡터 길이)
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+    
+    static RiskFactor at(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
\ No newline at end of file
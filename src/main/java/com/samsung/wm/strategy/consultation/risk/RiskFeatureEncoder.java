@@ -0,0 +1,96 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import com.samsung.wm.integration.repository.Customer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 투자성향 특성 인코더
+ * 고객 속성과 설문 응답을 요인별 선택지 코드(byte, RiskFactor 순서)로 변환한다.
+ * 코드 벡터는 채점 모델과 무관하므로 한 번 인코딩해 두면 모델이 바뀔 때 다시 인코딩하지 않고 재채점할 수 있다.
+ * 연령은 기준일 기준 만 나이로 구간을 정한다.
+ */
+public final class RiskFeatureEncoder {
+    
+    private static final int[] AGE_UPPER_BOUNDS = {30, 40, 50, 60, 65};
+    private static final BigDecimal[] ASSET_UPPER_BOUNDS = {
+        BigDecimal.valueOf(10_000_000L),
+        BigDecimal.valueOf(50_000_000L),
+        BigDecimal.valueOf(100_000_000L),
+        BigDecimal.valueOf(500_000_000L),
+        BigDecimal.valueOf(1_000_000_000L)
+    };
+    private static final String[] GRADES = {"BRONZE", "SILVER", "GOLD", "VIP"};
+    
+    private RiskFeatureEncoder() {
+    }
+    
+    /**
+     * 고객 속성과 설문 응답을 대상 배열의 지정 위치부터 RiskFactor.count()개 코드로 기록
+     * 
+     * @param customer 고객 (null이면 속성을 모두 '모름'으로 인코딩)
+     * @param answers 설문 응답 (null이면 모두 미응답)
+     * @param today 연령 계산 기준일
+     * @param out 대상 배열
+     * @param offset 기록 시작 위치
+     */
+    public static void encode(Customer customer, RiskAnswers answers, LocalDate today, byte[] out, int offset) {
+        out[offset + RiskFactor.AGE.ordinal()] = (byte) ageBand(customer != null ? customer.getBirthDate() : null, today);
+        out[offset + RiskFactor.TOTAL_ASSETS.ordinal()] = (byte) assetBand(customer != null ? customer.getTotalAssets() : null);
+        out[offset + RiskFactor.CUSTOMER_GRADE.ordinal()] = (byte) gradeCode(customer != null ? customer.getCustomerGrade() : null);
+        for (int i = 0; i < RiskFactor.count(); i++) {
+            RiskFactor factor = RiskFactor.at(i);
+            if (factor.isQuestion()) {
+                out[offset + i] = (byte) (answers != null ? answers.get(factor) : factor.unknown());
+            }
+        }
+    }
+    
+    /**
+     * 새 코드 벡터로 인코딩
+     */
+    public static byte[] encode(Customer customer, RiskAnswers answers, LocalDate today) {
+        byte[] codes = new byte[RiskFactor.count()];
+        encode(customer, answers, today, codes, 0);
+        return codes;
+    }
+    
+    static int ageBand(LocalDate birthDate, LocalDate today) {
+        if (birthDate == null || birthDate.isAfter(today)) {
+            return RiskFactor.AGE.unknown();
+        }
+        int age = today.getYear() - birthDate.getYear();
+        if (today.getMonthValue() < birthDate.getMonthValue()
+            || (today.getMonthValue() == birthDate.getMonthValue() && today.getDayOfMonth() < birthDate.getDayOfMonth())) {
+            age--;
+        }
+        int band = 0;
+        while (band < AGE_UPPER_BOUNDS.length && age >= AGE_UPPER_BOUNDS[band]) {
+            band++;
+        }
+        return band;
+    }
+    
+    static int assetBand(BigDecimal totalAssets) {
+        if (totalAssets == null || totalAssets.signum() < 0) {
+            return RiskFactor.TOTAL_ASSETS.unknown();
+        }
+        int band = 0;
+        while (band < ASSET_UPPER_BOUNDS.length && totalAssets.compareTo(ASSET_UPPER_BOUNDS[band]) >= 0) {
+            band++;
+        }
+        return band;
+    }
+    
+    static int gradeCode(String customerGrade) {
+        if (customerGrade != null) {
+            for (int i = 0; i < GRADES.length; i++) {
+                if (GRADES[i].equalsIgnoreCase(customerGrade)) {
+                    return i;
+                }
+            }
+        }
+        return RiskFactor.CUSTOMER_GRADE.unknown();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import com.samsung.wm.integration.repository.Customer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 고객 기반 투자성향 특성 행렬 (고객 × 요인)
+ * 고객별 코드 벡터를 고객 우선(row-major) byte 배열 하나에 보관하고, 마지막 채점 등급을 함께 둔다.
+ * 코드와 등급은 고객 1명당 (요인 수 + 1)바이트라 천만 명이면 약 100MB이며, 메모리에 올려 두고 모델 변경 시 재채점한다.
+ * 고객 ID 참조 배열이 1명당 4바이트(compressed oops, 아니면 8바이트), 천만 명이면 약 40MB를 더 차지하고,
+ * ID 문자열 자체(11자 Latin-1 기준 1개당 약 56바이트, 천만 명이면 약 560MB)는 다른 곳과 공유하지 않으면 별도로 든다.
+ * 
+ * 행렬 구성 후 코드는 바뀌지 않으며, 등급은 RiskProfilingEngine.rescore()만 갱신한다.
+ */
+public final class RiskFeatureMatrix {
+    
+    /**
+     * 아직 채점하지 않은 고객의 등급 값
+     */
+    public static final byte UNSCORED = -1;
+    
+    private final String[] customerIds;
+    private final byte[] codes; // codes[customer * factors + factor]
+    private final byte[] grades;
+    private final int size;
+    
+    private RiskFeatureMatrix(String[] customerIds, byte[] codes, int size) {
+        this.customerIds = customerIds;
+        this.codes = codes;
+        this.size = size;
+        this.grades = new byte[size];
+        Arrays.fill(grades, UNSCORED);
+    }
+    
+    /**
+     * @param expectedSize 예상 고객 수 (초과하면 자동 확장)
+     * @param today 연령 계산 기준일
+     */
+    public static Builder builder(int expectedSize, LocalDate today) {
+        return new Builder(expectedSize, today);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String customerId(int index) {
+        return customerIds[index];
+    }
+    
+    /**
+     * 마지막 채점 등급 (채점 전이면 null)
+     */
+    public RiskGrade grade(int index) {
+        byte grade = grades[index];
+        return grade == UNSCORED ? null : RiskGrade.of(grade);
+    }
+    
+    byte[] codes() {
+        return codes;
+    }
+    
+    byte[] grades() {
+        return grades;
+    }
+    
+    /**
+     * 특성 행렬 빌더 (스레드 안전하지 않음)
+     */
+    public static final class Builder {
+        
+        private static final int FACTORS = RiskFactor.count();
+        
+        private final LocalDate today;
+        private String[] customerIds;
+        private byte[] codes;
+        private int size;
+        
+        private Builder(int expectedSize, LocalDate today) {
+            if (expectedSize < 0 || today == null) {
+                throw new IllegalArgumentException("예상 고객 수와 기준일이 필요합니다");
+            }
+            this.today = today;
+            this.customerIds = new String[Math.max(16, expectedSize)];
+            this.codes = new byte[customerIds.length * FACTORS];
+        }
+        
+        /**
+         * 고객 추가 (속성과 설문 응답을 인코딩)
+         */
+        public Builder add(Customer customer, RiskAnswers answers) {
+            ensureCapacity();
+            RiskFeatureEncoder.encode(customer, answers, today, codes, size * FACTORS);
+            customerIds[size++] = customer != null ? customer.getCustomerId() : null;
+            return this;
+        }
+        
+        /**
+         * 이미 인코딩된 코드 벡터로 고객 추가 (배치 적재용)
+         */
+        public Builder add(String customerId, byte[] vector, int offset) {
+            for (int f = 0; f < FACTORS; f++) {
+                byte code = vector[offset + f];
+                if (code < 0 || code >= RiskFactor.at(f).getCategories()) {
+                    throw new IllegalArgumentException(RiskFactor.at(f).getDisplayName() + " 코드가 범위를 벗어납니다: " + code);
+                }
+            }
+            ensureCapacity();
+            System.arraycopy(vector, offset, codes, size * FACTORS, FACTORS);
+            customerIds[size++] = customerId;
+            return this;
+        }
+        
+        public RiskFeatureMatrix build() {
+            return new RiskFeatureMatrix(Arrays.copyOf(customerIds, size), Arrays.copyOf(codes, size * FACTORS), size);
+        }
+        
+        private void ensureCapacity() {
+            if (size == customerIds.length) {
+                int capacity = Math.addExact(customerIds.length, customerIds.length >> 1);
+                customerIds = Arrays.copyOf(customerIds, capacity);
+                codes = Arrays.copyOf(codes, Math.multiplyExact(capacity, FACTORS));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+/**
+ * 투자성향 등급 열거형 (표준투자권유준칙 5단계)
+ * riskProfile은 투자 계획 수립(InvestmentRequest.riskProfile)에서 쓰는 3단계 성향 값이다.
+ */
+public enum RiskGrade {
+    
+    STABLE("안정형", "conservative"),
+    STABILITY_SEEKING("안정추구형", "conservative"),
+    RISK_NEUTRAL("위험중립형", "moderate"),
+    ACTIVE("적극투자형", "aggressive"),
+    AGGRESSIVE("공격투자형", "aggressive");
+    
+    private static final RiskGrade[] VALUES = values();
+    
+    private final String displayName;
+    private final String riskProfile;
+    
+    RiskGrade(String displayName, String riskProfile) {
+        this.displayName = displayName;
+        this.riskProfile = riskProfile;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public String getRiskProfile() {
+        return riskProfile;
+    }
+    
+    /**
+     * 순서(0~4)로 등급 조회
+     */
+    public static RiskGrade of(int index) {
+        return VALUES[index];
+    }
+    
+    public static int count() {
+        return VALUES.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.integration.repository.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 투자성향 채점 엔진
+ * 단건 평가는 고객 속성과 설문 응답을 코드 벡터로 인코딩해 현재 모델로 채점하고,
+ * 일괄 재채점은 미리 인코딩된 고객 기반 행렬(RiskFeatureMatrix)을 행 청크로 나눠 fork-join으로 병렬 채점한다.
+ * 
+ * 모델을 교체(updateModel)하면 연결된 고객 기반 전체를 새 모델로 재채점한다.
+ * 모델/고객 기반 교체와 그에 따른 재채점은 엔진 잠금 하나로 묶어, 동시에 교체해도 고객 기반의 등급이 최종 모델의 결과가 되게 한다.
+ * 단건 평가는 잠금 없이 volatile 모델을 읽는다.
+ */
+@Slf4j
+@Component
+public class RiskProfilingEngine {
+    
+    private static final int FACTORS = RiskFactor.count();
+    private static final int GRADES = RiskGrade.count();
+    private static final int ROWS_PER_TASK = 65_536;
+    
+    private final ForkJoinPool pool;
+    private final Clock clock;
+    private volatile RiskScoringModel model = RiskScoringModel.DEFAULT;
+    private volatile RiskFeatureMatrix customerBase;
+    
+    @Autowired
+    public RiskProfilingEngine(Clock clock) {
+        this(ForkJoinPool.commonPool(), clock);
+    }
+    
+    /**
+     * @param pool 일괄 재채점용 fork-join 풀
+     * @param clock 평가 기준일(연령 계산) 조회용 시계
+     */
+    public RiskProfilingEngine(ForkJoinPool pool, Clock clock) {
+        this.pool = pool;
+        this.clock = clock;
+    }
+    
+    public RiskScoringModel getModel() {
+        return model;
+    }
+    
+    public RiskFeatureMatrix getCustomerBase() {
+        return customerBase;
+    }
+    
+    /**
+     * 고객 투자성향 평가 (현재 모델)
+     * 
+     * @param customerId 고객 ID
+     * @param customer 고객 정보 (없으면 null, 속성은 '모름'으로 채점)
+     * @param answers 설문 응답 (없으면 null)
+     * @return 평가 결과
+     */
+    public RiskAssessment assess(String customerId, Customer customer, RiskAnswers answers) {
+        RiskScoringModel current = model;
+        byte[] codes = RiskFeatureEncoder.encode(customer, answers, CoarseClock.today(clock));
+        double score = current.score(codes, 0);
+        RiskGrade grade = current.grade(score);
+        return RiskAssessment.builder()
+            .customerId(customerId)
+            .score(Math.round(score * 10.0) / 10.0)
+            .grade(grade)
+            .riskProfile(grade.getRiskProfile())
+            .modelVersion(current.getVersion())
+            .build();
+    }
+    
+    /**
+     * 모델 변경 시 재채점할 고객 기반 연결 (연결 즉시 현재 모델로 채점)
+     */
+    public synchronized RescoringReport attachCustomerBase(RiskFeatureMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("고객 기반 행렬이 필요합니다");
+        }
+        this.customerBase = matrix;
+        return rescore(matrix, model);
+    }
+    
+    /**
+     * 채점 모델 교체
+     * 연결된 고객 기반이 있으면 새 모델로 전체 재채점한다.
+     * 
+     * @return 재채점 결과 (연결된 고객 기반이 없으면 null)
+     */
+    public synchronized RescoringReport updateModel(RiskScoringModel newModel) {
+        if (newModel == null) {
+            throw new IllegalArgumentException("채점 모델이 필요합니다");
+        }
+        log.info("투자성향 채점 모델 교체 - {} -> {}", model.getVersion(), newModel.getVersion());
+        this.model = newModel;
+        RiskFeatureMatrix matrix = customerBase;
+        return matrix != null ? rescore(matrix, newModel) : null;
+    }
+    
+    /**
+     * 고객 기반 일괄 재채점 (행렬의 등급을 갱신)
+     * 같은 행렬에 대한 재채점은 순서대로 실행된다.
+     */
+    public RescoringReport rescore(RiskFeatureMatrix matrix, RiskScoringModel scoringModel) {
+        synchronized (matrix) {
+            long start = System.nanoTime();
+            int chunks = (matrix.size() + ROWS_PER_TASK - 1) / ROWS_PER_TASK;
+            long[] counts = new long[chunks * (GRADES + 1)];
+            if (chunks > 0) {
+                pool.invoke(new RescoringTask(scoringModel, matrix, counts, 0, chunks));
+            }
+            
+            Map<RiskGrade, Long> gradeCounts = new EnumMap<>(RiskGrade.class);
+            long changed = 0;
+            for (int g = 0; g < GRADES; g++) {
+                long total = 0;
+                for (int c = 0; c < chunks; c++) {
+                    total += counts[c * (GRADES + 1) + g];
+                }
+                gradeCounts.put(RiskGrade.of(g), total);
+            }
+            for (int c = 0; c < chunks; c++) {
+                changed += counts[c * (GRADES + 1) + GRADES];
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            log.info("투자성향 일괄 재채점 완료 - model: {}, customers: {}, changed: {}, elapsed: {}ms",
+                    scoringModel.getVersion(), matrix.size(), changed, elapsedMillis);
+            
+            return RescoringReport.builder()
+                .modelVersion(scoringModel.getVersion())
+                .customers(matrix.size())
+                .changed(changed)
+                .gradeCounts(gradeCounts)
+                .elapsedMillis(elapsedMillis)
+                .build();
+        }
+    }
+    
+    /**
+     * 청크 범위를 분할하는 fork-join 작업
+     * 청크별 등급 건수와 변경 건수는 counts[chunk * (GRADES + 1) ..]에 기록한다.
+     */
+    private static final class RescoringTask extends RecursiveAction {
+        
+        private final RiskScoringModel model;
+        private final RiskFeatureMatrix matrix;
+        private final long[] counts;
+        private final int fromChunk;
+        private final int toChunk;
+        
+        RescoringTask(RiskScoringModel model, RiskFeatureMatrix matrix, long[] counts, int fromChunk, int toChunk) {
+            this.model = model;
+            this.matrix = matrix;
+            this.counts = counts;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(new RescoringTask(model, matrix, counts, fromChunk, mid),
+                          new RescoringTask(model, matrix, counts, mid, toChunk));
+                return;
+            }
+            rescoreChunk(fromChunk);
+        }
+        
+        private void rescoreChunk(int chunk) {
+            byte[] codes = matrix.codes();
+            byte[] grades = matrix.grades();
+            int from = chunk * ROWS_PER_TASK;
+            int to = Math.min(matrix.size(), from + ROWS_PER_TASK);
+            long[] local = new long[GRADES];
+            long changed = 0;
+            for (int row = from, base = from * FACTORS; row < to; row++, base += FACTORS) {
+                int grade = model.gradeIndex(model.score(codes, base));
+                local[grade]++;
+                if (grades[row] != grade) {
+                    grades[row] = (byte) grade;
+                    changed++;
+                }
+            }
+            int slot = chunk * (GRADES + 1);
+            System.arraycopy(local, 0, counts, slot, GRADES);
+            counts[slot + GRADES] = changed;
+        }
+    }
+}
\ No newline at end of file
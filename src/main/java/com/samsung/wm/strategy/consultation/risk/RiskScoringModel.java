@@ -0,0 +1,168 @@
+package com.samsung.wm.strategy.consultation.risk;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 투자성향 채점 모델 (컴파일된 가중치 테이블)
+ * 요인별 선택지 점수(원-핫 특성에 대한 선형 가중치와 같음)를 하나의 double 배열로 펼쳐 두고,
+ * 점수는 요인마다 table[offset + code]를 더하는 고정 길이 루프로 계산한다.
+ * 등급은 점수가 넘는 경계값 개수로 정한다 (경계값 이하면 아래 등급).
+ * 
+ * 불변 객체이므로 여러 스레드에서 공유한다.
+ */
+public final class RiskScoringModel {
+    
+    // DEFAULT 생성에 쓰이므로 먼저 초기화
+    private static final int FACTORS = RiskFactor.count();
+    
+    /**
+     * 기본 모델 (표준투자권유준칙 설문 배점 기준, 고객 속성은 총자산/등급 소폭 가점)
+     * 경계값: 20 이하 안정형, 40 이하 안정추구형, 60 이하 위험중립형, 80 이하 적극투자형, 초과 공격투자형
+     */
+    public static final RiskScoringModel DEFAULT = builder("standard-2026.1")
+        .points(RiskFactor.AGE, 12.5, 12.5, 9.3, 6.2, 3.1, 0.0, 6.2)
+        .points(RiskFactor.TOTAL_ASSETS, 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 0.0)
+        .points(RiskFactor.CUSTOMER_GRADE, 0.0, 1.0, 2.0, 3.0, 0.0)
+        .points(RiskFactor.INVESTMENT_PERIOD, 3.1, 6.2, 9.3, 12.5, 15.6, 3.1)
+        .points(RiskFactor.INVESTMENT_EXPERIENCE, 3.1, 6.2, 9.3, 12.5, 15.6, 3.1)
+        .points(RiskFactor.FINANCIAL_KNOWLEDGE, 3.1, 6.2, 9.3, 12.5, 3.1)
+        .points(RiskFactor.FINANCIAL_ASSET_RATIO, 15.6, 12.5, 9.3, 6.2, 3.1, 3.1)
+        .points(RiskFactor.INCOME_SOURCE, 9.3, 6.2, 3.1, 3.1)
+        .points(RiskFactor.LOSS_TOLERANCE, -6.2, 6.2, 12.5, 18.7, -6.2)
+        .thresholds(20.0, 40.0, 60.0, 80.0)
+        .build();
+    
+    private final String version;
+    private final double[] table;
+    private final int[] offsets;
+    private final double[] thresholds;
+    
+    private RiskScoringModel(String version, double[] table, int[] offsets, double[] thresholds) {
+        this.version = version;
+        this.table = table;
+        this.offsets = offsets;
+        this.thresholds = thresholds;
+    }
+    
+    public static Builder builder(String version) {
+        return new Builder(version);
+    }
+    
+    public String getVersion() {
+        return version;
+    }
+    
+    /**
+     * 코드 벡터 점수
+     * 
+     * @param codes 코드 배열 (RiskFeatureEncoder 형식)
+     * @param offset 벡터 시작 위치
+     */
+    public double score(byte[] codes, int offset) {
+        double score = 0.0;
+        for (int f = 0; f < FACTORS; f++) {
+            score += table[offsets[f] + codes[offset + f]];
+        }
+        return score;
+    }
+    
+    /**
+     * 점수 → 등급 순서 (0~4)
+     */
+    public int gradeIndex(double score) {
+        int grade = 0;
+        for (double threshold : thresholds) {
+            if (score > threshold) {
+                grade++;
+            }
+        }
+        return grade;
+    }
+    
+    public RiskGrade grade(double score) {
+        return RiskGrade.of(gradeIndex(score));
+    }
+    
+    /**
+     * 요인별 선택지 점수 사본 (RiskFactor 순서, 마지막 값은 '모름/미응답')
+     */
+    public double[] points(RiskFactor factor) {
+        return Arrays.copyOfRange(table, offsets[factor.ordinal()], offsets[factor.ordinal()] + factor.getCategories());
+    }
+    
+    public double[] getThresholds() {
+        return thresholds.clone();
+    }
+    
+    /**
+     * 채점 모델 빌더
+     * 모든 요인의 선택지 점수('모름/미응답' 포함)와 오름차순 경계값 4개가 필요하다.
+     */
+    public static final class Builder {
+        
+        private final String version;
+        private final Map<RiskFactor, double[]> points = new EnumMap<>(RiskFactor.class);
+        private double[] thresholds;
+        
+        private Builder(String version) {
+            if (version == null || version.isBlank()) {
+                throw new IllegalArgumentException("모델 버전이 필요합니다");
+            }
+            this.version = version;
+        }
+        
+        public Builder points(RiskFactor factor, double... categoryPoints) {
+            if (categoryPoints.length != factor.getCategories()) {
+                throw new IllegalArgumentException(factor.getDisplayName() + " 점수는 " + factor.getCategories()
+                    + "개('모름/미응답' 포함)여야 합니다");
+            }
+            for (double point : categoryPoints) {
+                if (!Double.isFinite(point)) {
+                    throw new IllegalArgumentException(factor.getDisplayName() + " 점수가 올바르지 않습니다");
+                }
+            }
+            points.put(factor, categoryPoints.clone());
+            return this;
+        }
+        
+        public Builder thresholds(double... boundaries) {
+            if (boundaries.length != RiskGrade.count() - 1) {
+                throw new IllegalArgumentException("등급 경계값은 " + (RiskGrade.count() - 1) + "개여야 합니다");
+            }
+            for (int i = 1; i < boundaries.length; i++) {
+                if (!(boundaries[i] > boundaries[i - 1])) {
+                    throw new IllegalArgumentException("등급 경계값은 오름차순이어야 합니다");
+                }
+            }
+            this.thresholds = boundaries.clone();
+            return this;
+        }
+        
+        /**
+         * 요인별 점수를 하나의 테이블로 컴파일
+         */
+        public RiskScoringModel build() {
+            if (thresholds == null) {
+                throw new IllegalArgumentException("등급 경계값이 필요합니다");
+            }
+            int[] offsets = new int[FACTORS];
+            int size = 0;
+            for (int f = 0; f < FACTORS; f++) {
+                RiskFactor factor = RiskFactor.at(f);
+                if (!points.containsKey(factor)) {
+                    throw new IllegalArgumentException(factor.getDisplayName() + " 점수가 없습니다");
+                }
+                offsets[f] = size;
+                size += factor.getCategories();
+            }
+            double[] table = new double[size];
+            for (int f = 0; f < FACTORS; f++) {
+                double[] categoryPoints = points.get(RiskFactor.at(f));
+                System.arraycopy(categoryPoints, 0, table, offsets[f], categoryPoints.length);
+            }
+            return new RiskScoringModel(version, table, offsets, thresholds);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.samsung.wm.strategy.investment;
+
+import com.samsung.common.util.CoarseClock;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 배분 템플릿 기반 투자 전략 공통 구현
+ * 투자 기간에 맞는 AllocationTemplates 템플릿으로 계획을 만들고, 유형별로 다른 값(계획명, 설명, 파라미터,
+ * 기대 수익률, 위험 수준)만 하위 클래스가 생성자로 넘긴다.
+ * 
+ * 생성 시 모든 기간의 템플릿이 파라미터의 maxStockRatio/minBondRatio를 지키는지 검증한다.
+ */
+@Slf4j
+public abstract class AbstractTemplateInvestmentStrategy implements InvestmentStrategy {
+    
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    
+    private final Clock clock;
+    private final InvestmentType type;
+    private final String planName;
+    private final String description;
+    private final Map<String, Object> parameters;
+    private final String expectedReturn;
+    private final String riskLevel;
+    
+    /**
+     * @param clock 계획 생성 시각 조회용 시계
+     * @param type 투자 유형
+     * @param planName 계획명
+     * @param description 계획 설명
+     * @param parameters 전략 파라미터 (maxStockRatio, minBondRatio는 % 단위)
+     * @param expectedReturn 기대 수익률
+     * @param riskLevel 위험 수준
+     */
+    protected AbstractTemplateInvestmentStrategy(Clock clock, InvestmentType type, String planName,
+                                                 String description, Map<String, Object> parameters,
+                                                 String expectedReturn, String riskLevel) {
+        this.clock = clock;
+        this.type = type;
+        this.planName = planName;
+        this.description = description;
+        this.parameters = parameters;
+        this.expectedReturn = expectedReturn;
+        this.riskLevel = riskLevel;
+        validateTemplates();
+    }
+    
+    @Override
+    public InvestmentPlan execute(InvestmentRequest request) {
+        log.info("{} 투자 전략 실행 - customerId: {}", type.getDisplayName(), request.getCustomerId());
+        
+        return createPlan(request, CoarseClock.now(clock));
+    }
+    
+    @Override
+    public InvestmentPlan createPlan(InvestmentRequest request, LocalDateTime createdAt) {
+        AllocationTemplate template = AllocationTemplates.get(type, InvestmentPeriod.from(request.getInvestmentPeriod()));
+        
+        return new InvestmentPlan(
+            request.getCustomerId(),
+            type,
+            planName,
+            description,
+            request.getInvestmentAmount(),
+            template.allocate(request.getInvestmentAmount()),
+            parameters,
+            createdAt,
+            expectedReturn,
+            riskLevel
+        );
+    }
+    
+    @Override
+    public InvestmentType getType() {
+        return type;
+    }
+    
+    /**
+     * 기간별 템플릿의 주식/채권 비중이 전략 파라미터 한도 안에 있는지 검증
+     */
+    private void validateTemplates() {
+        BigDecimal maxStock = ratioParameter("maxStockRatio");
+        BigDecimal minBond = ratioParameter("minBondRatio");
+        for (InvestmentPeriod period : InvestmentPeriod.values()) {
+            AllocationTemplate template = AllocationTemplates.get(type, period);
+            if (maxStock != null && template.ratioOf("STOCK").compareTo(maxStock) > 0) {
+                throw new IllegalStateException(type + " " + period + " 템플릿의 주식 비중이 maxStockRatio를 넘습니다");
+            }
+            if (minBond != null && template.ratioOf("BOND").compareTo(minBond) < 0) {
+                throw new IllegalStateException(type + " " + period + " 템플릿의 채권 비중이 minBondRatio보다 낮습니다");
+            }
+        }
+    }
+    
+    private BigDecimal ratioParameter(String name) {
+        Object value = parameters.get(name);
+        return value instanceof Number number ? BigDecimal.valueOf(number.longValue()).divide(HUNDRED) : null;
+    }
+}
\ No newline at end of file
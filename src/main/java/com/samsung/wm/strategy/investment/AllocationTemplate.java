@@ -0,0 +1,124 @@
+package com.samsung.wm.strategy.investment;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사전 계산된 자산 배분 템플릿
+ * 비중(BigDecimal)과 가중치(Double)를 생성 시 한 번만 만들어 두고
+ * 투자 금액만 곱해서 배분 목록을 만든다 (불변 객체)
+ */
+public final class AllocationTemplate {
+    
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    
+    private final String[] assetTypes;
+    private final String[] symbols;
+    private final BigDecimal[] ratios;
+    private final Double[] weights;
+    
+    private AllocationTemplate(String[] assetTypes, String[] symbols, BigDecimal[] ratios) {
+        this.assetTypes = assetTypes;
+        this.symbols = symbols;
+        this.ratios = ratios;
+        this.weights = new Double[ratios.length];
+        for (int i = 0; i < ratios.length; i++) {
+            this.weights[i] = ratios[i].multiply(HUNDRED).doubleValue();
+        }
+    }
+    
+    /**
+     * 투자 금액에 템플릿 비중을 적용한 자산 배분 목록 생성
+     * 
+     * @param totalAmount 총 투자 금액
+     * @return 자산 배분 목록
+     */
+    public List<AssetAllocation> allocate(BigDecimal totalAmount) {
+        AssetAllocation[] allocations = new AssetAllocation[ratios.length];
+        for (int i = 0; i < ratios.length; i++) {
+            allocations[i] = new AssetAllocation(assetTypes[i], symbols[i], totalAmount.multiply(ratios[i]), weights[i]);
+        }
+        return Arrays.asList(allocations);
+    }
+    
+    /**
+     * 배분 항목 수
+     */
+    public int size() {
+        return ratios.length;
+    }
+    
+    public String getAssetType(int index) {
+        return assetTypes[index];
+    }
+    
+    public String getSymbol(int index) {
+        return symbols[index];
+    }
+    
+    public BigDecimal getRatio(int index) {
+        return ratios[index];
+    }
+    
+    /**
+     * 자산 유형별 비중 합계
+     * 
+     * @param assetType 자산 유형 (STOCK, BOND, CASH 등)
+     * @return 비중 합계 (0.5 = 50%, 해당 유형이 없으면 0)
+     */
+    public BigDecimal ratioOf(String assetType) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < ratios.length; i++) {
+            if (assetTypes[i].equals(assetType)) {
+                sum = sum.add(ratios[i]);
+            }
+        }
+        return sum;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * 템플릿 빌더 - 비중 합계가 1인지 생성 시점에 검증
+     */
+    public static final class Builder {
+        
+        private final List<String> assetTypes = new ArrayList<>();
+        private final List<String> symbols = new ArrayList<>();
+        private final List<BigDecimal> ratios = new ArrayList<>();
+        
+        private Builder() {
+        }
+        
+        /**
+         * 배분 항목 추가
+         * 
+         * @param assetType 자산 유형 (STOCK, BOND, CASH 등)
+         * @param symbol 종목 코드
+         * @param ratio 비중 (0.5 = 50%)
+         * @return 빌더
+         */
+        public Builder add(String assetType, String symbol, String ratio) {
+            assetTypes.add(assetType);
+            symbols.add(symbol);
+            ratios.add(new BigDecimal(ratio));
+            return this;
+        }
+        
+        public AllocationTemplate build() {
+            BigDecimal sum = ratios.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (sum.compareTo(BigDecimal.ONE) != 0) {
+                throw new IllegalStateException("자산 배분 비중 합계가 1이 아닙니다: " + sum);
+            }
+            return new AllocationTemplate(
+                assetTypes.toArray(new String[0]),
+                symbols.toArray(new String[0]),
+                ratios.toArray(new BigDecimal[0])
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.samsung.wm.strategy.investment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 투자 유형 × 투자 기간별 자산 배분 템플릿 저장소
+ * 클래스 로딩 시 한 번만 생성되며 이후 조회만 수행
+ */
+public final class AllocationTemplates {
+    
+    private static final Map<InvestmentType, AllocationTemplate[]> TEMPLATES = new EnumMap<>(InvestmentType.class);
+    
+    static {
+        // 보수형은 기존 배분(채권 70%, 주식 20%, 현금 10%)을 기간과 무관하게 유지
+        AllocationTemplate conservative = AllocationTemplate.builder()
+            .add("BOND", "KTB_10Y", "0.5")
+            .add("BOND", "CORP_BOND", "0.2")
+            .add("STOCK", "KODEX200", "0.2")
+            .add("CASH", "MMF", "0.1")
+            .build();
+        register(InvestmentType.CONSERVATIVE, conservative, conservative, conservative);
+        
+        register(InvestmentType.MODERATE,
+            AllocationTemplate.builder()
+                .add("BOND", "KTB_10Y", "0.35")
+                .add("BOND", "CORP_BOND", "0.15")
+                .add("STOCK", "KODEX200", "0.2")
+                .add("STOCK", "TIGER_SP500", "0.1")
+                .add("CASH", "MMF", "0.2")
+                .build(),
+            AllocationTemplate.builder()
+                .add("BOND", "KTB_10Y", "0.3")
+                .add("BOND", "CORP_BOND", "0.15")
+                .add("STOCK", "KODEX200", "0.3")
+                .add("STOCK", "TIGER_SP500", "0.15")
+                .add("CASH", "MMF", "0.1")
+                .build(),
+            AllocationTemplate.builder()
+                .add("BOND", "KTB_10Y", "0.3")
+                .add("BOND", "CORP_BOND", "0.15")
+                .add("STOCK", "KODEX200", "0.3")
+                .add("STOCK", "TIGER_SP500", "0.2")
+                .add("CASH", "MMF", "0.05")
+                .build());
+        
+        register(InvestmentType.AGGRESSIVE,
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX200", "0.4")
+                .add("STOCK", "TIGER_SP500", "0.2")
+                .add("STOCK", "KODEX_KOSDAQ150", "0.1")
+                .add("BOND", "KTB_10Y", "0.15")
+                .add("CASH", "MMF", "0.15")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX200", "0.45")
+                .add("STOCK", "TIGER_SP500", "0.25")
+                .add("STOCK", "KODEX_KOSDAQ150", "0.1")
+                .add("BOND", "KTB_10Y", "0.15")
+                .add("CASH", "MMF", "0.05")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX200", "0.45")
+                .add("STOCK", "TIGER_SP500", "0.3")
+                .add("STOCK", "KODEX_KOSDAQ150", "0.15")
+                .add("BOND", "KTB_10Y", "0.1")
+                .build());
+        
+        register(InvestmentType.GROWTH_ORIENTED,
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_KOSDAQ150", "0.25")
+                .add("STOCK", "TIGER_NASDAQ100", "0.25")
+                .add("STOCK", "KODEX200", "0.2")
+                .add("BOND", "KTB_10Y", "0.15")
+                .add("CASH", "MMF", "0.15")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_KOSDAQ150", "0.3")
+                .add("STOCK", "TIGER_NASDAQ100", "0.3")
+                .add("STOCK", "KODEX200", "0.2")
+                .add("BOND", "KTB_10Y", "0.15")
+                .add("CASH", "MMF", "0.05")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_KOSDAQ150", "0.35")
+                .add("STOCK", "TIGER_NASDAQ100", "0.35")
+                .add("STOCK", "KODEX200", "0.2")
+                .add("BOND", "KTB_10Y", "0.1")
+                .build());
+        
+        register(InvestmentType.INCOME_FOCUSED,
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_HIGH_DIVIDEND", "0.2")
+                .add("BOND", "CORP_BOND", "0.3")
+                .add("BOND", "KTB_10Y", "0.25")
+                .add("ALTERNATIVE", "KODEX_REITS", "0.1")
+                .add("CASH", "MMF", "0.15")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_HIGH_DIVIDEND", "0.3")
+                .add("BOND", "CORP_BOND", "0.3")
+                .add("BOND", "KTB_10Y", "0.2")
+                .add("ALTERNATIVE", "KODEX_REITS", "0.15")
+                .add("CASH", "MMF", "0.05")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_HIGH_DIVIDEND", "0.35")
+                .add("BOND", "CORP_BOND", "0.25")
+                .add("BOND", "KTB_10Y", "0.15")
+                .add("ALTERNATIVE", "KODEX_REITS", "0.2")
+                .add("CASH", "MMF", "0.05")
+                .build());
+        
+        register(InvestmentType.ESG,
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_ESG", "0.2")
+                .add("FUND", "GLOBAL_ESG_FUND", "0.1")
+                .add("BOND", "GREEN_BOND", "0.4")
+                .add("CASH", "MMF", "0.3")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_ESG", "0.35")
+                .add("FUND", "GLOBAL_ESG_FUND", "0.2")
+                .add("BOND", "GREEN_BOND", "0.3")
+                .add("CASH", "MMF", "0.15")
+                .build(),
+            AllocationTemplate.builder()
+                .add("STOCK", "KODEX_ESG", "0.4")
+                .add("FUND", "GLOBAL_ESG_FUND", "0.25")
+                .add("BOND", "GREEN_BOND", "0.3")
+                .add("CASH", "MMF", "0.05")
+                .build());
+    }
+    
+    private AllocationTemplates() {
+        // 인스턴스 생성 방지
+    }
+    
+    /**
+     * 투자 유형과 기간에 해당하는 템플릿 조회
+     * 
+     * @param type 투자 유형
+     * @param period 투자 기간
+     * @return 자산 배분 템플릿
+     */
+    public static AllocationTemplate get(InvestmentType type, InvestmentPeriod period) {
+        AllocationTemplate[] byPeriod = TEMPLATES.get(type);
+        if (byPeriod == null) {
+            throw new IllegalArgumentException("등록되지 않은 투자 유형의 배분 템플릿입니다: " + type);
+        }
+        return byPeriod[period.ordinal()];
+    }
+    
+    /**
+     * 투자 유형별 템플릿 등록 (단기, 중기, 장기 순)
+     */
+    private static void register(InvestmentType type, AllocationTemplate shortTerm,
+                                 AllocationTemplate mediumTerm, AllocationTemplate longTerm) {
+        AllocationTemplate[] byPeriod = new AllocationTemplate[InvestmentPeriod.values().length];
+        byPeriod[InvestmentPeriod.SHORT.ordinal()] = shortTerm;
+        byPeriod[InvestmentPeriod.MEDIUM.ordinal()] = mediumTerm;
+        byPeriod[InvestmentPeriod.LONG.ordinal()] = longTerm;
+        TEMPLATES.put(type, byPeriod);
+    }
+}
\ No newline at end of file
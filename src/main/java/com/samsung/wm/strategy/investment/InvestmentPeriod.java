@@ -0,0 +1,52 @@
+package com.samsung.wm.strategy.investment;
+
+/**
+ * 투자 기간 유형 열거형
+ */
+public enum InvestmentPeriod {
+    
+    SHORT("short", "단기", "1년 미만"),
+    MEDIUM("medium", "중기", "1-5년"),
+    LONG("long", "장기", "5년 이상");
+    
+    private final String code;
+    private final String displayName;
+    private final String description;
+    
+    InvestmentPeriod(String code, String displayName, String description) {
+        this.code = code;
+        this.displayName = displayName;
+        this.description = description;
+    }
+    
+    public String getCode() {
+        return code;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * 요청 문자열을 투자 기간으로 변환
+     * 대소문자 무시 비교로 처리하며 알 수 없는 값은 중기(MEDIUM)로 간주
+     * 
+     * @param period 투자 기간 문자열 (short, medium, long)
+     * @return 투자 기간
+     */
+    public static InvestmentPeriod from(String period) {
+        if (period != null) {
+            if (SHORT.code.equalsIgnoreCase(period)) {
+                return SHORT;
+            }
+            if (LONG.code.equalsIgnoreCase(period)) {
+                return LONG;
+            }
+        }
+        return MEDIUM;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.samsung.wm.strategy.investment;
 
+import java.time.LocalDateTime;
+
 /**
  * 투자설계 전략 인터페이스
  */
@@ -13,6 +15,16 @@ public interface InvestmentStrategy {
      */
     InvestmentPlan execute(InvestmentRequest request);
     
+    /**
+     * 투자 설계 계획 생성 (일괄 처리용)
+     * 건별 로그 없이 호출자가 지정한 생성 시각으로 계획을 만든다
+     * 
+     * @param request 검증이 끝난 투자 요청 정보
+     * @param createdAt 계획 생성 시각
+     * @return 투자 설계 결과
+     */
+    InvestmentPlan createPlan(InvestmentRequest request, LocalDateTime createdAt);
+    
     /**
      * 전략 유형 반환
      * 
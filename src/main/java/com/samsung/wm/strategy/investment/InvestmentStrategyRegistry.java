@@ -0,0 +1,76 @@
+package com.samsung.wm.strategy.investment;
+
+import com.samsung.wm.metrics.StrategyMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 투자 전략 레지스트리
+ * 등록된 모든 InvestmentStrategy 빈을 투자 유형별 EnumMap으로 보관하여
+ * 문자열 변환 없이 유형으로 바로 전략을 찾는다
+ */
+@Slf4j
+@Component
+public class InvestmentStrategyRegistry {
+    
+    private final Map<InvestmentType, InvestmentStrategy> strategies = new EnumMap<>(InvestmentType.class);
+    private final InvestmentStrategy defaultStrategy;
+    private final StrategyMetrics strategyMetrics;
+    
+    public InvestmentStrategyRegistry(List<InvestmentStrategy> strategyBeans, StrategyMetrics strategyMetrics) {
+        this.strategyMetrics = strategyMetrics;
+        for (InvestmentStrategy strategy : strategyBeans) {
+            InvestmentStrategy previous = strategies.put(strategy.getType(), strategy);
+            if (previous != null) {
+                throw new IllegalStateException("중복 등록된 투자 전략 유형입니다: " + strategy.getType());
+            }
+        }
+        
+        defaultStrategy = strategies.get(InvestmentType.CONSERVATIVE);
+        if (defaultStrategy == null) {
+            throw new IllegalStateException("기본 투자 전략(CONSERVATIVE)이 등록되지 않았습니다");
+        }
+        log.info("투자 전략 등록 완료 - types: {}", strategies.keySet());
+    }
+    
+    /**
+     * 투자 유형에 해당하는 전략 조회
+     * 등록되지 않은 유형은 기본 전략(CONSERVATIVE)으로 대체
+     * 
+     * @param type 투자 유형
+     * @return 투자 전략
+     */
+    public InvestmentStrategy getStrategy(InvestmentType type) {
+        InvestmentStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            log.warn("지원하지 않는 투자 유형: {} - 기본 전략(CONSERVATIVE) 사용", type);
+            strategyMetrics.investmentFallback();
+            return defaultStrategy;
+        }
+        return strategy;
+    }
+    
+    /**
+     * 기본 전략 반환
+     * 
+     * @return 보수형 투자 전략
+     */
+    public InvestmentStrategy getDefaultStrategy() {
+        return defaultStrategy;
+    }
+    
+    /**
+     * 등록된 투자 유형 목록
+     * 
+     * @return 투자 유형 집합
+     */
+    public Set<InvestmentType> getSupportedTypes() {
+        return Collections.unmodifiableSet(strategies.keySet());
+    }
+}
\ No newline at end of file
@@ -12,6 +12,8 @@ public enum InvestmentType {
     INCOME_FOCUSED("수익형", "배당이나 이자 수익에 중점을 둔 전략"),
     ESG("ESG", "환경, 사회, 지배구조를 고려한 지속가능 투자 전략");
     
+    private static final InvestmentType[] VALUES = values();
+    
     private final String displayName;
     private final String description;
     
@@ -27,4 +29,23 @@ public enum InvestmentType {
     public String getDescription() {
         return description;
     }
+    
+    /**
+     * 유형명(대소문자 무시)으로 투자 유형 조회
+     * 문자열 변환 없이 비교하며 일치하는 유형이 없으면 null 반환
+     * 
+     * @param name 유형명 (CONSERVATIVE, MODERATE 등)
+     * @return 투자 유형 또는 null
+     */
+    public static InvestmentType from(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (InvestmentType type : VALUES) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.samsung.wm.strategy.investment.impl;
+
+import com.samsung.wm.strategy.investment.AbstractTemplateInvestmentStrategy;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * 적극형 투자 전략 구현체
+ */
+@Component
+public class AggressiveInvestmentStrategy extends AbstractTemplateInvestmentStrategy {
+    
+    private static final Map<String, Object> PARAMETERS = Map.of(
+        "maxStockRatio", 90,
+        "minBondRatio", 10,
+        "riskLevel", "HIGH"
+    );
+    
+    public AggressiveInvestmentStrategy(Clock clock) {
+        super(clock, InvestmentType.AGGRESSIVE,
+            "적극형 자산배분 포트폴리오",
+            "고수익을 목표로 국내외 주식 비중을 높게 구성",
+            PARAMETERS,
+            "연 8-12%",
+            "높음");
+    }
+    
+    @Override
+    public boolean isApplicable(InvestmentRequest request) {
+        return "aggressive".equalsIgnoreCase(request.getRiskProfile());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.samsung.wm.strategy.investment.impl;
+
+import com.samsung.wm.strategy.investment.AbstractTemplateInvestmentStrategy;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * ESG 투자 전략 구현체
+ */
+@Component
+public class EsgInvestmentStrategy extends AbstractTemplateInvestmentStrategy {
+    
+    private static final Map<String, Object> PARAMETERS = Map.of(
+        "maxStockRatio", 65,
+        "minBondRatio", 30,
+        "riskLevel", "MEDIUM"
+    );
+    
+    public EsgInvestmentStrategy(Clock clock) {
+        super(clock, InvestmentType.ESG,
+            "ESG 자산배분 포트폴리오",
+            "환경, 사회, 지배구조 평가가 우수한 종목과 녹색채권 중심으로 구성",
+            PARAMETERS,
+            "연 5-8%",
+            "보통");
+    }
+    
+    @Override
+    public boolean isApplicable(InvestmentRequest request) {
+        return "esg".equalsIgnoreCase(request.getInvestmentGoal());
+    }
+}
\ No newline at end of file
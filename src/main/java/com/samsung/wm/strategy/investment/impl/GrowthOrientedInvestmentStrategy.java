@@ -0,0 +1,37 @@
+package com.samsung.wm.strategy.investment.impl;
+
+import com.samsung.wm.strategy.investment.AbstractTemplateInvestmentStrategy;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * 성장형 투자 전략 구현체
+ */
+@Component
+public class GrowthOrientedInvestmentStrategy extends AbstractTemplateInvestmentStrategy {
+    
+    private static final Map<String, Object> PARAMETERS = Map.of(
+        "maxStockRatio", 90,
+        "minBondRatio", 10,
+        "riskLevel", "VERY_HIGH"
+    );
+    
+    public GrowthOrientedInvestmentStrategy(Clock clock) {
+        super(clock, InvestmentType.GROWTH_ORIENTED,
+            "성장형 자산배분 포트폴리오",
+            "성장 가능성이 높은 기술주와 중소형주 중심으로 구성",
+            PARAMETERS,
+            "연 10-15%",
+            "매우 높음");
+    }
+    
+    @Override
+    public boolean isApplicable(InvestmentRequest request) {
+        return "growth".equalsIgnoreCase(request.getInvestmentGoal()) &&
+               "aggressive".equalsIgnoreCase(request.getRiskProfile());
+    }
+}
\ No newline at end of file
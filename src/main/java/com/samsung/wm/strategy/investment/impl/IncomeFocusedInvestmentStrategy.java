@@ -0,0 +1,36 @@
+package com.samsung.wm.strategy.investment.impl;
+
+import com.samsung.wm.strategy.investment.AbstractTemplateInvestmentStrategy;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * 수익형 투자 전략 구현체
+ */
+@Component
+public class IncomeFocusedInvestmentStrategy extends AbstractTemplateInvestmentStrategy {
+    
+    private static final Map<String, Object> PARAMETERS = Map.of(
+        "maxStockRatio", 35,
+        "minBondRatio", 40,
+        "riskLevel", "MEDIUM"
+    );
+    
+    public IncomeFocusedInvestmentStrategy(Clock clock) {
+        super(clock, InvestmentType.INCOME_FOCUSED,
+            "인컴형 자산배분 포트폴리오",
+            "배당주, 회사채, 리츠 중심으로 정기적인 현금 흐름을 추구",
+            PARAMETERS,
+            "연 4-6%",
+            "보통");
+    }
+    
+    @Override
+    public boolean isApplicable(InvestmentRequest request) {
+        return "income".equalsIgnoreCase(request.getInvestmentGoal());
+    }
+}
\ No newline at end of file
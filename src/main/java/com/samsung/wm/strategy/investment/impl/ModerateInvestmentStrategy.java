@@ -0,0 +1,36 @@
+package com.samsung.wm.strategy.investment.impl;
+
+import com.samsung.wm.strategy.investment.AbstractTemplateInvestmentStrategy;
+import com.samsung.wm.strategy.investment.InvestmentRequest;
+import com.samsung.wm.strategy.investment.InvestmentType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * 중도형 투자 전략 구현체
+ */
+@Component
+public class ModerateInvestmentStrategy extends AbstractTemplateInvestmentStrategy {
+    
+    private static final Map<String, Object> PARAMETERS = Map.of(
+        "maxStockRatio", 50,
+        "minBondRatio", 30,
+        "riskLevel", "MEDIUM"
+    );
+    
+    public ModerateInvestmentStrategy(Clock clock) {
+        super(clock, InvestmentType.MODERATE,
+            "균형형 자산배분 포트폴리오",
+            "안정성과 수익성의 균형을 위해 주식과 채권을 고르게 구성",
+            PARAMETERS,
+            "연 5-7%",
+            "보통");
+    }
+    
+    @Override
+    public boolean isApplicable(InvestmentRequest request) {
+        return "moderate".equalsIgnoreCase(request.getRiskProfile());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.samsung.wm.strategy.investment.simulation;
+
+/**
+ * 자산군별 자본시장 가정 (연 기대수익률, 연 변동성, 상관계수)
+ * 몬테카를로 시뮬레이션 입력으로 사용되는 불변 객체
+ */
+public final class CapitalMarketAssumptions {
+    
+    /**
+     * 기본 가정 - 자산 유형 순서: STOCK, BOND, FUND, CASH, ALTERNATIVE
+     */
+    public static final CapitalMarketAssumptions DEFAULT = new CapitalMarketAssumptions(
+        new String[] {"STOCK", "BOND", "FUND", "CASH", "ALTERNATIVE"},
+        new double[] {0.070, 0.035, 0.060, 0.025, 0.055},
+        new double[] {0.180, 0.050, 0.140, 0.005, 0.120},
+        new double[][] {
+            { 1.00, -0.20,  0.80,  0.00,  0.50},
+            {-0.20,  1.00,  0.00,  0.10,  0.20},
+            { 0.80,  0.00,  1.00,  0.00,  0.40},
+            { 0.00,  0.10,  0.00,  1.00,  0.00},
+            { 0.50,  0.20,  0.40,  0.00,  1.00}
+        }
+    );
+    
+    private final String[] assetTypes;
+    private final double[] annualReturns;
+    private final double[] annualVolatilities;
+    private final double[][] correlations;
+    
+    public CapitalMarketAssumptions(String[] assetTypes, double[] annualReturns,
+                                    double[] annualVolatilities, double[][] correlations) {
+        int n = assetTypes.length;
+        if (annualReturns.length != n || annualVolatilities.length != n || correlations.length != n) {
+            throw new IllegalArgumentException("자산군 수와 가정 배열 크기가 일치하지 않습니다");
+        }
+        this.assetTypes = assetTypes.clone();
+        this.annualReturns = annualReturns.clone();
+        this.annualVolatilities = annualVolatilities.clone();
+        this.correlations = new double[n][];
+        for (int i = 0; i < n; i++) {
+            this.correlations[i] = correlations[i].clone();
+        }
+    }
+    
+    /**
+     * 자산 유형의 인덱스 조회
+     * 
+     * @param assetType 자산 유형 (STOCK, BOND 등)
+     * @return 인덱스, 없으면 -1
+     */
+    public int indexOf(String assetType) {
+        for (int i = 0; i < assetTypes.length; i++) {
+            if (assetTypes[i].equalsIgnoreCase(assetType)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public int size() {
+        return assetTypes.length;
+    }
+    
+    public String getAssetType(int index) {
+        return assetTypes[index];
+    }
+    
+    public double getAnnualReturn(int index) {
+        return annualReturns[index];
+    }
+    
+    public double getAnnualVolatility(int index) {
+        return annualVolatilities[index];
+    }
+    
+    /**
+     * 상관계수 행렬 (방어적 복사본)
+     */
+    public double[][] getCorrelations() {
+        double[][] copy = new double[correlations.length][];
+        for (int i = 0; i < correlations.length; i++) {
+            copy[i] = correlations[i].clone();
+        }
+        return copy;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.samsung.wm.strategy.investment.simulation;
+
+import com.samsung.common.calc.MatrixCalculator;
+import com.samsung.common.calc.StatisticsCalculator;
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.wm.strategy.investment.AssetAllocation;
+import com.samsung.wm.strategy.investment.InvestmentPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 몬테카를로 목표 달성 시뮬레이션 엔진
+ * 투자 계획의 자산 배분을 자산군별로 묶어 상관된 월간 수익률(촐레스키 분해)로
+ * 투자 기간 동안 매수 후 보유(월 적립금은 목표 비중대로 추가) 경로를 시뮬레이션한다.
+ * 
+ * 재현성: 경로를 PATHS_PER_TASK 단위 청크로 나누고 청크별 SplittableRandom을
+ * 시드로부터 순서대로 분기하므로 스레드 수나 실행 순서와 무관하게 같은 결과가 나온다.
+ */
+@Slf4j
+@Component
+public class MonteCarloProjectionEngine {
+    
+    public static final int DEFAULT_PATHS = 10_000;
+    public static final int MAX_PATHS = 1_000_000;
+    public static final int MAX_MONTHS = 600;
+    
+    private static final int PATHS_PER_TASK = 1_024;
+    private static final double MONTHS_PER_YEAR = 12.0;
+    
+    private final CapitalMarketAssumptions assumptions;
+    private final ForkJoinPool pool;
+    
+    public MonteCarloProjectionEngine() {
+        this(CapitalMarketAssumptions.DEFAULT, ForkJoinPool.commonPool());
+    }
+    
+    public MonteCarloProjectionEngine(CapitalMarketAssumptions assumptions, ForkJoinPool pool) {
+        this.assumptions = assumptions;
+        this.pool = pool;
+    }
+    
+    /**
+     * 투자 계획의 목표 달성 시뮬레이션
+     * 
+     * @param plan 투자 계획 (자산 배분 포함)
+     * @param goalAmount 목표 금액
+     * @param monthlyContribution 월 적립 금액 (없으면 0)
+     * @param months 투자 기간 (개월)
+     * @param paths 시뮬레이션 경로 수
+     * @param seed 난수 시드
+     * @return 시뮬레이션 결과
+     */
+    public ProjectionResult project(InvestmentPlan plan, BigDecimal goalAmount, BigDecimal monthlyContribution,
+                                    int months, int paths, long seed) {
+        validate(plan, goalAmount, months, paths);
+        BigDecimal contribution = monthlyContribution != null ? monthlyContribution : BigDecimal.ZERO;
+        
+        double[] classWeights = aggregateWeights(plan.getAllocations());
+        double[] terminal = simulate(classWeights, plan.getTotalAmount().doubleValue(),
+                                     contribution.doubleValue(), months, paths, seed);
+        
+        double goal = goalAmount.doubleValue();
+        int reached = 0;
+        double sum = 0.0;
+        for (double value : terminal) {
+            sum += value;
+            if (value >= goal) {
+                reached++;
+            }
+        }
+        Arrays.sort(terminal);
+        
+        log.info("목표 달성 시뮬레이션 완료 - customerId: {}, paths: {}, months: {}, probability: {}",
+                plan.getCustomerId(), paths, months, (double) reached / paths);
+        
+        return ProjectionResult.builder()
+            .customerId(plan.getCustomerId())
+            .paths(paths)
+            .months(months)
+            .seed(seed)
+            .initialAmount(plan.getTotalAmount())
+            .monthlyContribution(contribution)
+            .goalAmount(goalAmount)
+            .goalProbability((double) reached / paths)
+            .expectedValue(toWon(sum / paths))
+            .percentile5(toWon(StatisticsCalculator.percentileOfSorted(terminal, 5)))
+            .percentile25(toWon(StatisticsCalculator.percentileOfSorted(terminal, 25)))
+            .median(toWon(StatisticsCalculator.percentileOfSorted(terminal, 50)))
+            .percentile75(toWon(StatisticsCalculator.percentileOfSorted(terminal, 75)))
+            .percentile95(toWon(StatisticsCalculator.percentileOfSorted(terminal, 95)))
+            .build();
+    }
+    
+    /**
+     * 경로별 만기 평가금액 시뮬레이션 (정렬되지 않은 결과)
+     * 
+     * @param classWeights 자산군별 비중 (CapitalMarketAssumptions 순서, 합계 1)
+     * @param initialAmount 초기 투자 금액
+     * @param monthlyContribution 월 적립 금액
+     * @param months 투자 기간 (개월)
+     * @param paths 경로 수
+     * @param seed 난수 시드
+     * @return 경로별 만기 평가금액
+     */
+    public double[] simulate(double[] classWeights, double initialAmount, double monthlyContribution,
+                             int months, int paths, long seed) {
+        // 비중이 있는 자산군만 시뮬레이션 (부분 상관행렬은 여전히 양의 정부호)
+        int active = 0;
+        for (double weight : classWeights) {
+            if (weight > 0.0) {
+                active++;
+            }
+        }
+        int[] indices = new int[active];
+        for (int i = 0, k = 0; i < classWeights.length; i++) {
+            if (classWeights[i] > 0.0) {
+                indices[k++] = i;
+            }
+        }
+        
+        SimulationModel model = new SimulationModel(active, months);
+        double[] lower = MatrixCalculator.cholesky(MatrixCalculator.subMatrix(assumptions.getCorrelations(), indices));
+        for (int k = 0; k < active; k++) {
+            int index = indices[k];
+            double sigma = assumptions.getAnnualVolatility(index) / Math.sqrt(MONTHS_PER_YEAR);
+            model.drift[k] = assumptions.getAnnualReturn(index) / MONTHS_PER_YEAR;
+            model.initial[k] = initialAmount * classWeights[index];
+            model.contribution[k] = monthlyContribution * classWeights[index];
+            // 변동성을 촐레스키 행에 미리 곱해 월간 루프의 곱셈을 줄임
+            for (int j = 0; j <= k; j++) {
+                model.loading[k * active + j] = lower[k * active + j] * sigma;
+            }
+        }
+        
+        // 청크별 난수 생성기를 시드에서 순서대로 분기 (재현성 보장)
+        int chunks = (paths + PATHS_PER_TASK - 1) / PATHS_PER_TASK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+        
+        double[] terminal = new double[paths];
+        pool.invoke(new SimulationTask(model, randoms, terminal, 0, chunks));
+        return terminal;
+    }
+    
+    /**
+     * 자산 배분 목록을 자산군별 비중으로 집계
+     */
+    double[] aggregateWeights(List<AssetAllocation> allocations) {
+        double[] weights = new double[assumptions.size()];
+        double total = 0.0;
+        for (AssetAllocation allocation : allocations) {
+            int index = assumptions.indexOf(allocation.getAssetType());
+            if (index < 0) {
+                throw new BusinessException(ErrorCodes.INVALID_ASSET_ALLOCATION,
+                    "시뮬레이션 가정이 없는 자산 유형입니다: " + allocation.getAssetType());
+            }
+            double weight = allocation.getWeight() != null ? allocation.getWeight() : 0.0;
+            weights[index] += weight;
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new BusinessException(ErrorCodes.INVALID_ASSET_ALLOCATION, "자산 배분 비중이 없습니다");
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= total;
+        }
+        return weights;
+    }
+    
+    private void validate(InvestmentPlan plan, BigDecimal goalAmount, int months, int paths) {
+        if (plan == null || plan.getAllocations() == null || plan.getAllocations().isEmpty()) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "자산 배분이 포함된 투자 계획이 필요합니다");
+        }
+        if (plan.getTotalAmount() == null || goalAmount == null) {
+            throw new BusinessException(ErrorCodes.NULL_PARAMETER, "투자 금액과 목표 금액이 필요합니다");
+        }
+        if (months <= 0 || months > MAX_MONTHS) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "투자 기간은 1~" + MAX_MONTHS + "개월이어야 합니다");
+        }
+        if (paths <= 0 || paths > MAX_PATHS) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "시뮬레이션 경로 수는 1~" + MAX_PATHS + "이어야 합니다");
+        }
+    }
+    
+    private static BigDecimal toWon(double value) {
+        return BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * 시뮬레이션 입력 (primitive 배열)
+     */
+    private static final class SimulationModel {
+        final int assets;
+        final int months;
+        final double[] drift;
+        final double[] initial;
+        final double[] contribution;
+        final double[] loading; // 촐레스키 하삼각 × 월 변동성 (row-major)
+        
+        SimulationModel(int assets, int months) {
+            this.assets = assets;
+            this.months = months;
+            this.drift = new double[assets];
+            this.initial = new double[assets];
+            this.contribution = new double[assets];
+            this.loading = new double[assets * assets];
+        }
+    }
+    
+    /**
+     * 청크 범위를 분할하는 fork-join 작업
+     */
+    private static final class SimulationTask extends RecursiveAction {
+        
+        private final SimulationModel model;
+        private final SplittableRandom[] randoms;
+        private final double[] terminal;
+        private final int fromChunk;
+        private final int toChunk;
+        
+        SimulationTask(SimulationModel model, SplittableRandom[] randoms, double[] terminal,
+                       int fromChunk, int toChunk) {
+            this.model = model;
+            this.randoms = randoms;
+            this.terminal = terminal;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(new SimulationTask(model, randoms, terminal, fromChunk, mid),
+                          new SimulationTask(model, randoms, terminal, mid, toChunk));
+                return;
+            }
+            simulateChunk(fromChunk);
+        }
+        
+        private void simulateChunk(int chunk) {
+            int n = model.assets;
+            double[] drift = model.drift;
+            double[] loading = model.loading;
+            double[] contribution = model.contribution;
+            double[] wealth = new double[n];
+            double[] z = new double[n];
+            SplittableRandom random = randoms[chunk];
+            
+            int from = chunk * PATHS_PER_TASK;
+            int to = Math.min(from + PATHS_PER_TASK, terminal.length);
+            for (int path = from; path < to; path++) {
+                System.arraycopy(model.initial, 0, wealth, 0, n);
+                for (int month = 0; month < model.months; month++) {
+                    for (int j = 0; j < n; j++) {
+                        z[j] = random.nextGaussian();
+                    }
+                    for (int i = 0; i < n; i++) {
+                        double shock = 0.0;
+                        int row = i * n;
+                        for (int j = 0; j <= i; j++) {
+                            shock += loading[row + j] * z[j];
+                        }
+                        // 월 수익률 -100% 미만은 0으로 절단
+                        double growth = 1.0 + drift[i] + shock;
+                        wealth[i] = (growth > 0.0 ? wealth[i] * growth : 0.0) + contribution[i];
+                    }
+                }
+                double total = 0.0;
+                for (int i = 0; i < n; i++) {
+                    total += wealth[i];
+                }
+                terminal[path] = total;
+            }
+        }
+    }
+}
\ No newline at end of file
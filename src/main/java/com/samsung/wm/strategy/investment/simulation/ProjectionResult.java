@@ -0,0 +1,35 @@
+package com.samsung.wm.strategy.investment.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 목표 달성 시뮬레이션 결과 클래스
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionResult {
+    
+    private String customerId;
+    private int paths;
+    private int months;
+    private long seed;
+    
+    private BigDecimal initialAmount;
+    private BigDecimal monthlyContribution;
+    private BigDecimal goalAmount;
+    
+    private Double goalProbability; // 목표 금액 이상 도달 확률 (0~1)
+    private BigDecimal expectedValue;
+    private BigDecimal percentile5;
+    private BigDecimal percentile25;
+    private BigDecimal median;
+    private BigDecimal percentile75;
+    private BigDecimal percentile95;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.samsung.wm.strategy.portfolio;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 보유 종목 정보
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Holding {
+    private String symbol;
+    private String assetType;
+    private Integer quantity;
+    private BigDecimal avgPrice;
+    private BigDecimal currentPrice;
+    private BigDecimal marketValue;
+    private Double weight;
+    private BigDecimal fractionalQuantity; // 1주 미만 보유수량 (소수점 재투자분, 없으면 null)
+}
\ No newline at end of file
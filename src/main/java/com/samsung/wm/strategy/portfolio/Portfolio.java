@@ -23,20 +23,4 @@ public class Portfolio {
     private List<Holding> holdings;
     private LocalDateTime lastUpdated;
     private String status; // active, inactive, suspended
-}
-
-/**
- * 보유 종목 정보
- */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-class Holding {
-    private String symbol;
-    private String assetType;
-    private Integer quantity;
-    private BigDecimal avgPrice;
-    private BigDecimal currentPrice;
-    private BigDecimal marketValue;
-    private Double weight;
 }
\ No newline at end of file
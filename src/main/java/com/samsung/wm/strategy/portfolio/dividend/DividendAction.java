@@ -0,0 +1,23 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 배당 기업행위 정보
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DividendAction {
+    
+    private String actionId;
+    private String symbol;
+    private LocalDate exDividendDate;
+    private BigDecimal dividendPerShare; // 주당 배당금 (원, 소수점 2자리까지)
+    private BigDecimal reinvestPrice;    // 재투자 매수 단가 (원)
+}
\ No newline at end of file
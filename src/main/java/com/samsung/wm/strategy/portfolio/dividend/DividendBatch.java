@@ -0,0 +1,95 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import java.math.BigDecimal;
+
+/**
+ * 배당 재투자 배치 결과 (재사용 버퍼)
+ * 금액은 0.01원 단위, 수량은 HolderIndex.SHARE_SCALE 단위 고정소수점으로 보관하며
+ * 배치 리스너 호출 중에만 유효하다 (호출 후 다음 배치에 재사용).
+ */
+public final class DividendBatch {
+    
+    private HolderIndex index;
+    private DividendAction action;
+    private int from;
+    private int size;
+    private long[] grossCenti = new long[0];
+    private long[] taxCenti = new long[0];
+    private long[] purchasedShares = new long[0];
+    private long[] residualCenti = new long[0];
+    
+    void reset(HolderIndex index, DividendAction action, int from, int size) {
+        this.index = index;
+        this.action = action;
+        this.from = from;
+        this.size = size;
+        if (grossCenti.length < size) {
+            grossCenti = new long[size];
+            taxCenti = new long[size];
+            purchasedShares = new long[size];
+            residualCenti = new long[size];
+        }
+    }
+    
+    void set(int i, long gross, long tax, long purchased, long residual) {
+        grossCenti[i] = gross;
+        taxCenti[i] = tax;
+        purchasedShares[i] = purchased;
+        residualCenti[i] = residual;
+    }
+    
+    public DividendAction getAction() {
+        return action;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String getPortfolioId(int i) {
+        return index.portfolioIdAt(from + i);
+    }
+    
+    public String getCustomerId(int i) {
+        return index.customerIdAt(from + i);
+    }
+    
+    /**
+     * 재투자 후 보유수량
+     */
+    public BigDecimal getShares(int i) {
+        return BigDecimal.valueOf(index.sharesAt(from + i), 6);
+    }
+    
+    public BigDecimal getGrossDividend(int i) {
+        return BigDecimal.valueOf(grossCenti[i], 2);
+    }
+    
+    public BigDecimal getWithholdingTax(int i) {
+        return BigDecimal.valueOf(taxCenti[i], 2);
+    }
+    
+    public BigDecimal getPurchasedShares(int i) {
+        return BigDecimal.valueOf(purchasedShares[i], 6);
+    }
+    
+    public BigDecimal getResidualCash(int i) {
+        return BigDecimal.valueOf(residualCenti[i], 2);
+    }
+    
+    long grossCenti(int i) {
+        return grossCenti[i];
+    }
+    
+    long taxCenti(int i) {
+        return taxCenti[i];
+    }
+    
+    long purchasedShares(int i) {
+        return purchasedShares[i];
+    }
+    
+    long residualCenti(int i) {
+        return residualCenti[i];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import com.samsung.wm.strategy.portfolio.Portfolio;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단일 포트폴리오 배당 재투자 요청 파라미터
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DividendReinvestmentOrder {
+    
+    private Portfolio portfolio;
+    private DividendAction action;
+}
\ No newline at end of file
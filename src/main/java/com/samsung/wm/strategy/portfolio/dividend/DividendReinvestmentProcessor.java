@@ -0,0 +1,135 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.stream.IntStream;
+
+/**
+ * 배당 재투자 일괄 처리기
+ * 역색인에서 종목 보유자 구간을 배치로 나누어 병렬 처리하며, 모든 계산은 long 고정소수점으로 수행한다.
+ * 
+ * - 배당금: 보유수량(1e-6주) × 주당 배당금(0.01원), 0.01원 미만 절사
+ * - 원천징수세: 배당금 × 세율, 원 미만 절사
+ * - 재투자: 세후 배당금 / 매수 단가, 1e-6주 미만 절사 (매수 금액은 0.01원 단위 올림, 나머지는 잔여 현금)
+ */
+@Slf4j
+@Component
+public class DividendReinvestmentProcessor {
+    
+    private static final long CENTI = 100L;
+    private static final long BASIS_POINTS = 10_000L;
+    
+    private final ThreadLocal<DividendBatch> batches = ThreadLocal.withInitial(DividendBatch::new);
+    
+    /**
+     * 종목 보유자 전체 배당 재투자
+     * 
+     * @param index 종목 → 포트폴리오 역색인 (보유수량이 갱신됨)
+     * @param action 배당 기업행위
+     * @param withholdingRate 원천징수세율 (예: 0.154)
+     * @param batchSize 배치 크기
+     * @param listener 배치 처리 결과 리스너 (작업 스레드에서 호출, null 허용)
+     * @return 처리 결과 요약
+     */
+    public DividendRunReport process(HolderIndex index, DividendAction action, double withholdingRate,
+                                     int batchSize, BatchListener listener) {
+        long dividendCenti = toCenti(action.getDividendPerShare(), RoundingMode.DOWN);
+        long priceCenti = toCenti(action.getReinvestPrice(), RoundingMode.HALF_UP);
+        if (dividendCenti <= 0 || priceCenti <= 0 || batchSize <= 0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "배당금, 재투자 단가, 배치 크기는 0보다 커야 합니다");
+        }
+        long rateBasisPoints = Math.round(withholdingRate * BASIS_POINTS);
+        
+        long startTime = System.nanoTime();
+        int symbolId = index.symbolId(action.getSymbol());
+        int start = symbolId < 0 ? 0 : index.start(symbolId);
+        int end = symbolId < 0 ? 0 : index.end(symbolId);
+        int batchCount = (end - start + batchSize - 1) / batchSize;
+        
+        // 배치별 합계 [배당금, 세금, 매수수량, 잔여현금]
+        long[] totals = new long[batchCount * 4];
+        IntStream.range(0, batchCount).parallel().forEach(b -> {
+            int from = start + b * batchSize;
+            int to = Math.min(from + batchSize, end);
+            DividendBatch batch = batches.get();
+            batch.reset(index, action, from, to - from);
+            for (int p = from; p < to; p++) {
+                reinvest(index, p, dividendCenti, priceCenti, rateBasisPoints, batch, p - from);
+            }
+            int offset = b * 4;
+            for (int i = 0; i < batch.size(); i++) {
+                totals[offset] += batch.grossCenti(i);
+                totals[offset + 1] += batch.taxCenti(i);
+                totals[offset + 2] += batch.purchasedShares(i);
+                totals[offset + 3] += batch.residualCenti(i);
+            }
+            if (listener != null) {
+                listener.onBatch(batch);
+            }
+        });
+        
+        long[] sum = new long[4];
+        for (int i = 0; i < totals.length; i++) {
+            sum[i & 3] += totals[i];
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("배당 재투자 일괄 처리 완료 - symbol: {}, holders: {}, batches: {}, elapsedMs: {}",
+                action.getSymbol(), end - start, batchCount, elapsedMillis);
+        
+        return DividendRunReport.builder()
+            .actionId(action.getActionId())
+            .symbol(action.getSymbol())
+            .holders(end - start)
+            .batches(batchCount)
+            .totalGrossDividend(BigDecimal.valueOf(sum[0], 2))
+            .totalWithholdingTax(BigDecimal.valueOf(sum[1], 2))
+            .totalSharesPurchased(BigDecimal.valueOf(sum[2], 6))
+            .totalResidualCash(BigDecimal.valueOf(sum[3], 2))
+            .elapsedMillis(elapsedMillis)
+            .build();
+    }
+    
+    private static void reinvest(HolderIndex index, int position, long dividendCenti, long priceCenti,
+                                 long rateBasisPoints, DividendBatch batch, int slot) {
+        long shares = index.sharesAt(position);
+        // 정수부/소수부로 나누어 곱해 long 범위 초과 방지
+        long gross = (shares / HolderIndex.SHARE_SCALE) * dividendCenti
+                   + (shares % HolderIndex.SHARE_SCALE) * dividendCenti / HolderIndex.SHARE_SCALE;
+        long tax = gross * rateBasisPoints / BASIS_POINTS / CENTI * CENTI;
+        long net = gross - tax;
+        
+        long wholeShares = net / priceCenti;
+        long remainder = net % priceCenti;
+        long fraction = remainder * HolderIndex.SHARE_SCALE / priceCenti;
+        long purchased = wholeShares * HolderIndex.SHARE_SCALE + fraction;
+        long cost = wholeShares * priceCenti
+                  + (fraction * priceCenti + HolderIndex.SHARE_SCALE - 1) / HolderIndex.SHARE_SCALE;
+        
+        index.addShares(position, purchased);
+        batch.set(slot, gross, tax, purchased, net - cost);
+    }
+    
+    private static long toCenti(BigDecimal amount, RoundingMode roundingMode) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.movePointRight(2).setScale(0, roundingMode).longValueExact();
+    }
+    
+    /**
+     * 배치 처리 결과 리스너
+     */
+    @FunctionalInterface
+    public interface BatchListener {
+        
+        /**
+         * @param batch 배치 결과 (호출 중에만 유효)
+         */
+        void onBatch(DividendBatch batch);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 배당 재투자 일괄 처리 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DividendRunReport {
+    
+    private String actionId;
+    private String symbol;
+    private int holders;
+    private int batches;
+    private BigDecimal totalGrossDividend;
+    private BigDecimal totalWithholdingTax;
+    private BigDecimal totalSharesPurchased;
+    private BigDecimal totalResidualCash; // 소수점 매수 후 남은 현금
+    private long elapsedMillis;
+}
\ No newline at end of file
@@ -0,0 +1,308 @@
+package com.samsung.wm.strategy.portfolio.dividend;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.wm.strategy.portfolio.Holding;
+import com.samsung.wm.strategy.portfolio.Portfolio;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목 → 보유 포트폴리오 역색인 (CSR 구조)
+ * 종목별 보유자 구간 [offsets[s], offsets[s + 1])에 포트폴리오 인덱스와 고정소수점 보유수량을 연속 저장한다.
+ * 보유수량은 소수점 6자리 고정소수점(long, SHARE_SCALE)으로 관리하여 소수점 단위 재투자를 누적한다.
+ * 포트폴리오별로 종목은 한 번만 보유할 수 있다 (중복 포지션은 build 시 거부).
+ * 
+ * 같은 종목을 동시에 두 번 처리하지 않는 한 종목별 구간 단위 갱신은 스레드 간 충돌하지 않는다.
+ */
+public final class HolderIndex {
+    
+    public static final long SHARE_SCALE = 1_000_000L;
+    
+    private final String[] portfolioIds;
+    private final String[] customerIds;
+    private final Map<String, Integer> symbolIds;
+    private final int[] offsets;
+    private final int[] holders;
+    private final long[] shares;
+    private final Holding[] sources; // 위치별 원본 보유 종목 (of()로 만든 경우만, 아니면 null)
+    
+    private HolderIndex(String[] portfolioIds, String[] customerIds, Map<String, Integer> symbolIds,
+                        int[] offsets, int[] holders, long[] shares, Holding[] sources) {
+        this.portfolioIds = portfolioIds;
+        this.customerIds = customerIds;
+        this.symbolIds = symbolIds;
+        this.offsets = offsets;
+        this.holders = holders;
+        this.shares = shares;
+        this.sources = sources;
+    }
+    
+    /**
+     * 포트폴리오 목록으로 역색인 생성
+     * 보유 종목(Holding)을 기억해 두므로 재투자 결과를 applyToHoldings로 되돌려 쓸 수 있다.
+     * 
+     * @param portfolios 포트폴리오 목록 (보유 종목 포함)
+     * @return 역색인
+     * @throws BusinessException 한 포트폴리오에 같은 종목 보유 내역이 둘 이상인 경우
+     */
+    public static HolderIndex of(List<Portfolio> portfolios) {
+        Builder builder = new Builder();
+        for (Portfolio portfolio : portfolios) {
+            int index = builder.addPortfolio(portfolio.getPortfolioId(), portfolio.getCustomerId());
+            if (portfolio.getHoldings() == null) {
+                continue;
+            }
+            for (Holding holding : portfolio.getHoldings()) {
+                long fixedShares = toFixedShares(holding);
+                if (fixedShares > 0) {
+                    builder.addPosition(index, holding.getSymbol(), fixedShares, holding);
+                }
+            }
+        }
+        return builder.build();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * 종목 ID 조회
+     * 
+     * @param symbol 종목 코드
+     * @return 종목 ID, 보유자가 없으면 -1
+     */
+    public int symbolId(String symbol) {
+        Integer id = symbolIds.get(symbol);
+        return id != null ? id : -1;
+    }
+    
+    /**
+     * 종목 보유자 수
+     */
+    public int holderCount(String symbol) {
+        int id = symbolId(symbol);
+        return id < 0 ? 0 : offsets[id + 1] - offsets[id];
+    }
+    
+    public int portfolioCount() {
+        return portfolioIds.length;
+    }
+    
+    /**
+     * 종목 보유자 구간 시작 위치
+     */
+    int start(int symbolId) {
+        return offsets[symbolId];
+    }
+    
+    /**
+     * 종목 보유자 구간 끝 위치 (미포함)
+     */
+    int end(int symbolId) {
+        return offsets[symbolId + 1];
+    }
+    
+    String portfolioIdAt(int position) {
+        return portfolioIds[holders[position]];
+    }
+    
+    String customerIdAt(int position) {
+        return customerIds[holders[position]];
+    }
+    
+    long sharesAt(int position) {
+        return shares[position];
+    }
+    
+    void addShares(int position, long delta) {
+        shares[position] += delta;
+    }
+    
+    /**
+     * 종목의 재투자 후 보유수량을 원본 Holding에 반영 (of()로 만든 역색인만 해당)
+     * 정수 주식은 quantity, 1주 미만은 fractionalQuantity에 쓰고 현재가가 있으면 평가금액도 갱신한다.
+     * 
+     * @param symbol 종목 코드
+     * @return 갱신한 보유 종목 수
+     */
+    public int applyToHoldings(String symbol) {
+        int id = symbolId(symbol);
+        if (id < 0 || sources == null) {
+            return 0;
+        }
+        int applied = 0;
+        for (int p = offsets[id]; p < offsets[id + 1]; p++) {
+            Holding holding = sources[p];
+            if (holding == null) {
+                continue;
+            }
+            long fixedShares = shares[p];
+            holding.setQuantity(Math.toIntExact(fixedShares / SHARE_SCALE));
+            long fraction = fixedShares % SHARE_SCALE;
+            holding.setFractionalQuantity(fraction != 0 ? BigDecimal.valueOf(fraction, 6) : null);
+            if (holding.getCurrentPrice() != null) {
+                holding.setMarketValue(holding.getCurrentPrice().multiply(BigDecimal.valueOf(fixedShares, 6)));
+            }
+            applied++;
+        }
+        return applied;
+    }
+    
+    /**
+     * 포트폴리오의 종목 보유수량 (고정소수점)
+     * 
+     * @param portfolioId 포트폴리오 ID
+     * @param symbol 종목 코드
+     * @return 보유수량 (SHARE_SCALE 배), 없으면 0
+     */
+    public long getShares(String portfolioId, String symbol) {
+        int id = symbolId(symbol);
+        if (id < 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int p = offsets[id]; p < offsets[id + 1]; p++) {
+            if (portfolioIds[holders[p]].equals(portfolioId)) {
+                total += shares[p];
+            }
+        }
+        return total;
+    }
+    
+    private static long toFixedShares(Holding holding) {
+        long fixedShares = holding.getQuantity() != null ? holding.getQuantity() * SHARE_SCALE : 0;
+        if (holding.getFractionalQuantity() != null) {
+            fixedShares += holding.getFractionalQuantity().movePointRight(6).longValue();
+        }
+        return fixedShares;
+    }
+    
+    /**
+     * 역색인 빌더
+     * 포지션을 순서 없이 추가한 뒤 build 시 종목별 계수 정렬(counting sort)로 구간을 만든다.
+     */
+    public static final class Builder {
+        
+        private String[] portfolioIds = new String[16];
+        private String[] customerIds = new String[16];
+        private int portfolioCount;
+        
+        private final Map<String, Integer> symbolIds = new HashMap<>();
+        private int[] positionPortfolios = new int[16];
+        private int[] positionSymbols = new int[16];
+        private long[] positionShares = new long[16];
+        private Holding[] positionSources;
+        private int positionCount;
+        
+        /**
+         * 포트폴리오 추가
+         * 
+         * @return 포트폴리오 인덱스
+         */
+        public int addPortfolio(String portfolioId, String customerId) {
+            if (portfolioCount == portfolioIds.length) {
+                portfolioIds = Arrays.copyOf(portfolioIds, portfolioCount * 2);
+                customerIds = Arrays.copyOf(customerIds, portfolioCount * 2);
+            }
+            portfolioIds[portfolioCount] = portfolioId;
+            customerIds[portfolioCount] = customerId;
+            return portfolioCount++;
+        }
+        
+        /**
+         * 보유 포지션 추가
+         * 
+         * @param portfolio 포트폴리오 인덱스 (addPortfolio 반환값)
+         * @param symbol 종목 코드
+         * @param fixedShares 보유수량 (SHARE_SCALE 배 고정소수점)
+         */
+        public Builder addPosition(int portfolio, String symbol, long fixedShares) {
+            if (positionCount == positionShares.length) {
+                int capacity = positionCount * 2;
+                positionPortfolios = Arrays.copyOf(positionPortfolios, capacity);
+                positionSymbols = Arrays.copyOf(positionSymbols, capacity);
+                positionShares = Arrays.copyOf(positionShares, capacity);
+                if (positionSources != null) {
+                    positionSources = Arrays.copyOf(positionSources, capacity);
+                }
+            }
+            positionPortfolios[positionCount] = portfolio;
+            positionSymbols[positionCount] = symbolIds.computeIfAbsent(symbol, key -> symbolIds.size());
+            positionShares[positionCount] = fixedShares;
+            positionCount++;
+            return this;
+        }
+        
+        private void addPosition(int portfolio, String symbol, long fixedShares, Holding source) {
+            if (positionSources == null) {
+                positionSources = new Holding[positionShares.length];
+            }
+            addPosition(portfolio, symbol, fixedShares);
+            positionSources[positionCount - 1] = source;
+        }
+        
+        /**
+         * 역색인 생성
+         * 
+         * @throws BusinessException 한 포트폴리오에 같은 종목 포지션이 둘 이상인 경우
+         */
+        public HolderIndex build() {
+            int symbolCount = symbolIds.size();
+            int[] offsets = new int[symbolCount + 1];
+            for (int i = 0; i < positionCount; i++) {
+                offsets[positionSymbols[i] + 1]++;
+            }
+            for (int s = 0; s < symbolCount; s++) {
+                offsets[s + 1] += offsets[s];
+            }
+            int[] cursor = Arrays.copyOf(offsets, symbolCount);
+            int[] holders = new int[positionCount];
+            long[] shares = new long[positionCount];
+            Holding[] sources = positionSources != null ? new Holding[positionCount] : null;
+            for (int i = 0; i < positionCount; i++) {
+                int slot = cursor[positionSymbols[i]]++;
+                holders[slot] = positionPortfolios[i];
+                shares[slot] = positionShares[i];
+                if (sources != null) {
+                    sources[slot] = positionSources[i];
+                }
+            }
+            rejectDuplicates(offsets, holders);
+            return new HolderIndex(Arrays.copyOf(portfolioIds, portfolioCount),
+                                   Arrays.copyOf(customerIds, portfolioCount),
+                                   new HashMap<>(symbolIds), offsets, holders, shares, sources);
+        }
+        
+        /**
+         * 종목 구간마다 같은 포트폴리오가 두 번 나오면 거부 (포트폴리오별 마지막 확인 종목으로 판별)
+         */
+        private void rejectDuplicates(int[] offsets, int[] holders) {
+            int[] lastSymbol = new int[portfolioCount];
+            Arrays.fill(lastSymbol, -1);
+            for (int s = 0; s + 1 < offsets.length; s++) {
+                for (int p = offsets[s]; p < offsets[s + 1]; p++) {
+                    if (lastSymbol[holders[p]] == s) {
+                        throw new BusinessException(ErrorCodes.INVALID_PARAMETER,
+                            "포트폴리오 " + portfolioIds[holders[p]] + "에 같은 종목(" + symbolOf(s) + ") 보유 내역이 중복되었습니다");
+                    }
+                    lastSymbol[holders[p]] = s;
+                }
+            }
+        }
+        
+        private String symbolOf(int symbolId) {
+            for (Map.Entry<String, Integer> entry : symbolIds.entrySet()) {
+                if (entry.getValue() == symbolId) {
+                    return entry.getKey();
+                }
+            }
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.samsung.wm.strategy.portfolio.impl;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.constants.WealthManagementConstants;
+import com.samsung.wm.integration.messaging.PortfolioEvent;
+import com.samsung.wm.integration.messaging.PortfolioEventProducer;
+import com.samsung.wm.integration.messaging.PortfolioEventType;
+import com.samsung.wm.strategy.portfolio.*;
+import com.samsung.wm.strategy.portfolio.dividend.DividendAction;
+import com.samsung.wm.strategy.portfolio.dividend.DividendBatch;
+import com.samsung.wm.strategy.portfolio.dividend.DividendReinvestmentOrder;
+import com.samsung.wm.strategy.portfolio.dividend.DividendReinvestmentProcessor;
+import com.samsung.wm.strategy.portfolio.dividend.DividendRunReport;
+import com.samsung.wm.strategy.portfolio.dividend.HolderIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배당 재투자 전략 구현체
+ * 배당락일에 종목 보유자 전체의 세후 배당금을 소수점 단위로 재투자하고,
+ * 결과를 배치 단위 PortfolioEvent로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DividendReinvestmentStrategy implements PortfolioStrategy {
+    
+    private final DividendReinvestmentProcessor dividendReinvestmentProcessor;
+    private final PortfolioEventProducer portfolioEventProducer;
+    private final Clock clock;
+    
+    /**
+     * 단일 포트폴리오 배당 재투자
+     * 요청의 additionalParams로 DividendReinvestmentOrder를 전달받고, 재투자 수량을 포트폴리오의 보유 종목에 반영한다.
+     */
+    @Override
+    public PortfolioManagementResult execute(PortfolioRequest request) {
+        log.info("배당 재투자 전략 실행 - portfolioId: {}", request.getPortfolioId());
+        
+        if (!(request.getAdditionalParams() instanceof DividendReinvestmentOrder order)) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "배당 재투자 요청 정보가 필요합니다");
+        }
+        
+        HolderIndex index = HolderIndex.of(List.of(order.getPortfolio()));
+        DividendRunReport report = reinvestAll(index, order.getAction());
+        
+        List<String> actions = new ArrayList<>();
+        actions.add(String.format("%s 배당금 %s원 (원천징수 %s원)", order.getAction().getSymbol(),
+            report.getTotalGrossDividend().toPlainString(), report.getTotalWithholdingTax().toPlainString()));
+        actions.add(String.format("%s주 재투자", report.getTotalSharesPurchased().stripTrailingZeros().toPlainString()));
+        
+        Map<String, Object> details = new HashMap<>();
+        details.put("dividendRunReport", report);
+        
+        return new PortfolioManagementResult(
+            request.getPortfolioId(),
+            request.getCustomerId(),
+            PortfolioManagementType.DIVIDEND_REINVESTMENT,
+            report.getHolders() > 0 ? "배당금 재투자가 완료되었습니다." : "배당 대상 보유 종목이 없습니다.",
+            actions,
+            details,
+            CoarseClock.now(clock),
+            true
+        );
+    }
+    
+    /**
+     * 종목 보유자 전체 배당 재투자 (배당락일 일괄 처리)
+     * HolderIndex.of()로 만든 역색인이면 재투자 후 보유수량을 원본 Holding에도 반영한다.
+     * 
+     * @param index 종목 → 포트폴리오 역색인 (보유수량이 갱신됨)
+     * @param action 배당 기업행위
+     * @return 처리 결과 요약
+     */
+    public DividendRunReport reinvestAll(HolderIndex index, DividendAction action) {
+        log.info("배당 재투자 일괄 처리 - symbol: {}, holders: {}", action.getSymbol(), index.holderCount(action.getSymbol()));
+        DividendRunReport report = dividendReinvestmentProcessor.process(index, action,
+            WealthManagementConstants.DIVIDEND_WITHHOLDING_TAX_RATE,
+            WealthManagementConstants.DIVIDEND_BATCH_SIZE,
+            this::publishBatch);
+        index.applyToHoldings(action.getSymbol());
+        return report;
+    }
+    
+    @Override
+    public PortfolioManagementType getType() {
+        return PortfolioManagementType.DIVIDEND_REINVESTMENT;
+    }
+    
+    @Override
+    public boolean needsRebalancing(Portfolio portfolio) {
+        // 배당 재투자는 리밸런싱 여부를 판단하지 않음
+        return false;
+    }
+    
+    private void publishBatch(DividendBatch batch) {
+        DividendAction action = batch.getAction();
+        LocalDateTime occurredAt = CoarseClock.now(clock);
+        List<PortfolioEvent> events = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            String portfolioId = batch.getPortfolioId(i);
+            // 역색인은 포트폴리오별 종목 중복을 허용하지 않으므로 기업행위 + 포트폴리오 + 종목으로 유일
+            events.add(new PortfolioEvent(
+                action.getActionId() + "-" + portfolioId + "-" + action.getSymbol(),
+                portfolioId,
+                batch.getCustomerId(i),
+                PortfolioEventType.DIVIDEND_REINVESTED,
+                "배당금 재투자",
+                Map.of(
+                    "symbol", action.getSymbol(),
+                    "grossDividend", batch.getGrossDividend(i),
+                    "withholdingTax", batch.getWithholdingTax(i),
+                    "purchasedShares", batch.getPurchasedShares(i),
+                    "residualCash", batch.getResidualCash(i),
+                    "shares", batch.getShares(i)
+                ),
+                occurredAt
+            ));
+        }
+        portfolioEventProducer.publishDividendReinvestedEvents(events);
+    }
+}
\ No newline at end of file
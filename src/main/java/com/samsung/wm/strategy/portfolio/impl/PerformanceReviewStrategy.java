@@ -0,0 +1,97 @@
+package com.samsung.wm.strategy.portfolio.impl;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.constants.WealthManagementConstants;
+import com.samsung.wm.strategy.portfolio.*;
+import com.samsung.wm.strategy.portfolio.performance.PerformanceAnalyzer;
+import com.samsung.wm.strategy.portfolio.performance.PerformanceHistory;
+import com.samsung.wm.strategy.portfolio.performance.PerformanceReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 성과 검토 전략 구현체
+ * 시간가중/금액가중 수익률, 위험조정 수익률, 최대 낙폭, Brinson 기여도를 산출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceReviewStrategy implements PortfolioStrategy {
+    
+    private final PerformanceAnalyzer performanceAnalyzer;
+    private final Clock clock;
+    
+    /**
+     * 단일 포트폴리오 성과 검토
+     * 요청의 additionalParams로 PerformanceHistory를 전달받는다.
+     */
+    @Override
+    public PortfolioManagementResult execute(PortfolioRequest request) {
+        log.info("성과 검토 전략 실행 - portfolioId: {}", request.getPortfolioId());
+        
+        if (!(request.getAdditionalParams() instanceof PerformanceHistory history)) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "성과 이력 정보가 필요합니다");
+        }
+        
+        PerformanceReport report = performanceAnalyzer.analyze(history,
+            WealthManagementConstants.PERFORMANCE_RISK_FREE_RATE, WealthManagementConstants.PERFORMANCE_ROLLING_WINDOW);
+        
+        List<String> actions = new ArrayList<>();
+        actions.add("시간가중수익률 " + toPercent(report.getTimeWeightedReturn())
+            + " (벤치마크 " + toPercent(report.getBenchmarkReturn()) + ")");
+        if (report.getMoneyWeightedReturn() != null) {
+            actions.add("금액가중수익률(연) " + toPercent(report.getMoneyWeightedReturn()));
+        }
+        actions.add("최대 낙폭 " + toPercent(report.getMaxDrawdown()));
+        
+        Map<String, Object> details = new HashMap<>();
+        details.put("performanceReport", report);
+        
+        return new PortfolioManagementResult(
+            request.getPortfolioId(),
+            request.getCustomerId(),
+            PortfolioManagementType.PERFORMANCE_REVIEW,
+            "포트폴리오 성과 검토가 완료되었습니다.",
+            actions,
+            details,
+            CoarseClock.now(clock),
+            true
+        );
+    }
+    
+    /**
+     * 전체 포트폴리오 성과 일괄 검토 (병렬)
+     * 
+     * @param histories 포트폴리오별 성과 이력
+     * @return 포트폴리오별 성과 분석 결과
+     */
+    public List<PerformanceReport> reviewAll(List<PerformanceHistory> histories) {
+        log.info("포트폴리오 성과 일괄 검토 - count: {}", histories.size());
+        return performanceAnalyzer.analyzeAll(histories,
+            WealthManagementConstants.PERFORMANCE_RISK_FREE_RATE, WealthManagementConstants.PERFORMANCE_ROLLING_WINDOW);
+    }
+    
+    @Override
+    public PortfolioManagementType getType() {
+        return PortfolioManagementType.PERFORMANCE_REVIEW;
+    }
+    
+    @Override
+    public boolean needsRebalancing(Portfolio portfolio) {
+        // 성과 검토는 리밸런싱 여부를 판단하지 않음
+        return false;
+    }
+    
+    private static String toPercent(double value) {
+        return String.format("%.2f%%", value * 100);
+    }
+}
\ No newline at end of file
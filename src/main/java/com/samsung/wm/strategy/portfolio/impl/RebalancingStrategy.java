@@ -1,10 +1,12 @@
 package com.samsung.wm.strategy.portfolio.impl;
 
+import com.samsung.common.util.CoarseClock;
 import com.samsung.wm.strategy.portfolio.*;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -15,8 +17,11 @@ import java.util.Map;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RebalancingStrategy implements PortfolioStrategy {
     
+    private final Clock clock;
+    
     @Override
     public PortfolioManagementResult execute(PortfolioRequest request) {
         log.info("리밸런싱 전략 실행 - portfolioId: {}", request.getPortfolioId());
@@ -39,7 +44,7 @@ public class RebalancingStrategy implements PortfolioStrategy {
             "포트폴리오 리밸런싱이 성공적으로 완료되었습니다.",
             actions,
             details,
-            LocalDateTime.now(),
+            CoarseClock.now(clock),
             true
         );
     }
@@ -0,0 +1,178 @@
+package com.samsung.wm.strategy.portfolio.impl;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.constants.WealthManagementConstants;
+import com.samsung.wm.integration.client.MarketDataClient;
+import com.samsung.wm.integration.messaging.PortfolioEvent;
+import com.samsung.wm.integration.messaging.PortfolioEventProducer;
+import com.samsung.wm.integration.messaging.PortfolioEventType;
+import com.samsung.wm.strategy.portfolio.*;
+import com.samsung.wm.strategy.portfolio.risk.BookRiskReport;
+import com.samsung.wm.strategy.portfolio.risk.ReturnPanel;
+import com.samsung.wm.strategy.portfolio.risk.RiskMetrics;
+import com.samsung.wm.strategy.portfolio.risk.ValueAtRiskEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 위험 모니터링 전략 구현체
+ * 포트폴리오의 VaR/ES를 산출하고 한도(평가금액 대비 비율)를 넘으면 RISK_ALERT 이벤트를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskMonitoringStrategy implements PortfolioStrategy {
+    
+    private final ValueAtRiskEngine valueAtRiskEngine;
+    private final MarketDataClient marketDataClient;
+    private final PortfolioEventProducer portfolioEventProducer;
+    private final Clock clock;
+    
+    /**
+     * 단일 포트폴리오 위험 모니터링
+     * 요청의 additionalParams로 보유 종목이 포함된 Portfolio를 전달받는다.
+     */
+    @Override
+    public PortfolioManagementResult execute(PortfolioRequest request) {
+        log.info("위험 모니터링 전략 실행 - portfolioId: {}", request.getPortfolioId());
+        
+        if (!(request.getAdditionalParams() instanceof Portfolio portfolio)) {
+            throw new BusinessException(ErrorCodes.PORTFOLIO_NOT_FOUND, "보유 종목이 포함된 포트폴리오 정보가 필요합니다");
+        }
+        
+        ReturnPanel panel = loadReturnPanel(List.of(portfolio));
+        RiskMetrics metrics = valueAtRiskEngine.calculate(portfolio, panel,
+            WealthManagementConstants.RISK_VAR_CONFIDENCE, WealthManagementConstants.RISK_VAR_HORIZON_DAYS);
+        boolean breached = isLimitBreached(metrics);
+        if (breached) {
+            publishRiskAlert(metrics);
+        }
+        
+        List<String> actions = new ArrayList<>();
+        actions.add("VaR 산출 (모수적/역사적/몬테카를로)");
+        actions.add(breached ? "위험 한도 초과 - 리스크 알림 발행" : "위험 한도 이내");
+        
+        Map<String, Object> details = new HashMap<>();
+        details.put("riskMetrics", metrics);
+        details.put("varLimit", varLimit(metrics));
+        details.put("limitBreached", breached);
+        
+        return new PortfolioManagementResult(
+            request.getPortfolioId(),
+            request.getCustomerId(),
+            PortfolioManagementType.RISK_MONITORING,
+            breached ? "포트폴리오 위험이 한도를 초과했습니다." : "포트폴리오 위험이 한도 이내입니다.",
+            actions,
+            details,
+            CoarseClock.now(clock),
+            true
+        );
+    }
+    
+    /**
+     * 포트폴리오 북 전체 위험 모니터링 (야간 배치)
+     * 전체 보유 종목으로 수익률 패널을 한 번만 구성해 모든 포트폴리오가 공유한다.
+     * 
+     * @param portfolios 포트폴리오 목록
+     * @param budget 시간 예산
+     * @return 북 위험 산출 결과
+     */
+    public BookRiskReport monitorBook(List<Portfolio> portfolios, Duration budget) {
+        return monitorBook(portfolios, loadReturnPanel(portfolios), budget);
+    }
+    
+    /**
+     * 주어진 수익률 패널로 포트폴리오 북 전체 위험 모니터링
+     * 
+     * @param portfolios 포트폴리오 목록
+     * @param panel 공유 수익률 패널
+     * @param budget 시간 예산
+     * @return 북 위험 산출 결과
+     */
+    public BookRiskReport monitorBook(List<Portfolio> portfolios, ReturnPanel panel, Duration budget) {
+        log.info("포트폴리오 북 위험 모니터링 시작 - count: {}, budget: {}", portfolios.size(), budget);
+        
+        BookRiskReport report = valueAtRiskEngine.calculateBook(portfolios, panel,
+            WealthManagementConstants.RISK_VAR_CONFIDENCE, WealthManagementConstants.RISK_VAR_HORIZON_DAYS, budget);
+        
+        int alerts = 0;
+        for (RiskMetrics metrics : report.getResults()) {
+            if (isLimitBreached(metrics)) {
+                publishRiskAlert(metrics);
+                alerts++;
+            }
+        }
+        if (!report.isCompleted()) {
+            log.warn("시간 예산 초과로 위험 산출 미완료 - skipped: {}", report.getSkippedPortfolioIds().size());
+        }
+        log.info("포트폴리오 북 위험 모니터링 완료 - processed: {}, alerts: {}", report.getResults().size(), alerts);
+        return report;
+    }
+    
+    @Override
+    public PortfolioManagementType getType() {
+        return PortfolioManagementType.RISK_MONITORING;
+    }
+    
+    @Override
+    public boolean needsRebalancing(Portfolio portfolio) {
+        // 위험 모니터링은 알림만 발행하며 리밸런싱 여부는 판단하지 않음
+        return false;
+    }
+    
+    private ReturnPanel loadReturnPanel(List<Portfolio> portfolios) {
+        Set<String> symbols = new LinkedHashSet<>();
+        for (Portfolio portfolio : portfolios) {
+            if (portfolio.getHoldings() != null) {
+                for (Holding holding : portfolio.getHoldings()) {
+                    symbols.add(holding.getSymbol());
+                }
+            }
+        }
+        String[] symbolArray = symbols.toArray(new String[0]);
+        int days = WealthManagementConstants.RISK_HISTORY_DAYS;
+        return new ReturnPanel(symbolArray, marketDataClient.getDailyReturns(symbolArray, days), days);
+    }
+    
+    private static BigDecimal varLimit(RiskMetrics metrics) {
+        return metrics.getPortfolioValue().multiply(BigDecimal.valueOf(WealthManagementConstants.RISK_VAR_LIMIT_RATIO));
+    }
+    
+    private static boolean isLimitBreached(RiskMetrics metrics) {
+        return metrics.getMaxVar().compareTo(varLimit(metrics)) > 0;
+    }
+    
+    private void publishRiskAlert(RiskMetrics metrics) {
+        Map<String, Object> eventData = new HashMap<>();
+        eventData.put("confidence", metrics.getConfidence());
+        eventData.put("horizonDays", metrics.getHorizonDays());
+        eventData.put("portfolioValue", metrics.getPortfolioValue());
+        eventData.put("maxVar", metrics.getMaxVar());
+        eventData.put("varLimit", varLimit(metrics));
+        eventData.put("historicalEs", metrics.getHistoricalEs());
+        
+        portfolioEventProducer.publishRiskAlertEvent(new PortfolioEvent(
+            UUID.randomUUID().toString(),
+            metrics.getPortfolioId(),
+            metrics.getCustomerId(),
+            PortfolioEventType.RISK_ALERT,
+            "VaR가 위험 한도를 초과했습니다",
+            eventData,
+            CoarseClock.now(clock)
+        ));
+    }
+}
\ No newline at end of file
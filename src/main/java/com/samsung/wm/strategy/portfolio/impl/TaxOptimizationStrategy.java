@@ -0,0 +1,130 @@
+package com.samsung.wm.strategy.portfolio.impl;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.common.util.CoarseClock;
+import com.samsung.wm.constants.WealthManagementConstants;
+import com.samsung.wm.integration.client.MarketDataClient;
+import com.samsung.wm.metrics.EventCounter;
+import com.samsung.wm.metrics.MetricsRegistry;
+import com.samsung.wm.strategy.portfolio.*;
+import com.samsung.wm.strategy.portfolio.tax.HarvestCandidate;
+import com.samsung.wm.strategy.portfolio.tax.HarvestPlan;
+import com.samsung.wm.strategy.portfolio.tax.TaxLossHarvester;
+import com.samsung.wm.strategy.portfolio.tax.TaxLotBook;
+import com.samsung.wm.strategy.portfolio.tax.TaxLotPortfolio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세금 최적화 전략 구현체
+ * 세금 로트 장부를 기준으로 손실 실현(tax-loss harvesting) 매도 후보를 제안한다.
+ */
+@Slf4j
+@Component
+public class TaxOptimizationStrategy implements PortfolioStrategy {
+    
+    private final TaxLossHarvester taxLossHarvester;
+    private final MarketDataClient marketDataClient;
+    private final EventCounter priceCacheHits;
+    private final EventCounter priceCacheMisses;
+    private final Clock clock;
+    
+    public TaxOptimizationStrategy(TaxLossHarvester taxLossHarvester, MarketDataClient marketDataClient,
+                                   MetricsRegistry registry, Clock clock) {
+        this.taxLossHarvester = taxLossHarvester;
+        this.marketDataClient = marketDataClient;
+        this.priceCacheHits = registry.counter("cache.tax-price.hit");
+        this.priceCacheMisses = registry.counter("cache.tax-price.miss");
+        this.clock = clock;
+    }
+    
+    /**
+     * 단일 포트폴리오 세금 최적화
+     * 요청의 additionalParams로 TaxLotPortfolio를 전달받는다.
+     */
+    @Override
+    public PortfolioManagementResult execute(PortfolioRequest request) {
+        log.info("세금 최적화 전략 실행 - portfolioId: {}", request.getPortfolioId());
+        
+        if (!(request.getAdditionalParams() instanceof TaxLotPortfolio portfolio)) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "세금 로트 정보가 필요합니다");
+        }
+        
+        HarvestPlan plan = taxLossHarvester.scan(portfolio, loadPrices(List.of(portfolio)),
+            WealthManagementConstants.TAX_CAPITAL_GAINS_RATE,
+            WealthManagementConstants.TAX_CAPITAL_GAINS_DEDUCTION,
+            WealthManagementConstants.TAX_HARVEST_MIN_LOT_LOSS);
+        
+        List<String> actions = new ArrayList<>();
+        for (HarvestCandidate candidate : plan.getCandidates()) {
+            actions.add(String.format("%s 로트 %d - %d주 매도 (손실 %,.0f원)", candidate.getSymbol(),
+                candidate.getLotId(), candidate.getQuantity(), -candidate.getUnrealizedLoss()));
+        }
+        
+        Map<String, Object> details = new HashMap<>();
+        details.put("harvestPlan", plan);
+        
+        return new PortfolioManagementResult(
+            request.getPortfolioId(),
+            request.getCustomerId(),
+            PortfolioManagementType.TAX_OPTIMIZATION,
+            plan.getCandidates().isEmpty()
+                ? "손실 실현 대상 로트가 없습니다."
+                : String.format("손실 실현으로 약 %,.0f원 절세가 예상됩니다.", plan.getEstimatedTaxSaving()),
+            actions,
+            details,
+            CoarseClock.now(clock),
+            true
+        );
+    }
+    
+    /**
+     * 전체 포트폴리오 손실 실현 탐색 (병렬)
+     * 
+     * @param portfolios 세금 로트 포트폴리오 목록
+     * @param prices 종목별 현재가
+     * @return 포트폴리오별 손실 실현 계획
+     */
+    public List<HarvestPlan> harvestAll(List<TaxLotPortfolio> portfolios, Map<String, Double> prices) {
+        log.info("손실 실현 일괄 탐색 - count: {}", portfolios.size());
+        return taxLossHarvester.scanAll(portfolios, prices,
+            WealthManagementConstants.TAX_CAPITAL_GAINS_RATE,
+            WealthManagementConstants.TAX_CAPITAL_GAINS_DEDUCTION,
+            WealthManagementConstants.TAX_HARVEST_MIN_LOT_LOSS);
+    }
+    
+    @Override
+    public PortfolioManagementType getType() {
+        return PortfolioManagementType.TAX_OPTIMIZATION;
+    }
+    
+    @Override
+    public boolean needsRebalancing(Portfolio portfolio) {
+        // 세금 최적화는 리밸런싱 여부를 판단하지 않음
+        return false;
+    }
+    
+    private Map<String, Double> loadPrices(List<TaxLotPortfolio> portfolios) {
+        Map<String, Double> prices = new HashMap<>();
+        for (TaxLotPortfolio portfolio : portfolios) {
+            for (TaxLotBook book : portfolio.getBooks()) {
+                // 같은 종목은 시세를 한 번만 조회
+                if (prices.containsKey(book.getSymbol())) {
+                    priceCacheHits.increment();
+                    continue;
+                }
+                priceCacheMisses.increment();
+                prices.put(book.getSymbol(),
+                    marketDataClient.getStockPrice(book.getSymbol()).getCurrentPrice().doubleValue());
+            }
+        }
+        return prices;
+    }
+}
\ No newline at end of file
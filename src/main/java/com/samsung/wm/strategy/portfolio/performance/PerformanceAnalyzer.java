@@ -0,0 +1,240 @@
+package com.samsung.wm.strategy.portfolio.performance;
+
+import com.samsung.common.calc.FinancialCalculator;
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포트폴리오 성과 분석기
+ * 성과 이력을 한 번만 순회하면서 시간가중수익률, 금액가중수익률(IRR)용 현금흐름,
+ * 샤프/소르티노(전체 및 롤링), 최대 낙폭, Brinson 기여도를 동시에 누적한다.
+ * 
+ * 일별 Brinson 효과는 Carino 계수로 가중 누적한 뒤 마지막에 전체 기간 계수로 나누어
+ * 연결하므로, 기여도 합계가 기간 초과수익률(포트폴리오 - 벤치마크)과 일치한다.
+ */
+@Slf4j
+@Component
+public class PerformanceAnalyzer {
+    
+    public static final int TRADING_DAYS_PER_YEAR = 252;
+    
+    /**
+     * 단일 포트폴리오 성과 분석
+     * 
+     * @param history 성과 이력
+     * @param annualRiskFreeRate 연 무위험 수익률
+     * @param rollingWindow 롤링 비율 계산 기간 (영업일)
+     * @return 성과 분석 결과
+     */
+    public PerformanceReport analyze(PerformanceHistory history, double annualRiskFreeRate, int rollingWindow) {
+        if (rollingWindow < 2) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "롤링 기간은 2일 이상이어야 합니다");
+        }
+        int m = history.getSegmentCount();
+        int points = history.getPoints();
+        int days = points - 1;
+        double[] values = history.values();
+        double[] flows = history.flows();
+        double[] benchmarkWeights = history.benchmarkWeights();
+        double[] benchmarkReturns = history.benchmarkReturns();
+        double dailyRiskFree = Math.pow(1.0 + annualRiskFreeRate, 1.0 / TRADING_DAYS_PER_YEAR) - 1.0;
+        
+        // 누적 수익률 / 낙폭 (로그 누적)
+        double logWealth = 0.0;
+        double logBenchmark = 0.0;
+        double peakLogWealth = 0.0;
+        int peakDay = 0;
+        double maxDrawdown = 0.0;
+        int drawdownPeakDay = 0;
+        int drawdownTroughDay = 0;
+        
+        // 초과수익률 통계 (Welford)
+        double mean = 0.0;
+        double m2 = 0.0;
+        double downsideSquares = 0.0;
+        
+        // 롤링 윈도우 (링 버퍼 + 누적합)
+        double[] ring = new double[rollingWindow];
+        double windowSum = 0.0;
+        double windowSquares = 0.0;
+        double windowDownside = 0.0;
+        int rollingCount = Math.max(0, days - rollingWindow + 1);
+        double[] rollingSharpe = new double[rollingCount];
+        double[] rollingSortino = new double[rollingCount];
+        
+        // 금액가중수익률용 현금흐름 (투자자 관점: 납입은 음수, 기말 평가금액은 양수)
+        double[] cashFlowAmounts = new double[points + 1];
+        double[] cashFlowYears = new double[points + 1];
+        int cashFlowCount = 0;
+        double total = 0.0;
+        for (int s = 0; s < m; s++) {
+            total += values[s];
+        }
+        cashFlowAmounts[cashFlowCount++] = -total;
+        
+        // Brinson 효과 (Carino 계수 가중 누적)
+        double[] allocation = new double[m];
+        double[] selection = new double[m];
+        double[] interaction = new double[m];
+        double[] beginValues = new double[m];
+        
+        for (int t = 1; t < points; t++) {
+            int base = t * m;
+            int previous = base - m;
+            double beginTotal = 0.0;
+            double endTotal = 0.0;
+            double flowTotal = 0.0;
+            double benchmarkReturn = 0.0;
+            for (int s = 0; s < m; s++) {
+                double begin = values[previous + s] + flows[base + s];
+                beginValues[s] = begin;
+                beginTotal += begin;
+                endTotal += values[base + s];
+                flowTotal += flows[base + s];
+                benchmarkReturn += benchmarkWeights[s] * benchmarkReturns[base + s];
+            }
+            // 현금흐름이 일 시작 시 발생하므로 일별 수익률은 정확한 시간가중수익률
+            double portfolioReturn = beginTotal > 0.0 ? (endTotal - beginTotal) / beginTotal : 0.0;
+            
+            double logReturn = Math.log1p(portfolioReturn);
+            double logBenchmarkReturn = Math.log1p(benchmarkReturn);
+            double carino = carinoCoefficient(portfolioReturn, benchmarkReturn, logReturn - logBenchmarkReturn);
+            for (int s = 0; s < m; s++) {
+                double begin = beginValues[s];
+                double segmentBenchmark = benchmarkReturns[base + s];
+                double portfolioWeight = beginTotal > 0.0 ? begin / beginTotal : 0.0;
+                // 보유하지 않은 자산군은 벤치마크 수익률로 간주 (종목선택 효과 0)
+                double segmentReturn = begin > 0.0 ? (values[base + s] - begin) / begin : segmentBenchmark;
+                double activeWeight = portfolioWeight - benchmarkWeights[s];
+                allocation[s] += carino * activeWeight * (segmentBenchmark - benchmarkReturn);
+                selection[s] += carino * benchmarkWeights[s] * (segmentReturn - segmentBenchmark);
+                interaction[s] += carino * activeWeight * (segmentReturn - segmentBenchmark);
+            }
+            
+            if (flowTotal != 0.0) {
+                cashFlowAmounts[cashFlowCount] = -flowTotal;
+                cashFlowYears[cashFlowCount++] = (double) t / TRADING_DAYS_PER_YEAR;
+            }
+            
+            logWealth += logReturn;
+            logBenchmark += logBenchmarkReturn;
+            if (logWealth > peakLogWealth) {
+                peakLogWealth = logWealth;
+                peakDay = t;
+            }
+            double drawdown = -Math.expm1(logWealth - peakLogWealth);
+            if (drawdown > maxDrawdown) {
+                maxDrawdown = drawdown;
+                drawdownPeakDay = peakDay;
+                drawdownTroughDay = t;
+            }
+            
+            double excess = portfolioReturn - dailyRiskFree;
+            double delta = excess - mean;
+            mean += delta / t;
+            m2 += delta * (excess - mean);
+            double downside = excess < 0.0 ? excess * excess : 0.0;
+            downsideSquares += downside;
+            
+            int slot = (t - 1) % rollingWindow;
+            if (t > rollingWindow) {
+                double old = ring[slot];
+                windowSum -= old;
+                windowSquares -= old * old;
+                windowDownside -= old < 0.0 ? old * old : 0.0;
+            }
+            ring[slot] = excess;
+            windowSum += excess;
+            windowSquares += excess * excess;
+            windowDownside += downside;
+            if (t >= rollingWindow) {
+                double windowMean = windowSum / rollingWindow;
+                double windowVariance = (windowSquares - windowSum * windowMean) / (rollingWindow - 1);
+                rollingSharpe[t - rollingWindow] = annualizedRatio(windowMean, windowVariance);
+                rollingSortino[t - rollingWindow] = annualizedRatio(windowMean, windowDownside / rollingWindow);
+            }
+            total = endTotal;
+        }
+        cashFlowAmounts[cashFlowCount] = total;
+        cashFlowYears[cashFlowCount++] = (double) days / TRADING_DAYS_PER_YEAR;
+        
+        double timeWeightedReturn = Math.expm1(logWealth);
+        double benchmarkTotal = Math.expm1(logBenchmark);
+        double annualizedReturn = Math.expm1(logWealth * TRADING_DAYS_PER_YEAR / days);
+        double irr = FinancialCalculator.internalRateOfReturn(cashFlowAmounts, cashFlowYears, cashFlowCount,
+                                                              annualizedReturn);
+        
+        double linking = carinoCoefficient(timeWeightedReturn, benchmarkTotal, logWealth - logBenchmark);
+        List<SegmentAttribution> attribution = new ArrayList<>(m);
+        for (int s = 0; s < m; s++) {
+            attribution.add(new SegmentAttribution(history.getSegment(s), allocation[s] / linking,
+                                                   selection[s] / linking, interaction[s] / linking));
+        }
+        
+        double variance = days > 1 ? m2 / (days - 1) : 0.0;
+        return PerformanceReport.builder()
+            .portfolioId(history.getPortfolioId())
+            .customerId(history.getCustomerId())
+            .days(days)
+            .timeWeightedReturn(timeWeightedReturn)
+            .annualizedReturn(annualizedReturn)
+            .moneyWeightedReturn(Double.isNaN(irr) ? null : irr)
+            .benchmarkReturn(benchmarkTotal)
+            .volatility(Math.sqrt(variance * TRADING_DAYS_PER_YEAR))
+            .sharpeRatio(annualizedRatio(mean, variance))
+            .sortinoRatio(annualizedRatio(mean, downsideSquares / days))
+            .maxDrawdown(maxDrawdown)
+            .drawdownPeakDay(drawdownPeakDay)
+            .drawdownTroughDay(drawdownTroughDay)
+            .rollingWindow(rollingWindow)
+            .rollingSharpe(rollingSharpe)
+            .rollingSortino(rollingSortino)
+            .attribution(attribution)
+            .build();
+    }
+    
+    /**
+     * 전체 포트폴리오 성과 일괄 분석 (병렬)
+     * 
+     * @param histories 포트폴리오별 성과 이력
+     * @param annualRiskFreeRate 연 무위험 수익률
+     * @param rollingWindow 롤링 비율 계산 기간 (영업일)
+     * @return 포트폴리오별 성과 분석 결과 (입력 순서 유지)
+     */
+    public List<PerformanceReport> analyzeAll(List<PerformanceHistory> histories, double annualRiskFreeRate,
+                                              int rollingWindow) {
+        long start = System.nanoTime();
+        List<PerformanceReport> reports = histories.parallelStream()
+            .map(history -> analyze(history, annualRiskFreeRate, rollingWindow))
+            .toList();
+        log.info("포트폴리오 성과 일괄 분석 완료 - count: {}, elapsedMs: {}",
+                reports.size(), (System.nanoTime() - start) / 1_000_000);
+        return reports;
+    }
+    
+    /**
+     * Carino 연결 계수: (ln(1+R) - ln(1+B)) / (R - B), R = B이면 1 / (1+R)
+     */
+    private static double carinoCoefficient(double portfolioReturn, double benchmarkReturn, double logDifference) {
+        double difference = portfolioReturn - benchmarkReturn;
+        if (Math.abs(difference) < 1e-12) {
+            return 1.0 / (1.0 + portfolioReturn);
+        }
+        return logDifference / difference;
+    }
+    
+    /**
+     * 일간 평균 초과수익률 / 일간 (하방)편차를 연환산, 편차가 0이면 0
+     */
+    private static double annualizedRatio(double dailyMean, double dailyVariance) {
+        if (dailyVariance <= 0.0) {
+            return 0.0;
+        }
+        return dailyMean / Math.sqrt(dailyVariance) * Math.sqrt(TRADING_DAYS_PER_YEAR);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.samsung.wm.strategy.portfolio.performance;
+
+/**
+ * 포트폴리오 성과 이력 (자산군별 일별 평가금액 / 외부 현금흐름 / 벤치마크)
+ * 모든 시계열은 시점 우선(time-major) primitive 배열: values[t * segments + s]
+ * 
+ * 시점 0은 기초 평가금액이며, 시점 t의 현금흐름은 t일 시작 시 유입(+)/유출(-)된 것으로 본다.
+ * 대량 이력을 다루므로 배열은 복사하지 않는다. 생성 후 호출자가 배열을 변경해서는 안 된다.
+ */
+public final class PerformanceHistory {
+    
+    private final String portfolioId;
+    private final String customerId;
+    private final String[] segments;
+    private final int points;
+    private final double[] values;
+    private final double[] flows;
+    private final double[] benchmarkWeights;
+    private final double[] benchmarkReturns;
+    
+    /**
+     * @param portfolioId 포트폴리오 ID
+     * @param customerId 고객 ID
+     * @param segments 자산군 (STOCK, BOND 등)
+     * @param values 자산군별 일말 평가금액 [t * segments + s]
+     * @param flows 자산군별 외부 현금흐름 [t * segments + s] (시점 0은 무시)
+     * @param benchmarkWeights 벤치마크 자산군 비중 (합계 1)
+     * @param benchmarkReturns 벤치마크 자산군 일간 수익률 [t * segments + s] (시점 0은 무시)
+     */
+    public PerformanceHistory(String portfolioId, String customerId, String[] segments, double[] values,
+                              double[] flows, double[] benchmarkWeights, double[] benchmarkReturns) {
+        int m = segments.length;
+        if (m == 0 || values.length % m != 0 || values.length / m < 2) {
+            throw new IllegalArgumentException("평가 시점이 2개 이상 필요합니다");
+        }
+        if (flows.length != values.length || benchmarkReturns.length != values.length
+                || benchmarkWeights.length != m) {
+            throw new IllegalArgumentException("성과 이력 배열 크기가 일치하지 않습니다");
+        }
+        double weightSum = 0.0;
+        for (double weight : benchmarkWeights) {
+            weightSum += weight;
+        }
+        if (Math.abs(weightSum - 1.0) > 1e-6) {
+            throw new IllegalArgumentException("벤치마크 비중 합계가 1이 아닙니다: " + weightSum);
+        }
+        this.portfolioId = portfolioId;
+        this.customerId = customerId;
+        this.segments = segments.clone();
+        this.points = values.length / m;
+        this.values = values;
+        this.flows = flows;
+        this.benchmarkWeights = benchmarkWeights.clone();
+        this.benchmarkReturns = benchmarkReturns;
+    }
+    
+    public String getPortfolioId() {
+        return portfolioId;
+    }
+    
+    public String getCustomerId() {
+        return customerId;
+    }
+    
+    public int getSegmentCount() {
+        return segments.length;
+    }
+    
+    public String getSegment(int index) {
+        return segments[index];
+    }
+    
+    /**
+     * 평가 시점 수 (기초 포함, 수익률 일수 + 1)
+     */
+    public int getPoints() {
+        return points;
+    }
+    
+    double[] values() {
+        return values;
+    }
+    
+    double[] flows() {
+        return flows;
+    }
+    
+    double[] benchmarkWeights() {
+        return benchmarkWeights;
+    }
+    
+    double[] benchmarkReturns() {
+        return benchmarkReturns;
+    }
+}
\ No newline at end of file
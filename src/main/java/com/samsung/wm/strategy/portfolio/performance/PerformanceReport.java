@@ -0,0 +1,41 @@
+package com.samsung.wm.strategy.portfolio.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포트폴리오 성과 분석 결과
+ * 수익률/비율은 소수 표기 (0.05 = 5%)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceReport {
+    
+    private String portfolioId;
+    private String customerId;
+    private int days;
+    
+    private double timeWeightedReturn;      // 기간 시간가중수익률
+    private double annualizedReturn;        // 연환산 시간가중수익률
+    private Double moneyWeightedReturn;     // 연 금액가중수익률 (IRR), 해가 없으면 null
+    private double benchmarkReturn;         // 기간 벤치마크 수익률
+    
+    private double volatility;              // 연환산 변동성
+    private double sharpeRatio;
+    private double sortinoRatio;
+    private double maxDrawdown;             // 최대 낙폭 (양수)
+    private int drawdownPeakDay;
+    private int drawdownTroughDay;
+    
+    private int rollingWindow;
+    private double[] rollingSharpe;         // 시점 rollingWindow부터의 롤링 샤프 비율
+    private double[] rollingSortino;
+    
+    private List<SegmentAttribution> attribution;
+}
\ No newline at end of file
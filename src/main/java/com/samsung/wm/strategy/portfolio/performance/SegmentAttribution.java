@@ -0,0 +1,19 @@
+package com.samsung.wm.strategy.portfolio.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자산군별 Brinson 성과 기여도 (기간 연결 후 값)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentAttribution {
+    
+    private String segment;
+    private double allocationEffect;  // 자산배분 효과
+    private double selectionEffect;   // 종목선택 효과
+    private double interactionEffect; // 상호작용 효과
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.samsung.wm.strategy.portfolio.risk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전체 포트폴리오(북) 위험 산출 결과
+ * 시간 예산 안에 처리하지 못한 포트폴리오는 skippedPortfolioIds에 남는다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookRiskReport {
+    
+    private List<RiskMetrics> results;
+    private List<String> skippedPortfolioIds;
+    private long elapsedMillis;
+    private boolean completed;
+}
\ No newline at end of file
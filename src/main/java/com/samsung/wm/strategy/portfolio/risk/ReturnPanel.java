@@ -0,0 +1,220 @@
+package com.samsung.wm.strategy.portfolio.risk;
+
+import com.samsung.common.calc.MatrixCalculator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 일별 수익률 패널 (종목 × 일자)
+ * 수익률은 일자 우선(day-major) primitive 배열로 보관하고, 평균/공분산/촐레스키/
+ * 몬테카를로 시나리오는 처음 요청될 때 한 번만 계산해 같은 패널을 쓰는 모든 포트폴리오가 공유한다.
+ */
+public final class ReturnPanel {
+    
+    public static final int DEFAULT_SCENARIOS = 10_000;
+    public static final long DEFAULT_SCENARIO_SEED = 20_240_101L;
+    
+    private final String[] symbols;
+    private final Map<String, Integer> symbolIndex;
+    private final int days;
+    private final double[] returns; // returns[day * assets + asset]
+    private final int scenarioCount;
+    private final long scenarioSeed;
+    
+    private volatile Moments moments;
+    private volatile double[] scenarios; // scenarios[scenario * assets + asset]
+    
+    public ReturnPanel(String[] symbols, double[] returns, int days) {
+        this(symbols, returns, days, DEFAULT_SCENARIOS, DEFAULT_SCENARIO_SEED);
+    }
+    
+    public ReturnPanel(String[] symbols, double[] returns, int days, int scenarioCount, long scenarioSeed) {
+        if (days < 2 || returns.length != symbols.length * days) {
+            throw new IllegalArgumentException("수익률 패널 크기가 올바르지 않습니다");
+        }
+        this.symbols = symbols.clone();
+        this.returns = returns.clone();
+        this.days = days;
+        this.scenarioCount = scenarioCount;
+        this.scenarioSeed = scenarioSeed;
+        this.symbolIndex = new HashMap<>(symbols.length * 2);
+        for (int i = 0; i < symbols.length; i++) {
+            symbolIndex.put(symbols[i], i);
+        }
+    }
+    
+    /**
+     * 종목 인덱스 조회
+     * 
+     * @param symbol 종목 코드
+     * @return 인덱스, 패널에 없으면 -1
+     */
+    public int indexOf(String symbol) {
+        Integer index = symbolIndex.get(symbol);
+        return index != null ? index : -1;
+    }
+    
+    public int assets() {
+        return symbols.length;
+    }
+    
+    public int days() {
+        return days;
+    }
+    
+    public int scenarioCount() {
+        return scenarioCount;
+    }
+    
+    public String symbol(int index) {
+        return symbols[index];
+    }
+    
+    /**
+     * 원본 수익률 배열 (읽기 전용으로 사용)
+     */
+    double[] returns() {
+        return returns;
+    }
+    
+    double[] means() {
+        return moments().means;
+    }
+    
+    double[] covariance() {
+        return moments().covariance;
+    }
+    
+    /**
+     * 몬테카를로 시나리오 수익률 (평균 + 촐레스키 × 표준정규), 최초 요청 시 한 번 생성
+     */
+    double[] scenarios() {
+        double[] result = scenarios;
+        if (result == null) {
+            synchronized (this) {
+                result = scenarios;
+                if (result == null) {
+                    result = generateScenarios(moments());
+                    scenarios = result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Moments moments() {
+        Moments result = moments;
+        if (result == null) {
+            synchronized (this) {
+                result = moments;
+                if (result == null) {
+                    result = computeMoments();
+                    moments = result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Moments computeMoments() {
+        int n = symbols.length;
+        double[] means = new double[n];
+        for (int d = 0; d < days; d++) {
+            int row = d * n;
+            for (int a = 0; a < n; a++) {
+                means[a] += returns[row + a];
+            }
+        }
+        for (int a = 0; a < n; a++) {
+            means[a] /= days;
+        }
+        
+        // 표본 공분산 (대칭이므로 하삼각만 누적 후 복사)
+        double[] covariance = new double[n * n];
+        double[] centered = new double[n];
+        for (int d = 0; d < days; d++) {
+            int row = d * n;
+            for (int a = 0; a < n; a++) {
+                centered[a] = returns[row + a] - means[a];
+            }
+            for (int i = 0; i < n; i++) {
+                double ci = centered[i];
+                int offset = i * n;
+                for (int j = 0; j <= i; j++) {
+                    covariance[offset + j] += ci * centered[j];
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double value = covariance[i * n + j] / (days - 1);
+                covariance[i * n + j] = value;
+                covariance[j * n + i] = value;
+            }
+        }
+        return new Moments(means, covariance);
+    }
+    
+    private double[] generateScenarios(Moments moments) {
+        int n = symbols.length;
+        double[] lower = choleskyWithRidge(moments.covariance, n);
+        double[] result = new double[scenarioCount * n];
+        double[] z = new double[n];
+        SplittableRandom random = new SplittableRandom(scenarioSeed);
+        for (int s = 0; s < scenarioCount; s++) {
+            for (int j = 0; j < n; j++) {
+                z[j] = random.nextGaussian();
+            }
+            int row = s * n;
+            for (int i = 0; i < n; i++) {
+                double shock = 0.0;
+                int offset = i * n;
+                for (int j = 0; j <= i; j++) {
+                    shock += lower[offset + j] * z[j];
+                }
+                result[row + i] = moments.means[i] + shock;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 관측 일수가 종목 수보다 적으면 공분산이 특이행렬이 되므로 대각에 작은 값을 더해 분해
+     */
+    private static double[] choleskyWithRidge(double[] covariance, int n) {
+        double[][] matrix = new double[n][n];
+        double trace = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = covariance[i * n + j];
+            }
+            trace += matrix[i][i];
+        }
+        double ridge = Math.max(trace / n, 1e-12) * 1e-8;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return MatrixCalculator.cholesky(matrix);
+            } catch (IllegalArgumentException e) {
+                if (attempt >= 10) {
+                    throw e;
+                }
+                for (int i = 0; i < n; i++) {
+                    matrix[i][i] += ridge;
+                }
+                ridge *= 10;
+            }
+        }
+    }
+    
+    private static final class Moments {
+        final double[] means;
+        final double[] covariance; // row-major n x n
+        
+        Moments(double[] means, double[] covariance) {
+            this.means = means;
+            this.covariance = covariance;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.samsung.wm.strategy.portfolio.risk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 포트폴리오 위험 지표 (VaR / Expected Shortfall)
+ * 모든 손실 금액은 양수(원 단위)로 표기
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskMetrics {
+    
+    private String portfolioId;
+    private String customerId;
+    private BigDecimal portfolioValue;
+    private BigDecimal unmodeledValue; // 수익률 패널에 없는 종목의 평가금액
+    private double confidence;
+    private int horizonDays;
+    
+    private BigDecimal parametricVar;
+    private BigDecimal parametricEs;
+    private BigDecimal historicalVar;
+    private BigDecimal historicalEs;
+    private BigDecimal monteCarloVar;
+    private BigDecimal monteCarloEs;
+    
+    /**
+     * 세 방식 중 가장 큰 VaR
+     */
+    public BigDecimal getMaxVar() {
+        return parametricVar.max(historicalVar).max(monteCarloVar);
+    }
+}
\ No newline at end of file
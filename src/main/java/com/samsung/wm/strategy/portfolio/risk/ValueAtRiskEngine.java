@@ -0,0 +1,352 @@
+package com.samsung.wm.strategy.portfolio.risk;
+
+import com.samsung.common.calc.StatisticsCalculator;
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+import com.samsung.wm.strategy.portfolio.Holding;
+import com.samsung.wm.strategy.portfolio.Portfolio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Value-at-Risk / Expected Shortfall 산출 엔진
+ * 모수적(분산-공분산), 역사적 시뮬레이션, 몬테카를로 세 방식으로 손실 분포의 꼬리를 계산한다.
+ * 
+ * 같은 ReturnPanel을 쓰는 포트폴리오들은 패널의 평균/공분산/시나리오를 공유하고,
+ * 포트폴리오별로는 보유 종목만 담은 희소 익스포저로 손익을 계산한다.
+ * 스레드별 작업 버퍼를 재사용하므로 북 전체 산출 중 포트폴리오당 할당은 결과 객체뿐이다.
+ */
+@Slf4j
+@Component
+public class ValueAtRiskEngine {
+    
+    private static final int PORTFOLIOS_PER_TASK = 16;
+    
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+    
+    public ValueAtRiskEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public ValueAtRiskEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * 단일 포트폴리오 위험 지표 산출
+     * 
+     * @param portfolio 포트폴리오 (보유 종목 포함)
+     * @param panel 일별 수익률 패널
+     * @param confidence 신뢰수준 (예: 0.99)
+     * @param horizonDays 보유 기간 (영업일)
+     * @return 위험 지표
+     */
+    public RiskMetrics calculate(Portfolio portfolio, ReturnPanel panel, double confidence, int horizonDays) {
+        validate(confidence, horizonDays);
+        return calculate(portfolio, panel, confidence, horizonDays, workspaces.get());
+    }
+    
+    /**
+     * 포트폴리오 북 전체 위험 지표 산출 (fork-join 병렬)
+     * 시간 예산을 넘기면 남은 포트폴리오는 산출하지 않고 skipped로 보고한다.
+     * 
+     * @param portfolios 포트폴리오 목록
+     * @param panel 공유 수익률 패널
+     * @param confidence 신뢰수준
+     * @param horizonDays 보유 기간 (영업일)
+     * @param budget 시간 예산
+     * @return 북 위험 산출 결과
+     */
+    public BookRiskReport calculateBook(List<Portfolio> portfolios, ReturnPanel panel,
+                                        double confidence, int horizonDays, Duration budget) {
+        validate(confidence, horizonDays);
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        
+        // 공유 계산(공분산, 촐레스키, 시나리오)은 병렬 작업 시작 전에 한 번 수행
+        panel.scenarios();
+        
+        RiskMetrics[] results = new RiskMetrics[portfolios.size()];
+        pool.invoke(new BookTask(portfolios, panel, confidence, horizonDays, deadline, results,
+                                 0, portfolios.size()));
+        
+        List<RiskMetrics> completed = new ArrayList<>(results.length);
+        List<String> skipped = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                completed.add(results[i]);
+            } else {
+                skipped.add(portfolios.get(i).getPortfolioId());
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        log.info("포트폴리오 북 위험 산출 완료 - processed: {}, skipped: {}, elapsedMs: {}",
+                completed.size(), skipped.size(), elapsedMillis);
+        return new BookRiskReport(completed, skipped, elapsedMillis, skipped.isEmpty());
+    }
+    
+    private RiskMetrics calculate(Portfolio portfolio, ReturnPanel panel, double confidence,
+                                  int horizonDays, Workspace ws) {
+        ws.ensureCapacity(panel);
+        int k = buildExposures(portfolio, panel, ws);
+        double scale = Math.sqrt(horizonDays);
+        
+        // 모수적 VaR/ES: 정규분포 가정, 평균은 h배 / 표준편차는 sqrt(h)배
+        double[] means = panel.means();
+        double[] covariance = panel.covariance();
+        int n = panel.assets();
+        double mean = 0.0;
+        double variance = 0.0;
+        for (int i = 0; i < k; i++) {
+            int row = ws.index[i] * n;
+            double ei = ws.exposure[i];
+            mean += ei * means[ws.index[i]];
+            for (int j = 0; j < k; j++) {
+                variance += ei * ws.exposure[j] * covariance[row + ws.index[j]];
+            }
+        }
+        double sigma = Math.sqrt(Math.max(variance, 0.0)) * scale;
+        double drift = mean * horizonDays;
+        double z = StatisticsCalculator.normalQuantile(confidence);
+        double parametricVar = z * sigma - drift;
+        double parametricEs = sigma * StatisticsCalculator.normalDensity(z) / (1.0 - confidence) - drift;
+        
+        // 역사적 시뮬레이션 / 몬테카를로: 시나리오 손익의 꼬리 (sqrt(h) 스케일링)
+        double[] historical = tail(panel.returns(), panel.days(), n, k, confidence, ws);
+        double historicalVar = historical[0] * scale;
+        double historicalEs = historical[1] * scale;
+        double[] monteCarlo = tail(panel.scenarios(), panel.scenarioCount(), n, k, confidence, ws);
+        
+        return RiskMetrics.builder()
+            .portfolioId(portfolio.getPortfolioId())
+            .customerId(portfolio.getCustomerId())
+            .portfolioValue(toWon(ws.modeledValue + ws.unmodeledValue))
+            .unmodeledValue(toWon(ws.unmodeledValue))
+            .confidence(confidence)
+            .horizonDays(horizonDays)
+            .parametricVar(toWon(parametricVar))
+            .parametricEs(toWon(parametricEs))
+            .historicalVar(toWon(historicalVar))
+            .historicalEs(toWon(historicalEs))
+            .monteCarloVar(toWon(monteCarlo[0] * scale))
+            .monteCarloEs(toWon(monteCarlo[1] * scale))
+            .build();
+    }
+    
+    /**
+     * 보유 종목을 패널 인덱스 기준 희소 익스포저(원화 금액)로 변환
+     * 
+     * @return 익스포저가 있는 종목 수
+     */
+    private int buildExposures(Portfolio portfolio, ReturnPanel panel, Workspace ws) {
+        ws.modeledValue = 0.0;
+        ws.unmodeledValue = 0.0;
+        int k = 0;
+        if (portfolio.getHoldings() == null) {
+            return 0;
+        }
+        for (Holding holding : portfolio.getHoldings()) {
+            double value = marketValue(holding);
+            int index = panel.indexOf(holding.getSymbol());
+            if (index < 0) {
+                ws.unmodeledValue += value;
+                continue;
+            }
+            // 같은 종목이 여러 번 나오면 합산 (slot은 익스포저 위치 + 1)
+            int slot = ws.slot[index];
+            if (slot == 0) {
+                ws.index[k] = index;
+                ws.exposure[k] = 0.0;
+                slot = ++k;
+                ws.slot[index] = slot;
+            }
+            ws.exposure[slot - 1] += value;
+            ws.modeledValue += value;
+        }
+        for (int i = 0; i < k; i++) {
+            ws.slot[ws.index[i]] = 0;
+        }
+        return k;
+    }
+    
+    /**
+     * 시나리오별 손실을 계산하고 상위 꼬리에서 VaR(k번째 손실)과 ES(상위 k개 평균)를 구한다.
+     * 전체 정렬 대신 quickselect로 O(N) 선택
+     * 
+     * @return {VaR, ES}
+     */
+    private static double[] tail(double[] returns, int scenarios, int assets, int k,
+                                 double confidence, Workspace ws) {
+        double[] losses = ws.losses;
+        for (int s = 0; s < scenarios; s++) {
+            int row = s * assets;
+            double pnl = 0.0;
+            for (int i = 0; i < k; i++) {
+                pnl += ws.exposure[i] * returns[row + ws.index[i]];
+            }
+            losses[s] = -pnl;
+        }
+        
+        // (1 - 0.99) * 500 = 5.000000000000004 처럼 부동소수 오차로 꼬리 개수가 늘지 않도록 보정
+        int tailCount = Math.max(1, (int) Math.ceil((1.0 - confidence) * scenarios - 1e-9));
+        int cut = scenarios - tailCount;
+        select(losses, 0, scenarios - 1, cut);
+        double sum = 0.0;
+        for (int s = cut; s < scenarios; s++) {
+            sum += losses[s];
+        }
+        ws.tail[0] = losses[cut];
+        ws.tail[1] = sum / tailCount;
+        return ws.tail;
+    }
+    
+    /**
+     * quickselect: target 위치에 정렬 시 올 값을 두고, 오른쪽에는 그 이상 값만 남긴다.
+     */
+    private static void select(double[] values, int left, int right, int target) {
+        while (right > left) {
+            int mid = (left + right) >>> 1;
+            // median-of-three 피벗
+            if (values[mid] < values[left]) {
+                swap(values, mid, left);
+            }
+            if (values[right] < values[left]) {
+                swap(values, right, left);
+            }
+            if (values[right] < values[mid]) {
+                swap(values, right, mid);
+            }
+            double pivot = values[mid];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+    
+    private static void swap(double[] values, int a, int b) {
+        double temp = values[a];
+        values[a] = values[b];
+        values[b] = temp;
+    }
+    
+    private static double marketValue(Holding holding) {
+        if (holding.getMarketValue() != null) {
+            return holding.getMarketValue().doubleValue();
+        }
+        if (holding.getCurrentPrice() != null && holding.getQuantity() != null) {
+            return holding.getCurrentPrice().doubleValue() * holding.getQuantity();
+        }
+        return 0.0;
+    }
+    
+    private static void validate(double confidence, int horizonDays) {
+        if (!(confidence > 0.5 && confidence < 1.0)) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "신뢰수준은 0.5와 1 사이여야 합니다");
+        }
+        if (horizonDays <= 0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "보유 기간은 1일 이상이어야 합니다");
+        }
+    }
+    
+    private static BigDecimal toWon(double value) {
+        return BigDecimal.valueOf(Math.max(value, 0.0)).setScale(0, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * 스레드별 재사용 작업 버퍼
+     */
+    private static final class Workspace {
+        int[] slot = new int[0];
+        int[] index = new int[0];
+        double[] exposure = new double[0];
+        double[] losses = new double[0];
+        final double[] tail = new double[2];
+        double modeledValue;
+        double unmodeledValue;
+        
+        void ensureCapacity(ReturnPanel panel) {
+            int assets = panel.assets();
+            if (slot.length < assets) {
+                slot = new int[assets];
+                index = new int[assets];
+                exposure = new double[assets];
+            }
+            int scenarios = Math.max(panel.days(), panel.scenarioCount());
+            if (losses.length < scenarios) {
+                losses = new double[scenarios];
+            }
+        }
+    }
+    
+    /**
+     * 포트폴리오 범위를 분할하는 fork-join 작업
+     */
+    private final class BookTask extends RecursiveAction {
+        
+        private final List<Portfolio> portfolios;
+        private final ReturnPanel panel;
+        private final double confidence;
+        private final int horizonDays;
+        private final long deadline;
+        private final RiskMetrics[] results;
+        private final int from;
+        private final int to;
+        
+        BookTask(List<Portfolio> portfolios, ReturnPanel panel, double confidence, int horizonDays,
+                 long deadline, RiskMetrics[] results, int from, int to) {
+            this.portfolios = portfolios;
+            this.panel = panel;
+            this.confidence = confidence;
+            this.horizonDays = horizonDays;
+            this.deadline = deadline;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > PORTFOLIOS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BookTask(portfolios, panel, confidence, horizonDays, deadline, results, from, mid),
+                          new BookTask(portfolios, panel, confidence, horizonDays, deadline, results, mid, to));
+                return;
+            }
+            Workspace ws = workspaces.get();
+            for (int i = from; i < to; i++) {
+                // 시간 예산 초과 시 남은 포트폴리오는 건너뜀 (skipped로 보고)
+                if (System.nanoTime() - deadline > 0) {
+                    return;
+                }
+                results[i] = calculate(portfolios.get(i), panel, confidence, horizonDays, ws);
+            }
+        }
+    }
+}
\ No newline at end of file
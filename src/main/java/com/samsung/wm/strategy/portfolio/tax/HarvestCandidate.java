@@ -0,0 +1,24 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 손실 실현(tax-loss harvesting) 매도 후보 로트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestCandidate {
+    
+    private String symbol;
+    private long lotId;
+    private LocalDate acquiredDate;
+    private long quantity;
+    private double unitCost;
+    private double price;
+    private double unrealizedLoss; // 음수
+}
\ No newline at end of file
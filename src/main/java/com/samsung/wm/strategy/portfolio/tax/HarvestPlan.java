@@ -0,0 +1,27 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포트폴리오 손실 실현 계획
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestPlan {
+    
+    private String portfolioId;
+    private String customerId;
+    private double realizedGain;         // 과세연도 누적 실현손익
+    private double taxableGain;          // 기본공제 차감 후 과세 대상 이익
+    private double totalUnrealizedLoss;  // 전체 평가손실 로트 합계 (음수)
+    private double harvestLoss;          // 매도 후보 로트 손실 합계 (음수)
+    private double estimatedTaxSaving;   // 예상 절세액
+    private List<HarvestCandidate> candidates;
+}
\ No newline at end of file
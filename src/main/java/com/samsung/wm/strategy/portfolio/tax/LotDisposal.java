@@ -0,0 +1,88 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import java.util.Arrays;
+
+/**
+ * 로트 매도 결과 버퍼
+ * 매도마다 새 객체를 만들지 않도록 reset 후 재사용한다 (스레드 간 공유 금지).
+ */
+public final class LotDisposal {
+    
+    private long[] lotIds = new long[8];
+    private long[] quantities = new long[8];
+    private double[] unitCosts = new double[8];
+    private int[] acquiredDays = new int[8];
+    private int count;
+    private long totalQuantity;
+    private double costBasis;
+    
+    public void reset() {
+        count = 0;
+        totalQuantity = 0;
+        costBasis = 0.0;
+    }
+    
+    void add(long lotId, long quantity, double unitCost, int acquiredDay) {
+        if (count == lotIds.length) {
+            int capacity = count * 2;
+            lotIds = Arrays.copyOf(lotIds, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            unitCosts = Arrays.copyOf(unitCosts, capacity);
+            acquiredDays = Arrays.copyOf(acquiredDays, capacity);
+        }
+        lotIds[count] = lotId;
+        quantities[count] = quantity;
+        unitCosts[count] = unitCost;
+        acquiredDays[count] = acquiredDay;
+        count++;
+        totalQuantity += quantity;
+        costBasis += unitCost * quantity;
+    }
+    
+    /**
+     * 매도된 로트 수
+     */
+    public int size() {
+        return count;
+    }
+    
+    public long getLotId(int index) {
+        return lotIds[index];
+    }
+    
+    public long getQuantity(int index) {
+        return quantities[index];
+    }
+    
+    public double getUnitCost(int index) {
+        return unitCosts[index];
+    }
+    
+    /**
+     * 취득일 (epoch day)
+     */
+    public int getAcquiredDay(int index) {
+        return acquiredDays[index];
+    }
+    
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+    
+    /**
+     * 매도 로트의 취득원가 합계
+     */
+    public double getCostBasis() {
+        return costBasis;
+    }
+    
+    /**
+     * 매도가 기준 실현손익
+     * 
+     * @param price 매도 단가
+     * @return 실현손익 (손실은 음수)
+     */
+    public double realizedGain(double price) {
+        return price * totalQuantity - costBasis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+/**
+ * 매도 시 세금 로트(tax lot) 선택 방식 열거형
+ */
+public enum LotSelectionMethod {
+    
+    FIFO("선입선출", "가장 먼저 취득한 로트부터 매도"),
+    LIFO("후입선출", "가장 최근 취득한 로트부터 매도"),
+    HIFO("고가우선", "취득단가가 가장 높은 로트부터 매도 (실현이익 최소화)"),
+    SPECIFIC_ID("지정로트", "지정한 로트를 매도");
+    
+    private final String displayName;
+    private final String description;
+    
+    LotSelectionMethod(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 손실 실현(tax-loss harvesting) 탐색기
+ * 각 로트 장부의 세그먼트 트리에서 취득단가가 현재가보다 높은 서브트리만 내려가 손실 로트를 찾고,
+ * 과세 대상 이익을 상쇄할 만큼 손실이 큰 로트부터 매도 후보로 고른다.
+ * 
+ * 전체 포트폴리오 탐색은 병렬로 수행하며, 트리 탐색 스택은 스레드별로 재사용한다.
+ */
+@Slf4j
+@Component
+public class TaxLossHarvester {
+    
+    private static final Comparator<HarvestCandidate> LARGEST_LOSS_FIRST =
+        Comparator.comparingDouble(HarvestCandidate::getUnrealizedLoss);
+    
+    private final ThreadLocal<int[]> stacks = ThreadLocal.withInitial(() -> new int[64]);
+    
+    /**
+     * 단일 포트폴리오 손실 실현 계획 수립
+     * 
+     * @param portfolio 세금 로트 포트폴리오
+     * @param prices 종목별 현재가 (없는 종목은 제외)
+     * @param taxRate 양도소득세율
+     * @param deduction 기본공제 금액
+     * @param minLotLoss 후보로 삼을 최소 로트 손실 금액 (양수)
+     * @return 손실 실현 계획
+     */
+    public HarvestPlan scan(TaxLotPortfolio portfolio, Map<String, Double> prices,
+                            double taxRate, double deduction, double minLotLoss) {
+        int[] stack = stacks.get();
+        List<HarvestCandidate> candidates = new ArrayList<>();
+        double totalLoss = 0.0;
+        
+        for (TaxLotBook book : portfolio.getBooks()) {
+            Double price = prices.get(book.getSymbol());
+            if (price == null) {
+                continue;
+            }
+            double current = price;
+            totalLoss += book.forEachLossLot(current, stack, (lots, index, loss) -> {
+                if (-loss >= minLotLoss) {
+                    candidates.add(new HarvestCandidate(lots.getSymbol(), lots.getLotId(index),
+                        lots.getAcquiredDate(index), lots.getRemaining(index), lots.getUnitCost(index), current, loss));
+                }
+            });
+        }
+        
+        // 과세 대상 이익을 상쇄할 만큼만 손실이 큰 로트부터 선택 (초과 손실은 이월되지 않음)
+        double taxableGain = Math.max(portfolio.getRealizedGain() - deduction, 0.0);
+        List<HarvestCandidate> selected = new ArrayList<>();
+        double harvestLoss = 0.0;
+        if (taxableGain > 0.0 && !candidates.isEmpty()) {
+            candidates.sort(LARGEST_LOSS_FIRST);
+            for (HarvestCandidate candidate : candidates) {
+                if (-harvestLoss >= taxableGain) {
+                    break;
+                }
+                selected.add(candidate);
+                harvestLoss += candidate.getUnrealizedLoss();
+            }
+        }
+        
+        return HarvestPlan.builder()
+            .portfolioId(portfolio.getPortfolioId())
+            .customerId(portfolio.getCustomerId())
+            .realizedGain(portfolio.getRealizedGain())
+            .taxableGain(taxableGain)
+            .totalUnrealizedLoss(totalLoss)
+            .harvestLoss(harvestLoss)
+            .estimatedTaxSaving(Math.min(-harvestLoss, taxableGain) * taxRate)
+            .candidates(selected)
+            .build();
+    }
+    
+    /**
+     * 전체 포트폴리오 손실 실현 탐색 (병렬)
+     * 
+     * @param portfolios 세금 로트 포트폴리오 목록
+     * @param prices 종목별 현재가
+     * @param taxRate 양도소득세율
+     * @param deduction 기본공제 금액
+     * @param minLotLoss 후보로 삼을 최소 로트 손실 금액
+     * @return 포트폴리오별 손실 실현 계획 (입력 순서 유지)
+     */
+    public List<HarvestPlan> scanAll(List<TaxLotPortfolio> portfolios, Map<String, Double> prices,
+                                     double taxRate, double deduction, double minLotLoss) {
+        long start = System.nanoTime();
+        List<HarvestPlan> plans = portfolios.parallelStream()
+            .map(portfolio -> scan(portfolio, prices, taxRate, deduction, minLotLoss))
+            .toList();
+        log.info("손실 실현 일괄 탐색 완료 - count: {}, elapsedMs: {}",
+                plans.size(), (System.nanoTime() - start) / 1_000_000);
+        return plans;
+    }
+}
\ No newline at end of file
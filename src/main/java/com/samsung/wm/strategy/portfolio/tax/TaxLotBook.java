@@ -0,0 +1,289 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import com.samsung.common.constants.ErrorCodes;
+import com.samsung.common.exception.BusinessException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 보유 종목별 세금 로트 장부
+ * 로트는 취득 순서대로 primitive 배열에 추가하고, 그 위에 완전 이진 세그먼트 트리
+ * (노드별 잔여수량 합계 / 잔여 로트 최고 취득단가)를 유지한다.
+ * 
+ * - FIFO/LIFO: 잔여수량이 있는 가장 왼쪽/오른쪽 리프로 하강 - O(log n)
+ * - HIFO: 최고 취득단가 리프로 하강 - O(log n)
+ * - 지정로트: 로트 ID가 증가 순이므로 이진 탐색 - O(log n)
+ * - 손실 로트 탐색: 최고 취득단가가 현재가 이하인 서브트리는 건너뜀
+ * 
+ * 스레드 안전하지 않으므로 한 장부는 한 스레드에서만 변경해야 한다.
+ */
+public final class TaxLotBook {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final String symbol;
+    private long[] lotIds;
+    private int[] acquiredDays;
+    private long[] remaining;
+    private double[] unitCosts;
+    private int size;
+    
+    // 세그먼트 트리: 노드 1이 루트, 리프는 capacity + index
+    private int capacity;
+    private long[] treeQuantity;
+    private double[] treeMaxCost;
+    
+    public TaxLotBook(String symbol) {
+        this(symbol, INITIAL_CAPACITY);
+    }
+    
+    public TaxLotBook(String symbol, int expectedLots) {
+        this.symbol = symbol;
+        this.capacity = Integer.highestOneBit(Math.max(expectedLots, INITIAL_CAPACITY) - 1) << 1;
+        this.lotIds = new long[capacity];
+        this.acquiredDays = new int[capacity];
+        this.remaining = new long[capacity];
+        this.unitCosts = new double[capacity];
+        this.treeQuantity = new long[capacity * 2];
+        this.treeMaxCost = new double[capacity * 2];
+        Arrays.fill(treeMaxCost, Double.NEGATIVE_INFINITY);
+    }
+    
+    /**
+     * 로트 추가 (매수)
+     * 로트 ID와 취득일은 기존 로트보다 작을 수 없다.
+     * 
+     * @param lotId 로트 ID (증가 순)
+     * @param acquiredDate 취득일
+     * @param quantity 수량
+     * @param unitCost 취득단가
+     */
+    public void addLot(long lotId, LocalDate acquiredDate, long quantity, double unitCost) {
+        int acquiredDay = (int) acquiredDate.toEpochDay();
+        if (quantity <= 0 || unitCost < 0.0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "로트 수량과 취득단가가 올바르지 않습니다");
+        }
+        if (size > 0 && (lotId <= lotIds[size - 1] || acquiredDay < acquiredDays[size - 1])) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "로트는 ID와 취득일 순서대로 추가해야 합니다: " + lotId);
+        }
+        if (size == capacity) {
+            grow();
+        }
+        lotIds[size] = lotId;
+        acquiredDays[size] = acquiredDay;
+        remaining[size] = quantity;
+        unitCosts[size] = unitCost;
+        update(size++);
+    }
+    
+    /**
+     * 선택 방식에 따라 매도할 로트를 차감
+     * 
+     * @param quantity 매도 수량
+     * @param method 로트 선택 방식 (SPECIFIC_ID 제외)
+     * @param out 매도 결과 버퍼 (초기화 후 채움)
+     */
+    public void sell(long quantity, LotSelectionMethod method, LotDisposal out) {
+        if (method == LotSelectionMethod.SPECIFIC_ID) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "지정로트 매도는 sellSpecific을 사용해야 합니다");
+        }
+        checkQuantity(quantity);
+        out.reset();
+        long left = quantity;
+        while (left > 0) {
+            int index = switch (method) {
+                case FIFO -> firstOpen();
+                case LIFO -> lastOpen();
+                default -> highestCost();
+            };
+            left -= consume(index, left, out);
+        }
+    }
+    
+    /**
+     * 지정 로트 매도
+     * 
+     * @param lotId 로트 ID
+     * @param quantity 매도 수량
+     * @param out 매도 결과 버퍼 (초기화 후 채움)
+     */
+    public void sellSpecific(long lotId, long quantity, LotDisposal out) {
+        int index = Arrays.binarySearch(lotIds, 0, size, lotId);
+        if (index < 0) {
+            throw new BusinessException(ErrorCodes.DATA_NOT_FOUND, "로트를 찾을 수 없습니다: " + lotId);
+        }
+        if (quantity <= 0 || quantity > remaining[index]) {
+            throw new BusinessException(ErrorCodes.INSUFFICIENT_BALANCE, "로트 잔여수량이 부족합니다: " + lotId);
+        }
+        out.reset();
+        consume(index, quantity, out);
+    }
+    
+    /**
+     * 현재가보다 취득단가가 높은(평가손실) 로트 방문
+     * 
+     * @param price 현재가
+     * @param stack 탐색용 재사용 버퍼 (길이 64 이상)
+     * @param visitor 로트 방문자
+     * @return 평가손실 합계 (음수)
+     */
+    public double forEachLossLot(double price, int[] stack, LossLotVisitor visitor) {
+        double loss = 0.0;
+        if (treeMaxCost[1] <= price) {
+            return loss;
+        }
+        int top = 0;
+        stack[top++] = 1;
+        while (top > 0) {
+            int node = stack[--top];
+            if (treeMaxCost[node] <= price) {
+                continue;
+            }
+            if (node >= capacity) {
+                int index = node - capacity;
+                double lotLoss = (price - unitCosts[index]) * remaining[index];
+                loss += lotLoss;
+                if (visitor != null) {
+                    visitor.visit(this, index, lotLoss);
+                }
+                continue;
+            }
+            // 오른쪽을 먼저 넣어 왼쪽(먼저 취득한 로트)부터 방문
+            stack[top++] = 2 * node + 1;
+            stack[top++] = 2 * node;
+        }
+        return loss;
+    }
+    
+    public String getSymbol() {
+        return symbol;
+    }
+    
+    /**
+     * 전체 로트 수 (소진된 로트 포함)
+     */
+    public int getLotCount() {
+        return size;
+    }
+    
+    public long getLotId(int index) {
+        return lotIds[index];
+    }
+    
+    public LocalDate getAcquiredDate(int index) {
+        return LocalDate.ofEpochDay(acquiredDays[index]);
+    }
+    
+    public long getRemaining(int index) {
+        return remaining[index];
+    }
+    
+    public double getUnitCost(int index) {
+        return unitCosts[index];
+    }
+    
+    /**
+     * 잔여 보유 수량
+     */
+    public long getOpenQuantity() {
+        return treeQuantity[1];
+    }
+    
+    /**
+     * 잔여 로트 기준 평균 취득단가 (Holding.avgPrice와 대응)
+     */
+    public double getAverageCost() {
+        double cost = 0.0;
+        for (int i = 0; i < size; i++) {
+            cost += remaining[i] * unitCosts[i];
+        }
+        return treeQuantity[1] > 0 ? cost / treeQuantity[1] : 0.0;
+    }
+    
+    private long consume(int index, long quantity, LotDisposal out) {
+        long taken = Math.min(quantity, remaining[index]);
+        remaining[index] -= taken;
+        out.add(lotIds[index], taken, unitCosts[index], acquiredDays[index]);
+        update(index);
+        return taken;
+    }
+    
+    private void checkQuantity(long quantity) {
+        if (quantity <= 0) {
+            throw new BusinessException(ErrorCodes.INVALID_PARAMETER, "매도 수량은 0보다 커야 합니다");
+        }
+        if (quantity > treeQuantity[1]) {
+            throw new BusinessException(ErrorCodes.INSUFFICIENT_BALANCE,
+                "매도 수량이 보유 수량을 초과합니다 - symbol: " + symbol + ", quantity: " + quantity);
+        }
+    }
+    
+    private int firstOpen() {
+        int node = 1;
+        while (node < capacity) {
+            node = treeQuantity[2 * node] > 0 ? 2 * node : 2 * node + 1;
+        }
+        return node - capacity;
+    }
+    
+    private int lastOpen() {
+        int node = 1;
+        while (node < capacity) {
+            node = treeQuantity[2 * node + 1] > 0 ? 2 * node + 1 : 2 * node;
+        }
+        return node - capacity;
+    }
+    
+    private int highestCost() {
+        int node = 1;
+        while (node < capacity) {
+            // 동일 단가면 먼저 취득한 로트 우선
+            node = treeMaxCost[2 * node] >= treeMaxCost[2 * node + 1] ? 2 * node : 2 * node + 1;
+        }
+        return node - capacity;
+    }
+    
+    private void update(int index) {
+        int node = capacity + index;
+        treeQuantity[node] = remaining[index];
+        treeMaxCost[node] = remaining[index] > 0 ? unitCosts[index] : Double.NEGATIVE_INFINITY;
+        for (node >>= 1; node >= 1; node >>= 1) {
+            treeQuantity[node] = treeQuantity[2 * node] + treeQuantity[2 * node + 1];
+            treeMaxCost[node] = Math.max(treeMaxCost[2 * node], treeMaxCost[2 * node + 1]);
+        }
+    }
+    
+    private void grow() {
+        capacity *= 2;
+        lotIds = Arrays.copyOf(lotIds, capacity);
+        acquiredDays = Arrays.copyOf(acquiredDays, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        unitCosts = Arrays.copyOf(unitCosts, capacity);
+        treeQuantity = new long[capacity * 2];
+        treeMaxCost = new double[capacity * 2];
+        Arrays.fill(treeMaxCost, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < size; i++) {
+            treeQuantity[capacity + i] = remaining[i];
+            treeMaxCost[capacity + i] = remaining[i] > 0 ? unitCosts[i] : Double.NEGATIVE_INFINITY;
+        }
+        for (int node = capacity - 1; node >= 1; node--) {
+            treeQuantity[node] = treeQuantity[2 * node] + treeQuantity[2 * node + 1];
+            treeMaxCost[node] = Math.max(treeMaxCost[2 * node], treeMaxCost[2 * node + 1]);
+        }
+    }
+    
+    /**
+     * 평가손실 로트 방문자
+     */
+    @FunctionalInterface
+    public interface LossLotVisitor {
+        
+        /**
+         * @param book 로트 장부
+         * @param index 로트 인덱스
+         * @param unrealizedLoss 로트 평가손실 (음수)
+         */
+        void visit(TaxLotBook book, int index, double unrealizedLoss);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.samsung.wm.strategy.portfolio.tax;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포트폴리오별 세금 로트 장부 묶음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxLotPortfolio {
+    
+    private String portfolioId;
+    private String customerId;
+    private List<TaxLotBook> books;
+    private double realizedGain; // 과세연도 누적 실현손익
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.samsung.wm.tracing;
+
+/**
+ * 추적 구간 (span)
+ * try-with-resources로 열고 닫으며, 닫히면 지연 시간을 확정해 Tracer의 링 버퍼에 기록된다.
+ * 추적 대상이 아닌 요청에서는 공유 NOOP 구간을 반환하므로 할당이 없다.
+ * 
+ * <pre>
+ * try (Span span = tracer.start("InvestmentPlanningService.validate")) {
+ *     validateInvestmentRequest(request);
+ * }
+ * </pre>
+ */
+public final class Span implements AutoCloseable {
+    
+    static final Span NOOP = new Span(null, 0L, 0L, 0L, null, null);
+    
+    private final Tracer tracer;
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;
+    private final Span parent;
+    private final String name;
+    private final String threadName;
+    private final long startNanos;
+    private long durationNanos = -1L;
+    private String tagKey;
+    private String tagValue;
+    
+    Span(Tracer tracer, long traceIdHigh, long traceIdLow, long spanId, Span parent, String name) {
+        this.tracer = tracer;
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.parent = parent;
+        this.name = name;
+        this.threadName = tracer != null ? Thread.currentThread().getName() : null;
+        this.startNanos = tracer != null ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * 태그 지정 (구간당 1개, 값은 상수 문자열 권장)
+     */
+    public Span tag(String key, String value) {
+        if (tracer != null) {
+            this.tagKey = key;
+            this.tagValue = value;
+        }
+        return this;
+    }
+    
+    public boolean isRecording() {
+        return tracer != null;
+    }
+    
+    @Override
+    public void close() {
+        if (tracer != null && durationNanos < 0L) {
+            durationNanos = System.nanoTime() - startNanos;
+            tracer.finish(this);
+        }
+    }
+    
+    long traceIdHigh() {
+        return traceIdHigh;
+    }
+    
+    long traceIdLow() {
+        return traceIdLow;
+    }
+    
+    long spanId() {
+        return spanId;
+    }
+    
+    Span parent() {
+        return parent;
+    }
+    
+    String name() {
+        return name;
+    }
+    
+    String threadName() {
+        return threadName;
+    }
+    
+    long startNanos() {
+        return startNanos;
+    }
+    
+    long durationNanos() {
+        return durationNanos;
+    }
+    
+    String tagKey() {
+        return tagKey;
+    }
+    
+    String tagValue() {
+        return tagValue;
+    }
+}
\ No newline at end of file
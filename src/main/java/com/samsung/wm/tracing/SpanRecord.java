@@ -0,0 +1,60 @@
+package com.samsung.wm.tracing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 내보내기용 완료 구간 (Zipkin v2 JSON 형식)
+ * Zipkin, Jaeger 등에서 그대로 가져올 수 있도록 필드명과 단위(epoch 마이크로초)를 Zipkin v2 API에 맞춘다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SpanRecord(
+    String traceId,
+    String id,
+    String parentId,
+    String name,
+    String kind,
+    long timestamp,
+    long duration,
+    LocalEndpoint localEndpoint,
+    Map<String, String> tags
+) {
+    
+    public static final String SERVICE_NAME = "wm-common";
+    private static final LocalEndpoint LOCAL_ENDPOINT = new LocalEndpoint(SERVICE_NAME);
+    
+    static SpanRecord of(Span span, long timestampMicros) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("thread", span.threadName());
+        if (span.tagKey() != null) {
+            tags.put(span.tagKey(), span.tagValue());
+        }
+        Span parent = span.parent();
+        return new SpanRecord(
+            traceId(span.traceIdHigh(), span.traceIdLow()),
+            hex(span.spanId()),
+            parent != null ? hex(parent.spanId()) : null,
+            span.name(),
+            parent == null ? "SERVER" : null,
+            timestampMicros,
+            // Zipkin은 1µs 미만 구간을 허용하지 않음
+            Math.max(1L, span.durationNanos() / 1_000L),
+            LOCAL_ENDPOINT,
+            tags
+        );
+    }
+    
+    static String traceId(long high, long low) {
+        return hex(high) + hex(low);
+    }
+    
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0".repeat(16 - digits.length()) + digits;
+    }
+    
+    public record LocalEndpoint(String serviceName) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.samsung.wm.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 구간 링 버퍼
+ * 완료된 구간만 기록하며 가득 차면 가장 오래된 구간을 덮어쓴다.
+ * 기록은 순번 증가 1회와 슬롯 저장 1회로 끝나며 잠금이 없다.
+ */
+final class SpanRing {
+    
+    private final AtomicReferenceArray<Span> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    
+    SpanRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("추적 링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+    
+    void add(Span span) {
+        slots.lazySet((int) (sequence.getAndIncrement() & mask), span);
+    }
+    
+    int capacity() {
+        return mask + 1;
+    }
+    
+    /**
+     * 지금까지 기록된 구간 수 (덮어쓴 구간 포함)
+     */
+    long recorded() {
+        return sequence.get();
+    }
+    
+    /**
+     * 보관 중인 구간 (오래된 순)
+     * 복사 중 기록된 구간이 섞일 수 있으나 각 구간은 닫힌 뒤 바뀌지 않으므로 내용은 일관된다.
+     */
+    List<Span> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0L, end - capacity());
+        List<Span> spans = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            Span span = slots.get((int) (i & mask));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+    
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
\ No newline at end of file
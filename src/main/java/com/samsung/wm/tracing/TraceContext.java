@@ -0,0 +1,46 @@
+package com.samsung.wm.tracing;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스레드별 현재 추적 구간
+ * 실행기로 넘어가는 작업에는 propagate로 제출 시점의 구간을 부모로 전달한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TraceContext {
+    
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    
+    /**
+     * 현재 구간 (추적 중이 아니면 null)
+     */
+    public static Span current() {
+        return CURRENT.get();
+    }
+    
+    static void set(Span span) {
+        CURRENT.set(span);
+    }
+    
+    public static void clear() {
+        CURRENT.set(null);
+    }
+    
+    /**
+     * 실행기 작업에 제출 스레드의 현재 구간을 전달 (TaskDecorator)
+     * 실행 스레드의 기존 구간은 작업이 끝나면 복원한다 (caller-runs로 제출 스레드에서 직접 실행되는 경우 포함).
+     */
+    public static Runnable propagate(Runnable task) {
+        Span parent = CURRENT.get();
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(parent);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+}
\ No newline at end of file
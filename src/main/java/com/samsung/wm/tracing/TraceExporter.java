@@ -0,0 +1,63 @@
+package com.samsung.wm.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samsung.common.util.CoarseClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 추적 구간 파일 내보내기
+ * 링 버퍼의 완료 구간을 Zipkin v2 JSON 배열 파일로 기록한다.
+ * (Zipkin UI의 JSON 업로드, 또는 POST /api/v2/spans로 그대로 전송 가능)
+ */
+@Slf4j
+@Component
+public class TraceExporter {
+    
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    
+    private final Tracer tracer;
+    private final Path exportDirectory;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    public TraceExporter(Tracer tracer,
+                         @Value("${wm.tracing.export-dir:${java.io.tmpdir}/wm-traces}") String exportDirectory,
+                         Clock clock) {
+        this.tracer = tracer;
+        this.exportDirectory = Paths.get(exportDirectory);
+        this.clock = clock;
+    }
+    
+    /**
+     * 보관 중인 구간을 파일로 내보내기
+     * 
+     * @return 내보낸 파일과 구간 수
+     */
+    public ExportResult export() {
+        List<SpanRecord> spans = tracer.spans();
+        Path file = exportDirectory.resolve("wm-traces-" + CoarseClock.now(clock).format(FILE_TIME_FORMAT) + ".json");
+        try {
+            Files.createDirectories(exportDirectory);
+            objectMapper.writeValue(file.toFile(), spans);
+        } catch (IOException e) {
+            throw new UncheckedIOException("추적 구간 내보내기 실패: " + file, e);
+        }
+        log.info("추적 구간 내보내기 완료 - file: {}, spans: {}", file, spans.size());
+        return new ExportResult(file.toAbsolutePath().toString(), spans.size());
+    }
+    
+    public record ExportResult(String file, int spans) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.samsung.wm.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 요청 추적기
+ * 요청(루트 구간) 단위로 N건 중 1건을 추적하고, 추적 중인 요청의 하위 구간만 기록한다.
+ * 추적하지 않는 요청의 구간 생성 비용은 ThreadLocal 조회 1회다.
+ * 
+ * 구간 시작 시각은 nanoTime으로만 기록하고, 내보낼 때 생성 시점의 기준 시각으로 epoch 시각을 계산한다.
+ */
+@Component
+public class Tracer {
+    
+    private final int sampleRate;
+    private final SpanRing ring;
+    private final AtomicLong traceSequence = new AtomicLong();
+    private final long anchorEpochMicros;
+    private final long anchorNanos;
+    
+    /**
+     * @param sampleRate 요청 N건 중 1건 추적 (0이면 추적 안 함)
+     * @param ringSize 보관할 완료 구간 수 (2의 거듭제곱)
+     */
+    public Tracer(@Value("${wm.tracing.sample-rate:10}") int sampleRate,
+                  @Value("${wm.tracing.ring-size:8192}") int ringSize) {
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("wm.tracing.sample-rate는 0 이상이어야 합니다");
+        }
+        this.sampleRate = sampleRate;
+        this.ring = new SpanRing(ringSize);
+        this.anchorEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.anchorNanos = System.nanoTime();
+    }
+    
+    /**
+     * 요청 루트 구간 시작 (샘플링 대상이 아니면 NOOP)
+     * 
+     * @param name 구간명 (요청 매핑 패턴 등 상수 문자열)
+     */
+    public Span startTrace(String name) {
+        if (sampleRate == 0 || (sampleRate > 1 && traceSequence.getAndIncrement() % sampleRate != 0)) {
+            return Span.NOOP;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Span span = new Span(this, random.nextLong(), random.nextLong(), nextSpanId(random), null, name);
+        TraceContext.set(span);
+        return span;
+    }
+    
+    /**
+     * 현재 구간의 하위 구간 시작 (추적 중이 아니면 NOOP)
+     * 
+     * @param name 구간명 (상수 문자열)
+     */
+    public Span start(String name) {
+        Span parent = TraceContext.current();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        Span span = new Span(this, parent.traceIdHigh(), parent.traceIdLow(),
+                             nextSpanId(ThreadLocalRandom.current()), parent, name);
+        TraceContext.set(span);
+        return span;
+    }
+    
+    void finish(Span span) {
+        ring.add(span);
+        TraceContext.set(span.parent());
+    }
+    
+    public int getSampleRate() {
+        return sampleRate;
+    }
+    
+    public int getCapacity() {
+        return ring.capacity();
+    }
+    
+    public long getRecorded() {
+        return ring.recorded();
+    }
+    
+    /**
+     * 보관 중인 완료 구간 (오래된 순)
+     */
+    public List<SpanRecord> spans() {
+        List<Span> spans = ring.snapshot();
+        List<SpanRecord> records = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            records.add(toRecord(span));
+        }
+        return records;
+    }
+    
+    /**
+     * 추적 ID에 해당하는 완료 구간
+     */
+    public List<SpanRecord> trace(String traceId) {
+        List<SpanRecord> records = new ArrayList<>();
+        for (Span span : ring.snapshot()) {
+            if (SpanRecord.traceId(span.traceIdHigh(), span.traceIdLow()).equalsIgnoreCase(traceId)) {
+                records.add(toRecord(span));
+            }
+        }
+        return records;
+    }
+    
+    public void clear() {
+        ring.clear();
+    }
+    
+    private SpanRecord toRecord(Span span) {
+        long timestamp = anchorEpochMicros + TimeUnit.NANOSECONDS.toMicros(span.startNanos() - anchorNanos);
+        return SpanRecord.of(span, timestamp);
+    }
+    
+    private static long nextSpanId(ThreadLocalRandom random) {
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0L);
+        return id;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.samsung.wm.tracing;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 루트 구간 인터셉터
+ * 요청 매핑 패턴을 이름으로 루트 구간을 열고 요청 완료 시 닫는다.
+ * 오류 디스패치에서는 새 구간을 열지 않는다.
+ */
+public class TracingInterceptor implements HandlerInterceptor {
+    
+    private static final String ROOT_ATTRIBUTE = TracingInterceptor.class.getName() + ".ROOT";
+    
+    private final Tracer tracer;
+    
+    public TracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Span root = tracer.startTrace(pattern != null ? pattern : request.getRequestURI());
+            if (root.isRecording()) {
+                root.tag("http.method", request.getMethod());
+                request.setAttribute(ROOT_ATTRIBUTE, root);
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Span root = (Span) request.getAttribute(ROOT_ATTRIBUTE);
+        if (root != null) {
+            request.removeAttribute(ROOT_ATTRIBUTE);
+            root.close();
+        }
+        TraceContext.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.samsung.wm.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * WM 추적 actuator 엔드포인트 (/actuator/wmtraces)
+ * GET: 링 버퍼 상태, GET /{traceId}: 추적 1건의 구간
+ * 파일 내보내기와 비우기는 WmTracesJmxExtension을 통해 JMX로만 제공한다.
+ */
+@Component
+@Endpoint(id = "wmtraces")
+@RequiredArgsConstructor
+public class WmTracesEndpoint {
+    
+    private final Tracer tracer;
+    
+    @ReadOperation
+    public TracingStatus status() {
+        return new TracingStatus(tracer.getSampleRate(), tracer.getCapacity(), tracer.getRecorded());
+    }
+    
+    @ReadOperation
+    public List<SpanRecord> trace(@Selector String traceId) {
+        return tracer.trace(traceId);
+    }
+    
+    public record TracingStatus(int sampleRate, int capacity, long recorded) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.samsung.wm.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.EndpointJmxExtension;
+import org.springframework.stereotype.Component;
+
+/**
+ * WM 추적 엔드포인트의 JMX 전용 관리 작업
+ * 파일 내보내기(디스크 기록)와 링 버퍼 비우기는 인증 없는 웹 actuator에 노출하지 않고 JMX로만 제공한다.
+ * 웹(/actuator/wmtraces)에는 조회 작업만 노출된다.
+ */
+@Component
+@EndpointJmxExtension(endpoint = WmTracesEndpoint.class)
+@RequiredArgsConstructor
+public class WmTracesJmxExtension {
+    
+    private final Tracer tracer;
+    private final TraceExporter exporter;
+    
+    @WriteOperation
+    public TraceExporter.ExportResult export() {
+        return exporter.export();
+    }
+    
+    @DeleteOperation
+    public void clear() {
+        tracer.clear();
+    }
+}
\ No newline at end of file
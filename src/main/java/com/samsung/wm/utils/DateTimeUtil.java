@@ -1,5 +1,8 @@
 package com.samsung.wm.utils;
 
+import com.samsung.common.calendar.BusinessDayCalendar;
+import com.samsung.common.util.CoarseClock;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,7 +26,7 @@ public final class DateTimeUtil {
      * @return 현재 날짜 문자열 (yyyy-MM-dd)
      */
     public static String getCurrentDateString() {
-        return LocalDate.now().format(DATE_FORMATTER);
+        return CoarseClock.current().today().format(DATE_FORMATTER);
     }
     
     /**
@@ -32,7 +35,7 @@ public final class DateTimeUtil {
      * @return 현재 날짜시간 문자열 (yyyy-MM-dd HH:mm:ss)
      */
     public static String getCurrentDateTimeString() {
-        return LocalDateTime.now().format(DATETIME_FORMATTER);
+        return CoarseClock.current().formattedNow();
     }
     
     /**
@@ -73,32 +76,59 @@ public final class DateTimeUtil {
      * @return 나이
      */
     public static int calculateAge(LocalDate birthDate) {
-        return (int) ChronoUnit.YEARS.between(birthDate, LocalDate.now());
+        return (int) ChronoUnit.YEARS.between(birthDate, CoarseClock.current().today());
     }
     
     /**
-     * 영업일 여부 확인 (주말 제외)
+     * 영업일 여부 확인 (주말 및 공휴일 제외)
      * 
      * @param date 확인할 날짜
      * @return 영업일 여부
      */
     public static boolean isBusinessDay(LocalDate date) {
-        int dayOfWeek = date.getDayOfWeek().getValue();
-        return dayOfWeek >= 1 && dayOfWeek <= 5; // Monday(1) to Friday(5)
+        return BusinessDayCalendar.current().isBusinessDay(date);
     }
     
     /**
      * 다음 영업일 계산
      * 
      * @param date 기준 날짜
-     * @return 다음 영업일
+     * @return 다음 영업일 (기준 날짜 제외)
      */
     public static LocalDate getNextBusinessDay(LocalDate date) {
-        LocalDate nextDay = date.plusDays(1);
-        while (!isBusinessDay(nextDay)) {
-            nextDay = nextDay.plusDays(1);
-        }
-        return nextDay;
+        return BusinessDayCalendar.current().nextBusinessDay(date);
+    }
+    
+    /**
+     * 이전 영업일 계산
+     * 
+     * @param date 기준 날짜
+     * @return 이전 영업일 (기준 날짜 제외)
+     */
+    public static LocalDate getPreviousBusinessDay(LocalDate date) {
+        return BusinessDayCalendar.current().previousBusinessDay(date);
+    }
+    
+    /**
+     * N 영업일 후 날짜 계산 (결제일 T+N 등, 음수면 N 영업일 전)
+     * 
+     * @param date 기준 날짜
+     * @param businessDays 영업일 수
+     * @return 계산된 영업일
+     */
+    public static LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        return BusinessDayCalendar.current().addBusinessDays(date, businessDays);
+    }
+    
+    /**
+     * 두 날짜 사이 영업일 수 계산 (시작일 제외, 종료일 포함)
+     * 
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 영업일 수
+     */
+    public static int businessDaysBetween(LocalDate startDate, LocalDate endDate) {
+        return BusinessDayCalendar.current().businessDaysBetween(startDate, endDate);
     }
     
     /**
@@ -108,6 +138,6 @@ public final class DateTimeUtil {
      * @return 경과 일수
      */
     public static long daysSinceLastRebalancing(LocalDateTime lastRebalancingDate) {
-        return ChronoUnit.DAYS.between(lastRebalancingDate.toLocalDate(), LocalDate.now());
+        return ChronoUnit.DAYS.between(lastRebalancingDate.toLocalDate(), CoarseClock.current().today());
     }
 }
\ No newline at end of file
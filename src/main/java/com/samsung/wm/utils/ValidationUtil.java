@@ -4,19 +4,12 @@ import com.samsung.wm.constants.WealthManagementConstants;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.regex.Pattern;
 
 /**
  * 검증 유틸리티 클래스
  */
 public final class ValidationUtil {
     
-    private static final Pattern EMAIL_PATTERN = 
-            Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
-    
-    private static final Pattern PHONE_PATTERN = 
-            Pattern.compile("^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$");
-    
     private ValidationUtil() {
         // 인스턴스 생성 방지
     }
@@ -28,10 +21,7 @@ public final class ValidationUtil {
      * @return 유효 여부
      */
     public static boolean isValidEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return false;
-        }
-        return EMAIL_PATTERN.matcher(email).matches();
+        return com.samsung.common.util.ValidationUtil.isValidEmail(email);
     }
     
     /**
@@ -41,10 +31,22 @@ public final class ValidationUtil {
      * @return 유효 여부
      */
     public static boolean isValidPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+        if (phoneNumber == null) {
             return false;
         }
-        return PHONE_PATTERN.matcher(phoneNumber.replaceAll("-", "")).matches();
+        // 하이픈 위치와 무관하게 하이픈을 뺀 숫자가 01로 시작하는 10~11자리인지 확인 (문자열 복사 없음)
+        int digits = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9' || (digits == 0 && c != '0') || (digits == 1 && c != '1')) {
+                return false;
+            }
+            digits++;
+        }
+        return digits == 10 || digits == 11;
     }
     
     /**